@@ -0,0 +1,806 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.cache.CacheFlag;
+import com.mewna.catnip.cache.EntityCacheWorker;
+import com.mewna.catnip.cache.SplitMemoryEntityCache;
+import com.mewna.catnip.entity.delegate.DefaultEntityDelegator;
+import com.mewna.catnip.entity.delegate.EntityDelegator;
+import com.mewna.catnip.entity.serialization.DefaultEntitySerializer;
+import com.mewna.catnip.entity.serialization.EntitySerializer;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.DefaultRetryPolicy;
+import com.mewna.catnip.rest.requester.Requester;
+import com.mewna.catnip.rest.requester.ResponseCache;
+import com.mewna.catnip.rest.requester.RestMetrics;
+import com.mewna.catnip.rest.requester.RetryPolicy;
+import com.mewna.catnip.rest.requester.SerialRequester;
+import com.mewna.catnip.rest.requester.StacktraceCaptureMode;
+import com.mewna.catnip.shard.CompressionMode;
+import com.mewna.catnip.shard.GatewayIntent;
+import com.mewna.catnip.shard.buffer.CachingBuffer;
+import com.mewna.catnip.shard.buffer.EventBuffer;
+import com.mewna.catnip.shard.event.DefaultDispatchManager;
+import com.mewna.catnip.shard.event.DispatchManager;
+import com.mewna.catnip.shard.event.EventLatencyMetrics;
+import com.mewna.catnip.shard.manager.DefaultShardManager;
+import com.mewna.catnip.shard.manager.ShardManager;
+import com.mewna.catnip.shard.ratelimit.MemoryRatelimiter;
+import com.mewna.catnip.shard.ratelimit.Ratelimiter;
+import com.mewna.catnip.shard.session.DefaultSessionManager;
+import com.mewna.catnip.shard.session.SessionManager;
+import com.mewna.catnip.util.CatnipOptionsView;
+import com.mewna.catnip.util.logging.DefaultLogAdapter;
+import com.mewna.catnip.util.logging.LogAdapter;
+import com.mewna.catnip.util.rx.RxHelpers;
+import com.mewna.catnip.util.scheduler.RxTaskScheduler;
+import com.mewna.catnip.util.scheduler.TaskScheduler;
+import io.reactivex.rxjava3.core.Scheduler;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author amy
+ * @since 9/25/18.
+ */
+@SuppressWarnings("OverlyCoupledClass")
+public final class CatnipOptions implements CatnipOptionsView, Cloneable {
+    @Nonnull
+    private final String token;
+    @Nonnull
+    private ShardManager shardManager = new DefaultShardManager();
+    @Nonnull
+    private SessionManager sessionManager = new DefaultSessionManager();
+    @Nonnull
+    private Ratelimiter gatewayRatelimiter = new MemoryRatelimiter();
+    @Nonnull
+    private LogAdapter logAdapter = new DefaultLogAdapter();
+    @Nonnull
+    private EventBuffer eventBuffer = new CachingBuffer();
+    @Nonnull
+    private EntityCacheWorker cacheWorker = new SplitMemoryEntityCache();
+    @Nonnull
+    private Set<CacheFlag> cacheFlags = EnumSet.noneOf(CacheFlag.class);
+    @Nonnull
+    private DispatchManager dispatchManager = new DefaultDispatchManager();
+    private boolean chunkMembers = true;
+    private boolean emitEventObjects = true;
+    private boolean enforcePermissions = true;
+    @Nullable
+    private Presence initialPresence;
+    @Nonnull
+    private Set<String> disabledEvents = Set.of();
+    @Nonnull
+    private Requester requester = new SerialRequester(new DefaultRateLimiter());
+    private boolean logExtensionOverrides = true;
+    private boolean validateToken = true;
+    private boolean captureRestStacktraces = true;
+    @Nonnull
+    private StacktraceCaptureMode restStacktraceMode = StacktraceCaptureMode.FRAMES;
+    private double restStacktraceSampleRate = 1.0;
+    private boolean logUncachedPresenceWhenNotChunking = true;
+    private boolean enableGuildSubscriptions = true;
+    private long memberChunkTimeout = TimeUnit.SECONDS.toMillis(10);
+    private Scheduler rxScheduler = RxHelpers.FORK_JOIN_SCHEDULER;
+    private boolean logLifecycleEvents = true;
+    private boolean manualChunkRerequesting;
+    private int largeThreshold = 250;
+    @Nonnull
+    private TaskScheduler taskScheduler = new RxTaskScheduler();
+    @Nonnull
+    @SuppressWarnings("UnnecessarilyQualifiedInnerClassAccess")
+    private HttpClient httpClient = HttpClient.newBuilder().executor(RxHelpers.FORK_JOIN_POOL).version(HttpClient.Version.HTTP_1_1).build();
+    @Nonnull
+    private CompressionMode compressionMode = CompressionMode.ZLIB;
+    private boolean restRatelimitsWithoutClockSync;
+    private long highLatencyThreshold = TimeUnit.SECONDS.toNanos(10);
+    @Nonnull
+    private EntitySerializer<?> entitySerializer = new DefaultEntitySerializer();
+    @Nonnull
+    private String apiHost = "https://discord.com";
+    private int apiVersion = 6;
+    // TODO: Default to unprivileged-only
+    @Nonnull
+    private Set<GatewayIntent> intents = Set.of(); // GatewayIntent.UNPRIVILEGED_INTENTS;
+    private boolean logPrivilegedIntentWarning = true;
+    @Nullable
+    private JsonObject customIdentifyOptions;
+    @Nonnull
+    private EntityDelegator entityDelegator = new DefaultEntityDelegator();
+    @Nullable
+    private Path cacheSnapshotPath;
+    private boolean coalesceRestRequests;
+    @Nonnull
+    private Set<Route> uncoalescedRoutes = Set.of();
+    @Nullable
+    private ResponseCache restResponseCache;
+    @Nonnull
+    private RetryPolicy restRetryPolicy = new DefaultRetryPolicy();
+    @Nonnull
+    private RestMetrics restMetrics = RestMetrics.NOOP;
+    @Nonnull
+    private EventLatencyMetrics eventLatencyMetrics = EventLatencyMetrics.NOOP;
+    private long highEventLatencyThreshold = TimeUnit.SECONDS.toNanos(10);
+    private int maxOutstandingEvents;
+    @Nullable
+    private Executor gatewayParseExecutor;
+
+    @Override
+    public Object clone() {
+        try {
+            return super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException("Couldn\'t clone!", e);
+        }
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public String token() {
+        return this.token;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public ShardManager shardManager() {
+        return this.shardManager;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public SessionManager sessionManager() {
+        return this.sessionManager;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Ratelimiter gatewayRatelimiter() {
+        return this.gatewayRatelimiter;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public LogAdapter logAdapter() {
+        return this.logAdapter;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public EventBuffer eventBuffer() {
+        return this.eventBuffer;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public EntityCacheWorker cacheWorker() {
+        return this.cacheWorker;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Set<CacheFlag> cacheFlags() {
+        return this.cacheFlags;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public DispatchManager dispatchManager() {
+        return this.dispatchManager;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean chunkMembers() {
+        return this.chunkMembers;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean emitEventObjects() {
+        return this.emitEventObjects;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean enforcePermissions() {
+        return this.enforcePermissions;
+    }
+
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Presence initialPresence() {
+        return this.initialPresence;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Set<String> disabledEvents() {
+        return this.disabledEvents;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Requester requester() {
+        return this.requester;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean logExtensionOverrides() {
+        return this.logExtensionOverrides;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean validateToken() {
+        return this.validateToken;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean captureRestStacktraces() {
+        return this.captureRestStacktraces;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public StacktraceCaptureMode restStacktraceMode() {
+        return this.restStacktraceMode;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public double restStacktraceSampleRate() {
+        return this.restStacktraceSampleRate;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean logUncachedPresenceWhenNotChunking() {
+        return this.logUncachedPresenceWhenNotChunking;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean enableGuildSubscriptions() {
+        return this.enableGuildSubscriptions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long memberChunkTimeout() {
+        return this.memberChunkTimeout;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Scheduler rxScheduler() {
+        return this.rxScheduler;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean logLifecycleEvents() {
+        return this.logLifecycleEvents;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean manualChunkRerequesting() {
+        return this.manualChunkRerequesting;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int largeThreshold() {
+        return this.largeThreshold;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public TaskScheduler taskScheduler() {
+        return this.taskScheduler;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public HttpClient httpClient() {
+        return this.httpClient;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public CompressionMode compressionMode() {
+        return this.compressionMode;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean restRatelimitsWithoutClockSync() {
+        return this.restRatelimitsWithoutClockSync;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long highLatencyThreshold() {
+        return this.highLatencyThreshold;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public EntitySerializer<?> entitySerializer() {
+        return this.entitySerializer;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public String apiHost() {
+        return this.apiHost;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int apiVersion() {
+        return this.apiVersion;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Set<GatewayIntent> intents() {
+        return this.intents;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean logPrivilegedIntentWarning() {
+        return this.logPrivilegedIntentWarning;
+    }
+
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public JsonObject customIdentifyOptions() {
+        return this.customIdentifyOptions;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public EntityDelegator entityDelegator() {
+        return this.entityDelegator;
+    }
+
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Path cacheSnapshotPath() {
+        return this.cacheSnapshotPath;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean coalesceRestRequests() {
+        return this.coalesceRestRequests;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public Set<Route> uncoalescedRoutes() {
+        return this.uncoalescedRoutes;
+    }
+
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public ResponseCache restResponseCache() {
+        return this.restResponseCache;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public RetryPolicy restRetryPolicy() {
+        return this.restRetryPolicy;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public RestMetrics restMetrics() {
+        return this.restMetrics;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public EventLatencyMetrics eventLatencyMetrics() {
+        return this.eventLatencyMetrics;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long highEventLatencyThreshold() {
+        return this.highEventLatencyThreshold;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int maxOutstandingEvents() {
+        return this.maxOutstandingEvents;
+    }
+
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Executor gatewayParseExecutor() {
+        return this.gatewayParseExecutor;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions shardManager(@Nonnull final ShardManager shardManager) {
+        if (shardManager == null) {
+            throw new java.lang.NullPointerException("shardManager is marked non-null but is null");
+        }
+        this.shardManager = shardManager;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions sessionManager(@Nonnull final SessionManager sessionManager) {
+        if (sessionManager == null) {
+            throw new java.lang.NullPointerException("sessionManager is marked non-null but is null");
+        }
+        this.sessionManager = sessionManager;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions gatewayRatelimiter(@Nonnull final Ratelimiter gatewayRatelimiter) {
+        if (gatewayRatelimiter == null) {
+            throw new java.lang.NullPointerException("gatewayRatelimiter is marked non-null but is null");
+        }
+        this.gatewayRatelimiter = gatewayRatelimiter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions logAdapter(@Nonnull final LogAdapter logAdapter) {
+        if (logAdapter == null) {
+            throw new java.lang.NullPointerException("logAdapter is marked non-null but is null");
+        }
+        this.logAdapter = logAdapter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions eventBuffer(@Nonnull final EventBuffer eventBuffer) {
+        if (eventBuffer == null) {
+            throw new java.lang.NullPointerException("eventBuffer is marked non-null but is null");
+        }
+        this.eventBuffer = eventBuffer;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions cacheWorker(@Nonnull final EntityCacheWorker cacheWorker) {
+        if (cacheWorker == null) {
+            throw new java.lang.NullPointerException("cacheWorker is marked non-null but is null");
+        }
+        this.cacheWorker = cacheWorker;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions cacheFlags(@Nonnull final Set<CacheFlag> cacheFlags) {
+        if (cacheFlags == null) {
+            throw new java.lang.NullPointerException("cacheFlags is marked non-null but is null");
+        }
+        this.cacheFlags = cacheFlags;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions dispatchManager(@Nonnull final DispatchManager dispatchManager) {
+        if (dispatchManager == null) {
+            throw new java.lang.NullPointerException("dispatchManager is marked non-null but is null");
+        }
+        this.dispatchManager = dispatchManager;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions chunkMembers(final boolean chunkMembers) {
+        this.chunkMembers = chunkMembers;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions emitEventObjects(final boolean emitEventObjects) {
+        this.emitEventObjects = emitEventObjects;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions enforcePermissions(final boolean enforcePermissions) {
+        this.enforcePermissions = enforcePermissions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions initialPresence(@Nullable final Presence initialPresence) {
+        this.initialPresence = initialPresence;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions disabledEvents(@Nonnull final Set<String> disabledEvents) {
+        if (disabledEvents == null) {
+            throw new java.lang.NullPointerException("disabledEvents is marked non-null but is null");
+        }
+        this.disabledEvents = disabledEvents;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions requester(@Nonnull final Requester requester) {
+        if (requester == null) {
+            throw new java.lang.NullPointerException("requester is marked non-null but is null");
+        }
+        this.requester = requester;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions logExtensionOverrides(final boolean logExtensionOverrides) {
+        this.logExtensionOverrides = logExtensionOverrides;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions validateToken(final boolean validateToken) {
+        this.validateToken = validateToken;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions captureRestStacktraces(final boolean captureRestStacktraces) {
+        this.captureRestStacktraces = captureRestStacktraces;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restStacktraceMode(@Nonnull final StacktraceCaptureMode restStacktraceMode) {
+        if (restStacktraceMode == null) {
+            throw new java.lang.NullPointerException("restStacktraceMode is marked non-null but is null");
+        }
+        this.restStacktraceMode = restStacktraceMode;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restStacktraceSampleRate(final double restStacktraceSampleRate) {
+        this.restStacktraceSampleRate = restStacktraceSampleRate;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions logUncachedPresenceWhenNotChunking(final boolean logUncachedPresenceWhenNotChunking) {
+        this.logUncachedPresenceWhenNotChunking = logUncachedPresenceWhenNotChunking;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions enableGuildSubscriptions(final boolean enableGuildSubscriptions) {
+        this.enableGuildSubscriptions = enableGuildSubscriptions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions memberChunkTimeout(final long memberChunkTimeout) {
+        this.memberChunkTimeout = memberChunkTimeout;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions rxScheduler(final Scheduler rxScheduler) {
+        this.rxScheduler = rxScheduler;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions logLifecycleEvents(final boolean logLifecycleEvents) {
+        this.logLifecycleEvents = logLifecycleEvents;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions manualChunkRerequesting(final boolean manualChunkRerequesting) {
+        this.manualChunkRerequesting = manualChunkRerequesting;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions largeThreshold(final int largeThreshold) {
+        this.largeThreshold = largeThreshold;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions taskScheduler(@Nonnull final TaskScheduler taskScheduler) {
+        if (taskScheduler == null) {
+            throw new java.lang.NullPointerException("taskScheduler is marked non-null but is null");
+        }
+        this.taskScheduler = taskScheduler;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions httpClient(@Nonnull final HttpClient httpClient) {
+        if (httpClient == null) {
+            throw new java.lang.NullPointerException("httpClient is marked non-null but is null");
+        }
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions compressionMode(@Nonnull final CompressionMode compressionMode) {
+        if (compressionMode == null) {
+            throw new java.lang.NullPointerException("compressionMode is marked non-null but is null");
+        }
+        this.compressionMode = compressionMode;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restRatelimitsWithoutClockSync(final boolean restRatelimitsWithoutClockSync) {
+        this.restRatelimitsWithoutClockSync = restRatelimitsWithoutClockSync;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions highLatencyThreshold(final long highLatencyThreshold) {
+        this.highLatencyThreshold = highLatencyThreshold;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions entitySerializer(@Nonnull final EntitySerializer<?> entitySerializer) {
+        if (entitySerializer == null) {
+            throw new java.lang.NullPointerException("entitySerializer is marked non-null but is null");
+        }
+        this.entitySerializer = entitySerializer;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions apiHost(@Nonnull final String apiHost) {
+        if (apiHost == null) {
+            throw new java.lang.NullPointerException("apiHost is marked non-null but is null");
+        }
+        this.apiHost = apiHost;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions apiVersion(final int apiVersion) {
+        this.apiVersion = apiVersion;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions intents(@Nonnull final Set<GatewayIntent> intents) {
+        if (intents == null) {
+            throw new java.lang.NullPointerException("intents is marked non-null but is null");
+        }
+        this.intents = intents;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions logPrivilegedIntentWarning(final boolean logPrivilegedIntentWarning) {
+        this.logPrivilegedIntentWarning = logPrivilegedIntentWarning;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions customIdentifyOptions(@Nullable final JsonObject customIdentifyOptions) {
+        this.customIdentifyOptions = customIdentifyOptions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions entityDelegator(@Nonnull final EntityDelegator entityDelegator) {
+        if (entityDelegator == null) {
+            throw new java.lang.NullPointerException("entityDelegator is marked non-null but is null");
+        }
+        this.entityDelegator = entityDelegator;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions cacheSnapshotPath(@Nullable final Path cacheSnapshotPath) {
+        this.cacheSnapshotPath = cacheSnapshotPath;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions coalesceRestRequests(final boolean coalesceRestRequests) {
+        this.coalesceRestRequests = coalesceRestRequests;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions uncoalescedRoutes(@Nonnull final Set<Route> uncoalescedRoutes) {
+        if (uncoalescedRoutes == null) {
+            throw new java.lang.NullPointerException("uncoalescedRoutes is marked non-null but is null");
+        }
+        this.uncoalescedRoutes = uncoalescedRoutes;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restResponseCache(@Nullable final ResponseCache restResponseCache) {
+        this.restResponseCache = restResponseCache;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restRetryPolicy(@Nonnull final RetryPolicy restRetryPolicy) {
+        if (restRetryPolicy == null) {
+            throw new java.lang.NullPointerException("restRetryPolicy is marked non-null but is null");
+        }
+        this.restRetryPolicy = restRetryPolicy;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions restMetrics(@Nonnull final RestMetrics restMetrics) {
+        if (restMetrics == null) {
+            throw new java.lang.NullPointerException("restMetrics is marked non-null but is null");
+        }
+        this.restMetrics = restMetrics;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions eventLatencyMetrics(@Nonnull final EventLatencyMetrics eventLatencyMetrics) {
+        if (eventLatencyMetrics == null) {
+            throw new java.lang.NullPointerException("eventLatencyMetrics is marked non-null but is null");
+        }
+        this.eventLatencyMetrics = eventLatencyMetrics;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions highEventLatencyThreshold(final long highEventLatencyThreshold) {
+        this.highEventLatencyThreshold = highEventLatencyThreshold;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions maxOutstandingEvents(final int maxOutstandingEvents) {
+        this.maxOutstandingEvents = maxOutstandingEvents;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions gatewayParseExecutor(@Nullable final Executor gatewayParseExecutor) {
+        this.gatewayParseExecutor = gatewayParseExecutor;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions(@Nonnull final String token) {
+        if (token == null) {
+            throw new java.lang.NullPointerException("token is marked non-null but is null");
+        }
+        this.token = token;
+    }
+}
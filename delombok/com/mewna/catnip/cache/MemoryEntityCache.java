@@ -0,0 +1,1007 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.cache;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.cache.view.*;
+import com.mewna.catnip.entity.builder.PresenceBuilder;
+import com.mewna.catnip.entity.channel.Channel;
+import com.mewna.catnip.entity.channel.GuildChannel;
+import com.mewna.catnip.entity.channel.UserDMChannel;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.PartialMember;
+import com.mewna.catnip.entity.guild.Role;
+import com.mewna.catnip.entity.impl.EntityBuilder;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
+import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.user.VoiceState;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.util.JsonUtil;
+import com.mewna.catnip.util.rx.RxHelpers;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import static com.mewna.catnip.shard.DiscordEvent.Raw;
+import static com.mewna.catnip.util.Utils.removeIf;
+
+/**
+ * @author amy
+ * @since 9/18/18.
+ */
+@SuppressWarnings("unused")
+public abstract class MemoryEntityCache implements EntityCacheWorker {
+    private static final Presence DEFAULT_PRESENCE = new PresenceBuilder().status(OnlineStatus.OFFLINE).build();
+    @SuppressWarnings("WeakerAccess")
+    protected final MutableNamedCacheView<Guild> guildCache = createGuildCacheView();
+    @SuppressWarnings("WeakerAccess")
+    protected final Map<Long, MutableNamedCacheView<Member>> memberCache = new ConcurrentHashMap<>();
+    @SuppressWarnings("WeakerAccess")
+    protected final Map<Long, MutableNamedCacheView<Role>> roleCache = new ConcurrentHashMap<>();
+    @SuppressWarnings("WeakerAccess")
+    protected final Map<Long, MutableNamedCacheView<GuildChannel>> guildChannelCache = new ConcurrentHashMap<>();
+    @SuppressWarnings("WeakerAccess")
+    protected final Map<Long, MutableNamedCacheView<CustomEmoji>> emojiCache = new ConcurrentHashMap<>();
+    @SuppressWarnings("WeakerAccess")
+    protected final Map<Long, MutableCacheView<VoiceState>> voiceStateCache = new ConcurrentHashMap<>();
+    @SuppressWarnings("WeakerAccess")
+    protected final AtomicReference<User> selfUser = new AtomicReference<>(null);
+    private final LongAdder skippedUserUpdates = new LongAdder();
+    private final LongAdder appliedUserUpdates = new LongAdder();
+    private final LongAdder skippedPresenceUpdates = new LongAdder();
+    private final LongAdder appliedPresenceUpdates = new LongAdder();
+    /**
+     * Shards whose session was restored from a cache snapshot. If resuming
+     * fails, their guilds came from the snapshot and are dropped along with
+     * the rest of the shard, see {@link #invalidateShard(int)}.
+     */
+    final Set<Integer> snapshotShards = ConcurrentHashMap.newKeySet();
+    private Catnip catnip;
+    private EntityBuilder entityBuilder;
+
+    /**
+     * Function used to map members to their name, for named cache views.
+     * Used by the default {@link #createMemberCacheView()} and
+     * {@link #members()} implementations.
+     * <p>
+     * Defaults to returning a member's effective name, which is their
+     * nickname, if present, or their username.
+     *
+     * @return Function used to map members to their name.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected Function<Member, String> memberNameFunction() {
+        return m -> {
+            if (m.nick() != null) {
+                return m.nick();
+            }
+            final User u = user(m.idAsLong());
+            return u == null ? null : u.username();
+        };
+    }
+
+    /**
+     * Creates a new guild cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new guild cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<Guild> createGuildCacheView() {
+        return createNamedCacheView(Guild::name);
+    }
+
+    /**
+     * Creates a new user cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new user cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<User> createUserCacheView() {
+        return createNamedCacheView(User::username);
+    }
+
+    /**
+     * Creates a new DM channel cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new DM channel cache view.
+     *
+     * @implNote Defaults to calling {@link #createCacheView()}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableCacheView<UserDMChannel> createDMChannelCacheView() {
+        return createCacheView();
+    }
+
+    /**
+     * Creates a new presence cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new presence cache view.
+     *
+     * @implNote Defaults to calling {@link #createCacheView()}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableCacheView<Presence> createPresenceCacheView() {
+        return createCacheView();
+    }
+
+    /**
+     * Creates a new guild channel cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new guild channel cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<GuildChannel> createGuildChannelCacheView() {
+        return createNamedCacheView(GuildChannel::name);
+    }
+
+    /**
+     * Creates a new role cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new role cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<Role> createRoleCacheView() {
+        return createNamedCacheView(Role::name);
+    }
+
+    /**
+     * Creates a new member cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new member cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<Member> createMemberCacheView() {
+        return createNamedCacheView(memberNameFunction());
+    }
+
+    /**
+     * Creates a new emoji cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new emoji cache view.
+     *
+     * @implNote Defaults to calling {@link #createNamedCacheView(Function)}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableNamedCacheView<CustomEmoji> createEmojiCacheView() {
+        return createNamedCacheView(CustomEmoji::name);
+    }
+
+    /**
+     * Creates a new voice state cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @return A new voice state cache view.
+     *
+     * @implNote Defaults to calling {@link #createCacheView()}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected MutableCacheView<VoiceState> createVoiceStateCacheView() {
+        return createCacheView();
+    }
+
+    /**
+     * Creates a new cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @param <T> Type of the elements to be held by this view.
+     *
+     * @return A new cache view.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected <T> MutableCacheView<T> createCacheView() {
+        return new DefaultCacheView<>();
+    }
+
+    /**
+     * Creates a new named cache view. Subclasses can override this method to
+     * use a different cache view implementation.
+     *
+     * @param <T> Type of the elements to be held by this view.
+     *
+     * @return A new named cache view.
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Nonnull
+    @CheckReturnValue
+    protected <T> MutableNamedCacheView<T> createNamedCacheView(@Nonnull final Function<T, String> nameFunction) {
+        return new DefaultNamedCacheView<>(nameFunction);
+    }
+
+    protected abstract MutableNamedCacheView<User> userCache(int shardId);
+
+    protected abstract MutableCacheView<UserDMChannel> dmChannelCache(int shardId);
+
+    protected abstract MutableCacheView<Presence> presenceCache(int shardId);
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableNamedCacheView<Guild> guildCache(final int shardId) {
+        return guildCache;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableNamedCacheView<Member> memberCache(final long guildId, final boolean onlyGet) {
+        return onlyGet ? memberCache.get(guildId) : memberCache.computeIfAbsent(guildId, __ -> createMemberCacheView());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected void deleteMemberCache(final long guildId) {
+        memberCache.remove(guildId);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableNamedCacheView<Role> roleCache(final long guildId, final boolean onlyGet) {
+        return onlyGet ? roleCache.get(guildId) : roleCache.computeIfAbsent(guildId, __ -> createRoleCacheView());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected void deleteRoleCache(final long guildId) {
+        roleCache.remove(guildId);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableNamedCacheView<GuildChannel> channelCache(final long guildId, final boolean onlyGet) {
+        return onlyGet ? guildChannelCache.get(guildId) : guildChannelCache.computeIfAbsent(guildId, __ -> createGuildChannelCacheView());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected void deleteChannelCache(final long guildId) {
+        guildChannelCache.remove(guildId);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableNamedCacheView<CustomEmoji> emojiCache(final long guildId, final boolean onlyGet) {
+        return onlyGet ? emojiCache.get(guildId) : emojiCache.computeIfAbsent(guildId, __ -> createEmojiCacheView());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected void deleteEmojiCache(final long guildId) {
+        emojiCache.remove(guildId);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected MutableCacheView<VoiceState> voiceStateCache(final long guildId, final boolean onlyGet) {
+        return onlyGet ? voiceStateCache.get(guildId) : voiceStateCache.computeIfAbsent(guildId, __ -> createVoiceStateCacheView());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    protected void deleteVoiceStateCache(final long guildId) {
+        voiceStateCache.remove(guildId);
+    }
+
+    // Man these """async""" methods are a joke.
+    protected <I, T> Single<T> or(final I id, final T data, final T def) {
+        if (data == null && def == null) {
+            return Single.error(new IllegalArgumentException("No entity for: " + id));
+        } else {
+            return Single.just(Objects.requireNonNullElse(data, def));
+        }
+    }
+
+    protected <I, T> Single<T> or(final I id, final T data) {
+        if (data == null) {
+            return Single.error(new IllegalArgumentException("No entity for: " + id));
+        } else {
+            return Single.just(data);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Single<Guild> guildAsync(final long id) {
+        return or(id, guild(id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<User> userAsync(final long id) {
+        return or(id, user(id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<Presence> presenceAsync(final long id) {
+        return or(id, presence(id), DEFAULT_PRESENCE);
+    }
+
+    @Nonnull
+    @Override
+    public Single<Member> memberAsync(final long guildId, final long id) {
+        return or(id, member(guildId, id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<Role> roleAsync(final long guildId, final long id) {
+        return or(id, role(guildId, id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<GuildChannel> channelAsync(final long guildId, final long id) {
+        return or(id, channel(guildId, id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<UserDMChannel> dmChannelAsync(final long id) {
+        return or(id, dmChannel(id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<CustomEmoji> emojiAsync(final long guildId, final long id) {
+        return or(id, emoji(guildId, id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<VoiceState> voiceStateAsync(final long guildId, final long id) {
+        return or(id, voiceState(guildId, id));
+    }
+
+    @Nonnull
+    @Override
+    public Single<User> selfUserAsync() {
+        return or("self user", selfUser());
+    }
+
+    protected int shardId(final long entityId) {
+        return (int) ((entityId >> 22) % catnip.shardManager().shardCount());
+    }
+
+    private void cacheRole(final Role role) {
+        roleCache(role.guildIdAsLong(), false).put(role.idAsLong(), role);
+    }
+
+    private void cacheMember(final Member member) {
+        memberCache(member.guildIdAsLong(), false).put(member.idAsLong(), member);
+    }
+
+    private void cacheEmoji(final CustomEmoji emoji) {
+        emojiCache(emoji.guildIdAsLong(), false).put(emoji.idAsLong(), emoji);
+    }
+
+    @Nonnull
+    @Override
+    public Completable updateCache(@Nonnull final String eventType, @Nonnegative final int shardId, @Nonnull final JsonObject payload) {
+        return updateCache(eventType, shardId, payload, EventContext.untimed());
+    }
+
+    @SuppressWarnings("DuplicateBranchesInSwitch")
+    @Nonnull
+    @Override
+    public Completable updateCache(@Nonnull final String eventType, @Nonnegative final int shardId, @Nonnull final JsonObject payload, @Nonnull final EventContext context) {
+        switch (eventType) {
+        // Lifecycle
+        case Raw.READY: 
+            {
+                selfUser.set(entityBuilder.createUser(payload.getObject("user")));
+                break;
+            }
+        // Channels
+        case Raw.CHANNEL_CREATE: 
+        case Raw.CHANNEL_UPDATE: 
+            {
+                final Channel channel = entityBuilder.createChannel(payload);
+                if (channel.isGuild()) {
+                    final GuildChannel gc = (GuildChannel) channel;
+                    channelCache(gc.guildIdAsLong(), false).put(gc.idAsLong(), gc);
+                } else if (channel.isUserDM()) {
+                    final UserDMChannel dm = (UserDMChannel) channel;
+                    dmChannelCache(shardId).put(dm.idAsLong(), dm);
+                } else {
+                    catnip.logAdapter().warn("I don\'t know how to cache channel {}: isCategory={}, isDM={}, isGroupDM={},isGuild={}, isText={}, isUserDM={}, isVoice={}", channel.idAsLong(), channel.isCategory(), channel.isDM(), channel.isGroupDM(), channel.isGuild(), channel.isText(), channel.isUserDM(), channel.isVoice());
+                }
+                break;
+            }
+        case Raw.CHANNEL_DELETE: 
+            {
+                final Channel channel = entityBuilder.createChannel(payload);
+                if (channel.isGuild()) {
+                    final GuildChannel gc = (GuildChannel) channel;
+                    final MutableNamedCacheView<GuildChannel> channels = channelCache(gc.guildIdAsLong(), true);
+                    if (channels != null) {
+                        channels.remove(gc.idAsLong());
+                    }
+                } else if (channel.isUserDM()) {
+                    final UserDMChannel dm = (UserDMChannel) channel;
+                    dmChannelCache(shardId).remove(dm.userIdAsLong());
+                } else {
+                    catnip.logAdapter().warn("I don\'t know how to delete non-guild channel {}!", channel.idAsLong());
+                }
+                break;
+            }
+        // Guilds
+        case Raw.GUILD_CREATE: 
+            {
+                final Guild guild = entityBuilder.createAndCacheGuild(shardId, payload);
+                guildCache(shardId(guild.idAsLong())).put(guild.idAsLong(), guild);
+                break;
+            }
+        case Raw.GUILD_UPDATE: 
+            {
+                final Guild guild = entityBuilder.createGuild(payload);
+                guildCache(shardId(guild.idAsLong())).put(guild.idAsLong(), guild);
+                break;
+            }
+        case Raw.GUILD_DELETE: 
+            {
+                final long guildId = Long.parseUnsignedLong(payload.getString("id"));
+                guildCache(shardId(guildId)).remove(guildId);
+                deleteMemberCache(guildId);
+                deleteRoleCache(guildId);
+                deleteChannelCache(guildId);
+                deleteEmojiCache(guildId);
+                deleteVoiceStateCache(guildId);
+                break;
+            }
+        // Roles
+        case Raw.GUILD_ROLE_CREATE: 
+            {
+                final String guild = payload.getString("guild_id");
+                final JsonObject json = payload.getObject("role");
+                final Role role = entityBuilder.createRole(guild, json);
+                cacheRole(role);
+                break;
+            }
+        case Raw.GUILD_ROLE_UPDATE: 
+            {
+                final String guild = payload.getString("guild_id");
+                final JsonObject json = payload.getObject("role");
+                final Role role = entityBuilder.createRole(guild, json);
+                cacheRole(role);
+                break;
+            }
+        case Raw.GUILD_ROLE_DELETE: 
+            {
+                final String guild = payload.getString("guild_id");
+                final String role = payload.getString("role_id");
+                final MutableCacheView<Role> cache = roleCache(Long.parseUnsignedLong(guild), true);
+                if (cache != null) {
+                    cache.remove(Long.parseUnsignedLong(role));
+                }
+                break;
+            }
+        // Members
+        case Raw.GUILD_MEMBER_ADD: 
+            {
+                final Member member = entityBuilder.createMember(payload.getString("guild_id"), payload);
+                final User user = entityBuilder.createUser(payload.getObject("user"));
+                userCache(shardId).put(user.idAsLong(), user);
+                cacheMember(member);
+                break;
+            }
+        case Raw.GUILD_MEMBER_UPDATE: 
+            {
+                // Parse the update once, apply it to the cached member, and
+                // hand it to DispatchEmitter through the context to reuse
+                final String guild = payload.getString("guild_id");
+                final PartialMember delta = entityBuilder.createPartialMember(guild, payload);
+                context.parsed(delta);
+                final Member old = member(delta.guildIdAsLong(), delta.idAsLong());
+                if (old != null) {
+                    final MutableNamedCacheView<User> users = userCache(shardId);
+                    final User local = users.getById(delta.idAsLong());
+                    final User oldUser = local != null ? local : user(delta.idAsLong());
+                    if (oldUser != null) {
+                        updateCachedUser(users, oldUser, local != null, payload.getObject("user"));
+                    } else {
+                        users.put(delta.idAsLong(), delta.user());
+                    }
+                    applyMemberUpdate(guild, old, delta, payload);
+                } else {
+                    catnip.logAdapter().warn("Got GUILD_MEMBER_UPDATE for {} in {}, but we don\'t have them cached?!", delta.id(), guild);
+                }
+                break;
+            }
+        case Raw.GUILD_MEMBER_REMOVE: 
+            {
+                final String guild = payload.getString("guild_id");
+                final String user = payload.getObject("user").getString("id");
+                final MutableCacheView<Member> cache = memberCache(Long.parseUnsignedLong(guild), true);
+                if (cache != null) {
+                    cache.remove(Long.parseUnsignedLong(user));
+                }
+                break;
+            }
+        // Member chunking
+        case Raw.GUILD_MEMBERS_CHUNK: 
+            {
+                final String guild = payload.getString("guild_id");
+                final JsonArray members = payload.getArray("members");
+                members.stream().map(e -> entityBuilder.createMember(guild, (JsonObject) e)).forEach(this::cacheMember);
+                break;
+            }
+        // Emojis
+        case Raw.GUILD_EMOJIS_UPDATE: 
+            {
+                if (!catnip.options().cacheFlags().contains(CacheFlag.DROP_EMOJI)) {
+                    final String guild = payload.getString("guild_id");
+                    final JsonArray emojis = payload.getArray("emojis");
+                    emojis.stream().map(e -> entityBuilder.createCustomEmoji(guild, (JsonObject) e)).forEach(this::cacheEmoji);
+                }
+                break;
+            }
+        // Currently-logged-in user
+        case Raw.USER_UPDATE: 
+            {
+                // Inner payload is always a user object, according to the
+                // docs, so we can just outright replace it.
+                selfUser.set(entityBuilder.createUser(payload));
+                break;
+            }
+        // Users
+        case Raw.PRESENCE_UPDATE: 
+            {
+                final JsonObject user = payload.getObject("user");
+                final String id = user.getString("id");
+                final long idAsLong = Long.parseUnsignedLong(id);
+                final MutableNamedCacheView<User> users = userCache(shardId);
+                final User local = users.getById(idAsLong);
+                final User old = local != null ? local : user(idAsLong);
+                if (old == null && !catnip.options().chunkMembers() && catnip.options().logUncachedPresenceWhenNotChunking()) {
+                    catnip.logAdapter().warn("Received PRESENCE_UPDATE for uncached user {}!?", id);
+                } else if (old != null) {
+                    // This could potentially update:
+                    // - username
+                    // - discriminator
+                    // - avatar
+                    // so we check the existing cache for a user, and update as needed
+                    updateCachedUser(users, old, local != null, user);
+                    if (!catnip.options().cacheFlags().contains(CacheFlag.DROP_GAME_STATUSES)) {
+                        updateCachedPresence(presenceCache(shardId), idAsLong, payload);
+                    }
+                } else if (catnip.options().chunkMembers()) {
+                    final String guildId = payload.getString("guild_id", "No guild");
+                    catnip.logAdapter().warn("Received PRESENCE_UPDATE for unknown user {} (guild: {})!? (member chunking enabled)", id, guildId);
+                }
+                break;
+            }
+        // Voice
+        case Raw.VOICE_STATE_UPDATE: 
+            {
+                if (!catnip.options().cacheFlags().contains(CacheFlag.DROP_VOICE_STATES)) {
+                    final VoiceState state = entityBuilder.createVoiceState(payload);
+                    cacheVoiceState(state);
+                }
+                break;
+            }
+        }
+        // Default case; most events don't need to have special future cases
+        return RxHelpers.completedCompletable(catnip);
+    }
+
+    private void applyMemberUpdate(final String guild, final Member old, final PartialMember delta, final JsonObject payload) {
+        if (old instanceof MemberImpl) {
+            // Like users and presences, the cached member is replaced rather
+            // than changed. Copying it keeps the raw join timestamp, so that
+            // it doesn't have to be parsed and formatted again.
+            cacheMember(catnip.options().entityDelegator().delegate(Member.class, ((MemberImpl) old).toBuilder().nick(delta.nick()).roleIds(delta.roleIds()).premiumSince(payload.getString("premium_since", null)).build()));
+        } else {
+            // This doesn't send an object like all the other events, so we
+            // build a fake payload object and create an entity from that
+            @SuppressWarnings("ConstantConditions")
+            final JsonObject data = 
+            // If we have an old member cached, this shouldn't be an issue
+            JsonObject.builder().value("roles", payload.getArray("roles")).value("nick", delta.nick()).value("premium_since", payload.getString("premium_since", null)).value("deaf", old.deaf()).value("mute", old.mute()).value("joined_at", old.joinedAt().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)).done();
+            cacheMember(entityBuilder.createMember(guild, old.id(), data));
+        }
+    }
+
+    private void updateCachedUser(final MutableCacheView<User> cache, final User old, final boolean local, final JsonObject data) {
+        final String username = data.getString("username", old.username());
+        final String discriminator = data.getString("discriminator", old.discriminator());
+        final String avatar = data.getString("avatar", old.avatar());
+        if (Objects.equals(username, old.username()) && Objects.equals(discriminator, old.discriminator()) && Objects.equals(avatar, old.avatar())) {
+            skippedUserUpdates.increment();
+            if (!local) {
+                cache.put(old.idAsLong(), old);
+            }
+            return;
+        }
+        appliedUserUpdates.increment();
+        // Cached entities are handed out to callers, so changes are never
+        // written into them; a changed user is always replaced by a copy.
+        if (old instanceof UserImpl) {
+            cache.put(old.idAsLong(), catnip.options().entityDelegator().delegate(User.class, UserImpl.builder().catnip(catnip).idAsLong(old.idAsLong()).username(username).discriminator(discriminator).avatar(avatar).bot(old.bot()).publicFlags(old.publicFlags()).build()));
+        } else {
+            final User updated = entityBuilder.createUser(JsonObject.builder().value("id", old.id()).value("bot", old.bot()).value("username", username).value("discriminator", discriminator).value("avatar", avatar).done());
+            cache.put(updated.idAsLong(), updated);
+        }
+    }
+
+    private void updateCachedPresence(final MutableCacheView<Presence> cache, final long id, final JsonObject data) {
+        final Presence old = cache.getById(id);
+        if (!(old instanceof PresenceImpl)) {
+            appliedPresenceUpdates.increment();
+            cache.put(id, entityBuilder.createPresence(data));
+            return;
+        }
+        final PresenceImpl presence = (PresenceImpl) old;
+        final JsonObject clientStatus = data.getObject("client_status");
+        final OnlineStatus status = OnlineStatus.fromString(data.getString("status"));
+        final OnlineStatus mobileStatus = clientStatus(clientStatus, "mobile");
+        final OnlineStatus webStatus = clientStatus(clientStatus, "web");
+        final OnlineStatus desktopStatus = clientStatus(clientStatus, "desktop");
+        final JsonArray activities = data.getArray("activities");
+        // Activities are only compared for the (by far most common) case of
+        // there being none before and after; anything else is rebuilt.
+        final boolean activitiesChanged = activities != null && !activities.isEmpty() || presence.activities() != null && !presence.activities().isEmpty();
+        if (!activitiesChanged && status == presence.status() && mobileStatus == presence.mobileStatus() && webStatus == presence.webStatus() && desktopStatus == presence.desktopStatus()) {
+            skippedPresenceUpdates.increment();
+            return;
+        }
+        appliedPresenceUpdates.increment();
+        cache.put(id, catnip.options().entityDelegator().delegate(Presence.class, PresenceImpl.builder().catnip(catnip).status(status).mobileStatus(mobileStatus).webStatus(webStatus).desktopStatus(desktopStatus).activities(activitiesChanged ? JsonUtil.toList(activities, entityBuilder::createActivity) : presence.activities()).build()));
+    }
+
+    @Nullable
+    private static OnlineStatus clientStatus(@Nullable final JsonObject clientStatus, @Nonnull final String key) {
+        final String status = clientStatus == null ? null : clientStatus.getString(key);
+        return status != null ? OnlineStatus.fromString(status) : null;
+    }
+
+    private void cacheVoiceState(final VoiceState state) {
+        final long guild = state.guildIdAsLong();
+        if (guild == 0) {
+            catnip.logAdapter().warn("Not caching voice state for {} due to null guild", state.userIdAsLong());
+            return;
+        }
+        voiceStateCache(guild, false).put(state.userIdAsLong(), state);
+    }
+
+    @Override
+    public void bulkCacheUsers(@Nonnegative final int shardId, @Nonnull final Collection<User> users) {
+        final MutableCacheView<User> cache = userCache(shardId);
+        users.forEach(u -> cache.put(u.idAsLong(), u));
+    }
+
+    @Override
+    public void bulkCacheChannels(@Nonnegative final int shardId, @Nonnull final Collection<GuildChannel> channels) {
+        channels.forEach(gc -> channelCache(gc.guildIdAsLong(), false).put(gc.idAsLong(), gc));
+    }
+
+    @Override
+    public void bulkCacheRoles(@Nonnegative final int shardId, @Nonnull final Collection<Role> roles) {
+        roles.forEach(this::cacheRole);
+    }
+
+    @Override
+    public void bulkCacheMembers(@Nonnegative final int shardId, @Nonnull final Collection<Member> members) {
+        members.forEach(this::cacheMember);
+    }
+
+    @Override
+    public void bulkCacheEmoji(@Nonnegative final int shardId, @Nonnull final Collection<CustomEmoji> emoji) {
+        emoji.forEach(this::cacheEmoji);
+    }
+
+    @Override
+    public void bulkCachePresences(@Nonnegative final int shardId, @Nonnull final Map<String, Presence> presences) {
+        final MutableCacheView<Presence> cache = presenceCache(shardId);
+        presences.forEach((id, presence) -> cache.put(Long.parseUnsignedLong(id), presence));
+    }
+
+    @Override
+    public void bulkCacheVoiceStates(@Nonnegative final int shardId, @Nonnull final Collection<VoiceState> voiceStates) {
+        voiceStates.forEach(this::cacheVoiceState);
+    }
+
+    @Override
+    public void invalidateShard(final int id) {
+        final int shardCount = catnip().shardManager().shardCount();
+        final LongPredicate predicate = entityId -> (entityId >> 22) % shardCount == id;
+        removeIf(memberCache, predicate);
+        removeIf(roleCache, predicate);
+        removeIf(guildChannelCache, predicate);
+        removeIf(emojiCache, predicate);
+        removeIf(voiceStateCache, predicate);
+        if (snapshotShards.remove(id)) {
+            // A shard that failed to resume after a warm start would
+            // otherwise keep guilds it may have left while it was down
+            guildCache(id).removeIf(predicate);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Guild guild(final long id) {
+        return guildCache(shardId(id)).getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<Guild> guilds() {
+        return guildCache;
+    }
+
+    @Nullable
+    @Override
+    public Member member(final long guildId, final long id) {
+        final MutableNamedCacheView<Member> cache = memberCache(guildId, true);
+        return cache == null ? null : cache.getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<Member> members(final long guildId) {
+        final MutableNamedCacheView<Member> cache = memberCache(guildId, true);
+        return cache == null ? CacheView.noop() : cache;
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<Member> members() {
+        return new CompositeNamedCacheView<>(memberCache.values(), memberNameFunction());
+    }
+
+    @Nullable
+    @Override
+    public Role role(final long guildId, final long id) {
+        final MutableNamedCacheView<Role> cache = roleCache(guildId, true);
+        return cache == null ? null : cache.getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<Role> roles(final long guildId) {
+        final MutableNamedCacheView<Role> cache = roleCache(guildId, true);
+        return cache == null ? CacheView.noop() : cache;
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<Role> roles() {
+        return new CompositeNamedCacheView<>(roleCache.values(), Role::name);
+    }
+
+    @Nullable
+    @Override
+    public GuildChannel channel(final long guildId, final long id) {
+        final MutableNamedCacheView<GuildChannel> cache = channelCache(guildId, true);
+        return cache == null ? null : cache.getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<GuildChannel> channels(final long guildId) {
+        final MutableNamedCacheView<GuildChannel> cache = channelCache(guildId, true);
+        return cache == null ? CacheView.noop() : cache;
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<GuildChannel> channels() {
+        return new CompositeNamedCacheView<>(guildChannelCache.values(), GuildChannel::name);
+    }
+
+    @Nullable
+    @Override
+    public CustomEmoji emoji(final long guildId, final long id) {
+        final MutableNamedCacheView<CustomEmoji> cache = emojiCache(guildId, true);
+        return cache == null ? null : cache.getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<CustomEmoji> emojis(final long guildId) {
+        final MutableNamedCacheView<CustomEmoji> cache = emojiCache(guildId, true);
+        return cache == null ? CacheView.noop() : cache;
+    }
+
+    @Nonnull
+    @Override
+    public NamedCacheView<CustomEmoji> emojis() {
+        return new CompositeNamedCacheView<>(emojiCache.values(), CustomEmoji::name);
+    }
+
+    @Nullable
+    @Override
+    public VoiceState voiceState(final long guildId, final long id) {
+        final MutableCacheView<VoiceState> cache = voiceStateCache(guildId, true);
+        return cache == null ? null : cache.getById(id);
+    }
+
+    @Nonnull
+    @Override
+    public CacheView<VoiceState> voiceStates(final long guildId) {
+        final MutableCacheView<VoiceState> cache = voiceStateCache(guildId, true);
+        return cache == null ? CacheView.noop() : cache;
+    }
+
+    @Nonnull
+    @Override
+    public CacheView<VoiceState> voiceStates() {
+        return new CompositeCacheView<>(voiceStateCache.values());
+    }
+
+    @Nullable
+    @Override
+    public User selfUser() {
+        return selfUser.get();
+    }
+
+    /**
+     * @return The number of user updates from {@code PRESENCE_UPDATE}s and
+     * {@code GUILD_MEMBER_UPDATE}s that didn't change any cached field, and
+     * so were skipped.
+     */
+    public long skippedUserUpdates() {
+        return skippedUserUpdates.sum();
+    }
+
+    /**
+     * @return The number of user updates from {@code PRESENCE_UPDATE}s and
+     * {@code GUILD_MEMBER_UPDATE}s that changed the cached user.
+     */
+    public long appliedUserUpdates() {
+        return appliedUserUpdates.sum();
+    }
+
+    /**
+     * @return The number of {@code PRESENCE_UPDATE}s that didn't change the
+     * cached presence, and so were skipped.
+     */
+    public long skippedPresenceUpdates() {
+        return skippedPresenceUpdates.sum();
+    }
+
+    /**
+     * @return The number of {@code PRESENCE_UPDATE}s that changed the cached
+     * presence.
+     */
+    public long appliedPresenceUpdates() {
+        return appliedPresenceUpdates.sum();
+    }
+
+    /**
+     * Writes a snapshot of every view in this cache to the given file, in
+     * the compact binary format of {@link com.mewna.catnip.entity.serialization.BinaryEntitySerializer}.
+     * The snapshot is stamped with the session id and seqnum of every shard,
+     * so that {@link #loadSnapshot(Path)} can let shards {@code RESUME}
+     * instead of re-downloading every guild.
+     * <p>
+     * Only call this once all shards have been shut down, as views aren't
+     * locked against concurrent updates while they're written. catnip does
+     * this automatically on {@link Catnip#shutdown()} when
+     * {@link com.mewna.catnip.util.CatnipOptionsView#cacheSnapshotPath()} is
+     * set.
+     *
+     * @param path The file to write the snapshot to.
+     *
+     * @throws IOException If the snapshot couldn't be written.
+     */
+    public void writeSnapshot(@Nonnull final Path path) throws IOException {
+        final long start = System.nanoTime();
+        final long entities = new MemoryEntityCacheSnapshot(this).write(path);
+        catnip.logAdapter().info("Wrote {} entities to cache snapshot {} in {}ms.", entities, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(Path)} into this
+     * cache, and restores the session id and seqnum of every shard, so that
+     * they {@code RESUME} when connecting. If a shard's resume fails, its
+     * part of the cache is invalidated and rebuilt from the gateway as
+     * usual.
+     * <p>
+     * Snapshots written by a different version of catnip, or with a
+     * different shard count than the one configured, are skipped. This must
+     * be called before any shards are started.
+     *
+     * @param path The file to load the snapshot from.
+     *
+     * @return Whether the snapshot was loaded.
+     *
+     * @throws IOException If the snapshot couldn't be read.
+     */
+    public boolean loadSnapshot(@Nonnull final Path path) throws IOException {
+        final long start = System.nanoTime();
+        final long entities = new MemoryEntityCacheSnapshot(this).load(path);
+        if (entities < 0) {
+            return false;
+        }
+        catnip.logAdapter().info("Loaded {} entities from cache snapshot {} in {}ms.", entities, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public EntityCache catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        entityBuilder = new EntityBuilder(catnip);
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+}
@@ -0,0 +1,114 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.builder;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl.ActivityImpl;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.Activity;
+import com.mewna.catnip.entity.user.Presence.ActivityType;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Builder for presences, to be set via {@link Catnip#presence(Presence)}
+ *
+ * @author SamOphis
+ * @since 10/12/2018
+ */
+@SuppressWarnings("unused")
+public class PresenceBuilder {
+    private OnlineStatus status = OnlineStatus.ONLINE;
+    private ActivityType type;
+    private String name;
+    private String url;
+
+    /**
+     * Create a new builder from the provided presence.
+     *
+     * @param presence The presence to copy from.
+     */
+    public PresenceBuilder(final Presence presence) {
+        status = presence.status();
+        if (!presence.activities().isEmpty()) {
+            final Activity activity = presence.activities().get(0);
+            if (activity != null) {
+                type = activity.type();
+                name = activity.name();
+                url = activity.url();
+            }
+        }
+    }
+
+    /**
+     * @return The presence built by this builder.
+     */
+    public Presence build() {
+        final Activity activity = name != null && type != null ? ActivityImpl.builder().name(name).type(type).url(url).build() : null;
+        return PresenceImpl.builder().status(status).activities(activity != null ? List.of(activity) : null).build();
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public PresenceBuilder status(@Nonnull final OnlineStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public PresenceBuilder type(@Nonnull final ActivityType type) {
+        this.type = type;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public PresenceBuilder name(@Nonnull final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public PresenceBuilder url(@Nonnull final String url) {
+        this.url = url;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceBuilder() {
+    }
+}
@@ -0,0 +1,61 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.guild.audit;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * @author SamOphis
+ * @since 10/07/18
+ */
+@SuppressWarnings("unused")
+public enum ActionType {
+    GUILD_UPDATE(1), CHANNEL_CREATE(10), CHANNEL_UPDATE(11), CHANNEL_DELETE(12), CHANNEL_OVERWRITE_CREATE(13), CHANNEL_OVERWRITE_UPDATE(14), CHANNEL_OVERWRITE_DELETE(15), MEMBER_KICK(20), MEMBER_PRUNE(21), MEMBER_BAN_ADD(22), MEMBER_BAN_REMOVE(23), MEMBER_UPDATE(24), MEMBER_ROLE_UPDATE(25), MEMBER_MOVE(26), MEMBER_DISCONNECT(27), BOT_ADD(28), ROLE_CREATE(30), ROLE_UPDATE(31), ROLE_DELETE(32), INVITE_CREATE(40), INVITE_UPDATE(41), INVITE_DELETE(42), WEBHOOK_CREATE(50), WEBHOOK_UPDATE(51), WEBHOOK_DELETE(52), EMOJI_CREATE(60), EMOJI_UPDATE(61), EMOJI_DELETE(62), MESSAGE_DELETE(72), MESSAGE_BULK_DELETE(73), MESSAGE_PIN(74), MESSAGE_UNPIN(75), INTEGRATION_CREATE(80), INTEGRATION_UPDATE(81), INTEGRATION_DELETE(82);
+    private final int value;
+
+    ActionType(final int value) {
+        this.value = value;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public static ActionType byKey(final int value) {
+        for (final ActionType type : values()) {
+            if (type.value == value) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("No action type for value: " + value);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int getValue() {
+        return this.value;
+    }
+}
@@ -0,0 +1,179 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.Channel.ChannelType;
+import com.mewna.catnip.entity.channel.ChannelMention;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 8/19/19.
+ */
+public class ChannelMentionImpl implements ChannelMention, RequiresCatnip {
+    private transient Catnip catnip;
+    private String name;
+    private ChannelType type;
+    private long idAsLong;
+    private long guildIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class ChannelMentionImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private ChannelType type;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        ChannelMentionImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImplBuilder type(final ChannelType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelMentionImpl build() {
+            return new ChannelMentionImpl(catnip, name, type, idAsLong, guildIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "ChannelMentionImpl.ChannelMentionImplBuilder(catnip=" + this.catnip + ", name=" + this.name + ", type=" + this.type + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static ChannelMentionImplBuilder builder() {
+        return new ChannelMentionImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl type(final ChannelType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelMentionImpl(final Catnip catnip, final String name, final ChannelType type, final long idAsLong, final long guildIdAsLong) {
+        this.catnip = catnip;
+        this.name = name;
+        this.type = type;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+    }
+}
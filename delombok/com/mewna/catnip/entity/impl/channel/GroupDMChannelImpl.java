@@ -0,0 +1,227 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.GroupDMChannel;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author natanbc
+ * @since 9/12/18
+ */
+public class GroupDMChannelImpl implements GroupDMChannel, RequiresCatnip {
+    private final ChannelType type = ChannelType.GROUP_DM;
+    private transient Catnip catnip;
+    private long idAsLong;
+    private List<User> recipients;
+    private String icon;
+    private long ownerIdAsLong;
+    private long applicationIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        for (final User recipient : recipients) {
+            if (recipient instanceof RequiresCatnip) {
+                ((RequiresCatnip) recipient).catnip(catnip);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof GroupDMChannel && ((GroupDMChannel) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GroupDMChannel (%s)", recipients);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class GroupDMChannelImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private List<User> recipients;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private long ownerIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long applicationIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        GroupDMChannelImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder recipients(final List<User> recipients) {
+            this.recipients = recipients;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder ownerIdAsLong(final long ownerIdAsLong) {
+            this.ownerIdAsLong = ownerIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImplBuilder applicationIdAsLong(final long applicationIdAsLong) {
+            this.applicationIdAsLong = applicationIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GroupDMChannelImpl build() {
+            return new GroupDMChannelImpl(catnip, idAsLong, recipients, icon, ownerIdAsLong, applicationIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "GroupDMChannelImpl.GroupDMChannelImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", recipients=" + this.recipients + ", icon=" + this.icon + ", ownerIdAsLong=" + this.ownerIdAsLong + ", applicationIdAsLong=" + this.applicationIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static GroupDMChannelImplBuilder builder() {
+        return new GroupDMChannelImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<User> recipients() {
+        return this.recipients;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long ownerIdAsLong() {
+        return this.ownerIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long applicationIdAsLong() {
+        return this.applicationIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl recipients(final List<User> recipients) {
+        this.recipients = recipients;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl ownerIdAsLong(final long ownerIdAsLong) {
+        this.ownerIdAsLong = ownerIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl applicationIdAsLong(final long applicationIdAsLong) {
+        this.applicationIdAsLong = applicationIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GroupDMChannelImpl(final Catnip catnip, final long idAsLong, final List<User> recipients, final String icon, final long ownerIdAsLong, final long applicationIdAsLong) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.recipients = recipients;
+        this.icon = icon;
+        this.ownerIdAsLong = ownerIdAsLong;
+        this.applicationIdAsLong = applicationIdAsLong;
+    }
+}
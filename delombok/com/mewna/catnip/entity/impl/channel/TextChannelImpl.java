@@ -0,0 +1,311 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.TextChannel;
+import com.mewna.catnip.entity.guild.PermissionOverride;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author natanbc
+ * @since 9/12/18
+ */
+public class TextChannelImpl implements TextChannel, RequiresCatnip {
+    private final ChannelType type = ChannelType.TEXT;
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String name;
+    private long guildIdAsLong;
+    private int position;
+    private long parentIdAsLong;
+    private List<PermissionOverride> overrides;
+    private String topic;
+    private boolean nsfw;
+    private int rateLimitPerUser;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        for (final PermissionOverride override : overrides) {
+            if (override instanceof RequiresCatnip) {
+                ((RequiresCatnip) override).catnip(catnip);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof TextChannel && ((TextChannel) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TextChannel (%s)", name);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class TextChannelImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private int position;
+        @java.lang.SuppressWarnings("all")
+        private long parentIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private List<PermissionOverride> overrides;
+        @java.lang.SuppressWarnings("all")
+        private String topic;
+        @java.lang.SuppressWarnings("all")
+        private boolean nsfw;
+        @java.lang.SuppressWarnings("all")
+        private int rateLimitPerUser;
+
+        @java.lang.SuppressWarnings("all")
+        TextChannelImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder position(final int position) {
+            this.position = position;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder parentIdAsLong(final long parentIdAsLong) {
+            this.parentIdAsLong = parentIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder overrides(final List<PermissionOverride> overrides) {
+            this.overrides = overrides;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder topic(final String topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder nsfw(final boolean nsfw) {
+            this.nsfw = nsfw;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImplBuilder rateLimitPerUser(final int rateLimitPerUser) {
+            this.rateLimitPerUser = rateLimitPerUser;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TextChannelImpl build() {
+            return new TextChannelImpl(catnip, idAsLong, name, guildIdAsLong, position, parentIdAsLong, overrides, topic, nsfw, rateLimitPerUser);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "TextChannelImpl.TextChannelImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", guildIdAsLong=" + this.guildIdAsLong + ", position=" + this.position + ", parentIdAsLong=" + this.parentIdAsLong + ", overrides=" + this.overrides + ", topic=" + this.topic + ", nsfw=" + this.nsfw + ", rateLimitPerUser=" + this.rateLimitPerUser + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static TextChannelImplBuilder builder() {
+        return new TextChannelImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int position() {
+        return this.position;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long parentIdAsLong() {
+        return this.parentIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<PermissionOverride> overrides() {
+        return this.overrides;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String topic() {
+        return this.topic;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean nsfw() {
+        return this.nsfw;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int rateLimitPerUser() {
+        return this.rateLimitPerUser;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl position(final int position) {
+        this.position = position;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl parentIdAsLong(final long parentIdAsLong) {
+        this.parentIdAsLong = parentIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl overrides(final List<PermissionOverride> overrides) {
+        this.overrides = overrides;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl topic(final String topic) {
+        this.topic = topic;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl nsfw(final boolean nsfw) {
+        this.nsfw = nsfw;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl rateLimitPerUser(final int rateLimitPerUser) {
+        this.rateLimitPerUser = rateLimitPerUser;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TextChannelImpl(final Catnip catnip, final long idAsLong, final String name, final long guildIdAsLong, final int position, final long parentIdAsLong, final List<PermissionOverride> overrides, final String topic, final boolean nsfw, final int rateLimitPerUser) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.name = name;
+        this.guildIdAsLong = guildIdAsLong;
+        this.position = position;
+        this.parentIdAsLong = parentIdAsLong;
+        this.overrides = overrides;
+        this.topic = topic;
+        this.nsfw = nsfw;
+        this.rateLimitPerUser = rateLimitPerUser;
+    }
+}
@@ -0,0 +1,165 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.UserDMChannel;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * @author natanbc
+ * @since 9/12/18
+ */
+public class UserDMChannelImpl implements UserDMChannel, RequiresCatnip {
+    private final ChannelType type = ChannelType.DM;
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long userIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof UserDMChannel && ((UserDMChannel) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UserDMChannel (%s)", recipient());
+    }
+
+    @Nullable
+    @Override
+    public User recipient() {
+        return catnip.cache().user(userIdAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class UserDMChannelImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long userIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        UserDMChannelImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserDMChannelImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserDMChannelImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserDMChannelImplBuilder userIdAsLong(final long userIdAsLong) {
+            this.userIdAsLong = userIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserDMChannelImpl build() {
+            return new UserDMChannelImpl(catnip, idAsLong, userIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "UserDMChannelImpl.UserDMChannelImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", userIdAsLong=" + this.userIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static UserDMChannelImplBuilder builder() {
+        return new UserDMChannelImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long userIdAsLong() {
+        return this.userIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserDMChannelImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserDMChannelImpl userIdAsLong(final long userIdAsLong) {
+        this.userIdAsLong = userIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserDMChannelImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserDMChannelImpl(final Catnip catnip, final long idAsLong, final long userIdAsLong) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.userIdAsLong = userIdAsLong;
+    }
+}
@@ -0,0 +1,290 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.VoiceChannel;
+import com.mewna.catnip.entity.guild.PermissionOverride;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author natanbc
+ * @since 9/12/18
+ */
+public class VoiceChannelImpl implements VoiceChannel, RequiresCatnip {
+    private final ChannelType type = ChannelType.VOICE;
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String name;
+    private long guildIdAsLong;
+    private int position;
+    private long parentIdAsLong;
+    private List<PermissionOverride> overrides;
+    private int bitrate;
+    private int userLimit;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        for (final PermissionOverride override : overrides) {
+            if (override instanceof RequiresCatnip) {
+                ((RequiresCatnip) override).catnip(catnip);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof VoiceChannel && ((VoiceChannel) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("VoiceChannel (%s)", name);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class VoiceChannelImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private int position;
+        @java.lang.SuppressWarnings("all")
+        private long parentIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private List<PermissionOverride> overrides;
+        @java.lang.SuppressWarnings("all")
+        private int bitrate;
+        @java.lang.SuppressWarnings("all")
+        private int userLimit;
+
+        @java.lang.SuppressWarnings("all")
+        VoiceChannelImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder position(final int position) {
+            this.position = position;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder parentIdAsLong(final long parentIdAsLong) {
+            this.parentIdAsLong = parentIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder overrides(final List<PermissionOverride> overrides) {
+            this.overrides = overrides;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder bitrate(final int bitrate) {
+            this.bitrate = bitrate;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImplBuilder userLimit(final int userLimit) {
+            this.userLimit = userLimit;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceChannelImpl build() {
+            return new VoiceChannelImpl(catnip, idAsLong, name, guildIdAsLong, position, parentIdAsLong, overrides, bitrate, userLimit);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "VoiceChannelImpl.VoiceChannelImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", guildIdAsLong=" + this.guildIdAsLong + ", position=" + this.position + ", parentIdAsLong=" + this.parentIdAsLong + ", overrides=" + this.overrides + ", bitrate=" + this.bitrate + ", userLimit=" + this.userLimit + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static VoiceChannelImplBuilder builder() {
+        return new VoiceChannelImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ChannelType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int position() {
+        return this.position;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long parentIdAsLong() {
+        return this.parentIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<PermissionOverride> overrides() {
+        return this.overrides;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int bitrate() {
+        return this.bitrate;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int userLimit() {
+        return this.userLimit;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl position(final int position) {
+        this.position = position;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl parentIdAsLong(final long parentIdAsLong) {
+        this.parentIdAsLong = parentIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl overrides(final List<PermissionOverride> overrides) {
+        this.overrides = overrides;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl bitrate(final int bitrate) {
+        this.bitrate = bitrate;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl userLimit(final int userLimit) {
+        this.userLimit = userLimit;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceChannelImpl(final Catnip catnip, final long idAsLong, final String name, final long guildIdAsLong, final int position, final long parentIdAsLong, final List<PermissionOverride> overrides, final int bitrate, final int userLimit) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.name = name;
+        this.guildIdAsLong = guildIdAsLong;
+        this.position = position;
+        this.parentIdAsLong = parentIdAsLong;
+        this.overrides = overrides;
+        this.bitrate = bitrate;
+        this.userLimit = userLimit;
+    }
+}
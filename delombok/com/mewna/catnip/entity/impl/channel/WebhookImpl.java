@@ -0,0 +1,260 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.Webhook;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author natanbc
+ * @since 9/15/18
+ */
+public class WebhookImpl implements Webhook, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private long channelIdAsLong;
+    private User user;
+    private String name;
+    private String avatar;
+    private String token;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Webhook && ((Webhook) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Webhook (%s)", name == null ? idAsLong : name);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class WebhookImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private String avatar;
+        @java.lang.SuppressWarnings("all")
+        private String token;
+
+        @java.lang.SuppressWarnings("all")
+        WebhookImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder avatar(final String avatar) {
+            this.avatar = avatar;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImplBuilder token(final String token) {
+            this.token = token;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhookImpl build() {
+            return new WebhookImpl(catnip, idAsLong, guildIdAsLong, channelIdAsLong, user, name, avatar, token);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "WebhookImpl.WebhookImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", channelIdAsLong=" + this.channelIdAsLong + ", user=" + this.user + ", name=" + this.name + ", avatar=" + this.avatar + ", token=" + this.token + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static WebhookImplBuilder builder() {
+        return new WebhookImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String avatar() {
+        return this.avatar;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String token() {
+        return this.token;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl avatar(final String avatar) {
+        this.avatar = avatar;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl token(final String token) {
+        this.token = token;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhookImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final long channelIdAsLong, final User user, final String name, final String avatar, final String token) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.channelIdAsLong = channelIdAsLong;
+        this.user = user;
+        this.name = name;
+        this.avatar = avatar;
+        this.token = token;
+    }
+}
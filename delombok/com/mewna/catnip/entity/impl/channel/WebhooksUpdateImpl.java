@@ -0,0 +1,136 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.channel;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.WebhooksUpdate;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 11/10/18.
+ */
+public class WebhooksUpdateImpl implements WebhooksUpdate, RequiresCatnip {
+    private transient Catnip catnip;
+    private long channelIdAsLong;
+    private long guildIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class WebhooksUpdateImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        WebhooksUpdateImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhooksUpdateImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhooksUpdateImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhooksUpdateImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public WebhooksUpdateImpl build() {
+            return new WebhooksUpdateImpl(catnip, channelIdAsLong, guildIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "WebhooksUpdateImpl.WebhooksUpdateImplBuilder(catnip=" + this.catnip + ", channelIdAsLong=" + this.channelIdAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static WebhooksUpdateImplBuilder builder() {
+        return new WebhooksUpdateImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhooksUpdateImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhooksUpdateImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhooksUpdateImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public WebhooksUpdateImpl(final Catnip catnip, final long channelIdAsLong, final long guildIdAsLong) {
+        this.catnip = catnip;
+        this.channelIdAsLong = channelIdAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+    }
+}
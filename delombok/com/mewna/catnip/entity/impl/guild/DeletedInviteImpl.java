@@ -0,0 +1,157 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.DeletedInvite;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 4/24/20.
+ */
+public class DeletedInviteImpl implements DeletedInvite, RequiresCatnip {
+    private transient Catnip catnip;
+    private String code;
+    private long channelIdAsLong;
+    private long guildIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class DeletedInviteImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String code;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        DeletedInviteImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DeletedInviteImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DeletedInviteImplBuilder code(final String code) {
+            this.code = code;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DeletedInviteImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DeletedInviteImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DeletedInviteImpl build() {
+            return new DeletedInviteImpl(catnip, code, channelIdAsLong, guildIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "DeletedInviteImpl.DeletedInviteImplBuilder(catnip=" + this.catnip + ", code=" + this.code + ", channelIdAsLong=" + this.channelIdAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static DeletedInviteImplBuilder builder() {
+        return new DeletedInviteImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String code() {
+        return this.code;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public DeletedInviteImpl code(final String code) {
+        this.code = code;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public DeletedInviteImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public DeletedInviteImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public DeletedInviteImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public DeletedInviteImpl(final Catnip catnip, final String code, final long channelIdAsLong, final long guildIdAsLong) {
+        this.catnip = catnip;
+        this.code = code;
+        this.channelIdAsLong = channelIdAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+    }
+}
@@ -0,0 +1,143 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.EmojiUpdate;
+import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author amy
+ * @since 10/9/18.
+ */
+public class EmojiUpdateImpl implements EmojiUpdate, RequiresCatnip {
+    private transient Catnip catnip;
+    private long guildIdAsLong;
+    private List<CustomEmoji> emojis;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        for (final CustomEmoji emoji : emojis) {
+            if (emoji instanceof RequiresCatnip) {
+                ((RequiresCatnip) emoji).catnip(catnip);
+            }
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class EmojiUpdateImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private List<CustomEmoji> emojis;
+
+        @java.lang.SuppressWarnings("all")
+        EmojiUpdateImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmojiUpdateImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmojiUpdateImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmojiUpdateImplBuilder emojis(final List<CustomEmoji> emojis) {
+            this.emojis = emojis;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmojiUpdateImpl build() {
+            return new EmojiUpdateImpl(catnip, guildIdAsLong, emojis);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "EmojiUpdateImpl.EmojiUpdateImplBuilder(catnip=" + this.catnip + ", guildIdAsLong=" + this.guildIdAsLong + ", emojis=" + this.emojis + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static EmojiUpdateImplBuilder builder() {
+        return new EmojiUpdateImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<CustomEmoji> emojis() {
+        return this.emojis;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmojiUpdateImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmojiUpdateImpl emojis(final List<CustomEmoji> emojis) {
+        this.emojis = emojis;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmojiUpdateImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmojiUpdateImpl(final Catnip catnip, final long guildIdAsLong, final List<CustomEmoji> emojis) {
+        this.catnip = catnip;
+        this.guildIdAsLong = guildIdAsLong;
+        this.emojis = emojis;
+    }
+}
@@ -0,0 +1,140 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.GuildBan;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 10/6/18.
+ */
+public class GuildBanImpl implements GuildBan, RequiresCatnip {
+    private transient Catnip catnip;
+    private String reason;
+    private User user;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class GuildBanImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String reason;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+
+        @java.lang.SuppressWarnings("all")
+        GuildBanImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildBanImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildBanImplBuilder reason(final String reason) {
+            this.reason = reason;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildBanImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildBanImpl build() {
+            return new GuildBanImpl(catnip, reason, user);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "GuildBanImpl.GuildBanImplBuilder(catnip=" + this.catnip + ", reason=" + this.reason + ", user=" + this.user + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static GuildBanImplBuilder builder() {
+        return new GuildBanImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String reason() {
+        return this.reason;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildBanImpl reason(final String reason) {
+        this.reason = reason;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildBanImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildBanImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildBanImpl(final Catnip catnip, final String reason, final User user) {
+        this.catnip = catnip;
+        this.reason = reason;
+        this.user = user;
+    }
+}
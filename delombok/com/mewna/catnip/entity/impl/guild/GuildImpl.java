@@ -0,0 +1,848 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.GuildFeature;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.entity.util.Permission;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author natanbc
+ * @since 9/6/18.
+ */
+public class GuildImpl implements Guild, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String name;
+    private String icon;
+    private String splash;
+    private boolean owned;
+    private long ownerIdAsLong;
+    private Set<Permission> permissions;
+    private String region;
+    private long afkChannelIdAsLong;
+    private int afkTimeout;
+    private boolean embedEnabled;
+    private long embedChannelIdAsLong;
+    private VerificationLevel verificationLevel;
+    private NotificationLevel defaultMessageNotifications;
+    private ContentFilterLevel explicitContentFilter;
+    private List<GuildFeature> features;
+    private MFALevel mfaLevel;
+    private long applicationIdAsLong;
+    private boolean widgetEnabled;
+    private long widgetChannelIdAsLong;
+    private long systemChannelIdAsLong;
+    private String joinedAt;
+    private boolean large;
+    private boolean unavailable;
+    private int maxPresences;
+    private int maxMembers;
+    private int approximateMemberCount;
+    private int approximatePresenceCount;
+    private String vanityUrlCode;
+    private String description;
+    private String banner;
+    private PremiumTier premiumTier;
+    private int premiumSubscriptionCount;
+    private String preferredLocale;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    @Nullable
+    @CheckReturnValue
+    public String iconUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.iconUrl(id(), icon, options);
+    }
+
+    @Override
+    @Nullable
+    @CheckReturnValue
+    public String splashUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.splashUrl(id(), splash, options);
+    }
+
+    @Nonnull
+    @Override
+    public OffsetDateTime joinedAt() {
+        return parseTimestamp(joinedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Guild && ((Guild) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Guild (%s, %s)", name, idAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class GuildImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private String splash;
+        @java.lang.SuppressWarnings("all")
+        private boolean owned;
+        @java.lang.SuppressWarnings("all")
+        private long ownerIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private Set<Permission> permissions;
+        @java.lang.SuppressWarnings("all")
+        private String region;
+        @java.lang.SuppressWarnings("all")
+        private long afkChannelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private int afkTimeout;
+        @java.lang.SuppressWarnings("all")
+        private boolean embedEnabled;
+        @java.lang.SuppressWarnings("all")
+        private long embedChannelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private VerificationLevel verificationLevel;
+        @java.lang.SuppressWarnings("all")
+        private NotificationLevel defaultMessageNotifications;
+        @java.lang.SuppressWarnings("all")
+        private ContentFilterLevel explicitContentFilter;
+        @java.lang.SuppressWarnings("all")
+        private List<GuildFeature> features;
+        @java.lang.SuppressWarnings("all")
+        private MFALevel mfaLevel;
+        @java.lang.SuppressWarnings("all")
+        private long applicationIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private boolean widgetEnabled;
+        @java.lang.SuppressWarnings("all")
+        private long widgetChannelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long systemChannelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String joinedAt;
+        @java.lang.SuppressWarnings("all")
+        private boolean large;
+        @java.lang.SuppressWarnings("all")
+        private boolean unavailable;
+        @java.lang.SuppressWarnings("all")
+        private int maxPresences;
+        @java.lang.SuppressWarnings("all")
+        private int maxMembers;
+        @java.lang.SuppressWarnings("all")
+        private int approximateMemberCount;
+        @java.lang.SuppressWarnings("all")
+        private int approximatePresenceCount;
+        @java.lang.SuppressWarnings("all")
+        private String vanityUrlCode;
+        @java.lang.SuppressWarnings("all")
+        private String description;
+        @java.lang.SuppressWarnings("all")
+        private String banner;
+        @java.lang.SuppressWarnings("all")
+        private PremiumTier premiumTier;
+        @java.lang.SuppressWarnings("all")
+        private int premiumSubscriptionCount;
+        @java.lang.SuppressWarnings("all")
+        private String preferredLocale;
+
+        @java.lang.SuppressWarnings("all")
+        GuildImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder splash(final String splash) {
+            this.splash = splash;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder owned(final boolean owned) {
+            this.owned = owned;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder ownerIdAsLong(final long ownerIdAsLong) {
+            this.ownerIdAsLong = ownerIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder permissions(final Set<Permission> permissions) {
+            this.permissions = permissions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder region(final String region) {
+            this.region = region;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder afkChannelIdAsLong(final long afkChannelIdAsLong) {
+            this.afkChannelIdAsLong = afkChannelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder afkTimeout(final int afkTimeout) {
+            this.afkTimeout = afkTimeout;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder embedEnabled(final boolean embedEnabled) {
+            this.embedEnabled = embedEnabled;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder embedChannelIdAsLong(final long embedChannelIdAsLong) {
+            this.embedChannelIdAsLong = embedChannelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder verificationLevel(final VerificationLevel verificationLevel) {
+            this.verificationLevel = verificationLevel;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder defaultMessageNotifications(final NotificationLevel defaultMessageNotifications) {
+            this.defaultMessageNotifications = defaultMessageNotifications;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder explicitContentFilter(final ContentFilterLevel explicitContentFilter) {
+            this.explicitContentFilter = explicitContentFilter;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder features(final List<GuildFeature> features) {
+            this.features = features;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder mfaLevel(final MFALevel mfaLevel) {
+            this.mfaLevel = mfaLevel;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder applicationIdAsLong(final long applicationIdAsLong) {
+            this.applicationIdAsLong = applicationIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder widgetEnabled(final boolean widgetEnabled) {
+            this.widgetEnabled = widgetEnabled;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder widgetChannelIdAsLong(final long widgetChannelIdAsLong) {
+            this.widgetChannelIdAsLong = widgetChannelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder systemChannelIdAsLong(final long systemChannelIdAsLong) {
+            this.systemChannelIdAsLong = systemChannelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder joinedAt(final String joinedAt) {
+            this.joinedAt = joinedAt;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder large(final boolean large) {
+            this.large = large;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder unavailable(final boolean unavailable) {
+            this.unavailable = unavailable;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder maxPresences(final int maxPresences) {
+            this.maxPresences = maxPresences;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder maxMembers(final int maxMembers) {
+            this.maxMembers = maxMembers;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder approximateMemberCount(final int approximateMemberCount) {
+            this.approximateMemberCount = approximateMemberCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder approximatePresenceCount(final int approximatePresenceCount) {
+            this.approximatePresenceCount = approximatePresenceCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder vanityUrlCode(final String vanityUrlCode) {
+            this.vanityUrlCode = vanityUrlCode;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder description(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder banner(final String banner) {
+            this.banner = banner;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder premiumTier(final PremiumTier premiumTier) {
+            this.premiumTier = premiumTier;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder premiumSubscriptionCount(final int premiumSubscriptionCount) {
+            this.premiumSubscriptionCount = premiumSubscriptionCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImplBuilder preferredLocale(final String preferredLocale) {
+            this.preferredLocale = preferredLocale;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GuildImpl build() {
+            return new GuildImpl(catnip, idAsLong, name, icon, splash, owned, ownerIdAsLong, permissions, region, afkChannelIdAsLong, afkTimeout, embedEnabled, embedChannelIdAsLong, verificationLevel, defaultMessageNotifications, explicitContentFilter, features, mfaLevel, applicationIdAsLong, widgetEnabled, widgetChannelIdAsLong, systemChannelIdAsLong, joinedAt, large, unavailable, maxPresences, maxMembers, approximateMemberCount, approximatePresenceCount, vanityUrlCode, description, banner, premiumTier, premiumSubscriptionCount, preferredLocale);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "GuildImpl.GuildImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", icon=" + this.icon + ", splash=" + this.splash + ", owned=" + this.owned + ", ownerIdAsLong=" + this.ownerIdAsLong + ", permissions=" + this.permissions + ", region=" + this.region + ", afkChannelIdAsLong=" + this.afkChannelIdAsLong + ", afkTimeout=" + this.afkTimeout + ", embedEnabled=" + this.embedEnabled + ", embedChannelIdAsLong=" + this.embedChannelIdAsLong + ", verificationLevel=" + this.verificationLevel + ", defaultMessageNotifications=" + this.defaultMessageNotifications + ", explicitContentFilter=" + this.explicitContentFilter + ", features=" + this.features + ", mfaLevel=" + this.mfaLevel + ", applicationIdAsLong=" + this.applicationIdAsLong + ", widgetEnabled=" + this.widgetEnabled + ", widgetChannelIdAsLong=" + this.widgetChannelIdAsLong + ", systemChannelIdAsLong=" + this.systemChannelIdAsLong + ", joinedAt=" + this.joinedAt + ", large=" + this.large + ", unavailable=" + this.unavailable + ", maxPresences=" + this.maxPresences + ", maxMembers=" + this.maxMembers + ", approximateMemberCount=" + this.approximateMemberCount + ", approximatePresenceCount=" + this.approximatePresenceCount + ", vanityUrlCode=" + this.vanityUrlCode + ", description=" + this.description + ", banner=" + this.banner + ", premiumTier=" + this.premiumTier + ", premiumSubscriptionCount=" + this.premiumSubscriptionCount + ", preferredLocale=" + this.preferredLocale + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static GuildImplBuilder builder() {
+        return new GuildImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String splash() {
+        return this.splash;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean owned() {
+        return this.owned;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long ownerIdAsLong() {
+        return this.ownerIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<Permission> permissions() {
+        return this.permissions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String region() {
+        return this.region;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long afkChannelIdAsLong() {
+        return this.afkChannelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int afkTimeout() {
+        return this.afkTimeout;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean embedEnabled() {
+        return this.embedEnabled;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long embedChannelIdAsLong() {
+        return this.embedChannelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VerificationLevel verificationLevel() {
+        return this.verificationLevel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public NotificationLevel defaultMessageNotifications() {
+        return this.defaultMessageNotifications;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ContentFilterLevel explicitContentFilter() {
+        return this.explicitContentFilter;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<GuildFeature> features() {
+        return this.features;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MFALevel mfaLevel() {
+        return this.mfaLevel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long applicationIdAsLong() {
+        return this.applicationIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean widgetEnabled() {
+        return this.widgetEnabled;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long widgetChannelIdAsLong() {
+        return this.widgetChannelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long systemChannelIdAsLong() {
+        return this.systemChannelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean large() {
+        return this.large;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean unavailable() {
+        return this.unavailable;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int maxPresences() {
+        return this.maxPresences;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int maxMembers() {
+        return this.maxMembers;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximateMemberCount() {
+        return this.approximateMemberCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximatePresenceCount() {
+        return this.approximatePresenceCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String vanityUrlCode() {
+        return this.vanityUrlCode;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String description() {
+        return this.description;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String banner() {
+        return this.banner;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PremiumTier premiumTier() {
+        return this.premiumTier;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int premiumSubscriptionCount() {
+        return this.premiumSubscriptionCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String preferredLocale() {
+        return this.preferredLocale;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl splash(final String splash) {
+        this.splash = splash;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl owned(final boolean owned) {
+        this.owned = owned;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl ownerIdAsLong(final long ownerIdAsLong) {
+        this.ownerIdAsLong = ownerIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl permissions(final Set<Permission> permissions) {
+        this.permissions = permissions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl region(final String region) {
+        this.region = region;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl afkChannelIdAsLong(final long afkChannelIdAsLong) {
+        this.afkChannelIdAsLong = afkChannelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl afkTimeout(final int afkTimeout) {
+        this.afkTimeout = afkTimeout;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl embedEnabled(final boolean embedEnabled) {
+        this.embedEnabled = embedEnabled;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl embedChannelIdAsLong(final long embedChannelIdAsLong) {
+        this.embedChannelIdAsLong = embedChannelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl verificationLevel(final VerificationLevel verificationLevel) {
+        this.verificationLevel = verificationLevel;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl defaultMessageNotifications(final NotificationLevel defaultMessageNotifications) {
+        this.defaultMessageNotifications = defaultMessageNotifications;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl explicitContentFilter(final ContentFilterLevel explicitContentFilter) {
+        this.explicitContentFilter = explicitContentFilter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl features(final List<GuildFeature> features) {
+        this.features = features;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl mfaLevel(final MFALevel mfaLevel) {
+        this.mfaLevel = mfaLevel;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl applicationIdAsLong(final long applicationIdAsLong) {
+        this.applicationIdAsLong = applicationIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl widgetEnabled(final boolean widgetEnabled) {
+        this.widgetEnabled = widgetEnabled;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl widgetChannelIdAsLong(final long widgetChannelIdAsLong) {
+        this.widgetChannelIdAsLong = widgetChannelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl systemChannelIdAsLong(final long systemChannelIdAsLong) {
+        this.systemChannelIdAsLong = systemChannelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl joinedAt(final String joinedAt) {
+        this.joinedAt = joinedAt;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl large(final boolean large) {
+        this.large = large;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl unavailable(final boolean unavailable) {
+        this.unavailable = unavailable;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl maxPresences(final int maxPresences) {
+        this.maxPresences = maxPresences;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl maxMembers(final int maxMembers) {
+        this.maxMembers = maxMembers;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl approximateMemberCount(final int approximateMemberCount) {
+        this.approximateMemberCount = approximateMemberCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl approximatePresenceCount(final int approximatePresenceCount) {
+        this.approximatePresenceCount = approximatePresenceCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl vanityUrlCode(final String vanityUrlCode) {
+        this.vanityUrlCode = vanityUrlCode;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl description(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl banner(final String banner) {
+        this.banner = banner;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl premiumTier(final PremiumTier premiumTier) {
+        this.premiumTier = premiumTier;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl premiumSubscriptionCount(final int premiumSubscriptionCount) {
+        this.premiumSubscriptionCount = premiumSubscriptionCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl preferredLocale(final String preferredLocale) {
+        this.preferredLocale = preferredLocale;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GuildImpl(final Catnip catnip, final long idAsLong, final String name, final String icon, final String splash, final boolean owned, final long ownerIdAsLong, final Set<Permission> permissions, final String region, final long afkChannelIdAsLong, final int afkTimeout, final boolean embedEnabled, final long embedChannelIdAsLong, final VerificationLevel verificationLevel, final NotificationLevel defaultMessageNotifications, final ContentFilterLevel explicitContentFilter, final List<GuildFeature> features, final MFALevel mfaLevel, final long applicationIdAsLong, final boolean widgetEnabled, final long widgetChannelIdAsLong, final long systemChannelIdAsLong, final String joinedAt, final boolean large, final boolean unavailable, final int maxPresences, final int maxMembers, final int approximateMemberCount, final int approximatePresenceCount, final String vanityUrlCode, final String description, final String banner, final PremiumTier premiumTier, final int premiumSubscriptionCount, final String preferredLocale) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.name = name;
+        this.icon = icon;
+        this.splash = splash;
+        this.owned = owned;
+        this.ownerIdAsLong = ownerIdAsLong;
+        this.permissions = permissions;
+        this.region = region;
+        this.afkChannelIdAsLong = afkChannelIdAsLong;
+        this.afkTimeout = afkTimeout;
+        this.embedEnabled = embedEnabled;
+        this.embedChannelIdAsLong = embedChannelIdAsLong;
+        this.verificationLevel = verificationLevel;
+        this.defaultMessageNotifications = defaultMessageNotifications;
+        this.explicitContentFilter = explicitContentFilter;
+        this.features = features;
+        this.mfaLevel = mfaLevel;
+        this.applicationIdAsLong = applicationIdAsLong;
+        this.widgetEnabled = widgetEnabled;
+        this.widgetChannelIdAsLong = widgetChannelIdAsLong;
+        this.systemChannelIdAsLong = systemChannelIdAsLong;
+        this.joinedAt = joinedAt;
+        this.large = large;
+        this.unavailable = unavailable;
+        this.maxPresences = maxPresences;
+        this.maxMembers = maxMembers;
+        this.approximateMemberCount = approximateMemberCount;
+        this.approximatePresenceCount = approximatePresenceCount;
+        this.vanityUrlCode = vanityUrlCode;
+        this.description = description;
+        this.banner = banner;
+        this.premiumTier = premiumTier;
+        this.premiumSubscriptionCount = premiumSubscriptionCount;
+        this.preferredLocale = preferredLocale;
+    }
+}
@@ -0,0 +1,784 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.Channel.ChannelType;
+import com.mewna.catnip.entity.guild.Guild.VerificationLevel;
+import com.mewna.catnip.entity.guild.GuildFeature;
+import com.mewna.catnip.entity.guild.Invite;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.entity.util.ImageType;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author natanbc
+ * @since 9/14/18.
+ */
+public class InviteImpl implements Invite, RequiresCatnip {
+    private transient Catnip catnip;
+    private String code;
+    private Inviter inviter;
+    private InviteGuild guild;
+    private InviteChannel channel;
+    private int approximatePresenceCount;
+    private int approximateMemberCount;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Invite && ((Invite) obj).code().equals(code);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Invite (%s)", code);
+    }
+
+
+    public static class InviterImpl implements Inviter, RequiresCatnip {
+        private transient Catnip catnip;
+        private long idAsLong;
+        private String username;
+        private String discriminator;
+        private String avatar;
+
+        @Override
+        public void catnip(@Nonnull final Catnip catnip) {
+            this.catnip = catnip;
+        }
+
+        @Override
+        public boolean animatedAvatar() {
+            return avatar != null && avatar.startsWith("a_");
+        }
+
+        @Nonnull
+        @Override
+        public String defaultAvatarUrl() {
+            return CDNFormat.defaultAvatarUrl(discriminator);
+        }
+
+        @Nullable
+        @Override
+        public String avatarUrl(@Nonnull final ImageOptions options) {
+            return CDNFormat.avatarUrl(id(), avatar, options);
+        }
+
+        @Nullable
+        @Override
+        public String avatarUrl() {
+            return avatarUrl(defaultOptions());
+        }
+
+        @Nonnull
+        @Override
+        public String effectiveAvatarUrl(@Nonnull final ImageOptions options) {
+            return avatar == null ? defaultAvatarUrl() : Objects.requireNonNull(avatarUrl(options), "Avatar url is null but avatar hash is present (??)");
+        }
+
+        @Nonnull
+        @Override
+        public String effectiveAvatarUrl() {
+            return effectiveAvatarUrl(defaultOptions());
+        }
+
+        private ImageOptions defaultOptions() {
+            return new ImageOptions().type(animatedAvatar() ? ImageType.GIF : null);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(idAsLong);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Inviter && ((Inviter) obj).idAsLong() == idAsLong;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Inviter (%s)", username);
+        }
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class InviterImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private Catnip catnip;
+            @java.lang.SuppressWarnings("all")
+            private long idAsLong;
+            @java.lang.SuppressWarnings("all")
+            private String username;
+            @java.lang.SuppressWarnings("all")
+            private String discriminator;
+            @java.lang.SuppressWarnings("all")
+            private String avatar;
+
+            @java.lang.SuppressWarnings("all")
+            InviterImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImplBuilder catnip(final Catnip catnip) {
+                this.catnip = catnip;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImplBuilder idAsLong(final long idAsLong) {
+                this.idAsLong = idAsLong;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImplBuilder username(final String username) {
+                this.username = username;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImplBuilder discriminator(final String discriminator) {
+                this.discriminator = discriminator;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImplBuilder avatar(final String avatar) {
+                this.avatar = avatar;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviterImpl build() {
+                return new InviterImpl(catnip, idAsLong, username, discriminator, avatar);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "InviteImpl.InviterImpl.InviterImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", username=" + this.username + ", discriminator=" + this.discriminator + ", avatar=" + this.avatar + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static InviterImplBuilder builder() {
+            return new InviterImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Catnip catnip() {
+            return this.catnip;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long idAsLong() {
+            return this.idAsLong;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String username() {
+            return this.username;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String discriminator() {
+            return this.discriminator;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String avatar() {
+            return this.avatar;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl username(final String username) {
+            this.username = username;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl discriminator(final String discriminator) {
+            this.discriminator = discriminator;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl avatar(final String avatar) {
+            this.avatar = avatar;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviterImpl(final Catnip catnip, final long idAsLong, final String username, final String discriminator, final String avatar) {
+            this.catnip = catnip;
+            this.idAsLong = idAsLong;
+            this.username = username;
+            this.discriminator = discriminator;
+            this.avatar = avatar;
+        }
+    }
+
+
+    public static class InviteGuildImpl implements InviteGuild, RequiresCatnip {
+        private transient Catnip catnip;
+        private long idAsLong;
+        private String name;
+        private String icon;
+        private String splash;
+        private List<GuildFeature> features;
+        private VerificationLevel verificationLevel;
+
+        @Override
+        public void catnip(@Nonnull final Catnip catnip) {
+            this.catnip = catnip;
+        }
+
+        @Nullable
+        @Override
+        public String iconUrl(@Nonnull final ImageOptions options) {
+            return CDNFormat.iconUrl(id(), icon, options);
+        }
+
+        @Nullable
+        @Override
+        public String splashUrl(@Nonnull final ImageOptions options) {
+            return CDNFormat.splashUrl(id(), splash, options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(idAsLong);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof InviteGuild && ((InviteGuild) obj).idAsLong() == idAsLong;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("InviteGuild (%s)", name);
+        }
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class InviteGuildImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private Catnip catnip;
+            @java.lang.SuppressWarnings("all")
+            private long idAsLong;
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private String icon;
+            @java.lang.SuppressWarnings("all")
+            private String splash;
+            @java.lang.SuppressWarnings("all")
+            private List<GuildFeature> features;
+            @java.lang.SuppressWarnings("all")
+            private VerificationLevel verificationLevel;
+
+            @java.lang.SuppressWarnings("all")
+            InviteGuildImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder catnip(final Catnip catnip) {
+                this.catnip = catnip;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder idAsLong(final long idAsLong) {
+                this.idAsLong = idAsLong;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder icon(final String icon) {
+                this.icon = icon;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder splash(final String splash) {
+                this.splash = splash;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder features(final List<GuildFeature> features) {
+                this.features = features;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImplBuilder verificationLevel(final VerificationLevel verificationLevel) {
+                this.verificationLevel = verificationLevel;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteGuildImpl build() {
+                return new InviteGuildImpl(catnip, idAsLong, name, icon, splash, features, verificationLevel);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "InviteImpl.InviteGuildImpl.InviteGuildImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", icon=" + this.icon + ", splash=" + this.splash + ", features=" + this.features + ", verificationLevel=" + this.verificationLevel + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static InviteGuildImplBuilder builder() {
+            return new InviteGuildImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Catnip catnip() {
+            return this.catnip;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long idAsLong() {
+            return this.idAsLong;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String icon() {
+            return this.icon;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String splash() {
+            return this.splash;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public List<GuildFeature> features() {
+            return this.features;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VerificationLevel verificationLevel() {
+            return this.verificationLevel;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl splash(final String splash) {
+            this.splash = splash;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl features(final List<GuildFeature> features) {
+            this.features = features;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl verificationLevel(final VerificationLevel verificationLevel) {
+            this.verificationLevel = verificationLevel;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteGuildImpl(final Catnip catnip, final long idAsLong, final String name, final String icon, final String splash, final List<GuildFeature> features, final VerificationLevel verificationLevel) {
+            this.catnip = catnip;
+            this.idAsLong = idAsLong;
+            this.name = name;
+            this.icon = icon;
+            this.splash = splash;
+            this.features = features;
+            this.verificationLevel = verificationLevel;
+        }
+    }
+
+
+    public static class InviteChannelImpl implements InviteChannel, RequiresCatnip {
+        private transient Catnip catnip;
+        private long idAsLong;
+        private String name;
+        private ChannelType type;
+
+        @Override
+        public void catnip(@Nonnull final Catnip catnip) {
+            this.catnip = catnip;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(idAsLong);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof InviteChannel && ((InviteChannel) obj).idAsLong() == idAsLong;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("InviteChannel (%s)", name);
+        }
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class InviteChannelImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private Catnip catnip;
+            @java.lang.SuppressWarnings("all")
+            private long idAsLong;
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private ChannelType type;
+
+            @java.lang.SuppressWarnings("all")
+            InviteChannelImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteChannelImplBuilder catnip(final Catnip catnip) {
+                this.catnip = catnip;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteChannelImplBuilder idAsLong(final long idAsLong) {
+                this.idAsLong = idAsLong;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteChannelImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteChannelImplBuilder type(final ChannelType type) {
+                this.type = type;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public InviteChannelImpl build() {
+                return new InviteChannelImpl(catnip, idAsLong, name, type);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "InviteImpl.InviteChannelImpl.InviteChannelImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", type=" + this.type + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static InviteChannelImplBuilder builder() {
+            return new InviteChannelImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Catnip catnip() {
+            return this.catnip;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long idAsLong() {
+            return this.idAsLong;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ChannelType type() {
+            return this.type;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteChannelImpl idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteChannelImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteChannelImpl type(final ChannelType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteChannelImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteChannelImpl(final Catnip catnip, final long idAsLong, final String name, final ChannelType type) {
+            this.catnip = catnip;
+            this.idAsLong = idAsLong;
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class InviteImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String code;
+        @java.lang.SuppressWarnings("all")
+        private Inviter inviter;
+        @java.lang.SuppressWarnings("all")
+        private InviteGuild guild;
+        @java.lang.SuppressWarnings("all")
+        private InviteChannel channel;
+        @java.lang.SuppressWarnings("all")
+        private int approximatePresenceCount;
+        @java.lang.SuppressWarnings("all")
+        private int approximateMemberCount;
+
+        @java.lang.SuppressWarnings("all")
+        InviteImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder code(final String code) {
+            this.code = code;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder inviter(final Inviter inviter) {
+            this.inviter = inviter;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder guild(final InviteGuild guild) {
+            this.guild = guild;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder channel(final InviteChannel channel) {
+            this.channel = channel;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder approximatePresenceCount(final int approximatePresenceCount) {
+            this.approximatePresenceCount = approximatePresenceCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImplBuilder approximateMemberCount(final int approximateMemberCount) {
+            this.approximateMemberCount = approximateMemberCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InviteImpl build() {
+            return new InviteImpl(catnip, code, inviter, guild, channel, approximatePresenceCount, approximateMemberCount);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "InviteImpl.InviteImplBuilder(catnip=" + this.catnip + ", code=" + this.code + ", inviter=" + this.inviter + ", guild=" + this.guild + ", channel=" + this.channel + ", approximatePresenceCount=" + this.approximatePresenceCount + ", approximateMemberCount=" + this.approximateMemberCount + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static InviteImplBuilder builder() {
+        return new InviteImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String code() {
+        return this.code;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Inviter inviter() {
+        return this.inviter;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteGuild guild() {
+        return this.guild;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteChannel channel() {
+        return this.channel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximatePresenceCount() {
+        return this.approximatePresenceCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximateMemberCount() {
+        return this.approximateMemberCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl code(final String code) {
+        this.code = code;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl inviter(final Inviter inviter) {
+        this.inviter = inviter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl guild(final InviteGuild guild) {
+        this.guild = guild;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl channel(final InviteChannel channel) {
+        this.channel = channel;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl approximatePresenceCount(final int approximatePresenceCount) {
+        this.approximatePresenceCount = approximatePresenceCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl approximateMemberCount(final int approximateMemberCount) {
+        this.approximateMemberCount = approximateMemberCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteImpl(final Catnip catnip, final String code, final Inviter inviter, final InviteGuild guild, final InviteChannel channel, final int approximatePresenceCount, final int approximateMemberCount) {
+        this.catnip = catnip;
+        this.code = code;
+        this.inviter = inviter;
+        this.guild = guild;
+        this.channel = channel;
+        this.approximatePresenceCount = approximatePresenceCount;
+        this.approximateMemberCount = approximateMemberCount;
+    }
+}
@@ -0,0 +1,288 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.guild.Member;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * @author amy
+ * @since 9/1/18.
+ */
+public class MemberImpl implements Member, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private String nick;
+    private Set<String> roleIds;
+    private String joinedAt;
+    private String premiumSince;
+    private boolean deaf;
+    private boolean mute;
+
+    @Nonnull
+    @Override
+    public OffsetDateTime joinedAt() {
+        return parseTimestamp(joinedAt);
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime premiumSince() {
+        return premiumSince == null ? null : parseTimestamp(premiumSince);
+    }
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Member && ((Member) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Member (%s, %s)", idAsLong, effectiveName());
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MemberImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String nick;
+        @java.lang.SuppressWarnings("all")
+        private Set<String> roleIds;
+        @java.lang.SuppressWarnings("all")
+        private String joinedAt;
+        @java.lang.SuppressWarnings("all")
+        private String premiumSince;
+        @java.lang.SuppressWarnings("all")
+        private boolean deaf;
+        @java.lang.SuppressWarnings("all")
+        private boolean mute;
+
+        @java.lang.SuppressWarnings("all")
+        MemberImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder nick(final String nick) {
+            this.nick = nick;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder roleIds(final Set<String> roleIds) {
+            this.roleIds = roleIds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder joinedAt(final String joinedAt) {
+            this.joinedAt = joinedAt;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder premiumSince(final String premiumSince) {
+            this.premiumSince = premiumSince;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder deaf(final boolean deaf) {
+            this.deaf = deaf;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImplBuilder mute(final boolean mute) {
+            this.mute = mute;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberImpl build() {
+            return new MemberImpl(catnip, idAsLong, guildIdAsLong, nick, roleIds, joinedAt, premiumSince, deaf, mute);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MemberImpl.MemberImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", nick=" + this.nick + ", roleIds=" + this.roleIds + ", joinedAt=" + this.joinedAt + ", premiumSince=" + this.premiumSince + ", deaf=" + this.deaf + ", mute=" + this.mute + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MemberImplBuilder builder() {
+        return new MemberImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImplBuilder toBuilder() {
+        return new MemberImplBuilder().catnip(this.catnip).idAsLong(this.idAsLong).guildIdAsLong(this.guildIdAsLong).nick(this.nick).roleIds(this.roleIds).joinedAt(this.joinedAt).premiumSince(this.premiumSince).deaf(this.deaf).mute(this.mute);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String nick() {
+        return this.nick;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<String> roleIds() {
+        return this.roleIds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean deaf() {
+        return this.deaf;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean mute() {
+        return this.mute;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl nick(final String nick) {
+        this.nick = nick;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl roleIds(final Set<String> roleIds) {
+        this.roleIds = roleIds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl joinedAt(final String joinedAt) {
+        this.joinedAt = joinedAt;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl premiumSince(final String premiumSince) {
+        this.premiumSince = premiumSince;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl deaf(final boolean deaf) {
+        this.deaf = deaf;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl mute(final boolean mute) {
+        this.mute = mute;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final String nick, final Set<String> roleIds, final String joinedAt, final String premiumSince, final boolean deaf, final boolean mute) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.nick = nick;
+        this.roleIds = roleIds;
+        this.joinedAt = joinedAt;
+        this.premiumSince = premiumSince;
+        this.deaf = deaf;
+        this.mute = mute;
+    }
+}
@@ -0,0 +1,227 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.PartialGuild;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.entity.util.Permission;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Set;
+
+/**
+ * @author natanbc
+ * @since 9/12/18
+ */
+public class PartialGuildImpl implements PartialGuild, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String name;
+    private String icon;
+    private boolean owned;
+    private Set<Permission> permissions;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    @Nullable
+    @CheckReturnValue
+    public String iconUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.iconUrl(id(), icon, options);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof PartialGuild && ((PartialGuild) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PartialGuild (%s, %s)", name, idAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class PartialGuildImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private boolean owned;
+        @java.lang.SuppressWarnings("all")
+        private Set<Permission> permissions;
+
+        @java.lang.SuppressWarnings("all")
+        PartialGuildImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder owned(final boolean owned) {
+            this.owned = owned;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImplBuilder permissions(final Set<Permission> permissions) {
+            this.permissions = permissions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialGuildImpl build() {
+            return new PartialGuildImpl(catnip, idAsLong, name, icon, owned, permissions);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "PartialGuildImpl.PartialGuildImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", name=" + this.name + ", icon=" + this.icon + ", owned=" + this.owned + ", permissions=" + this.permissions + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static PartialGuildImplBuilder builder() {
+        return new PartialGuildImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean owned() {
+        return this.owned;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<Permission> permissions() {
+        return this.permissions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl owned(final boolean owned) {
+        this.owned = owned;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl permissions(final Set<Permission> permissions) {
+        this.permissions = permissions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialGuildImpl(final Catnip catnip, final long idAsLong, final String name, final String icon, final boolean owned, final Set<Permission> permissions) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.name = name;
+        this.icon = icon;
+        this.owned = owned;
+        this.permissions = permissions;
+    }
+}
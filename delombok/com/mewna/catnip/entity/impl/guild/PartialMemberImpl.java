@@ -0,0 +1,223 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.guild.PartialMember;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * @author amy
+ * @since 10/4/18.
+ */
+public class PartialMemberImpl implements PartialMember, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private User user;
+    private long guildIdAsLong;
+    private Set<String> roleIds;
+    private String nick;
+    private String premiumSince;
+
+    @Nullable
+    @Override
+    public OffsetDateTime premiumSince() {
+        return premiumSince == null ? null : parseTimestamp(premiumSince);
+    }
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof PartialMember && ((PartialMember) obj).idAsLong() == idAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PartialMember (%s)", id());
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class PartialMemberImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private Set<String> roleIds;
+        @java.lang.SuppressWarnings("all")
+        private String nick;
+        @java.lang.SuppressWarnings("all")
+        private String premiumSince;
+
+        @java.lang.SuppressWarnings("all")
+        PartialMemberImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder roleIds(final Set<String> roleIds) {
+            this.roleIds = roleIds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder nick(final String nick) {
+            this.nick = nick;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImplBuilder premiumSince(final String premiumSince) {
+            this.premiumSince = premiumSince;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartialMemberImpl build() {
+            return new PartialMemberImpl(catnip, user, guildIdAsLong, roleIds, nick, premiumSince);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "PartialMemberImpl.PartialMemberImplBuilder(catnip=" + this.catnip + ", user=" + this.user + ", guildIdAsLong=" + this.guildIdAsLong + ", roleIds=" + this.roleIds + ", nick=" + this.nick + ", premiumSince=" + this.premiumSince + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static PartialMemberImplBuilder builder() {
+        return new PartialMemberImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<String> roleIds() {
+        return this.roleIds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String nick() {
+        return this.nick;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl roleIds(final Set<String> roleIds) {
+        this.roleIds = roleIds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl nick(final String nick) {
+        this.nick = nick;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl premiumSince(final String premiumSince) {
+        this.premiumSince = premiumSince;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PartialMemberImpl(final Catnip catnip, final User user, final long guildIdAsLong, final Set<String> roleIds, final String nick, final String premiumSince) {
+        this.catnip = catnip;
+        this.user = user;
+        this.guildIdAsLong = guildIdAsLong;
+        this.roleIds = roleIds;
+        this.nick = nick;
+        this.premiumSince = premiumSince;
+    }
+}
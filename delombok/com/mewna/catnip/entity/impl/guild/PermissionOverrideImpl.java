@@ -0,0 +1,193 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.PermissionOverride;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author natanbc
+ * @since 9/15/18
+ */
+public class PermissionOverrideImpl implements PermissionOverride, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private OverrideType type;
+    private long allowRaw;
+    private long denyRaw;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof PermissionOverride && ((PermissionOverride) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PermissionOverride (%s)", idAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class PermissionOverrideImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private OverrideType type;
+        @java.lang.SuppressWarnings("all")
+        private long allowRaw;
+        @java.lang.SuppressWarnings("all")
+        private long denyRaw;
+
+        @java.lang.SuppressWarnings("all")
+        PermissionOverrideImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImplBuilder type(final OverrideType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImplBuilder allowRaw(final long allowRaw) {
+            this.allowRaw = allowRaw;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImplBuilder denyRaw(final long denyRaw) {
+            this.denyRaw = denyRaw;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PermissionOverrideImpl build() {
+            return new PermissionOverrideImpl(catnip, idAsLong, type, allowRaw, denyRaw);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "PermissionOverrideImpl.PermissionOverrideImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", type=" + this.type + ", allowRaw=" + this.allowRaw + ", denyRaw=" + this.denyRaw + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static PermissionOverrideImplBuilder builder() {
+        return new PermissionOverrideImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long allowRaw() {
+        return this.allowRaw;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long denyRaw() {
+        return this.denyRaw;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl type(final OverrideType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl allowRaw(final long allowRaw) {
+        this.allowRaw = allowRaw;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl denyRaw(final long denyRaw) {
+        this.denyRaw = denyRaw;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionOverrideImpl(final Catnip catnip, final long idAsLong, final OverrideType type, final long allowRaw, final long denyRaw) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.type = type;
+        this.allowRaw = allowRaw;
+        this.denyRaw = denyRaw;
+    }
+}
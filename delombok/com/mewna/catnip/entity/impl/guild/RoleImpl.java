@@ -0,0 +1,298 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.Role;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author Julia Rogers
+ * @since 9/2/18
+ */
+public class RoleImpl implements Role, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private String name;
+    private int color;
+    private boolean hoist;
+    private int position;
+    private long permissionsRaw;
+    private boolean managed;
+    private boolean mentionable;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Role && ((Role) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Role (%s)", name);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class RoleImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private int color;
+        @java.lang.SuppressWarnings("all")
+        private boolean hoist;
+        @java.lang.SuppressWarnings("all")
+        private int position;
+        @java.lang.SuppressWarnings("all")
+        private long permissionsRaw;
+        @java.lang.SuppressWarnings("all")
+        private boolean managed;
+        @java.lang.SuppressWarnings("all")
+        private boolean mentionable;
+
+        @java.lang.SuppressWarnings("all")
+        RoleImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder color(final int color) {
+            this.color = color;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder hoist(final boolean hoist) {
+            this.hoist = hoist;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder position(final int position) {
+            this.position = position;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder permissionsRaw(final long permissionsRaw) {
+            this.permissionsRaw = permissionsRaw;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder managed(final boolean managed) {
+            this.managed = managed;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImplBuilder mentionable(final boolean mentionable) {
+            this.mentionable = mentionable;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RoleImpl build() {
+            return new RoleImpl(catnip, idAsLong, guildIdAsLong, name, color, hoist, position, permissionsRaw, managed, mentionable);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "RoleImpl.RoleImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", name=" + this.name + ", color=" + this.color + ", hoist=" + this.hoist + ", position=" + this.position + ", permissionsRaw=" + this.permissionsRaw + ", managed=" + this.managed + ", mentionable=" + this.mentionable + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static RoleImplBuilder builder() {
+        return new RoleImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int color() {
+        return this.color;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean hoist() {
+        return this.hoist;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int position() {
+        return this.position;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long permissionsRaw() {
+        return this.permissionsRaw;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean managed() {
+        return this.managed;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean mentionable() {
+        return this.mentionable;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl color(final int color) {
+        this.color = color;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl hoist(final boolean hoist) {
+        this.hoist = hoist;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl position(final int position) {
+        this.position = position;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl permissionsRaw(final long permissionsRaw) {
+        this.permissionsRaw = permissionsRaw;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl managed(final boolean managed) {
+        this.managed = managed;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl mentionable(final boolean mentionable) {
+        this.mentionable = mentionable;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RoleImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final String name, final int color, final boolean hoist, final int position, final long permissionsRaw, final boolean managed, final boolean mentionable) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.name = name;
+        this.color = color;
+        this.hoist = hoist;
+        this.position = position;
+        this.permissionsRaw = permissionsRaw;
+        this.managed = managed;
+        this.mentionable = mentionable;
+    }
+}
@@ -0,0 +1,151 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.UnavailableGuild;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 10/4/18.
+ */
+public class UnavailableGuildImpl implements UnavailableGuild, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private boolean unavailable;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof UnavailableGuild && ((UnavailableGuild) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UnavailableGuild (%s)", idAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class UnavailableGuildImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private boolean unavailable;
+
+        @java.lang.SuppressWarnings("all")
+        UnavailableGuildImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnavailableGuildImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnavailableGuildImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnavailableGuildImplBuilder unavailable(final boolean unavailable) {
+            this.unavailable = unavailable;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnavailableGuildImpl build() {
+            return new UnavailableGuildImpl(catnip, idAsLong, unavailable);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "UnavailableGuildImpl.UnavailableGuildImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", unavailable=" + this.unavailable + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static UnavailableGuildImplBuilder builder() {
+        return new UnavailableGuildImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean unavailable() {
+        return this.unavailable;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnavailableGuildImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnavailableGuildImpl unavailable(final boolean unavailable) {
+        this.unavailable = unavailable;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnavailableGuildImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnavailableGuildImpl(final Catnip catnip, final long idAsLong, final boolean unavailable) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.unavailable = unavailable;
+    }
+}
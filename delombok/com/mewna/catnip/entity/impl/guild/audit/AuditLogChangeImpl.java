@@ -0,0 +1,159 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.audit.AuditLogChange;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author SamOphis
+ * @since 10/07/2018
+ */
+public class AuditLogChangeImpl implements AuditLogChange, RequiresCatnip {
+    private transient Catnip catnip;
+    private Object oldValue;
+    private Object newValue;
+    private String key;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T oldValue() {
+        return (T) oldValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T newValue() {
+        return (T) newValue;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class AuditLogChangeImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private Object oldValue;
+        @java.lang.SuppressWarnings("all")
+        private Object newValue;
+        @java.lang.SuppressWarnings("all")
+        private String key;
+
+        @java.lang.SuppressWarnings("all")
+        AuditLogChangeImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogChangeImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogChangeImplBuilder oldValue(final Object oldValue) {
+            this.oldValue = oldValue;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogChangeImplBuilder newValue(final Object newValue) {
+            this.newValue = newValue;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogChangeImplBuilder key(final String key) {
+            this.key = key;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogChangeImpl build() {
+            return new AuditLogChangeImpl(catnip, oldValue, newValue, key);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "AuditLogChangeImpl.AuditLogChangeImplBuilder(catnip=" + this.catnip + ", oldValue=" + this.oldValue + ", newValue=" + this.newValue + ", key=" + this.key + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static AuditLogChangeImplBuilder builder() {
+        return new AuditLogChangeImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String key() {
+        return this.key;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogChangeImpl oldValue(final Object oldValue) {
+        this.oldValue = oldValue;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogChangeImpl newValue(final Object newValue) {
+        this.newValue = newValue;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogChangeImpl key(final String key) {
+        this.key = key;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogChangeImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogChangeImpl(final Catnip catnip, final Object oldValue, final Object newValue, final String key) {
+        this.catnip = catnip;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.key = key;
+    }
+}
@@ -0,0 +1,286 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.Webhook;
+import com.mewna.catnip.entity.guild.audit.ActionType;
+import com.mewna.catnip.entity.guild.audit.AuditLogChange;
+import com.mewna.catnip.entity.guild.audit.AuditLogEntry;
+import com.mewna.catnip.entity.guild.audit.OptionalEntryInfo;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author SamOphis
+ * @since 10/07/2018
+ */
+public class AuditLogEntryImpl implements AuditLogEntry, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long targetIdAsLong;
+    private User user;
+    private String reason;
+    private OptionalEntryInfo options;
+    private ActionType type;
+    private List<AuditLogChange> changes;
+    private Webhook webhook;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof AuditLogEntry && ((AuditLogEntry) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Audit Log Entry (%s)", idAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class AuditLogEntryImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long targetIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private String reason;
+        @java.lang.SuppressWarnings("all")
+        private OptionalEntryInfo options;
+        @java.lang.SuppressWarnings("all")
+        private ActionType type;
+        @java.lang.SuppressWarnings("all")
+        private List<AuditLogChange> changes;
+        @java.lang.SuppressWarnings("all")
+        private Webhook webhook;
+
+        @java.lang.SuppressWarnings("all")
+        AuditLogEntryImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder targetIdAsLong(final long targetIdAsLong) {
+            this.targetIdAsLong = targetIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder reason(final String reason) {
+            this.reason = reason;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder options(final OptionalEntryInfo options) {
+            this.options = options;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder type(final ActionType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder changes(final List<AuditLogChange> changes) {
+            this.changes = changes;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImplBuilder webhook(final Webhook webhook) {
+            this.webhook = webhook;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuditLogEntryImpl build() {
+            return new AuditLogEntryImpl(catnip, idAsLong, targetIdAsLong, user, reason, options, type, changes, webhook);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "AuditLogEntryImpl.AuditLogEntryImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", targetIdAsLong=" + this.targetIdAsLong + ", user=" + this.user + ", reason=" + this.reason + ", options=" + this.options + ", type=" + this.type + ", changes=" + this.changes + ", webhook=" + this.webhook + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static AuditLogEntryImplBuilder builder() {
+        return new AuditLogEntryImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long targetIdAsLong() {
+        return this.targetIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String reason() {
+        return this.reason;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OptionalEntryInfo options() {
+        return this.options;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ActionType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<AuditLogChange> changes() {
+        return this.changes;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Webhook webhook() {
+        return this.webhook;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl targetIdAsLong(final long targetIdAsLong) {
+        this.targetIdAsLong = targetIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl reason(final String reason) {
+        this.reason = reason;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl options(final OptionalEntryInfo options) {
+        this.options = options;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl type(final ActionType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl changes(final List<AuditLogChange> changes) {
+        this.changes = changes;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl webhook(final Webhook webhook) {
+        this.webhook = webhook;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AuditLogEntryImpl(final Catnip catnip, final long idAsLong, final long targetIdAsLong, final User user, final String reason, final OptionalEntryInfo options, final ActionType type, final List<AuditLogChange> changes, final Webhook webhook) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.targetIdAsLong = targetIdAsLong;
+        this.user = user;
+        this.reason = reason;
+        this.options = options;
+        this.type = type;
+        this.changes = changes;
+        this.webhook = webhook;
+    }
+}
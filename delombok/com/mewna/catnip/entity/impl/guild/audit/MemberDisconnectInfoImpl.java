@@ -0,0 +1,89 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.audit.MemberDisconnectInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author kjp12
+ * @since March 18th, 2020
+ */
+public class MemberDisconnectInfoImpl implements MemberDisconnectInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private int membersDisconnectedCount;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MemberDisconnectInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private int membersDisconnectedCount;
+
+        @java.lang.SuppressWarnings("all")
+        MemberDisconnectInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberDisconnectInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberDisconnectInfoImplBuilder membersDisconnectedCount(final int membersDisconnectedCount) {
+            this.membersDisconnectedCount = membersDisconnectedCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MemberDisconnectInfoImpl build() {
+            return new MemberDisconnectInfoImpl(catnip, membersDisconnectedCount);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MemberDisconnectInfoImpl.MemberDisconnectInfoImplBuilder(catnip=" + this.catnip + ", membersDisconnectedCount=" + this.membersDisconnectedCount + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MemberDisconnectInfoImplBuilder builder() {
+        return new MemberDisconnectInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int membersDisconnectedCount() {
+        return this.membersDisconnectedCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberDisconnectInfoImpl membersDisconnectedCount(final int membersDisconnectedCount) {
+        this.membersDisconnectedCount = membersDisconnectedCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberDisconnectInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberDisconnectInfoImpl(final Catnip catnip, final int membersDisconnectedCount) {
+        this.catnip = catnip;
+        this.membersDisconnectedCount = membersDisconnectedCount;
+    }
+}
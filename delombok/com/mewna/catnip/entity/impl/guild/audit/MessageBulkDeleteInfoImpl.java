@@ -0,0 +1,119 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.audit.MessageBulkDeleteInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * The data returned for MESSAGE_BULK_DELETE <i>doesn't</i> actually follow the API documentation.
+ * If you're looking for the channel ID that's normally returned from here like in {@link com.mewna.catnip.entity.guild.audit.MessageDeleteInfo MessageDeleteInfo},
+ * use {@link com.mewna.catnip.entity.guild.audit.AuditLogEntry#targetId() AuditLogEntry#targetId()} or {@link com.mewna.catnip.entity.guild.audit.AuditLogEntry#targetIdAsLong() AuditLogEntry#targetIdAsLong()}.
+ *
+ * @author kjp12
+ * @since March 18th, 2020
+ */
+public class MessageBulkDeleteInfoImpl implements MessageBulkDeleteInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private int deletedMessagesCount;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageBulkDeleteInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private int deletedMessagesCount;
+
+        @java.lang.SuppressWarnings("all")
+        MessageBulkDeleteInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageBulkDeleteInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageBulkDeleteInfoImplBuilder deletedMessagesCount(final int deletedMessagesCount) {
+            this.deletedMessagesCount = deletedMessagesCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageBulkDeleteInfoImpl build() {
+            return new MessageBulkDeleteInfoImpl(catnip, deletedMessagesCount);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageBulkDeleteInfoImpl.MessageBulkDeleteInfoImplBuilder(catnip=" + this.catnip + ", deletedMessagesCount=" + this.deletedMessagesCount + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageBulkDeleteInfoImplBuilder builder() {
+        return new MessageBulkDeleteInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int deletedMessagesCount() {
+        return this.deletedMessagesCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageBulkDeleteInfoImpl deletedMessagesCount(final int deletedMessagesCount) {
+        this.deletedMessagesCount = deletedMessagesCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageBulkDeleteInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageBulkDeleteInfoImpl(final Catnip catnip, final int deletedMessagesCount) {
+        this.catnip = catnip;
+        this.deletedMessagesCount = deletedMessagesCount;
+    }
+}
@@ -0,0 +1,110 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.audit.MessagePinInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author kjp12
+ * @since March 18th, 2020
+ */
+public class MessagePinInfoImpl implements MessagePinInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private long channelIdAsLong;
+    private long messageIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessagePinInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long messageIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        MessagePinInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessagePinInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessagePinInfoImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessagePinInfoImplBuilder messageIdAsLong(final long messageIdAsLong) {
+            this.messageIdAsLong = messageIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessagePinInfoImpl build() {
+            return new MessagePinInfoImpl(catnip, channelIdAsLong, messageIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessagePinInfoImpl.MessagePinInfoImplBuilder(catnip=" + this.catnip + ", channelIdAsLong=" + this.channelIdAsLong + ", messageIdAsLong=" + this.messageIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessagePinInfoImplBuilder builder() {
+        return new MessagePinInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long messageIdAsLong() {
+        return this.messageIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessagePinInfoImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessagePinInfoImpl messageIdAsLong(final long messageIdAsLong) {
+        this.messageIdAsLong = messageIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessagePinInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessagePinInfoImpl(final Catnip catnip, final long channelIdAsLong, final long messageIdAsLong) {
+        this.catnip = catnip;
+        this.channelIdAsLong = channelIdAsLong;
+        this.messageIdAsLong = messageIdAsLong;
+    }
+}
@@ -0,0 +1,158 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.guild.audit;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.PermissionOverride.OverrideType;
+import com.mewna.catnip.entity.guild.audit.OverrideUpdateInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author SamOphis
+ * @since 10/07/18
+ */
+public class OverrideUpdateInfoImpl implements OverrideUpdateInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private String roleName;
+    private OverrideType overrideType;
+    private long overriddenEntityIdAsLong;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class OverrideUpdateInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String roleName;
+        @java.lang.SuppressWarnings("all")
+        private OverrideType overrideType;
+        @java.lang.SuppressWarnings("all")
+        private long overriddenEntityIdAsLong;
+
+        @java.lang.SuppressWarnings("all")
+        OverrideUpdateInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OverrideUpdateInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OverrideUpdateInfoImplBuilder roleName(final String roleName) {
+            this.roleName = roleName;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OverrideUpdateInfoImplBuilder overrideType(final OverrideType overrideType) {
+            this.overrideType = overrideType;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OverrideUpdateInfoImplBuilder overriddenEntityIdAsLong(final long overriddenEntityIdAsLong) {
+            this.overriddenEntityIdAsLong = overriddenEntityIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OverrideUpdateInfoImpl build() {
+            return new OverrideUpdateInfoImpl(catnip, roleName, overrideType, overriddenEntityIdAsLong);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "OverrideUpdateInfoImpl.OverrideUpdateInfoImplBuilder(catnip=" + this.catnip + ", roleName=" + this.roleName + ", overrideType=" + this.overrideType + ", overriddenEntityIdAsLong=" + this.overriddenEntityIdAsLong + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static OverrideUpdateInfoImplBuilder builder() {
+        return new OverrideUpdateInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String roleName() {
+        return this.roleName;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideType overrideType() {
+        return this.overrideType;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long overriddenEntityIdAsLong() {
+        return this.overriddenEntityIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideUpdateInfoImpl roleName(final String roleName) {
+        this.roleName = roleName;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideUpdateInfoImpl overrideType(final OverrideType overrideType) {
+        this.overrideType = overrideType;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideUpdateInfoImpl overriddenEntityIdAsLong(final long overriddenEntityIdAsLong) {
+        this.overriddenEntityIdAsLong = overriddenEntityIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideUpdateInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OverrideUpdateInfoImpl(final Catnip catnip, final String roleName, final OverrideType overrideType, final long overriddenEntityIdAsLong) {
+        this.catnip = catnip;
+        this.roleName = roleName;
+        this.overrideType = overrideType;
+        this.overriddenEntityIdAsLong = overriddenEntityIdAsLong;
+    }
+}
@@ -0,0 +1,155 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.lifecycle;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.lifecycle.HighEventLatency;
+import com.mewna.catnip.shard.ShardInfo;
+import com.mewna.catnip.shard.event.EventLatency;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+public class HighEventLatencyImpl implements HighEventLatency, RequiresCatnip {
+    private transient Catnip catnip;
+    private ShardInfo shardInfo;
+    private String eventType;
+    private EventLatency latency;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class HighEventLatencyImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private ShardInfo shardInfo;
+        @java.lang.SuppressWarnings("all")
+        private String eventType;
+        @java.lang.SuppressWarnings("all")
+        private EventLatency latency;
+
+        @java.lang.SuppressWarnings("all")
+        HighEventLatencyImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighEventLatencyImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighEventLatencyImplBuilder shardInfo(final ShardInfo shardInfo) {
+            this.shardInfo = shardInfo;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighEventLatencyImplBuilder eventType(final String eventType) {
+            this.eventType = eventType;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighEventLatencyImplBuilder latency(final EventLatency latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighEventLatencyImpl build() {
+            return new HighEventLatencyImpl(catnip, shardInfo, eventType, latency);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "HighEventLatencyImpl.HighEventLatencyImplBuilder(catnip=" + this.catnip + ", shardInfo=" + this.shardInfo + ", eventType=" + this.eventType + ", latency=" + this.latency + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static HighEventLatencyImplBuilder builder() {
+        return new HighEventLatencyImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ShardInfo shardInfo() {
+        return this.shardInfo;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String eventType() {
+        return this.eventType;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EventLatency latency() {
+        return this.latency;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighEventLatencyImpl shardInfo(final ShardInfo shardInfo) {
+        this.shardInfo = shardInfo;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighEventLatencyImpl eventType(final String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighEventLatencyImpl latency(final EventLatency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighEventLatencyImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighEventLatencyImpl(final Catnip catnip, final ShardInfo shardInfo, final String eventType, final EventLatency latency) {
+        this.catnip = catnip;
+        this.shardInfo = shardInfo;
+        this.eventType = eventType;
+        this.latency = latency;
+    }
+}
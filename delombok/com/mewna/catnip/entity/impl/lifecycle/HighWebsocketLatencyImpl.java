@@ -0,0 +1,137 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.lifecycle;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.lifecycle.HighWebsocketLatency;
+import com.mewna.catnip.shard.ShardInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 8/19/19.
+ */
+public class HighWebsocketLatencyImpl implements HighWebsocketLatency, RequiresCatnip {
+    private transient Catnip catnip;
+    private ShardInfo shardInfo;
+    private long latency;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class HighWebsocketLatencyImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private ShardInfo shardInfo;
+        @java.lang.SuppressWarnings("all")
+        private long latency;
+
+        @java.lang.SuppressWarnings("all")
+        HighWebsocketLatencyImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighWebsocketLatencyImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighWebsocketLatencyImplBuilder shardInfo(final ShardInfo shardInfo) {
+            this.shardInfo = shardInfo;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighWebsocketLatencyImplBuilder latency(final long latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HighWebsocketLatencyImpl build() {
+            return new HighWebsocketLatencyImpl(catnip, shardInfo, latency);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "HighWebsocketLatencyImpl.HighWebsocketLatencyImplBuilder(catnip=" + this.catnip + ", shardInfo=" + this.shardInfo + ", latency=" + this.latency + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static HighWebsocketLatencyImplBuilder builder() {
+        return new HighWebsocketLatencyImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ShardInfo shardInfo() {
+        return this.shardInfo;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long latency() {
+        return this.latency;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighWebsocketLatencyImpl shardInfo(final ShardInfo shardInfo) {
+        this.shardInfo = shardInfo;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighWebsocketLatencyImpl latency(final long latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighWebsocketLatencyImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public HighWebsocketLatencyImpl(final Catnip catnip, final ShardInfo shardInfo, final long latency) {
+        this.catnip = catnip;
+        this.shardInfo = shardInfo;
+        this.latency = latency;
+    }
+}
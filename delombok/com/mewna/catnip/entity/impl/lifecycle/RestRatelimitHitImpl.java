@@ -0,0 +1,136 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.lifecycle;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.lifecycle.RestRatelimitHit;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 7/26/19.
+ */
+public class RestRatelimitHitImpl implements RestRatelimitHit, RequiresCatnip {
+    private transient Catnip catnip;
+    private String route;
+    private boolean global;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class RestRatelimitHitImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String route;
+        @java.lang.SuppressWarnings("all")
+        private boolean global;
+
+        @java.lang.SuppressWarnings("all")
+        RestRatelimitHitImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RestRatelimitHitImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RestRatelimitHitImplBuilder route(final String route) {
+            this.route = route;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RestRatelimitHitImplBuilder global(final boolean global) {
+            this.global = global;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public RestRatelimitHitImpl build() {
+            return new RestRatelimitHitImpl(catnip, route, global);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "RestRatelimitHitImpl.RestRatelimitHitImplBuilder(catnip=" + this.catnip + ", route=" + this.route + ", global=" + this.global + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static RestRatelimitHitImplBuilder builder() {
+        return new RestRatelimitHitImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String route() {
+        return this.route;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean global() {
+        return this.global;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestRatelimitHitImpl route(final String route) {
+        this.route = route;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestRatelimitHitImpl global(final boolean global) {
+        this.global = global;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestRatelimitHitImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestRatelimitHitImpl(final Catnip catnip, final String route, final boolean global) {
+        this.catnip = catnip;
+        this.route = route;
+        this.global = global;
+    }
+}
@@ -0,0 +1,256 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.message.Message.Attachment;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 8/5/19.
+ */
+public class AttachmentImpl implements Attachment, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String fileName;
+    private int size;
+    private String url;
+    private String proxyUrl;
+    private int height;
+    private int width;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Attachment && ((Attachment) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Attachment (%s)", fileName);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class AttachmentImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String fileName;
+        @java.lang.SuppressWarnings("all")
+        private int size;
+        @java.lang.SuppressWarnings("all")
+        private String url;
+        @java.lang.SuppressWarnings("all")
+        private String proxyUrl;
+        @java.lang.SuppressWarnings("all")
+        private int height;
+        @java.lang.SuppressWarnings("all")
+        private int width;
+
+        @java.lang.SuppressWarnings("all")
+        AttachmentImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder fileName(final String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder size(final int size) {
+            this.size = size;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder proxyUrl(final String proxyUrl) {
+            this.proxyUrl = proxyUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder height(final int height) {
+            this.height = height;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImplBuilder width(final int width) {
+            this.width = width;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AttachmentImpl build() {
+            return new AttachmentImpl(catnip, idAsLong, fileName, size, url, proxyUrl, height, width);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "AttachmentImpl.AttachmentImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", fileName=" + this.fileName + ", size=" + this.size + ", url=" + this.url + ", proxyUrl=" + this.proxyUrl + ", height=" + this.height + ", width=" + this.width + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static AttachmentImplBuilder builder() {
+        return new AttachmentImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String fileName() {
+        return this.fileName;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int size() {
+        return this.size;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String url() {
+        return this.url;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String proxyUrl() {
+        return this.proxyUrl;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int height() {
+        return this.height;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int width() {
+        return this.width;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl fileName(final String fileName) {
+        this.fileName = fileName;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl size(final int size) {
+        this.size = size;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl url(final String url) {
+        this.url = url;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl proxyUrl(final String proxyUrl) {
+        this.proxyUrl = proxyUrl;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl height(final int height) {
+        this.height = height;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl width(final int width) {
+        this.width = width;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public AttachmentImpl(final Catnip catnip, final long idAsLong, final String fileName, final int size, final String url, final String proxyUrl, final int height, final int width) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.fileName = fileName;
+        this.size = size;
+        this.url = url;
+        this.proxyUrl = proxyUrl;
+        this.height = height;
+        this.width = width;
+    }
+}
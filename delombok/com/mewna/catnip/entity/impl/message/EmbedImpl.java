@@ -0,0 +1,1095 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.message.Embed;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * @author natanbc
+ * @since 9/2/18.
+ */
+@SuppressWarnings("WeakerAccess")
+public class EmbedImpl implements Embed, Timestamped {
+    private String title;
+    private EmbedType type;
+    private String description;
+    private String url;
+    private String timestamp;
+    private Integer color;
+    private Footer footer;
+    private Image image;
+    private Thumbnail thumbnail;
+    private Video video;
+    private Provider provider;
+    private Author author;
+    private List<? extends Field> fields;
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public List<Field> fields() {
+        return (List<Field>) fields;
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime timestamp() {
+        return parseTimestamp(timestamp);
+    }
+
+
+    public static class AuthorImpl implements Author {
+        private String name;
+        private String url;
+        private String iconUrl;
+        private String proxyIconUrl;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class AuthorImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private String url;
+            @java.lang.SuppressWarnings("all")
+            private String iconUrl;
+            @java.lang.SuppressWarnings("all")
+            private String proxyIconUrl;
+
+            @java.lang.SuppressWarnings("all")
+            AuthorImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public AuthorImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public AuthorImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public AuthorImplBuilder iconUrl(final String iconUrl) {
+                this.iconUrl = iconUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public AuthorImplBuilder proxyIconUrl(final String proxyIconUrl) {
+                this.proxyIconUrl = proxyIconUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public AuthorImpl build() {
+                return new AuthorImpl(name, url, iconUrl, proxyIconUrl);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.AuthorImpl.AuthorImplBuilder(name=" + this.name + ", url=" + this.url + ", iconUrl=" + this.iconUrl + ", proxyIconUrl=" + this.proxyIconUrl + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static AuthorImplBuilder builder() {
+            return new AuthorImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String iconUrl() {
+            return this.iconUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String proxyIconUrl() {
+            return this.proxyIconUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl iconUrl(final String iconUrl) {
+            this.iconUrl = iconUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl proxyIconUrl(final String proxyIconUrl) {
+            this.proxyIconUrl = proxyIconUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public AuthorImpl(final String name, final String url, final String iconUrl, final String proxyIconUrl) {
+            this.name = name;
+            this.url = url;
+            this.iconUrl = iconUrl;
+            this.proxyIconUrl = proxyIconUrl;
+        }
+    }
+
+
+    public static class FieldImpl implements Field {
+        private String name;
+        private String value;
+        private boolean inline;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class FieldImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private String value;
+            @java.lang.SuppressWarnings("all")
+            private boolean inline;
+
+            @java.lang.SuppressWarnings("all")
+            FieldImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FieldImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FieldImplBuilder value(final String value) {
+                this.value = value;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FieldImplBuilder inline(final boolean inline) {
+                this.inline = inline;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FieldImpl build() {
+                return new FieldImpl(name, value, inline);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.FieldImpl.FieldImplBuilder(name=" + this.name + ", value=" + this.value + ", inline=" + this.inline + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static FieldImplBuilder builder() {
+            return new FieldImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String value() {
+            return this.value;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public boolean inline() {
+            return this.inline;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FieldImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FieldImpl value(final String value) {
+            this.value = value;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FieldImpl inline(final boolean inline) {
+            this.inline = inline;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FieldImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FieldImpl(final String name, final String value, final boolean inline) {
+            this.name = name;
+            this.value = value;
+            this.inline = inline;
+        }
+    }
+
+
+    public static class FooterImpl implements Footer {
+        private String text;
+        private String iconUrl;
+        private String proxyIconUrl;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class FooterImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String text;
+            @java.lang.SuppressWarnings("all")
+            private String iconUrl;
+            @java.lang.SuppressWarnings("all")
+            private String proxyIconUrl;
+
+            @java.lang.SuppressWarnings("all")
+            FooterImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FooterImplBuilder text(final String text) {
+                this.text = text;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FooterImplBuilder iconUrl(final String iconUrl) {
+                this.iconUrl = iconUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FooterImplBuilder proxyIconUrl(final String proxyIconUrl) {
+                this.proxyIconUrl = proxyIconUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public FooterImpl build() {
+                return new FooterImpl(text, iconUrl, proxyIconUrl);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.FooterImpl.FooterImplBuilder(text=" + this.text + ", iconUrl=" + this.iconUrl + ", proxyIconUrl=" + this.proxyIconUrl + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static FooterImplBuilder builder() {
+            return new FooterImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String text() {
+            return this.text;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String iconUrl() {
+            return this.iconUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String proxyIconUrl() {
+            return this.proxyIconUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FooterImpl text(final String text) {
+            this.text = text;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FooterImpl iconUrl(final String iconUrl) {
+            this.iconUrl = iconUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FooterImpl proxyIconUrl(final String proxyIconUrl) {
+            this.proxyIconUrl = proxyIconUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FooterImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public FooterImpl(final String text, final String iconUrl, final String proxyIconUrl) {
+            this.text = text;
+            this.iconUrl = iconUrl;
+            this.proxyIconUrl = proxyIconUrl;
+        }
+    }
+
+
+    public static class ImageImpl implements Image {
+        private String url;
+        private String proxyUrl;
+        private int height;
+        private int width;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ImageImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String url;
+            @java.lang.SuppressWarnings("all")
+            private String proxyUrl;
+            @java.lang.SuppressWarnings("all")
+            private int height;
+            @java.lang.SuppressWarnings("all")
+            private int width;
+
+            @java.lang.SuppressWarnings("all")
+            ImageImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ImageImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ImageImplBuilder proxyUrl(final String proxyUrl) {
+                this.proxyUrl = proxyUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ImageImplBuilder height(final int height) {
+                this.height = height;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ImageImplBuilder width(final int width) {
+                this.width = width;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ImageImpl build() {
+                return new ImageImpl(url, proxyUrl, height, width);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.ImageImpl.ImageImplBuilder(url=" + this.url + ", proxyUrl=" + this.proxyUrl + ", height=" + this.height + ", width=" + this.width + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ImageImplBuilder builder() {
+            return new ImageImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String proxyUrl() {
+            return this.proxyUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int height() {
+            return this.height;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int width() {
+            return this.width;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl proxyUrl(final String proxyUrl) {
+            this.proxyUrl = proxyUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl height(final int height) {
+            this.height = height;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl width(final int width) {
+            this.width = width;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ImageImpl(final String url, final String proxyUrl, final int height, final int width) {
+            this.url = url;
+            this.proxyUrl = proxyUrl;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+
+    public static class ProviderImpl implements Provider {
+        private String name;
+        private String url;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ProviderImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private String url;
+
+            @java.lang.SuppressWarnings("all")
+            ProviderImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ProviderImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ProviderImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ProviderImpl build() {
+                return new ProviderImpl(name, url);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.ProviderImpl.ProviderImplBuilder(name=" + this.name + ", url=" + this.url + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ProviderImplBuilder builder() {
+            return new ProviderImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ProviderImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ProviderImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ProviderImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ProviderImpl(final String name, final String url) {
+            this.name = name;
+            this.url = url;
+        }
+    }
+
+
+    public static class ThumbnailImpl implements Thumbnail {
+        private String url;
+        private String proxyUrl;
+        private int height;
+        private int width;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ThumbnailImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String url;
+            @java.lang.SuppressWarnings("all")
+            private String proxyUrl;
+            @java.lang.SuppressWarnings("all")
+            private int height;
+            @java.lang.SuppressWarnings("all")
+            private int width;
+
+            @java.lang.SuppressWarnings("all")
+            ThumbnailImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ThumbnailImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ThumbnailImplBuilder proxyUrl(final String proxyUrl) {
+                this.proxyUrl = proxyUrl;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ThumbnailImplBuilder height(final int height) {
+                this.height = height;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ThumbnailImplBuilder width(final int width) {
+                this.width = width;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ThumbnailImpl build() {
+                return new ThumbnailImpl(url, proxyUrl, height, width);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.ThumbnailImpl.ThumbnailImplBuilder(url=" + this.url + ", proxyUrl=" + this.proxyUrl + ", height=" + this.height + ", width=" + this.width + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ThumbnailImplBuilder builder() {
+            return new ThumbnailImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String proxyUrl() {
+            return this.proxyUrl;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int height() {
+            return this.height;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int width() {
+            return this.width;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl proxyUrl(final String proxyUrl) {
+            this.proxyUrl = proxyUrl;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl height(final int height) {
+            this.height = height;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl width(final int width) {
+            this.width = width;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ThumbnailImpl(final String url, final String proxyUrl, final int height, final int width) {
+            this.url = url;
+            this.proxyUrl = proxyUrl;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+
+    public static class VideoImpl implements Video {
+        private String url;
+        private int height;
+        private int width;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class VideoImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String url;
+            @java.lang.SuppressWarnings("all")
+            private int height;
+            @java.lang.SuppressWarnings("all")
+            private int width;
+
+            @java.lang.SuppressWarnings("all")
+            VideoImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public VideoImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public VideoImplBuilder height(final int height) {
+                this.height = height;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public VideoImplBuilder width(final int width) {
+                this.width = width;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public VideoImpl build() {
+                return new VideoImpl(url, height, width);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "EmbedImpl.VideoImpl.VideoImplBuilder(url=" + this.url + ", height=" + this.height + ", width=" + this.width + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static VideoImplBuilder builder() {
+            return new VideoImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int height() {
+            return this.height;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int width() {
+            return this.width;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VideoImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VideoImpl height(final int height) {
+            this.height = height;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VideoImpl width(final int width) {
+            this.width = width;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VideoImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VideoImpl(final String url, final int height, final int width) {
+            this.url = url;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class EmbedImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private String title;
+        @java.lang.SuppressWarnings("all")
+        private EmbedType type;
+        @java.lang.SuppressWarnings("all")
+        private String description;
+        @java.lang.SuppressWarnings("all")
+        private String url;
+        @java.lang.SuppressWarnings("all")
+        private String timestamp;
+        @java.lang.SuppressWarnings("all")
+        private Integer color;
+        @java.lang.SuppressWarnings("all")
+        private Footer footer;
+        @java.lang.SuppressWarnings("all")
+        private Image image;
+        @java.lang.SuppressWarnings("all")
+        private Thumbnail thumbnail;
+        @java.lang.SuppressWarnings("all")
+        private Video video;
+        @java.lang.SuppressWarnings("all")
+        private Provider provider;
+        @java.lang.SuppressWarnings("all")
+        private Author author;
+        @java.lang.SuppressWarnings("all")
+        private List<? extends Field> fields;
+
+        @java.lang.SuppressWarnings("all")
+        EmbedImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder title(final String title) {
+            this.title = title;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder type(final EmbedType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder description(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder timestamp(final String timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder color(final Integer color) {
+            this.color = color;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder footer(final Footer footer) {
+            this.footer = footer;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder image(final Image image) {
+            this.image = image;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder thumbnail(final Thumbnail thumbnail) {
+            this.thumbnail = thumbnail;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder video(final Video video) {
+            this.video = video;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder provider(final Provider provider) {
+            this.provider = provider;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder author(final Author author) {
+            this.author = author;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImplBuilder fields(final List<? extends Field> fields) {
+            this.fields = fields;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EmbedImpl build() {
+            return new EmbedImpl(title, type, description, url, timestamp, color, footer, image, thumbnail, video, provider, author, fields);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "EmbedImpl.EmbedImplBuilder(title=" + this.title + ", type=" + this.type + ", description=" + this.description + ", url=" + this.url + ", timestamp=" + this.timestamp + ", color=" + this.color + ", footer=" + this.footer + ", image=" + this.image + ", thumbnail=" + this.thumbnail + ", video=" + this.video + ", provider=" + this.provider + ", author=" + this.author + ", fields=" + this.fields + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static EmbedImplBuilder builder() {
+        return new EmbedImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String title() {
+        return this.title;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String description() {
+        return this.description;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String url() {
+        return this.url;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Integer color() {
+        return this.color;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Footer footer() {
+        return this.footer;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Image image() {
+        return this.image;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Thumbnail thumbnail() {
+        return this.thumbnail;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Video video() {
+        return this.video;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Provider provider() {
+        return this.provider;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Author author() {
+        return this.author;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl title(final String title) {
+        this.title = title;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl type(final EmbedType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl description(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl url(final String url) {
+        this.url = url;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl timestamp(final String timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl color(final Integer color) {
+        this.color = color;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl footer(final Footer footer) {
+        this.footer = footer;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl image(final Image image) {
+        this.image = image;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl thumbnail(final Thumbnail thumbnail) {
+        this.thumbnail = thumbnail;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl video(final Video video) {
+        this.video = video;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl provider(final Provider provider) {
+        this.provider = provider;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl author(final Author author) {
+        this.author = author;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl fields(final List<? extends Field> fields) {
+        this.fields = fields;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EmbedImpl(final String title, final EmbedType type, final String description, final String url, final String timestamp, final Integer color, final Footer footer, final Image image, final Thumbnail thumbnail, final Video video, final Provider provider, final Author author, final List<? extends Field> fields) {
+        this.title = title;
+        this.type = type;
+        this.description = description;
+        this.url = url;
+        this.timestamp = timestamp;
+        this.color = color;
+        this.footer = footer;
+        this.image = image;
+        this.thumbnail = thumbnail;
+        this.video = video;
+        this.provider = provider;
+        this.author = author;
+        this.fields = fields;
+    }
+}
@@ -0,0 +1,114 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.entity.message.Message.MessageActivity;
+import com.mewna.catnip.entity.message.MessageActivityType;
+import lombok.*;
+
+/**
+ * @author amy
+ * @since 8/5/19.
+ */
+public class MessageActivityImpl implements MessageActivity {
+    private MessageActivityType type;
+    private String partyId;
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageActivityImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private MessageActivityType type;
+        @java.lang.SuppressWarnings("all")
+        private String partyId;
+
+        @java.lang.SuppressWarnings("all")
+        MessageActivityImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageActivityImplBuilder type(final MessageActivityType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageActivityImplBuilder partyId(final String partyId) {
+            this.partyId = partyId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageActivityImpl build() {
+            return new MessageActivityImpl(type, partyId);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageActivityImpl.MessageActivityImplBuilder(type=" + this.type + ", partyId=" + this.partyId + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageActivityImplBuilder builder() {
+        return new MessageActivityImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivityType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String partyId() {
+        return this.partyId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivityImpl type(final MessageActivityType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivityImpl partyId(final String partyId) {
+        this.partyId = partyId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivityImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivityImpl(final MessageActivityType type, final String partyId) {
+        this.type = type;
+        this.partyId = partyId;
+    }
+}
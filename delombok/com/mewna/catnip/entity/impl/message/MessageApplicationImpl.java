@@ -0,0 +1,176 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.entity.message.Message.MessageApplication;
+import lombok.*;
+
+/**
+ * @author amy
+ * @since 8/5/19.
+ */
+public class MessageApplicationImpl implements MessageApplication {
+    private String id;
+    private String coverImage;
+    private String description;
+    private String icon;
+    private String name;
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageApplicationImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private String id;
+        @java.lang.SuppressWarnings("all")
+        private String coverImage;
+        @java.lang.SuppressWarnings("all")
+        private String description;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+
+        @java.lang.SuppressWarnings("all")
+        MessageApplicationImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImplBuilder id(final String id) {
+            this.id = id;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImplBuilder coverImage(final String coverImage) {
+            this.coverImage = coverImage;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImplBuilder description(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageApplicationImpl build() {
+            return new MessageApplicationImpl(id, coverImage, description, icon, name);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageApplicationImpl.MessageApplicationImplBuilder(id=" + this.id + ", coverImage=" + this.coverImage + ", description=" + this.description + ", icon=" + this.icon + ", name=" + this.name + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageApplicationImplBuilder builder() {
+        return new MessageApplicationImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String id() {
+        return this.id;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String coverImage() {
+        return this.coverImage;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String description() {
+        return this.description;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl id(final String id) {
+        this.id = id;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl coverImage(final String coverImage) {
+        this.coverImage = coverImage;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl description(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplicationImpl(final String id, final String coverImage, final String description, final String icon, final String name) {
+        this.id = id;
+        this.coverImage = coverImage;
+        this.description = description;
+        this.icon = icon;
+        this.name = name;
+    }
+}
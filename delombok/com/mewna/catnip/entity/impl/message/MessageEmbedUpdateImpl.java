@@ -0,0 +1,180 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.message.Embed;
+import com.mewna.catnip.entity.message.MessageEmbedUpdate;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author amy
+ * @since 10/9/18.
+ */
+public class MessageEmbedUpdateImpl implements MessageEmbedUpdate, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private long channelIdAsLong;
+    private List<Embed> embeds;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageEmbedUpdateImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private List<Embed> embeds;
+
+        @java.lang.SuppressWarnings("all")
+        MessageEmbedUpdateImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImplBuilder embeds(final List<Embed> embeds) {
+            this.embeds = embeds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageEmbedUpdateImpl build() {
+            return new MessageEmbedUpdateImpl(catnip, idAsLong, guildIdAsLong, channelIdAsLong, embeds);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageEmbedUpdateImpl.MessageEmbedUpdateImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", channelIdAsLong=" + this.channelIdAsLong + ", embeds=" + this.embeds + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageEmbedUpdateImplBuilder builder() {
+        return new MessageEmbedUpdateImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<Embed> embeds() {
+        return this.embeds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl embeds(final List<Embed> embeds) {
+        this.embeds = embeds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageEmbedUpdateImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final long channelIdAsLong, final List<Embed> embeds) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.channelIdAsLong = channelIdAsLong;
+        this.embeds = embeds;
+    }
+}
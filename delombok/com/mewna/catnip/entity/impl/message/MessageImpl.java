@@ -0,0 +1,659 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.channel.ChannelMention;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.message.Embed;
+import com.mewna.catnip.entity.message.Message;
+import com.mewna.catnip.entity.message.MessageReference;
+import com.mewna.catnip.entity.message.MessageType;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * @author amy
+ * @since 9/2/18.
+ */
+public class MessageImpl implements Message, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long channelIdAsLong;
+    private User author;
+    private String content;
+    private String timestamp;
+    private String editedTimestamp;
+    private boolean tts;
+    private boolean mentionsEveryone;
+    private List<User> mentionedUsers;
+    private List<Member> mentionedMembers;
+    private List<String> mentionedRoleIds;
+    private List<Attachment> attachments;
+    private List<Embed> embeds;
+    private List<Reaction> reactions;
+    private MessageActivity activity;
+    private MessageApplication application;
+    private MessageReference messageReference;
+    private String nonce;
+    private boolean pinned;
+    private long webhookIdAsLong;
+    private MessageType type;
+    private Member member;
+    private long guildIdAsLong;
+    private int flagsRaw;
+    private List<ChannelMention> mentionedChannels;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (author instanceof RequiresCatnip) {
+            ((RequiresCatnip) author).catnip(catnip);
+        }
+        for (final User user : mentionedUsers) {
+            if (user instanceof RequiresCatnip) {
+                ((RequiresCatnip) user).catnip(catnip);
+            }
+        }
+        if (member instanceof RequiresCatnip) {
+            ((RequiresCatnip) member).catnip(catnip);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public OffsetDateTime timestamp() {
+        return parseTimestamp(timestamp);
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime editedTimestamp() {
+        return parseTimestamp(editedTimestamp);
+    }
+
+    @Override
+    @Nonnull
+    public List<Attachment> attachments() {
+        return attachments;
+    }
+
+    @Override
+    @Nonnull
+    public List<Reaction> reactions() {
+        return reactions;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Message && ((Message) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Message (%s)", content);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private User author;
+        @java.lang.SuppressWarnings("all")
+        private String content;
+        @java.lang.SuppressWarnings("all")
+        private String timestamp;
+        @java.lang.SuppressWarnings("all")
+        private String editedTimestamp;
+        @java.lang.SuppressWarnings("all")
+        private boolean tts;
+        @java.lang.SuppressWarnings("all")
+        private boolean mentionsEveryone;
+        @java.lang.SuppressWarnings("all")
+        private List<User> mentionedUsers;
+        @java.lang.SuppressWarnings("all")
+        private List<Member> mentionedMembers;
+        @java.lang.SuppressWarnings("all")
+        private List<String> mentionedRoleIds;
+        @java.lang.SuppressWarnings("all")
+        private List<Attachment> attachments;
+        @java.lang.SuppressWarnings("all")
+        private List<Embed> embeds;
+        @java.lang.SuppressWarnings("all")
+        private List<Reaction> reactions;
+        @java.lang.SuppressWarnings("all")
+        private MessageActivity activity;
+        @java.lang.SuppressWarnings("all")
+        private MessageApplication application;
+        @java.lang.SuppressWarnings("all")
+        private MessageReference messageReference;
+        @java.lang.SuppressWarnings("all")
+        private String nonce;
+        @java.lang.SuppressWarnings("all")
+        private boolean pinned;
+        @java.lang.SuppressWarnings("all")
+        private long webhookIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private MessageType type;
+        @java.lang.SuppressWarnings("all")
+        private Member member;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private int flagsRaw;
+        @java.lang.SuppressWarnings("all")
+        private List<ChannelMention> mentionedChannels;
+
+        @java.lang.SuppressWarnings("all")
+        MessageImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder author(final User author) {
+            this.author = author;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder content(final String content) {
+            this.content = content;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder timestamp(final String timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder editedTimestamp(final String editedTimestamp) {
+            this.editedTimestamp = editedTimestamp;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder tts(final boolean tts) {
+            this.tts = tts;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder mentionsEveryone(final boolean mentionsEveryone) {
+            this.mentionsEveryone = mentionsEveryone;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder mentionedUsers(final List<User> mentionedUsers) {
+            this.mentionedUsers = mentionedUsers;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder mentionedMembers(final List<Member> mentionedMembers) {
+            this.mentionedMembers = mentionedMembers;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder mentionedRoleIds(final List<String> mentionedRoleIds) {
+            this.mentionedRoleIds = mentionedRoleIds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder attachments(final List<Attachment> attachments) {
+            this.attachments = attachments;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder embeds(final List<Embed> embeds) {
+            this.embeds = embeds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder reactions(final List<Reaction> reactions) {
+            this.reactions = reactions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder activity(final MessageActivity activity) {
+            this.activity = activity;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder application(final MessageApplication application) {
+            this.application = application;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder messageReference(final MessageReference messageReference) {
+            this.messageReference = messageReference;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder nonce(final String nonce) {
+            this.nonce = nonce;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder pinned(final boolean pinned) {
+            this.pinned = pinned;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder webhookIdAsLong(final long webhookIdAsLong) {
+            this.webhookIdAsLong = webhookIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder type(final MessageType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder member(final Member member) {
+            this.member = member;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder flagsRaw(final int flagsRaw) {
+            this.flagsRaw = flagsRaw;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImplBuilder mentionedChannels(final List<ChannelMention> mentionedChannels) {
+            this.mentionedChannels = mentionedChannels;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageImpl build() {
+            return new MessageImpl(catnip, idAsLong, channelIdAsLong, author, content, timestamp, editedTimestamp, tts, mentionsEveryone, mentionedUsers, mentionedMembers, mentionedRoleIds, attachments, embeds, reactions, activity, application, messageReference, nonce, pinned, webhookIdAsLong, type, member, guildIdAsLong, flagsRaw, mentionedChannels);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageImpl.MessageImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", channelIdAsLong=" + this.channelIdAsLong + ", author=" + this.author + ", content=" + this.content + ", timestamp=" + this.timestamp + ", editedTimestamp=" + this.editedTimestamp + ", tts=" + this.tts + ", mentionsEveryone=" + this.mentionsEveryone + ", mentionedUsers=" + this.mentionedUsers + ", mentionedMembers=" + this.mentionedMembers + ", mentionedRoleIds=" + this.mentionedRoleIds + ", attachments=" + this.attachments + ", embeds=" + this.embeds + ", reactions=" + this.reactions + ", activity=" + this.activity + ", application=" + this.application + ", messageReference=" + this.messageReference + ", nonce=" + this.nonce + ", pinned=" + this.pinned + ", webhookIdAsLong=" + this.webhookIdAsLong + ", type=" + this.type + ", member=" + this.member + ", guildIdAsLong=" + this.guildIdAsLong + ", flagsRaw=" + this.flagsRaw + ", mentionedChannels=" + this.mentionedChannels + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageImplBuilder builder() {
+        return new MessageImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User author() {
+        return this.author;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String content() {
+        return this.content;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean tts() {
+        return this.tts;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean mentionsEveryone() {
+        return this.mentionsEveryone;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<User> mentionedUsers() {
+        return this.mentionedUsers;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<Member> mentionedMembers() {
+        return this.mentionedMembers;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<String> mentionedRoleIds() {
+        return this.mentionedRoleIds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<Embed> embeds() {
+        return this.embeds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageActivity activity() {
+        return this.activity;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageApplication application() {
+        return this.application;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReference messageReference() {
+        return this.messageReference;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String nonce() {
+        return this.nonce;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean pinned() {
+        return this.pinned;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long webhookIdAsLong() {
+        return this.webhookIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageType type() {
+        return this.type;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Member member() {
+        return this.member;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int flagsRaw() {
+        return this.flagsRaw;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<ChannelMention> mentionedChannels() {
+        return this.mentionedChannels;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl author(final User author) {
+        this.author = author;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl content(final String content) {
+        this.content = content;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl timestamp(final String timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl editedTimestamp(final String editedTimestamp) {
+        this.editedTimestamp = editedTimestamp;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl tts(final boolean tts) {
+        this.tts = tts;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl mentionsEveryone(final boolean mentionsEveryone) {
+        this.mentionsEveryone = mentionsEveryone;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl mentionedUsers(final List<User> mentionedUsers) {
+        this.mentionedUsers = mentionedUsers;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl mentionedMembers(final List<Member> mentionedMembers) {
+        this.mentionedMembers = mentionedMembers;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl mentionedRoleIds(final List<String> mentionedRoleIds) {
+        this.mentionedRoleIds = mentionedRoleIds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl attachments(final List<Attachment> attachments) {
+        this.attachments = attachments;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl embeds(final List<Embed> embeds) {
+        this.embeds = embeds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl reactions(final List<Reaction> reactions) {
+        this.reactions = reactions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl activity(final MessageActivity activity) {
+        this.activity = activity;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl application(final MessageApplication application) {
+        this.application = application;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl messageReference(final MessageReference messageReference) {
+        this.messageReference = messageReference;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl nonce(final String nonce) {
+        this.nonce = nonce;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl pinned(final boolean pinned) {
+        this.pinned = pinned;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl webhookIdAsLong(final long webhookIdAsLong) {
+        this.webhookIdAsLong = webhookIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl type(final MessageType type) {
+        this.type = type;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl member(final Member member) {
+        this.member = member;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl flagsRaw(final int flagsRaw) {
+        this.flagsRaw = flagsRaw;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl mentionedChannels(final List<ChannelMention> mentionedChannels) {
+        this.mentionedChannels = mentionedChannels;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageImpl(final Catnip catnip, final long idAsLong, final long channelIdAsLong, final User author, final String content, final String timestamp, final String editedTimestamp, final boolean tts, final boolean mentionsEveryone, final List<User> mentionedUsers, final List<Member> mentionedMembers, final List<String> mentionedRoleIds, final List<Attachment> attachments, final List<Embed> embeds, final List<Reaction> reactions, final MessageActivity activity, final MessageApplication application, final MessageReference messageReference, final String nonce, final boolean pinned, final long webhookIdAsLong, final MessageType type, final Member member, final long guildIdAsLong, final int flagsRaw, final List<ChannelMention> mentionedChannels) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.channelIdAsLong = channelIdAsLong;
+        this.author = author;
+        this.content = content;
+        this.timestamp = timestamp;
+        this.editedTimestamp = editedTimestamp;
+        this.tts = tts;
+        this.mentionsEveryone = mentionsEveryone;
+        this.mentionedUsers = mentionedUsers;
+        this.mentionedMembers = mentionedMembers;
+        this.mentionedRoleIds = mentionedRoleIds;
+        this.attachments = attachments;
+        this.embeds = embeds;
+        this.reactions = reactions;
+        this.activity = activity;
+        this.application = application;
+        this.messageReference = messageReference;
+        this.nonce = nonce;
+        this.pinned = pinned;
+        this.webhookIdAsLong = webhookIdAsLong;
+        this.type = type;
+        this.member = member;
+        this.guildIdAsLong = guildIdAsLong;
+        this.flagsRaw = flagsRaw;
+        this.mentionedChannels = mentionedChannels;
+    }
+}
@@ -0,0 +1,157 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.message.MessageReference;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 8/19/19.
+ */
+public class MessageReferenceImpl implements MessageReference, RequiresCatnip {
+    private transient Catnip catnip;
+    private String messageId;
+    private String channelId;
+    private String guildId;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class MessageReferenceImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String messageId;
+        @java.lang.SuppressWarnings("all")
+        private String channelId;
+        @java.lang.SuppressWarnings("all")
+        private String guildId;
+
+        @java.lang.SuppressWarnings("all")
+        MessageReferenceImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageReferenceImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageReferenceImplBuilder messageId(final String messageId) {
+            this.messageId = messageId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageReferenceImplBuilder channelId(final String channelId) {
+            this.channelId = channelId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageReferenceImplBuilder guildId(final String guildId) {
+            this.guildId = guildId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public MessageReferenceImpl build() {
+            return new MessageReferenceImpl(catnip, messageId, channelId, guildId);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "MessageReferenceImpl.MessageReferenceImplBuilder(catnip=" + this.catnip + ", messageId=" + this.messageId + ", channelId=" + this.channelId + ", guildId=" + this.guildId + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static MessageReferenceImplBuilder builder() {
+        return new MessageReferenceImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String messageId() {
+        return this.messageId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String channelId() {
+        return this.channelId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String guildId() {
+        return this.guildId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReferenceImpl messageId(final String messageId) {
+        this.messageId = messageId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReferenceImpl channelId(final String channelId) {
+        this.channelId = channelId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReferenceImpl guildId(final String guildId) {
+        this.guildId = guildId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReferenceImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MessageReferenceImpl(final Catnip catnip, final String messageId, final String channelId, final String guildId) {
+        this.catnip = catnip;
+        this.messageId = messageId;
+        this.channelId = channelId;
+        this.guildId = guildId;
+    }
+}
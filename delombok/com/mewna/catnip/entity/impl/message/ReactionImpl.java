@@ -0,0 +1,150 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.message;
+
+import com.mewna.catnip.entity.message.Message.Reaction;
+import com.mewna.catnip.entity.misc.Emoji;
+import lombok.*;
+
+/**
+ * @author amy
+ * @since 8/5/19.
+ */
+public class ReactionImpl implements Reaction {
+    private int count;
+    private boolean self;
+    private Emoji emoji;
+
+    @Override
+    public int hashCode() {
+        return emoji.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Reaction && ((Reaction) obj).emoji().equals(emoji);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Reaction (%d x %s, self = %b)", count, emoji, self);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class ReactionImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private int count;
+        @java.lang.SuppressWarnings("all")
+        private boolean self;
+        @java.lang.SuppressWarnings("all")
+        private Emoji emoji;
+
+        @java.lang.SuppressWarnings("all")
+        ReactionImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReactionImplBuilder count(final int count) {
+            this.count = count;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReactionImplBuilder self(final boolean self) {
+            this.self = self;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReactionImplBuilder emoji(final Emoji emoji) {
+            this.emoji = emoji;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReactionImpl build() {
+            return new ReactionImpl(count, self, emoji);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "ReactionImpl.ReactionImplBuilder(count=" + this.count + ", self=" + this.self + ", emoji=" + this.emoji + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static ReactionImplBuilder builder() {
+        return new ReactionImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int count() {
+        return this.count;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean self() {
+        return this.self;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Emoji emoji() {
+        return this.emoji;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReactionImpl count(final int count) {
+        this.count = count;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReactionImpl self(final boolean self) {
+        this.self = self;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReactionImpl emoji(final Emoji emoji) {
+        this.emoji = emoji;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReactionImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReactionImpl(final int count, final boolean self, final Emoji emoji) {
+        this.count = count;
+        this.self = self;
+        this.emoji = emoji;
+    }
+}
@@ -0,0 +1,289 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.ApplicationInfo;
+import com.mewna.catnip.entity.misc.ApplicationOwner;
+import com.mewna.catnip.entity.misc.Team;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author amy
+ * @since 10/17/18.
+ */
+public class ApplicationInfoImpl implements ApplicationInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String icon;
+    private String name;
+    private String description;
+    private List<String> rpcOrigins;
+    private boolean publicBot;
+    private boolean requiresCodeGrant;
+    private ApplicationOwner owner;
+    private Team team;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (owner instanceof RequiresCatnip) {
+            ((RequiresCatnip) owner).catnip(catnip);
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class ApplicationInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private String description;
+        @java.lang.SuppressWarnings("all")
+        private List<String> rpcOrigins;
+        @java.lang.SuppressWarnings("all")
+        private boolean publicBot;
+        @java.lang.SuppressWarnings("all")
+        private boolean requiresCodeGrant;
+        @java.lang.SuppressWarnings("all")
+        private ApplicationOwner owner;
+        @java.lang.SuppressWarnings("all")
+        private Team team;
+
+        @java.lang.SuppressWarnings("all")
+        ApplicationInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder description(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder rpcOrigins(final List<String> rpcOrigins) {
+            this.rpcOrigins = rpcOrigins;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder publicBot(final boolean publicBot) {
+            this.publicBot = publicBot;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder requiresCodeGrant(final boolean requiresCodeGrant) {
+            this.requiresCodeGrant = requiresCodeGrant;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder owner(final ApplicationOwner owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImplBuilder team(final Team team) {
+            this.team = team;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationInfoImpl build() {
+            return new ApplicationInfoImpl(catnip, idAsLong, icon, name, description, rpcOrigins, publicBot, requiresCodeGrant, owner, team);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "ApplicationInfoImpl.ApplicationInfoImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", icon=" + this.icon + ", name=" + this.name + ", description=" + this.description + ", rpcOrigins=" + this.rpcOrigins + ", publicBot=" + this.publicBot + ", requiresCodeGrant=" + this.requiresCodeGrant + ", owner=" + this.owner + ", team=" + this.team + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static ApplicationInfoImplBuilder builder() {
+        return new ApplicationInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String description() {
+        return this.description;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<String> rpcOrigins() {
+        return this.rpcOrigins;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean publicBot() {
+        return this.publicBot;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean requiresCodeGrant() {
+        return this.requiresCodeGrant;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwner owner() {
+        return this.owner;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Team team() {
+        return this.team;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl description(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl rpcOrigins(final List<String> rpcOrigins) {
+        this.rpcOrigins = rpcOrigins;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl publicBot(final boolean publicBot) {
+        this.publicBot = publicBot;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl requiresCodeGrant(final boolean requiresCodeGrant) {
+        this.requiresCodeGrant = requiresCodeGrant;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl owner(final ApplicationOwner owner) {
+        this.owner = owner;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl team(final Team team) {
+        this.team = team;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationInfoImpl(final Catnip catnip, final long idAsLong, final String icon, final String name, final String description, final List<String> rpcOrigins, final boolean publicBot, final boolean requiresCodeGrant, final ApplicationOwner owner, final Team team) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.icon = icon;
+        this.name = name;
+        this.description = description;
+        this.rpcOrigins = rpcOrigins;
+        this.publicBot = publicBot;
+        this.requiresCodeGrant = requiresCodeGrant;
+        this.owner = owner;
+        this.team = team;
+    }
+}
@@ -0,0 +1,270 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.ApplicationOwner;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.user.UserFlag;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.entity.util.ImageType;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Set;
+
+public class ApplicationOwnerImpl implements ApplicationOwner, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String username;
+    private String discriminator;
+    private String avatar;
+    private boolean bot;
+
+    @Override
+    public boolean isTeam() {
+        return discriminator().equals("0000");
+    }
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    @CheckReturnValue
+    public boolean animatedAvatar() {
+        return avatar != null && avatar.startsWith("a_");
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String defaultAvatarUrl() {
+        return CDNFormat.defaultAvatarUrl(discriminator);
+    }
+
+    @Nullable
+    @CheckReturnValue
+    public String avatarUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.avatarUrl(id(), avatar, options);
+    }
+
+    @Nullable
+    @CheckReturnValue
+    public String avatarUrl() {
+        return avatarUrl(defaultOptions());
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String effectiveAvatarUrl(@Nonnull final ImageOptions options) {
+        return avatar == null ? defaultAvatarUrl() : Objects.requireNonNull(avatarUrl(options), "Avatar url is null but avatar hash is present (??)");
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String effectiveAvatarUrl() {
+        return effectiveAvatarUrl(defaultOptions());
+    }
+
+    @Nonnull
+    @Override
+    public Set<UserFlag> publicFlags() {
+        throw new UnsupportedOperationException("unsupported method");
+    }
+
+    private ImageOptions defaultOptions() {
+        return new ImageOptions().type(animatedAvatar() ? ImageType.GIF : null);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof User && ((User) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return isTeam() ? String.format("Team (%s)", idAsLong) : String.format("User (%s#%s)", username, discriminator);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class ApplicationOwnerImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String username;
+        @java.lang.SuppressWarnings("all")
+        private String discriminator;
+        @java.lang.SuppressWarnings("all")
+        private String avatar;
+        @java.lang.SuppressWarnings("all")
+        private boolean bot;
+
+        @java.lang.SuppressWarnings("all")
+        ApplicationOwnerImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder username(final String username) {
+            this.username = username;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder discriminator(final String discriminator) {
+            this.discriminator = discriminator;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder avatar(final String avatar) {
+            this.avatar = avatar;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImplBuilder bot(final boolean bot) {
+            this.bot = bot;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ApplicationOwnerImpl build() {
+            return new ApplicationOwnerImpl(catnip, idAsLong, username, discriminator, avatar, bot);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "ApplicationOwnerImpl.ApplicationOwnerImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", username=" + this.username + ", discriminator=" + this.discriminator + ", avatar=" + this.avatar + ", bot=" + this.bot + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static ApplicationOwnerImplBuilder builder() {
+        return new ApplicationOwnerImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String username() {
+        return this.username;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String discriminator() {
+        return this.discriminator;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String avatar() {
+        return this.avatar;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean bot() {
+        return this.bot;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl username(final String username) {
+        this.username = username;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl discriminator(final String discriminator) {
+        this.discriminator = discriminator;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl avatar(final String avatar) {
+        this.avatar = avatar;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl bot(final boolean bot) {
+        this.bot = bot;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ApplicationOwnerImpl(final Catnip catnip, final long idAsLong, final String username, final String discriminator, final String avatar, final boolean bot) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.username = username;
+        this.discriminator = discriminator;
+        this.avatar = avatar;
+        this.bot = bot;
+    }
+}
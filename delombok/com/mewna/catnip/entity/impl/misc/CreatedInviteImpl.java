@@ -0,0 +1,348 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.misc.CreatedInvite;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.time.OffsetDateTime;
+
+/**
+ * @author natanbc
+ * @since 9/14/18.
+ */
+public class CreatedInviteImpl implements CreatedInvite, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private String code;
+    private Inviter inviter;
+    private InviteGuild guild;
+    private InviteChannel channel;
+    private int approximatePresenceCount;
+    private int approximateMemberCount;
+    private int uses;
+    private int maxUses;
+    private int maxAge;
+    private boolean temporary;
+    private String createdAt;
+    private boolean revoked;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Nonnull
+    public OffsetDateTime createdAt() {
+        return parseTimestamp(createdAt);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class CreatedInviteImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String code;
+        @java.lang.SuppressWarnings("all")
+        private Inviter inviter;
+        @java.lang.SuppressWarnings("all")
+        private InviteGuild guild;
+        @java.lang.SuppressWarnings("all")
+        private InviteChannel channel;
+        @java.lang.SuppressWarnings("all")
+        private int approximatePresenceCount;
+        @java.lang.SuppressWarnings("all")
+        private int approximateMemberCount;
+        @java.lang.SuppressWarnings("all")
+        private int uses;
+        @java.lang.SuppressWarnings("all")
+        private int maxUses;
+        @java.lang.SuppressWarnings("all")
+        private int maxAge;
+        @java.lang.SuppressWarnings("all")
+        private boolean temporary;
+        @java.lang.SuppressWarnings("all")
+        private String createdAt;
+        @java.lang.SuppressWarnings("all")
+        private boolean revoked;
+
+        @java.lang.SuppressWarnings("all")
+        CreatedInviteImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder code(final String code) {
+            this.code = code;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder inviter(final Inviter inviter) {
+            this.inviter = inviter;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder guild(final InviteGuild guild) {
+            this.guild = guild;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder channel(final InviteChannel channel) {
+            this.channel = channel;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder approximatePresenceCount(final int approximatePresenceCount) {
+            this.approximatePresenceCount = approximatePresenceCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder approximateMemberCount(final int approximateMemberCount) {
+            this.approximateMemberCount = approximateMemberCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder uses(final int uses) {
+            this.uses = uses;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder maxUses(final int maxUses) {
+            this.maxUses = maxUses;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder maxAge(final int maxAge) {
+            this.maxAge = maxAge;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder temporary(final boolean temporary) {
+            this.temporary = temporary;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder createdAt(final String createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImplBuilder revoked(final boolean revoked) {
+            this.revoked = revoked;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CreatedInviteImpl build() {
+            return new CreatedInviteImpl(catnip, code, inviter, guild, channel, approximatePresenceCount, approximateMemberCount, uses, maxUses, maxAge, temporary, createdAt, revoked);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "CreatedInviteImpl.CreatedInviteImplBuilder(catnip=" + this.catnip + ", code=" + this.code + ", inviter=" + this.inviter + ", guild=" + this.guild + ", channel=" + this.channel + ", approximatePresenceCount=" + this.approximatePresenceCount + ", approximateMemberCount=" + this.approximateMemberCount + ", uses=" + this.uses + ", maxUses=" + this.maxUses + ", maxAge=" + this.maxAge + ", temporary=" + this.temporary + ", createdAt=" + this.createdAt + ", revoked=" + this.revoked + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static CreatedInviteImplBuilder builder() {
+        return new CreatedInviteImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String code() {
+        return this.code;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Inviter inviter() {
+        return this.inviter;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteGuild guild() {
+        return this.guild;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteChannel channel() {
+        return this.channel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximatePresenceCount() {
+        return this.approximatePresenceCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int approximateMemberCount() {
+        return this.approximateMemberCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int uses() {
+        return this.uses;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int maxUses() {
+        return this.maxUses;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int maxAge() {
+        return this.maxAge;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean temporary() {
+        return this.temporary;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean revoked() {
+        return this.revoked;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl code(final String code) {
+        this.code = code;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl inviter(final Inviter inviter) {
+        this.inviter = inviter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl guild(final InviteGuild guild) {
+        this.guild = guild;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl channel(final InviteChannel channel) {
+        this.channel = channel;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl approximatePresenceCount(final int approximatePresenceCount) {
+        this.approximatePresenceCount = approximatePresenceCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl approximateMemberCount(final int approximateMemberCount) {
+        this.approximateMemberCount = approximateMemberCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl uses(final int uses) {
+        this.uses = uses;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl maxUses(final int maxUses) {
+        this.maxUses = maxUses;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl maxAge(final int maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl temporary(final boolean temporary) {
+        this.temporary = temporary;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl createdAt(final String createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl revoked(final boolean revoked) {
+        this.revoked = revoked;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CreatedInviteImpl(final Catnip catnip, final String code, final Inviter inviter, final InviteGuild guild, final InviteChannel channel, final int approximatePresenceCount, final int approximateMemberCount, final int uses, final int maxUses, final int maxAge, final boolean temporary, final String createdAt, final boolean revoked) {
+        this.catnip = catnip;
+        this.code = code;
+        this.inviter = inviter;
+        this.guild = guild;
+        this.channel = channel;
+        this.approximatePresenceCount = approximatePresenceCount;
+        this.approximateMemberCount = approximateMemberCount;
+        this.uses = uses;
+        this.maxUses = maxUses;
+        this.maxAge = maxAge;
+        this.temporary = temporary;
+        this.createdAt = createdAt;
+        this.revoked = revoked;
+    }
+}
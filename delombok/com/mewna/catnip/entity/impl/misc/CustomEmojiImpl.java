@@ -0,0 +1,282 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author natanbc
+ * @since 9/5/18.
+ */
+public class CustomEmojiImpl implements CustomEmoji, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private String name;
+    private List<String> roles;
+    private User user;
+    private boolean requiresColons;
+    private boolean managed;
+    private boolean animated;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof CustomEmoji && ((CustomEmoji) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CustomEmoji (%s)", forMessage());
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class CustomEmojiImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private List<String> roles;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private boolean requiresColons;
+        @java.lang.SuppressWarnings("all")
+        private boolean managed;
+        @java.lang.SuppressWarnings("all")
+        private boolean animated;
+
+        @java.lang.SuppressWarnings("all")
+        CustomEmojiImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder roles(final List<String> roles) {
+            this.roles = roles;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder requiresColons(final boolean requiresColons) {
+            this.requiresColons = requiresColons;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder managed(final boolean managed) {
+            this.managed = managed;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImplBuilder animated(final boolean animated) {
+            this.animated = animated;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public CustomEmojiImpl build() {
+            return new CustomEmojiImpl(catnip, idAsLong, guildIdAsLong, name, roles, user, requiresColons, managed, animated);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "CustomEmojiImpl.CustomEmojiImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", name=" + this.name + ", roles=" + this.roles + ", user=" + this.user + ", requiresColons=" + this.requiresColons + ", managed=" + this.managed + ", animated=" + this.animated + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static CustomEmojiImplBuilder builder() {
+        return new CustomEmojiImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<String> roles() {
+        return this.roles;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean requiresColons() {
+        return this.requiresColons;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean managed() {
+        return this.managed;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean animated() {
+        return this.animated;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl roles(final List<String> roles) {
+        this.roles = roles;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl requiresColons(final boolean requiresColons) {
+        this.requiresColons = requiresColons;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl managed(final boolean managed) {
+        this.managed = managed;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl animated(final boolean animated) {
+        this.animated = animated;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CustomEmojiImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final String name, final List<String> roles, final User user, final boolean requiresColons, final boolean managed, final boolean animated) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.name = name;
+        this.roles = roles;
+        this.user = user;
+        this.requiresColons = requiresColons;
+        this.managed = managed;
+        this.animated = animated;
+    }
+}
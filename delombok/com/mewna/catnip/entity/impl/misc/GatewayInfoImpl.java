@@ -0,0 +1,220 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.GatewayInfo;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 12/10/18.
+ */
+public class GatewayInfoImpl implements GatewayInfo, RequiresCatnip {
+    private transient Catnip catnip;
+    private String url;
+    private int shards;
+    private int totalSessions;
+    private int remainingSessions;
+    private long resetAfter;
+    private boolean valid;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class GatewayInfoImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String url;
+        @java.lang.SuppressWarnings("all")
+        private int shards;
+        @java.lang.SuppressWarnings("all")
+        private int totalSessions;
+        @java.lang.SuppressWarnings("all")
+        private int remainingSessions;
+        @java.lang.SuppressWarnings("all")
+        private long resetAfter;
+        @java.lang.SuppressWarnings("all")
+        private boolean valid;
+
+        @java.lang.SuppressWarnings("all")
+        GatewayInfoImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder shards(final int shards) {
+            this.shards = shards;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder totalSessions(final int totalSessions) {
+            this.totalSessions = totalSessions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder remainingSessions(final int remainingSessions) {
+            this.remainingSessions = remainingSessions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder resetAfter(final long resetAfter) {
+            this.resetAfter = resetAfter;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImplBuilder valid(final boolean valid) {
+            this.valid = valid;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public GatewayInfoImpl build() {
+            return new GatewayInfoImpl(catnip, url, shards, totalSessions, remainingSessions, resetAfter, valid);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "GatewayInfoImpl.GatewayInfoImplBuilder(catnip=" + this.catnip + ", url=" + this.url + ", shards=" + this.shards + ", totalSessions=" + this.totalSessions + ", remainingSessions=" + this.remainingSessions + ", resetAfter=" + this.resetAfter + ", valid=" + this.valid + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static GatewayInfoImplBuilder builder() {
+        return new GatewayInfoImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String url() {
+        return this.url;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int shards() {
+        return this.shards;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int totalSessions() {
+        return this.totalSessions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int remainingSessions() {
+        return this.remainingSessions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long resetAfter() {
+        return this.resetAfter;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean valid() {
+        return this.valid;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl url(final String url) {
+        this.url = url;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl shards(final int shards) {
+        this.shards = shards;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl totalSessions(final int totalSessions) {
+        this.totalSessions = totalSessions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl remainingSessions(final int remainingSessions) {
+        this.remainingSessions = remainingSessions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl resetAfter(final long resetAfter) {
+        this.resetAfter = resetAfter;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl valid(final boolean valid) {
+        this.valid = valid;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public GatewayInfoImpl(final Catnip catnip, final String url, final int shards, final int totalSessions, final int remainingSessions, final long resetAfter, final boolean valid) {
+        this.catnip = catnip;
+        this.url = url;
+        this.shards = shards;
+        this.totalSessions = totalSessions;
+        this.remainingSessions = remainingSessions;
+        this.resetAfter = resetAfter;
+        this.valid = valid;
+    }
+}
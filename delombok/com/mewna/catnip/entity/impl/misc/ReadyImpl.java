@@ -0,0 +1,210 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.guild.UnavailableGuild;
+import com.mewna.catnip.entity.misc.Ready;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * @author amy
+ * @since 10/4/18.
+ */
+public class ReadyImpl implements Ready, RequiresCatnip {
+    private transient Catnip catnip;
+    private int version;
+    private User user;
+    private Set<UnavailableGuild> guilds;
+    private int shardId;
+    private int shardCount;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+        if (user instanceof RequiresCatnip) {
+            ((RequiresCatnip) user).catnip(catnip);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Ready (v%s, %s#%s (%s))", version, user.username(), user.discriminator(), user.id());
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class ReadyImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private int version;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private Set<UnavailableGuild> guilds;
+        @java.lang.SuppressWarnings("all")
+        private int shardId;
+        @java.lang.SuppressWarnings("all")
+        private int shardCount;
+
+        @java.lang.SuppressWarnings("all")
+        ReadyImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder version(final int version) {
+            this.version = version;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder guilds(final Set<UnavailableGuild> guilds) {
+            this.guilds = guilds;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder shardId(final int shardId) {
+            this.shardId = shardId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImplBuilder shardCount(final int shardCount) {
+            this.shardCount = shardCount;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ReadyImpl build() {
+            return new ReadyImpl(catnip, version, user, guilds, shardId, shardCount);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "ReadyImpl.ReadyImplBuilder(catnip=" + this.catnip + ", version=" + this.version + ", user=" + this.user + ", guilds=" + this.guilds + ", shardId=" + this.shardId + ", shardCount=" + this.shardCount + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static ReadyImplBuilder builder() {
+        return new ReadyImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int version() {
+        return this.version;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<UnavailableGuild> guilds() {
+        return this.guilds;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int shardId() {
+        return this.shardId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int shardCount() {
+        return this.shardCount;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl version(final int version) {
+        this.version = version;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl guilds(final Set<UnavailableGuild> guilds) {
+        this.guilds = guilds;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl shardId(final int shardId) {
+        this.shardId = shardId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl shardCount(final int shardCount) {
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ReadyImpl(final Catnip catnip, final int version, final User user, final Set<UnavailableGuild> guilds, final int shardId, final int shardCount) {
+        this.catnip = catnip;
+        this.version = version;
+        this.user = user;
+        this.guilds = guilds;
+        this.shardId = shardId;
+        this.shardCount = shardCount;
+    }
+}
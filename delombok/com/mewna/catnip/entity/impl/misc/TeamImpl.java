@@ -0,0 +1,235 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.Team;
+import com.mewna.catnip.entity.misc.TeamMember;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * @author Bowser65
+ * @since 06/24/19.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class TeamImpl implements Team, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long ownerIdAsLong;
+    private String name;
+    private String icon;
+    private List<TeamMember> members;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Nullable
+    @Override
+    @CheckReturnValue
+    public String iconUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.teamIconUrl(id(), icon, options);
+    }
+
+    @Nullable
+    @Override
+    @CheckReturnValue
+    public String iconUrl() {
+        return iconUrl(new ImageOptions().type(null));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Team && ((Team) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Team (%s)", name);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class TeamImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long ownerIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private String icon;
+        @java.lang.SuppressWarnings("all")
+        private List<TeamMember> members;
+
+        @java.lang.SuppressWarnings("all")
+        TeamImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder ownerIdAsLong(final long ownerIdAsLong) {
+            this.ownerIdAsLong = ownerIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder icon(final String icon) {
+            this.icon = icon;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImplBuilder members(final List<TeamMember> members) {
+            this.members = members;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamImpl build() {
+            return new TeamImpl(catnip, idAsLong, ownerIdAsLong, name, icon, members);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "TeamImpl.TeamImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", ownerIdAsLong=" + this.ownerIdAsLong + ", name=" + this.name + ", icon=" + this.icon + ", members=" + this.members + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static TeamImplBuilder builder() {
+        return new TeamImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long ownerIdAsLong() {
+        return this.ownerIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String icon() {
+        return this.icon;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<TeamMember> members() {
+        return this.members;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl ownerIdAsLong(final long ownerIdAsLong) {
+        this.ownerIdAsLong = ownerIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl icon(final String icon) {
+        this.icon = icon;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl members(final List<TeamMember> members) {
+        this.members = members;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamImpl(final Catnip catnip, final long idAsLong, final long ownerIdAsLong, final String name, final String icon, final List<TeamMember> members) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.ownerIdAsLong = ownerIdAsLong;
+        this.name = name;
+        this.icon = icon;
+        this.members = members;
+    }
+}
@@ -0,0 +1,200 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.TeamMember;
+import com.mewna.catnip.entity.user.User;
+import lombok.*;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @author Bowser65
+ * @since 06/24/19.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class TeamMemberImpl implements TeamMember, RequiresCatnip {
+    private transient Catnip catnip;
+    private long teamIdAsLong;
+    private int membershipState;
+    private User user;
+    private List<String> permissions;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(user.idAsLong());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof TeamMember) {
+            final TeamMember member = (TeamMember) obj;
+            return member.teamIdAsLong() == teamIdAsLong && member.user().idAsLong() == user.idAsLong();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Team Member (%s#%s, %s)", user.username(), user.discriminator(), teamIdAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class TeamMemberImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long teamIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private int membershipState;
+        @java.lang.SuppressWarnings("all")
+        private User user;
+        @java.lang.SuppressWarnings("all")
+        private List<String> permissions;
+
+        @java.lang.SuppressWarnings("all")
+        TeamMemberImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImplBuilder teamIdAsLong(final long teamIdAsLong) {
+            this.teamIdAsLong = teamIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImplBuilder membershipState(final int membershipState) {
+            this.membershipState = membershipState;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImplBuilder user(final User user) {
+            this.user = user;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImplBuilder permissions(final List<String> permissions) {
+            this.permissions = permissions;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public TeamMemberImpl build() {
+            return new TeamMemberImpl(catnip, teamIdAsLong, membershipState, user, permissions);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "TeamMemberImpl.TeamMemberImplBuilder(catnip=" + this.catnip + ", teamIdAsLong=" + this.teamIdAsLong + ", membershipState=" + this.membershipState + ", user=" + this.user + ", permissions=" + this.permissions + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static TeamMemberImplBuilder builder() {
+        return new TeamMemberImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long teamIdAsLong() {
+        return this.teamIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int membershipState() {
+        return this.membershipState;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public User user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<String> permissions() {
+        return this.permissions;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl teamIdAsLong(final long teamIdAsLong) {
+        this.teamIdAsLong = teamIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl membershipState(final int membershipState) {
+        this.membershipState = membershipState;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl user(final User user) {
+        this.user = user;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl permissions(final List<String> permissions) {
+        this.permissions = permissions;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public TeamMemberImpl(final Catnip catnip, final long teamIdAsLong, final int membershipState, final User user, final List<String> permissions) {
+        this.catnip = catnip;
+        this.teamIdAsLong = teamIdAsLong;
+        this.membershipState = membershipState;
+        this.user = user;
+        this.permissions = permissions;
+    }
+}
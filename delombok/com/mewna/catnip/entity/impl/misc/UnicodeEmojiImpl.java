@@ -0,0 +1,151 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.misc;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.Emoji.UnicodeEmoji;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author natanbc
+ * @since 9/5/18.
+ */
+public class UnicodeEmojiImpl implements UnicodeEmoji, RequiresCatnip {
+    private transient Catnip catnip;
+    private String name;
+    private boolean requiresColons;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof UnicodeEmoji && ((UnicodeEmoji) obj).name().equals(name);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UnicodeEmoji (%s)", forMessage());
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class UnicodeEmojiImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private boolean requiresColons;
+
+        @java.lang.SuppressWarnings("all")
+        UnicodeEmojiImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnicodeEmojiImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnicodeEmojiImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnicodeEmojiImplBuilder requiresColons(final boolean requiresColons) {
+            this.requiresColons = requiresColons;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UnicodeEmojiImpl build() {
+            return new UnicodeEmojiImpl(catnip, name, requiresColons);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "UnicodeEmojiImpl.UnicodeEmojiImplBuilder(catnip=" + this.catnip + ", name=" + this.name + ", requiresColons=" + this.requiresColons + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static UnicodeEmojiImplBuilder builder() {
+        return new UnicodeEmojiImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean requiresColons() {
+        return this.requiresColons;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnicodeEmojiImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnicodeEmojiImpl requiresColons(final boolean requiresColons) {
+        this.requiresColons = requiresColons;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnicodeEmojiImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UnicodeEmojiImpl(final Catnip catnip, final String name, final boolean requiresColons) {
+        this.catnip = catnip;
+        this.name = name;
+        this.requiresColons = requiresColons;
+    }
+}
@@ -0,0 +1,937 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.user;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.misc.Emoji.ActivityEmoji;
+import com.mewna.catnip.entity.user.Presence;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author amy
+ * @since 9/21/18.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PresenceImpl implements Presence, RequiresCatnip {
+    private transient Catnip catnip;
+    private OnlineStatus status;
+    private List<Activity> activities;
+    private OnlineStatus mobileStatus;
+    private OnlineStatus webStatus;
+    private OnlineStatus desktopStatus;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public JsonObject asPresenceUpdateJson() {
+        final var builder = JsonObject.builder().value("status", status.asString());
+        if (status == OnlineStatus.IDLE) {
+            builder.value("since", System.currentTimeMillis()).value("afk", true);
+        } else {
+            builder.nul("since").value("afk", false);
+        }
+        if (!activities.isEmpty()) {
+            final var activity = activities.get(0);
+            builder.object("game").value("name", activity.name()).value("type", activity.type().id());
+            if (activity.url() != null) {
+                builder.value("url", activity.url());
+            }
+            builder.end();
+        } else {
+            builder.nul("game");
+        }
+        return builder.done();
+    }
+
+
+    public static class ActivityTimestampsImpl implements ActivityTimestamps {
+        private long start;
+        private long end;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ActivityTimestampsImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private long start;
+            @java.lang.SuppressWarnings("all")
+            private long end;
+
+            @java.lang.SuppressWarnings("all")
+            ActivityTimestampsImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityTimestampsImplBuilder start(final long start) {
+                this.start = start;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityTimestampsImplBuilder end(final long end) {
+                this.end = end;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityTimestampsImpl build() {
+                return new ActivityTimestampsImpl(start, end);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "PresenceImpl.ActivityTimestampsImpl.ActivityTimestampsImplBuilder(start=" + this.start + ", end=" + this.end + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ActivityTimestampsImplBuilder builder() {
+            return new ActivityTimestampsImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long start() {
+            return this.start;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long end() {
+            return this.end;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityTimestampsImpl start(final long start) {
+            this.start = start;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityTimestampsImpl end(final long end) {
+            this.end = end;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityTimestampsImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityTimestampsImpl(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+
+    public static class ActivityPartyImpl implements ActivityParty {
+        private String id;
+        private int currentSize;
+        private int maxSize;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ActivityPartyImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String id;
+            @java.lang.SuppressWarnings("all")
+            private int currentSize;
+            @java.lang.SuppressWarnings("all")
+            private int maxSize;
+
+            @java.lang.SuppressWarnings("all")
+            ActivityPartyImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityPartyImplBuilder id(final String id) {
+                this.id = id;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityPartyImplBuilder currentSize(final int currentSize) {
+                this.currentSize = currentSize;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityPartyImplBuilder maxSize(final int maxSize) {
+                this.maxSize = maxSize;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityPartyImpl build() {
+                return new ActivityPartyImpl(id, currentSize, maxSize);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "PresenceImpl.ActivityPartyImpl.ActivityPartyImplBuilder(id=" + this.id + ", currentSize=" + this.currentSize + ", maxSize=" + this.maxSize + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ActivityPartyImplBuilder builder() {
+            return new ActivityPartyImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String id() {
+            return this.id;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int currentSize() {
+            return this.currentSize;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int maxSize() {
+            return this.maxSize;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityPartyImpl id(final String id) {
+            this.id = id;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityPartyImpl currentSize(final int currentSize) {
+            this.currentSize = currentSize;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityPartyImpl maxSize(final int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityPartyImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityPartyImpl(final String id, final int currentSize, final int maxSize) {
+            this.id = id;
+            this.currentSize = currentSize;
+            this.maxSize = maxSize;
+        }
+    }
+
+
+    public static class ActivityAssetsImpl implements ActivityAssets {
+        private String largeImage;
+        private String largeText;
+        private String smallImage;
+        private String smallText;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ActivityAssetsImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String largeImage;
+            @java.lang.SuppressWarnings("all")
+            private String largeText;
+            @java.lang.SuppressWarnings("all")
+            private String smallImage;
+            @java.lang.SuppressWarnings("all")
+            private String smallText;
+
+            @java.lang.SuppressWarnings("all")
+            ActivityAssetsImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityAssetsImplBuilder largeImage(final String largeImage) {
+                this.largeImage = largeImage;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityAssetsImplBuilder largeText(final String largeText) {
+                this.largeText = largeText;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityAssetsImplBuilder smallImage(final String smallImage) {
+                this.smallImage = smallImage;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityAssetsImplBuilder smallText(final String smallText) {
+                this.smallText = smallText;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityAssetsImpl build() {
+                return new ActivityAssetsImpl(largeImage, largeText, smallImage, smallText);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "PresenceImpl.ActivityAssetsImpl.ActivityAssetsImplBuilder(largeImage=" + this.largeImage + ", largeText=" + this.largeText + ", smallImage=" + this.smallImage + ", smallText=" + this.smallText + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ActivityAssetsImplBuilder builder() {
+            return new ActivityAssetsImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String largeImage() {
+            return this.largeImage;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String largeText() {
+            return this.largeText;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String smallImage() {
+            return this.smallImage;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String smallText() {
+            return this.smallText;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl largeImage(final String largeImage) {
+            this.largeImage = largeImage;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl largeText(final String largeText) {
+            this.largeText = largeText;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl smallImage(final String smallImage) {
+            this.smallImage = smallImage;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl smallText(final String smallText) {
+            this.smallText = smallText;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssetsImpl(final String largeImage, final String largeText, final String smallImage, final String smallText) {
+            this.largeImage = largeImage;
+            this.largeText = largeText;
+            this.smallImage = smallImage;
+            this.smallText = smallText;
+        }
+    }
+
+
+    public static class ActivitySecretsImpl implements ActivitySecrets {
+        private String join;
+        private String spectate;
+        private String match;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ActivitySecretsImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String join;
+            @java.lang.SuppressWarnings("all")
+            private String spectate;
+            @java.lang.SuppressWarnings("all")
+            private String match;
+
+            @java.lang.SuppressWarnings("all")
+            ActivitySecretsImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivitySecretsImplBuilder join(final String join) {
+                this.join = join;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivitySecretsImplBuilder spectate(final String spectate) {
+                this.spectate = spectate;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivitySecretsImplBuilder match(final String match) {
+                this.match = match;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivitySecretsImpl build() {
+                return new ActivitySecretsImpl(join, spectate, match);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "PresenceImpl.ActivitySecretsImpl.ActivitySecretsImplBuilder(join=" + this.join + ", spectate=" + this.spectate + ", match=" + this.match + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ActivitySecretsImplBuilder builder() {
+            return new ActivitySecretsImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String join() {
+            return this.join;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String spectate() {
+            return this.spectate;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String match() {
+            return this.match;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecretsImpl join(final String join) {
+            this.join = join;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecretsImpl spectate(final String spectate) {
+            this.spectate = spectate;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecretsImpl match(final String match) {
+            this.match = match;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecretsImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecretsImpl(final String join, final String spectate, final String match) {
+            this.join = join;
+            this.spectate = spectate;
+            this.match = match;
+        }
+    }
+
+
+    public static class ActivityImpl implements Activity {
+        private String name;
+        private ActivityType type;
+        private String url;
+        private ActivityTimestamps timestamps;
+        private long applicationIdAsLong;
+        private String details;
+        private String state;
+        private ActivityEmoji emoji;
+        private ActivityParty party;
+        private ActivityAssets assets;
+        private ActivitySecrets secrets;
+        private boolean instance;
+        private Set<ActivityFlag> flags;
+
+
+        @java.lang.SuppressWarnings("all")
+        public static class ActivityImplBuilder {
+            @java.lang.SuppressWarnings("all")
+            private String name;
+            @java.lang.SuppressWarnings("all")
+            private ActivityType type;
+            @java.lang.SuppressWarnings("all")
+            private String url;
+            @java.lang.SuppressWarnings("all")
+            private ActivityTimestamps timestamps;
+            @java.lang.SuppressWarnings("all")
+            private long applicationIdAsLong;
+            @java.lang.SuppressWarnings("all")
+            private String details;
+            @java.lang.SuppressWarnings("all")
+            private String state;
+            @java.lang.SuppressWarnings("all")
+            private ActivityEmoji emoji;
+            @java.lang.SuppressWarnings("all")
+            private ActivityParty party;
+            @java.lang.SuppressWarnings("all")
+            private ActivityAssets assets;
+            @java.lang.SuppressWarnings("all")
+            private ActivitySecrets secrets;
+            @java.lang.SuppressWarnings("all")
+            private boolean instance;
+            @java.lang.SuppressWarnings("all")
+            private Set<ActivityFlag> flags;
+
+            @java.lang.SuppressWarnings("all")
+            ActivityImplBuilder() {
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder name(final String name) {
+                this.name = name;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder type(final ActivityType type) {
+                this.type = type;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder url(final String url) {
+                this.url = url;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder timestamps(final ActivityTimestamps timestamps) {
+                this.timestamps = timestamps;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder applicationIdAsLong(final long applicationIdAsLong) {
+                this.applicationIdAsLong = applicationIdAsLong;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder details(final String details) {
+                this.details = details;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder state(final String state) {
+                this.state = state;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder emoji(final ActivityEmoji emoji) {
+                this.emoji = emoji;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder party(final ActivityParty party) {
+                this.party = party;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder assets(final ActivityAssets assets) {
+                this.assets = assets;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder secrets(final ActivitySecrets secrets) {
+                this.secrets = secrets;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder instance(final boolean instance) {
+                this.instance = instance;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImplBuilder flags(final Set<ActivityFlag> flags) {
+                this.flags = flags;
+                return this;
+            }
+
+            @java.lang.SuppressWarnings("all")
+            public ActivityImpl build() {
+                return new ActivityImpl(name, type, url, timestamps, applicationIdAsLong, details, state, emoji, party, assets, secrets, instance, flags);
+            }
+
+            @java.lang.Override
+            @java.lang.SuppressWarnings("all")
+            public java.lang.String toString() {
+                return "PresenceImpl.ActivityImpl.ActivityImplBuilder(name=" + this.name + ", type=" + this.type + ", url=" + this.url + ", timestamps=" + this.timestamps + ", applicationIdAsLong=" + this.applicationIdAsLong + ", details=" + this.details + ", state=" + this.state + ", emoji=" + this.emoji + ", party=" + this.party + ", assets=" + this.assets + ", secrets=" + this.secrets + ", instance=" + this.instance + ", flags=" + this.flags + ")";
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public static ActivityImplBuilder builder() {
+            return new ActivityImplBuilder();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String name() {
+            return this.name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityType type() {
+            return this.type;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String url() {
+            return this.url;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityTimestamps timestamps() {
+            return this.timestamps;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public long applicationIdAsLong() {
+            return this.applicationIdAsLong;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String details() {
+            return this.details;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String state() {
+            return this.state;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityEmoji emoji() {
+            return this.emoji;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityParty party() {
+            return this.party;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityAssets assets() {
+            return this.assets;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivitySecrets secrets() {
+            return this.secrets;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public boolean instance() {
+            return this.instance;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Set<ActivityFlag> flags() {
+            return this.flags;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl type(final ActivityType type) {
+            this.type = type;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl timestamps(final ActivityTimestamps timestamps) {
+            this.timestamps = timestamps;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl applicationIdAsLong(final long applicationIdAsLong) {
+            this.applicationIdAsLong = applicationIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl details(final String details) {
+            this.details = details;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl state(final String state) {
+            this.state = state;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl emoji(final ActivityEmoji emoji) {
+            this.emoji = emoji;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl party(final ActivityParty party) {
+            this.party = party;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl assets(final ActivityAssets assets) {
+            this.assets = assets;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl secrets(final ActivitySecrets secrets) {
+            this.secrets = secrets;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl instance(final boolean instance) {
+            this.instance = instance;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl flags(final Set<ActivityFlag> flags) {
+            this.flags = flags;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public ActivityImpl(final String name, final ActivityType type, final String url, final ActivityTimestamps timestamps, final long applicationIdAsLong, final String details, final String state, final ActivityEmoji emoji, final ActivityParty party, final ActivityAssets assets, final ActivitySecrets secrets, final boolean instance, final Set<ActivityFlag> flags) {
+            this.name = name;
+            this.type = type;
+            this.url = url;
+            this.timestamps = timestamps;
+            this.applicationIdAsLong = applicationIdAsLong;
+            this.details = details;
+            this.state = state;
+            this.emoji = emoji;
+            this.party = party;
+            this.assets = assets;
+            this.secrets = secrets;
+            this.instance = instance;
+            this.flags = flags;
+        }
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class PresenceImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus status;
+        @java.lang.SuppressWarnings("all")
+        private List<Activity> activities;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus mobileStatus;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus webStatus;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus desktopStatus;
+
+        @java.lang.SuppressWarnings("all")
+        PresenceImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder status(final OnlineStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder activities(final List<Activity> activities) {
+            this.activities = activities;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder mobileStatus(final OnlineStatus mobileStatus) {
+            this.mobileStatus = mobileStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder webStatus(final OnlineStatus webStatus) {
+            this.webStatus = webStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImplBuilder desktopStatus(final OnlineStatus desktopStatus) {
+            this.desktopStatus = desktopStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceImpl build() {
+            return new PresenceImpl(catnip, status, activities, mobileStatus, webStatus, desktopStatus);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "PresenceImpl.PresenceImplBuilder(catnip=" + this.catnip + ", status=" + this.status + ", activities=" + this.activities + ", mobileStatus=" + this.mobileStatus + ", webStatus=" + this.webStatus + ", desktopStatus=" + this.desktopStatus + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static PresenceImplBuilder builder() {
+        return new PresenceImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus status() {
+        return this.status;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<Activity> activities() {
+        return this.activities;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus mobileStatus() {
+        return this.mobileStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus webStatus() {
+        return this.webStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus desktopStatus() {
+        return this.desktopStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl status(final OnlineStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl activities(final List<Activity> activities) {
+        this.activities = activities;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl mobileStatus(final OnlineStatus mobileStatus) {
+        this.mobileStatus = mobileStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl webStatus(final OnlineStatus webStatus) {
+        this.webStatus = webStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl desktopStatus(final OnlineStatus desktopStatus) {
+        this.desktopStatus = desktopStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceImpl(final Catnip catnip, final OnlineStatus status, final List<Activity> activities, final OnlineStatus mobileStatus, final OnlineStatus webStatus, final OnlineStatus desktopStatus) {
+        this.catnip = catnip;
+        this.status = status;
+        this.activities = activities;
+        this.mobileStatus = mobileStatus;
+        this.webStatus = webStatus;
+        this.desktopStatus = desktopStatus;
+    }
+}
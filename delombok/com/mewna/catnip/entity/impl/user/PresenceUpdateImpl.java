@@ -0,0 +1,309 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.user;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
+import com.mewna.catnip.entity.user.PresenceUpdate;
+import lombok.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author natanbc
+ * @since 12/14/18
+ */
+public class PresenceUpdateImpl implements PresenceUpdate, RequiresCatnip, Timestamped {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private long guildIdAsLong;
+    private OnlineStatus status;
+    private List<Activity> activities;
+    private Set<String> roles;
+    private String nick;
+    private OnlineStatus mobileStatus;
+    private OnlineStatus webStatus;
+    private OnlineStatus desktopStatus;
+    private String premiumSince;
+
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime premiumSince() {
+        return parseTimestamp(premiumSince);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class PresenceUpdateImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus status;
+        @java.lang.SuppressWarnings("all")
+        private List<Activity> activities;
+        @java.lang.SuppressWarnings("all")
+        private Set<String> roles;
+        @java.lang.SuppressWarnings("all")
+        private String nick;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus mobileStatus;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus webStatus;
+        @java.lang.SuppressWarnings("all")
+        private OnlineStatus desktopStatus;
+        @java.lang.SuppressWarnings("all")
+        private String premiumSince;
+
+        @java.lang.SuppressWarnings("all")
+        PresenceUpdateImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder status(final OnlineStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder activities(final List<Activity> activities) {
+            this.activities = activities;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder roles(final Set<String> roles) {
+            this.roles = roles;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder nick(final String nick) {
+            this.nick = nick;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder mobileStatus(final OnlineStatus mobileStatus) {
+            this.mobileStatus = mobileStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder webStatus(final OnlineStatus webStatus) {
+            this.webStatus = webStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder desktopStatus(final OnlineStatus desktopStatus) {
+            this.desktopStatus = desktopStatus;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImplBuilder premiumSince(final String premiumSince) {
+            this.premiumSince = premiumSince;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PresenceUpdateImpl build() {
+            return new PresenceUpdateImpl(catnip, idAsLong, guildIdAsLong, status, activities, roles, nick, mobileStatus, webStatus, desktopStatus, premiumSince);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "PresenceUpdateImpl.PresenceUpdateImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", guildIdAsLong=" + this.guildIdAsLong + ", status=" + this.status + ", activities=" + this.activities + ", roles=" + this.roles + ", nick=" + this.nick + ", mobileStatus=" + this.mobileStatus + ", webStatus=" + this.webStatus + ", desktopStatus=" + this.desktopStatus + ", premiumSince=" + this.premiumSince + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static PresenceUpdateImplBuilder builder() {
+        return new PresenceUpdateImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus status() {
+        return this.status;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public List<Activity> activities() {
+        return this.activities;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<String> roles() {
+        return this.roles;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String nick() {
+        return this.nick;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus mobileStatus() {
+        return this.mobileStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus webStatus() {
+        return this.webStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public OnlineStatus desktopStatus() {
+        return this.desktopStatus;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl status(final OnlineStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl activities(final List<Activity> activities) {
+        this.activities = activities;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl roles(final Set<String> roles) {
+        this.roles = roles;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl nick(final String nick) {
+        this.nick = nick;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl mobileStatus(final OnlineStatus mobileStatus) {
+        this.mobileStatus = mobileStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl webStatus(final OnlineStatus webStatus) {
+        this.webStatus = webStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl desktopStatus(final OnlineStatus desktopStatus) {
+        this.desktopStatus = desktopStatus;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl premiumSince(final String premiumSince) {
+        this.premiumSince = premiumSince;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PresenceUpdateImpl(final Catnip catnip, final long idAsLong, final long guildIdAsLong, final OnlineStatus status, final List<Activity> activities, final Set<String> roles, final String nick, final OnlineStatus mobileStatus, final OnlineStatus webStatus, final OnlineStatus desktopStatus, final String premiumSince) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.guildIdAsLong = guildIdAsLong;
+        this.status = status;
+        this.activities = activities;
+        this.roles = roles;
+        this.nick = nick;
+        this.mobileStatus = mobileStatus;
+        this.webStatus = webStatus;
+        this.desktopStatus = desktopStatus;
+        this.premiumSince = premiumSince;
+    }
+}
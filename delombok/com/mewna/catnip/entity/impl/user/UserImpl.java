@@ -0,0 +1,284 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.user;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.user.UserFlag;
+import com.mewna.catnip.entity.util.ImageOptions;
+import com.mewna.catnip.entity.util.ImageType;
+import com.mewna.catnip.util.CDNFormat;
+import lombok.*;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author amy
+ * @since 9/1/18.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class UserImpl implements User, RequiresCatnip {
+    private transient Catnip catnip;
+    private long idAsLong;
+    private String username;
+    private String discriminator;
+    private String avatar;
+    private boolean bot;
+    private Set<UserFlag> publicFlags;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    @CheckReturnValue
+    public boolean animatedAvatar() {
+        return avatar != null && avatar.startsWith("a_");
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String defaultAvatarUrl() {
+        return CDNFormat.defaultAvatarUrl(discriminator);
+    }
+
+    @Nullable
+    @CheckReturnValue
+    public String avatarUrl(@Nonnull final ImageOptions options) {
+        return CDNFormat.avatarUrl(id(), avatar, options);
+    }
+
+    @Nullable
+    @CheckReturnValue
+    public String avatarUrl() {
+        return avatarUrl(defaultOptions());
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String effectiveAvatarUrl(@Nonnull final ImageOptions options) {
+        return avatar == null ? defaultAvatarUrl() : Objects.requireNonNull(avatarUrl(options), "Avatar url is null but avatar hash is present (??)");
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public String effectiveAvatarUrl() {
+        return effectiveAvatarUrl(defaultOptions());
+    }
+
+    private ImageOptions defaultOptions() {
+        return new ImageOptions().type(animatedAvatar() ? ImageType.GIF : null);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idAsLong);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof User && ((User) obj).idAsLong() == idAsLong;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("User (%s#%s)", username, discriminator);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class UserImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long idAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String username;
+        @java.lang.SuppressWarnings("all")
+        private String discriminator;
+        @java.lang.SuppressWarnings("all")
+        private String avatar;
+        @java.lang.SuppressWarnings("all")
+        private boolean bot;
+        @java.lang.SuppressWarnings("all")
+        private Set<UserFlag> publicFlags;
+
+        @java.lang.SuppressWarnings("all")
+        UserImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder idAsLong(final long idAsLong) {
+            this.idAsLong = idAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder username(final String username) {
+            this.username = username;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder discriminator(final String discriminator) {
+            this.discriminator = discriminator;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder avatar(final String avatar) {
+            this.avatar = avatar;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder bot(final boolean bot) {
+            this.bot = bot;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImplBuilder publicFlags(final Set<UserFlag> publicFlags) {
+            this.publicFlags = publicFlags;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public UserImpl build() {
+            return new UserImpl(catnip, idAsLong, username, discriminator, avatar, bot, publicFlags);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "UserImpl.UserImplBuilder(catnip=" + this.catnip + ", idAsLong=" + this.idAsLong + ", username=" + this.username + ", discriminator=" + this.discriminator + ", avatar=" + this.avatar + ", bot=" + this.bot + ", publicFlags=" + this.publicFlags + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static UserImplBuilder builder() {
+        return new UserImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long idAsLong() {
+        return this.idAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String username() {
+        return this.username;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String discriminator() {
+        return this.discriminator;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String avatar() {
+        return this.avatar;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean bot() {
+        return this.bot;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<UserFlag> publicFlags() {
+        return this.publicFlags;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl idAsLong(final long idAsLong) {
+        this.idAsLong = idAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl username(final String username) {
+        this.username = username;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl discriminator(final String discriminator) {
+        this.discriminator = discriminator;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl avatar(final String avatar) {
+        this.avatar = avatar;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl bot(final boolean bot) {
+        this.bot = bot;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl publicFlags(final Set<UserFlag> publicFlags) {
+        this.publicFlags = publicFlags;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public UserImpl(final Catnip catnip, final long idAsLong, final String username, final String discriminator, final String avatar, final boolean bot, final Set<UserFlag> publicFlags) {
+        this.catnip = catnip;
+        this.idAsLong = idAsLong;
+        this.username = username;
+        this.discriminator = discriminator;
+        this.avatar = avatar;
+        this.bot = bot;
+        this.publicFlags = publicFlags;
+    }
+}
@@ -0,0 +1,308 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.user;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.user.VoiceState;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 9/21/18.
+ */
+public class VoiceStateImpl implements VoiceState, RequiresCatnip {
+    private transient Catnip catnip;
+    private long guildIdAsLong;
+    private long channelIdAsLong;
+    private long userIdAsLong;
+    private String sessionId;
+    private boolean deaf;
+    private boolean mute;
+    private boolean selfDeaf;
+    private boolean selfMute;
+    private boolean suppress;
+    private boolean selfStream;
+
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("VoiceState (%s, %s - %s)", userIdAsLong, guildIdAsLong, channelIdAsLong);
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class VoiceStateImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private long guildIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long channelIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private long userIdAsLong;
+        @java.lang.SuppressWarnings("all")
+        private String sessionId;
+        @java.lang.SuppressWarnings("all")
+        private boolean deaf;
+        @java.lang.SuppressWarnings("all")
+        private boolean mute;
+        @java.lang.SuppressWarnings("all")
+        private boolean selfDeaf;
+        @java.lang.SuppressWarnings("all")
+        private boolean selfMute;
+        @java.lang.SuppressWarnings("all")
+        private boolean suppress;
+        @java.lang.SuppressWarnings("all")
+        private boolean selfStream;
+
+        @java.lang.SuppressWarnings("all")
+        VoiceStateImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder guildIdAsLong(final long guildIdAsLong) {
+            this.guildIdAsLong = guildIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder channelIdAsLong(final long channelIdAsLong) {
+            this.channelIdAsLong = channelIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder userIdAsLong(final long userIdAsLong) {
+            this.userIdAsLong = userIdAsLong;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder sessionId(final String sessionId) {
+            this.sessionId = sessionId;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder deaf(final boolean deaf) {
+            this.deaf = deaf;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder mute(final boolean mute) {
+            this.mute = mute;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder selfDeaf(final boolean selfDeaf) {
+            this.selfDeaf = selfDeaf;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder selfMute(final boolean selfMute) {
+            this.selfMute = selfMute;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder suppress(final boolean suppress) {
+            this.suppress = suppress;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImplBuilder selfStream(final boolean selfStream) {
+            this.selfStream = selfStream;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceStateImpl build() {
+            return new VoiceStateImpl(catnip, guildIdAsLong, channelIdAsLong, userIdAsLong, sessionId, deaf, mute, selfDeaf, selfMute, suppress, selfStream);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "VoiceStateImpl.VoiceStateImplBuilder(catnip=" + this.catnip + ", guildIdAsLong=" + this.guildIdAsLong + ", channelIdAsLong=" + this.channelIdAsLong + ", userIdAsLong=" + this.userIdAsLong + ", sessionId=" + this.sessionId + ", deaf=" + this.deaf + ", mute=" + this.mute + ", selfDeaf=" + this.selfDeaf + ", selfMute=" + this.selfMute + ", suppress=" + this.suppress + ", selfStream=" + this.selfStream + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static VoiceStateImplBuilder builder() {
+        return new VoiceStateImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long guildIdAsLong() {
+        return this.guildIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long channelIdAsLong() {
+        return this.channelIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long userIdAsLong() {
+        return this.userIdAsLong;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String sessionId() {
+        return this.sessionId;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean deaf() {
+        return this.deaf;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean mute() {
+        return this.mute;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean selfDeaf() {
+        return this.selfDeaf;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean selfMute() {
+        return this.selfMute;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean suppress() {
+        return this.suppress;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean selfStream() {
+        return this.selfStream;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl guildIdAsLong(final long guildIdAsLong) {
+        this.guildIdAsLong = guildIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl channelIdAsLong(final long channelIdAsLong) {
+        this.channelIdAsLong = channelIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl userIdAsLong(final long userIdAsLong) {
+        this.userIdAsLong = userIdAsLong;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl sessionId(final String sessionId) {
+        this.sessionId = sessionId;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl deaf(final boolean deaf) {
+        this.deaf = deaf;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl mute(final boolean mute) {
+        this.mute = mute;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl selfDeaf(final boolean selfDeaf) {
+        this.selfDeaf = selfDeaf;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl selfMute(final boolean selfMute) {
+        this.selfMute = selfMute;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl suppress(final boolean suppress) {
+        this.suppress = suppress;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl selfStream(final boolean selfStream) {
+        this.selfStream = selfStream;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceStateImpl(final Catnip catnip, final long guildIdAsLong, final long channelIdAsLong, final long userIdAsLong, final String sessionId, final boolean deaf, final boolean mute, final boolean selfDeaf, final boolean selfMute, final boolean suppress, final boolean selfStream) {
+        this.catnip = catnip;
+        this.guildIdAsLong = guildIdAsLong;
+        this.channelIdAsLong = channelIdAsLong;
+        this.userIdAsLong = userIdAsLong;
+        this.sessionId = sessionId;
+        this.deaf = deaf;
+        this.mute = mute;
+        this.selfDeaf = selfDeaf;
+        this.selfMute = selfMute;
+        this.suppress = suppress;
+        this.selfStream = selfStream;
+    }
+}
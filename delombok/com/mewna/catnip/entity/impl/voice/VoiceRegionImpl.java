@@ -0,0 +1,220 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.impl.voice;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.voice.VoiceRegion;
+import lombok.*;
+import javax.annotation.Nonnull;
+
+/**
+ * @author natanbc
+ * @since 9/14/18
+ */
+public class VoiceRegionImpl implements VoiceRegion, RequiresCatnip {
+    private transient Catnip catnip;
+    private String id;
+    private String name;
+    private boolean vip;
+    private boolean optimal;
+    private boolean deprecated;
+    private boolean custom;
+
+    @Override
+    public void catnip(@Nonnull final Catnip catnip) {
+        this.catnip = catnip;
+    }
+
+
+    @java.lang.SuppressWarnings("all")
+    public static class VoiceRegionImplBuilder {
+        @java.lang.SuppressWarnings("all")
+        private Catnip catnip;
+        @java.lang.SuppressWarnings("all")
+        private String id;
+        @java.lang.SuppressWarnings("all")
+        private String name;
+        @java.lang.SuppressWarnings("all")
+        private boolean vip;
+        @java.lang.SuppressWarnings("all")
+        private boolean optimal;
+        @java.lang.SuppressWarnings("all")
+        private boolean deprecated;
+        @java.lang.SuppressWarnings("all")
+        private boolean custom;
+
+        @java.lang.SuppressWarnings("all")
+        VoiceRegionImplBuilder() {
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder catnip(final Catnip catnip) {
+            this.catnip = catnip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder id(final String id) {
+            this.id = id;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder vip(final boolean vip) {
+            this.vip = vip;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder optimal(final boolean optimal) {
+            this.optimal = optimal;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder deprecated(final boolean deprecated) {
+            this.deprecated = deprecated;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImplBuilder custom(final boolean custom) {
+            this.custom = custom;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public VoiceRegionImpl build() {
+            return new VoiceRegionImpl(catnip, id, name, vip, optimal, deprecated, custom);
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "VoiceRegionImpl.VoiceRegionImplBuilder(catnip=" + this.catnip + ", id=" + this.id + ", name=" + this.name + ", vip=" + this.vip + ", optimal=" + this.optimal + ", deprecated=" + this.deprecated + ", custom=" + this.custom + ")";
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public static VoiceRegionImplBuilder builder() {
+        return new VoiceRegionImplBuilder();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Catnip catnip() {
+        return this.catnip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String id() {
+        return this.id;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String name() {
+        return this.name;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean vip() {
+        return this.vip;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean optimal() {
+        return this.optimal;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean deprecated() {
+        return this.deprecated;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean custom() {
+        return this.custom;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl id(final String id) {
+        this.id = id;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl vip(final boolean vip) {
+        this.vip = vip;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl optimal(final boolean optimal) {
+        this.optimal = optimal;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl deprecated(final boolean deprecated) {
+        this.deprecated = deprecated;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl custom(final boolean custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl() {
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public VoiceRegionImpl(final Catnip catnip, final String id, final String name, final boolean vip, final boolean optimal, final boolean deprecated, final boolean custom) {
+        this.catnip = catnip;
+        this.id = id;
+        this.name = name;
+        this.vip = vip;
+        this.optimal = optimal;
+        this.deprecated = deprecated;
+        this.custom = custom;
+    }
+}
@@ -0,0 +1,60 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.message;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 9/4/18.
+ */
+public enum MessageType {
+    DEFAULT(0), RECIPIENT_ADD(1), RECIPIENT_REMOVE(2), CALL(3), CHANNEL_NAME_CHANGE(4), CHANNEL_ICON_CHANGE(5), CHANNEL_PINNED_MESSAGE(6), GUILD_MEMBER_JOIN(7), USER_PREMIUM_GUILD_SUBSCRIPTION(8), USER_PREMIUM_GUILD_SUBSCRIPTION_TIER_1(9), USER_PREMIUM_GUILD_SUBSCRIPTION_TIER_2(10), USER_PREMIUM_GUILD_SUBSCRIPTION_TIER_3(11), CHANNEL_FOLLOW_ADD(12), GUILD_DISCOVERY_DISQUALIFIED(14), GUILD_DISCOVERY_REQUALIFIED(15), GUILD_DISCOVERY_GRACE_PERIOD_INITIAL_WARNING(16), GUILD_DISCOVERY_GRACE_PERIOD_FINAL_WARNING(17);
+    private final int id;
+
+    MessageType(final int id) {
+        this.id = id;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public static MessageType byId(final int id) {
+        for (final MessageType m : values()) {
+            if (m.id == id) {
+                return m;
+            }
+        }
+        throw new IllegalArgumentException("No such MessageType: " + id);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int getId() {
+        return this.id;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.entity.misc;
+
+import com.mewna.catnip.entity.Entity;
+import com.mewna.catnip.entity.guild.UnavailableGuild;
+import com.mewna.catnip.entity.user.User;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Fired when a shard logs in successfully.
+ *
+ * @author amy
+ * @since 10/4/18.
+ */
+public interface Ready extends Entity {
+    /**
+     * @return The websocket gateway version.
+     */
+    @Nonnegative
+    int version();
+    
+    /**
+     * @return The user who logged in.
+     */
+    @Nonnull
+    User user();
+    
+    /**
+     * @return The list of guild snowflakes for the guidls that this shard is
+     * in.
+     */
+    @Nonnull
+    Set<UnavailableGuild> guilds();
+    
+    /**
+     * @return The id of the shard that received this event.
+     */
+    @Nonnegative
+    int shardId();
+    
+    /**
+     * @return The total number of shards connected.
+     */
+    @Nonnegative
+    int shardCount();
+}
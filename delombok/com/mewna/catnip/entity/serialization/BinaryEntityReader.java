@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.entity.serialization;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads data written by a {@link BinaryEntityWriter}. Interned strings are
+ * resolved to the same {@link String} instance every time they're referenced.
+ */
+public final class BinaryEntityReader {
+    private final List<String> strings = new ArrayList<>();
+    private final byte[] data;
+    private final int limit;
+    private int position;
+    
+    public BinaryEntityReader(@Nonnull final byte[] data) {
+        this(data, 0, data.length);
+    }
+    
+    public BinaryEntityReader(@Nonnull final byte[] data, @Nonnegative final int offset, @Nonnegative final int length) {
+        this.data = data;
+        position = offset;
+        limit = offset + length;
+    }
+    
+    @CheckReturnValue
+    public int readByte() {
+        if(position >= limit) {
+            throw new IllegalStateException("Unexpected end of data at " + position);
+        }
+        return data[position++] & 0xFF;
+    }
+    
+    @CheckReturnValue
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+    
+    @CheckReturnValue
+    public long readVarLong() {
+        if(position < limit && data[position] >= 0) {
+            // Tags, lengths, flags and string references mostly fit in a byte
+            return data[position++];
+        }
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if(shift > 63) {
+                throw new IllegalStateException("Malformed varint at " + position);
+            }
+            b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while((b & 0x80) != 0);
+        return value;
+    }
+    
+    @CheckReturnValue
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+    
+    @CheckReturnValue
+    public long readSignedVarLong() {
+        final long raw = readVarLong();
+        return raw >>> 1 ^ -(raw & 1);
+    }
+    
+    @CheckReturnValue
+    public int readSignedVarInt() {
+        return (int) readSignedVarLong();
+    }
+    
+    @CheckReturnValue
+    public long readSnowflake() {
+        return readVarLong();
+    }
+    
+    @Nullable
+    @CheckReturnValue
+    public String readString() {
+        final long tag = readVarLong();
+        if(tag == 0) {
+            return null;
+        }
+        if(tag == 1) {
+            final int length = readVarInt();
+            if(length < 0 || position + length > limit) {
+                throw new IllegalStateException("Malformed string length " + length + " at " + position);
+            }
+            final String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            strings.add(value);
+            return value;
+        }
+        final long ref = tag - 2;
+        if(ref >= strings.size()) {
+            throw new IllegalStateException("Unknown string reference " + ref + " at " + position);
+        }
+        return strings.get((int) ref);
+    }
+    
+    /**
+     * @return Whether there's any data left to read.
+     */
+    @CheckReturnValue
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+}
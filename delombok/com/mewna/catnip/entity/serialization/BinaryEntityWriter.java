@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.entity.serialization;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable output buffer for {@link BinaryEntitySerializer}'s encoding.
+ * Integers are written as varints, and strings are interned: each distinct
+ * string is only written once per writer, with later occurrences written as a
+ * reference to the first. {@link #reset()} clears both the buffer and the
+ * string table, so that a writer can be reused for independently-decodable
+ * chunks of output.
+ * <p>
+ * Strings are encoded as UTF-8 straight into the buffer, and the string table
+ * is open-addressed, so that writing a string doesn't allocate.
+ */
+public final class BinaryEntityWriter {
+    private String[] stringKeys = new String[32];
+    private int[] stringIds = new int[32];
+    private int stringCount;
+    // Strings are copied into this before being encoded, as that's much
+    // cheaper than going through String#charAt for every char
+    private char[] chars = new char[64];
+    private byte[] buffer;
+    private int position;
+    
+    public BinaryEntityWriter() {
+        this(256);
+    }
+    
+    public BinaryEntityWriter(@Nonnegative final int initialCapacity) {
+        buffer = new byte[Math.max(16, initialCapacity)];
+    }
+    
+    public void writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+    
+    public void writeBoolean(final boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+    
+    /**
+     * Writes an unsigned varint. Snowflakes and other non-negative longs take
+     * between 1 and 9 bytes.
+     *
+     * @param value The value to write.
+     */
+    public void writeVarLong(long value) {
+        if((value & ~0x7FL) == 0) {
+            // Tags, lengths, flags and string references mostly fit in a byte
+            writeByte((int) value);
+            return;
+        }
+        ensureCapacity(10);
+        while((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    /**
+     * Writes a zigzag-encoded varint, so that small negative values stay
+     * small.
+     *
+     * @param value The value to write.
+     */
+    public void writeSignedVarLong(final long value) {
+        writeVarLong(value << 1 ^ value >> 63);
+    }
+    
+    public void writeSignedVarInt(final int value) {
+        writeSignedVarLong(value);
+    }
+    
+    public void writeSnowflake(final long snowflake) {
+        writeVarLong(snowflake);
+    }
+    
+    /**
+     * Writes a string, or a reference to it if it's already been written by
+     * this writer. {@code null} is supported.
+     *
+     * @param value The string to write.
+     */
+    public void writeString(@Nullable final String value) {
+        if(value == null) {
+            writeVarLong(0);
+            return;
+        }
+        final int ref = intern(value);
+        if(ref >= 0) {
+            writeVarLong(ref + 2L);
+            return;
+        }
+        writeVarLong(1);
+        writeUtf8(value);
+    }
+    
+    public void writeBytes(@Nonnull final byte[] bytes, @Nonnegative final int offset, @Nonnegative final int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+    
+    /**
+     * @return The number of bytes written since the last {@link #reset()}.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public int size() {
+        return position;
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+    
+    public void writeTo(@Nonnull final OutputStream out) throws IOException {
+        out.write(buffer, 0, position);
+    }
+    
+    /**
+     * Clears the written bytes and the string table.
+     */
+    public void reset() {
+        position = 0;
+        if(stringCount > 0) {
+            Arrays.fill(stringKeys, null);
+            stringCount = 0;
+        }
+    }
+    
+    /**
+     * @return The size of the buffer, ie. how many bytes can be written after
+     * a {@link #reset()} before it has to grow.
+     */
+    @Nonnegative
+    int capacity() {
+        return buffer.length;
+    }
+    
+    /**
+     * @return The id of the string if it's already in the string table, or
+     * {@code -1} if it was just added.
+     */
+    private int intern(final String value) {
+        final int hash = value.hashCode();
+        int mask = stringKeys.length - 1;
+        int slot = (hash ^ hash >>> 16) & mask;
+        String key;
+        while((key = stringKeys[slot]) != null) {
+            if(key.equals(value)) {
+                return stringIds[slot];
+            }
+            slot = slot + 1 & mask;
+        }
+        stringKeys[slot] = value;
+        stringIds[slot] = stringCount++;
+        // Kept at most half full, so that probes stay short
+        if(stringCount << 1 > stringKeys.length) {
+            final String[] keys = stringKeys;
+            final int[] ids = stringIds;
+            stringKeys = new String[keys.length << 1];
+            stringIds = new int[keys.length << 1];
+            mask = stringKeys.length - 1;
+            for(int i = 0; i < keys.length; i++) {
+                if(keys[i] != null) {
+                    final int keyHash = keys[i].hashCode();
+                    int newSlot = (keyHash ^ keyHash >>> 16) & mask;
+                    while(stringKeys[newSlot] != null) {
+                        newSlot = newSlot + 1 & mask;
+                    }
+                    stringKeys[newSlot] = keys[i];
+                    stringIds[newSlot] = ids[i];
+                }
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Writes the string's UTF-8 length and bytes. Unpaired surrogates are
+     * written as {@code ?}, as {@link String#getBytes(java.nio.charset.Charset)}
+     * does.
+     */
+    private void writeUtf8(final String value) {
+        final int length = value.length();
+        if(chars.length < length) {
+            chars = new char[Math.max(length, chars.length << 1)];
+        }
+        final char[] chars = this.chars;
+        value.getChars(0, length, chars, 0);
+        // Most strings are all ASCII, so their UTF-8 length is their length
+        int ascii = 0;
+        while(ascii < length && chars[ascii] < 0x80) {
+            ascii++;
+        }
+        final int utf8Length = ascii == length ? length : ascii + utf8Length(chars, ascii, length);
+        writeVarLong(utf8Length);
+        ensureCapacity(utf8Length);
+        final byte[] out = buffer;
+        int at = position;
+        for(int i = 0; i < ascii; i++) {
+            out[at++] = (byte) chars[i];
+        }
+        for(int i = ascii; i < length; i++) {
+            final char c = chars[i];
+            if(c < 0x80) {
+                out[at++] = (byte) c;
+            } else if(c < 0x800) {
+                out[at++] = (byte) (0xC0 | c >> 6);
+                out[at++] = (byte) (0x80 | c & 0x3F);
+            } else if(Character.isSurrogate(c)) {
+                if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars[i + 1])) {
+                    final int codePoint = Character.toCodePoint(c, chars[++i]);
+                    out[at++] = (byte) (0xF0 | codePoint >> 18);
+                    out[at++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    out[at++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[at++] = (byte) (0x80 | codePoint & 0x3F);
+                } else {
+                    out[at++] = '?';
+                }
+            } else {
+                out[at++] = (byte) (0xE0 | c >> 12);
+                out[at++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[at++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        position = at;
+    }
+    
+    private static int utf8Length(final char[] chars, final int from, final int to) {
+        int length = 0;
+        for(int i = from; i < to; i++) {
+            final char c = chars[i];
+            if(c < 0x80) {
+                length++;
+            } else if(c < 0x800) {
+                length += 2;
+            } else if(!Character.isSurrogate(c)) {
+                length += 3;
+            } else if(Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(chars[i + 1])) {
+                length += 4;
+                i++;
+            } else {
+                length++;
+            }
+        }
+        return length;
+    }
+    
+    private void ensureCapacity(final int bytes) {
+        if(position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + bytes));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.entity.user;
+
+import com.mewna.catnip.entity.Snowflake;
+import com.mewna.catnip.entity.guild.GuildEntity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * @author natanbc
+ * @since 12/14/18
+ */
+public interface PresenceUpdate extends Presence, GuildEntity, Snowflake {
+    /**
+     * @return Roles the user has.
+     */
+    @Nonnull
+    Set<String> roles();
+    
+    /**
+     * @return Nickname of the user.
+     */
+    @Nullable
+    String nick();
+    
+    /**
+     * @return Online status reported for the user's mobile device.
+     */
+    @Nullable
+    OnlineStatus mobileStatus();
+    
+    /**
+     * @return Online status reported for the user's web browser.
+     */
+    @Nullable
+    OnlineStatus webStatus();
+    
+    /**
+     * @return Online status reported for the user's desktop client.
+     */
+    @Nullable
+    OnlineStatus desktopStatus();
+    
+    /**
+     * @return When the user started boosting this server.
+     */
+    @Nullable
+    OffsetDateTime premiumSince();
+}
@@ -0,0 +1,97 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.entity.util;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * @author Julia Rogers
+ * @since 9/2/18
+ */
+public enum Permission {
+    CREATE_INSTANT_INVITE(1, true, "Create Instant Invite"), KICK_MEMBERS(2, false, "Kick Members"), BAN_MEMBERS(4, false, "Ban Members"), ADMINISTRATOR(8, false, "Administrator"), MANAGE_CHANNELS(16, true, "Manage Channels"), MANAGE_GUILD(32, false, "Manage Server"), ADD_REACTIONS(64, true, "Add Reactions"), VIEW_AUDIT_LOG(128, false, "View Audit Log"), PRIORITY_SPEAKER(256, true, "Priority Speaker"), STREAM(512, true, "Video"), VIEW_CHANNEL(1024, true, "Read Text Channels & See Voice Channels"), SEND_MESSAGES(2048, true, "Send Messages"), SEND_TTS_MESSAGES(4096, true, "Send TTS Messages"), MANAGE_MESSAGES(8192, true, "Manage Messages"), EMBED_LINKS(16384, true, "Embed Links"), ATTACH_FILES(32768, true, "Attach Files"), READ_MESSAGE_HISTORY(65536, true, "Read History"), MENTION_EVERYONE(131072, true, "Mention @everyone, @here and All Roles"), USE_EXTERNAL_EMOJIS(262144, true, "Use External Emojis"), VIEW_GUILD_INSIGHTS(524288, false, "View Server Insights"), CONNECT(1048576, true, "Connect"), SPEAK(2097152, true, "Speak"), MUTE_MEMBERS(4194304, true, "Mute Members"), DEAFEN_MEMBERS(8388608, true, "Deafen Members"), MOVE_MEMBERS(16777216, true, "Move Members"), USE_VAD(33554432, true, "Use Voice Activity"), CHANGE_NICKNAME(67108864, false, "Change Nickname"), MANAGE_NICKNAMES(134217728, false, "Manage Nicknames"), MANAGE_ROLES(268435456, true, "Manage Roles"), MANAGE_WEBHOOKS(536870912, true, "Manage Webhooks"), MANAGE_EMOJIS(1073741824, false, "Manage Emojis");
+    public static final long ALL = from(Permission.values());
+    public static final long NONE = 0;
+    private final int value;
+    private final boolean channel;
+    private final String permName;
+
+    Permission(final int value, final boolean channel, final String permName) {
+        this.value = value;
+        this.channel = channel;
+        this.permName = permName;
+    }
+
+    public static Set<Permission> toSet(final long asLong) {
+        final Set<Permission> perms = EnumSet.noneOf(Permission.class);
+        for (final Permission p : values()) {
+            if ((asLong & p.value) == p.value) {
+                perms.add(p);
+            }
+        }
+        return perms;
+    }
+
+    /* Static convenience methods */
+    public static long from(@Nonnull final Iterable<Permission> permissions) {
+        long result = 0;
+        for (final Permission permission : permissions) {
+            result |= permission.value;
+        }
+        return result;
+    }
+
+    public static long from(@Nonnull final Permission... permissions) {
+        long result = 0;
+        for (final Permission permission : permissions) {
+            result |= permission.value;
+        }
+        return result;
+    }
+
+    public boolean isPresent(final long permissions) {
+        return (permissions & value) == value;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public int value() {
+        return this.value;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean channel() {
+        return this.channel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String permName() {
+        return this.permName;
+    }
+}
@@ -0,0 +1,495 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.internal;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.cache.MemoryEntityCache;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl.ActivityImpl;
+import com.mewna.catnip.entity.misc.GatewayInfo;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.Activity;
+import com.mewna.catnip.entity.user.Presence.ActivityType;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.util.Permission;
+import com.mewna.catnip.extension.Extension;
+import com.mewna.catnip.extension.manager.DefaultExtensionManager;
+import com.mewna.catnip.extension.manager.ExtensionManager;
+import com.mewna.catnip.rest.Rest;
+import com.mewna.catnip.rest.requester.Requester;
+import com.mewna.catnip.shard.CatnipShardImpl;
+import com.mewna.catnip.shard.GatewayIntent;
+import com.mewna.catnip.shard.GatewayOp;
+import com.mewna.catnip.util.PermissionUtil;
+import io.reactivex.rxjava3.core.Single;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * @author amy
+ * @since 8/31/18.
+ */
+public class CatnipImpl implements Catnip {
+    private static final List<String> UNPATCHABLE_OPTIONS = List.of("token", "logExtensionOverrides", "validateToken");
+    private final String token;
+    private final boolean logExtensionOverrides;
+    private final boolean validateToken;
+    private final Rest rest = new Rest(this);
+    private final ExtensionManager extensionManager = new DefaultExtensionManager(this);
+    private final Set<String> unavailableGuilds = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<GatewayInfo> gatewayInfo = new AtomicReference<>(null);
+    private final Thread keepaliveThread;
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private boolean startedKeepalive;
+    // Only created once a shard needs it, unless the options set an executor
+    private ExecutorService gatewayParsePool;
+    private long clientIdAsLong;
+    private CatnipOptions options;
+
+    public CatnipImpl(@Nonnull final CatnipOptions options) {
+        sanityCheckOptions(options);
+        this.options = options;
+        token = options.token();
+        logExtensionOverrides = options.logExtensionOverrides();
+        validateToken = options.validateToken();
+        keepaliveThread = new Thread(() -> {
+            try {
+                latch.await();
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        // Just to be safe
+        keepaliveThread.setDaemon(false);
+        keepaliveThread.setName("catnip keepalive thread");
+        injectSelf();
+    }
+
+    private void sanityCheckOptions(@Nonnull final CatnipOptions options) {
+        if (options.largeThreshold() > 250 || options.largeThreshold() < 50) {
+            throw new IllegalArgumentException("Large threshold of " + options.largeThreshold() + " not between 50 and 250!");
+        }
+        if (options.highLatencyThreshold() < 0) {
+            throw new IllegalArgumentException("High latency threshold of " + options.highLatencyThreshold() + " not greater than zero!");
+        }
+        // Written this way round so that NaN fails too
+        if (!(options.restStacktraceSampleRate() >= 0 && options.restStacktraceSampleRate() <= 1)) {
+            throw new IllegalArgumentException("REST stacktrace sample rate of " + options.restStacktraceSampleRate() + " not between 0 and 1!");
+        }
+        if (options.highEventLatencyThreshold() < 0) {
+            throw new IllegalArgumentException("High event latency threshold of " + options.highEventLatencyThreshold() + " not greater than zero!");
+        }
+        if (options.maxOutstandingEvents() < 0) {
+            throw new IllegalArgumentException("Max outstanding events of " + options.maxOutstandingEvents() + " less than zero!");
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Catnip injectOptions(@Nonnull final Extension extension, @Nonnull final UnaryOperator<CatnipOptions> optionsPatcher) {
+        if (!extensionManager.matchingExtensions(extension.getClass()).isEmpty()) {
+            final CatnipOptions patchedOptions = optionsPatcher.apply((CatnipOptions) options.clone());
+            final Map<String, Pair<Object, Object>> diff = diff(patchedOptions);
+            if (!diff.isEmpty()) {
+                sanityCheckOptions(patchedOptions);
+                options = patchedOptions;
+                injectSelf();
+                if (logExtensionOverrides) {
+                    diff.forEach((name, patch) -> logAdapter().info("Extension {} updated {} from \"{}\" to \"{}\".", extension.name(), name, patch.getLeft(), patch.getRight()));
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("Extension with class " + extension.getClass().getName() + " isn\'t loaded, but tried to inject options!");
+        }
+        return this;
+    }
+
+    private Map<String, Pair<Object, Object>> diff(@Nonnull final CatnipOptions patch) {
+        final Map<String, Pair<Object, Object>> diff = new LinkedHashMap<>();
+        // Yeah this is ugly reflection bs, I know. But this allows it to
+        // automatically diff it without having to know about what every
+        // field is.
+        for (final Field field : patch.getClass().getDeclaredFields()) {
+            // Don't compare certain because there's no point; they only get
+            // checked / set once at startup and never again.
+            if (!UNPATCHABLE_OPTIONS.contains(field.getName())) {
+                try {
+                    field.setAccessible(true);
+                    final Object input = field.get(patch);
+                    final Object original = field.get(options);
+                    if (!Objects.equals(original, input)) {
+                        diff.put(field.getName(), ImmutablePair.of(original, input));
+                    }
+                } catch (final IllegalAccessException e) {
+                    logAdapter().error("Reflection did a \ud83d\udca9", e);
+                }
+            }
+        }
+        return diff;
+    }
+
+    // We don't expose this to the outside world because the ability to make
+    // raw requests is already exposed via #rest(). If someone REALLY needs
+    // this functionality, they can just get it by casting to CatnipImpl.
+    // The only reason I can think of to have this as a part of the public
+    // API is because someone wants to use undocumented routes -- in which case
+    // they shouldn't be doing that -- or if we haven't added a route yet, in
+    // which case they should be opening an issue so that we can get it added
+    // for everyone.
+    // TLDR, if you *really* need this then you know what you're doing, so you
+    // can live with casting instead of exposing it as part of the public API.
+    public Requester requester() {
+        return options.requester();
+    }
+
+    @Nonnull
+    @Override
+    public Catnip loadExtension(@Nonnull final Extension extension) {
+        extensionManager.loadExtension(extension);
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public User selfUser() {
+        return cache().selfUser();
+    }
+
+    @Override
+    public String clientId() {
+        return Long.toUnsignedString(clientIdAsLong());
+    }
+
+    @Override
+    public long clientIdAsLong() {
+        return clientIdAsLong;
+    }
+
+    @Override
+    public void shutdown() {
+        logAdapter().info("Shutting down!");
+        // Shards dispatch lifecycle events as they disconnect, so they have
+        // to go first
+        shardManager().shutdown();
+        dispatchManager().close();
+        shutdownGatewayParsePool();
+        writeCacheSnapshot();
+        extensionManager.shutdown();
+        // Will let the keepalive thread halt
+        latch.countDown();
+    }
+
+    /**
+     * @return The executor that this instance's shards handle gateway frames
+     * on. Unless {@link CatnipOptions#gatewayParseExecutor()} is set, this is
+     * a pool with a daemon thread per core that's owned by this instance, and
+     * shut down with it.
+     */
+    @Nonnull
+    public synchronized Executor gatewayParseExecutor() {
+        final Executor executor = options.gatewayParseExecutor();
+        if (executor != null) {
+            return executor;
+        }
+        if (gatewayParsePool == null) {
+            gatewayParsePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("catnip-gateway-parse-" + thread.getPoolIndex());
+                return thread;
+            }, null, true);
+        }
+        return gatewayParsePool;
+    }
+
+    private synchronized void shutdownGatewayParsePool() {
+        // Frames that are still queued are handled on the thread that queues
+        // the next one instead, see SerialExecutor
+        if (gatewayParsePool != null) {
+            gatewayParsePool.shutdown();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Set<String> unavailableGuilds() {
+        return Set.copyOf(unavailableGuilds);
+    }
+
+    public void markAvailable(final String id) {
+        unavailableGuilds.remove(id);
+    }
+
+    public void markUnavailable(final String id) {
+        unavailableGuilds.add(id);
+    }
+
+    @Override
+    public boolean isUnavailable(@Nonnull final String guildId) {
+        return unavailableGuilds.contains(guildId);
+    }
+
+    @Override
+    public void openVoiceConnection(@Nonnull final String guildId, @Nonnull final String channelId, final boolean selfMute, final boolean selfDeaf) {
+        PermissionUtil.checkPermissions(this, guildId, channelId, Permission.CONNECT);
+        shardManager().shard(shardIdFor(guildId)).queueVoiceStateUpdate(JsonObject.builder().value("guild_id", guildId).value("channel_id", channelId).value("self_mute", selfMute).value("self_deaf", selfDeaf).done());
+    }
+
+    @Override
+    public void closeVoiceConnection(@Nonnull final String guildId) {
+        shardManager().shard(shardIdFor(guildId)).queueVoiceStateUpdate(JsonObject.builder().value("guild_id", guildId).nul("channel_id").value("self_mute", false).value("self_deaf", false).done());
+    }
+
+    @Override
+    public void closeVoiceConnection(final long guildId) {
+        closeVoiceConnection(String.valueOf(guildId));
+    }
+
+    @Override
+    public void chunkMembers(@Nonnull final String guildId, @Nonnull final String query, @Nonnegative final int limit) {
+        shardManager().shard(shardIdFor(guildId)).queueSendToSocket(CatnipShardImpl.basePayload(GatewayOp.REQUEST_GUILD_MEMBERS, JsonObject.builder().value("guild_id", guildId).value("query", query).value("limit", limit).done()));
+    }
+
+    @Override
+    public Presence presence(@Nonnegative final int shardId) {
+        return shardManager().shard(shardId).presence();
+    }
+
+    @Override
+    public void presence(@Nonnull final Presence presence) {
+        int shardCount = shardManager().shardCount();
+        if (shardCount == 0) {
+            shardCount = 1;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            presence(presence, i);
+        }
+    }
+
+    @Override
+    public void presence(@Nonnull final Presence presence, @Nonnegative final int shardId) {
+        shardManager().shard(shardId).updatePresence((PresenceImpl) presence);
+    }
+
+    @Override
+    public void presence(@Nullable final OnlineStatus status, @Nullable final String game, @Nullable final ActivityType type, @Nullable final String url) {
+        final OnlineStatus stat;
+        if (status != null) {
+            stat = status;
+        } else {
+            final User self = selfUser();
+            if (self != null) {
+                final Presence presence = cache().presence(self.id());
+                stat = presence == null ? OnlineStatus.ONLINE : presence.status();
+            } else {
+                stat = OnlineStatus.ONLINE;
+            }
+        }
+        final Activity activity = game != null ? ActivityImpl.builder().name(game).type(type == null ? ActivityType.PLAYING : type).url(type == ActivityType.STREAMING ? url : null).build() : null;
+        presence(PresenceImpl.builder().catnip(this).status(stat).activities(activity != null ? List.of(activity) : List.of()).build());
+    }
+
+    @Nonnull
+    public Single<Catnip> setup() {
+        if (!startedKeepalive) {
+            startedKeepalive = true;
+            keepaliveThread.start();
+        }
+        if (validateToken) {
+            return 
+            //this is actually needed because generics are dumb
+            fetchGatewayInfo().map(gateway -> {
+                logAdapter().info("Token validated!");
+                parseClientId();
+                return (Catnip) this;
+            }).doOnError(e -> {
+                logAdapter().warn("Couldn\'t validate token!", e);
+                throw new RuntimeException(e);
+            });
+        } else {
+            if (!token.isEmpty()) {
+                try {
+                    parseClientId();
+                } catch (final IllegalArgumentException e) {
+                    final Exception wrapped = new RuntimeException("The provided token was invalid!", e);
+                    return Single.error(wrapped);
+                }
+            }
+            return Single.just(this);
+        }
+    }
+
+    private void injectSelf() {
+        // Inject catnip instance into dependent fields
+        dispatchManager().catnip(this);
+        shardManager().catnip(this);
+        eventBuffer().catnip(this);
+        cacheWorker().catnip(this);
+        options.requester().catnip(this);
+        taskScheduler().catnip(this);
+        final List<GatewayIntent> privilegedIntents = options.intents().stream().filter(GatewayIntent::privileged).collect(Collectors.toList());
+        if (!options.enableGuildSubscriptions() && options.intents().isEmpty()) {
+            logAdapter().warn("Guild subscriptions are disabled and no intents specified!");
+            logAdapter().warn("You probably want to use intents instead.");
+        }
+        if (!privilegedIntents.isEmpty() && options.logPrivilegedIntentWarning()) {
+            // TODO: Check application flags to make sure this is actually a
+            //  necessary log -- requires REST request.
+            logAdapter().warn("catnip is configured with the following privileged intents: {}", privilegedIntents);
+            logAdapter().warn("Please make sure your bot is whitelisted to use these intents!");
+        }
+    }
+
+    @Nonnull
+    public Catnip connect() {
+        loadCacheSnapshot();
+        shardManager().start();
+        return this;
+    }
+
+    private void loadCacheSnapshot() {
+        final Path path = options.cacheSnapshotPath();
+        if (path == null || !(cacheWorker() instanceof MemoryEntityCache) || !Files.exists(path)) {
+            return;
+        }
+        try {
+            ((MemoryEntityCache) cacheWorker()).loadSnapshot(path);
+        } catch (final IOException e) {
+            logAdapter().warn("Couldn\'t load cache snapshot {}, starting with an empty cache.", path, e);
+        }
+    }
+
+    private void writeCacheSnapshot() {
+        final Path path = options.cacheSnapshotPath();
+        if (path == null || !(cacheWorker() instanceof MemoryEntityCache)) {
+            return;
+        }
+        try {
+            ((MemoryEntityCache) cacheWorker()).writeSnapshot(path);
+        } catch (final IOException | RuntimeException e) {
+            logAdapter().error("Couldn\'t write cache snapshot {}.", path, e);
+        }
+    }
+
+    private int shardIdFor(@Nonnull final String guildId) {
+        final long idLong = Long.parseUnsignedLong(guildId);
+        return (int) ((idLong >>> 22) % shardManager().shardCount());
+    }
+
+    private void parseClientId() {
+        // bot tokens are comprised of 3 parts, each encoded in base 64 and joined by periods.
+        // the first part is the client id.
+        final String clientIdBase64 = token.split("\\.")[0];
+        final String clientId = new String(Base64.getDecoder().decode(clientIdBase64));
+        clientIdAsLong = Long.parseUnsignedLong(clientId);
+    }
+
+    @Nullable
+    @Override
+    public GatewayInfo gatewayInfo() {
+        return gatewayInfo.get();
+    }
+
+    @Nonnull
+    @Override
+    public Single<GatewayInfo> fetchGatewayInfo() {
+        return rest.user().getGatewayBot().map(g -> {
+            if (g.valid()) {
+                gatewayInfo.set(g);
+                return g;
+            } else {
+                throw new RuntimeException("Gateway info not valid! Is your token valid?");
+            }
+        }).doOnError(e -> {
+            throw new RuntimeException(e);
+        });
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String token() {
+        return this.token;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean logExtensionOverrides() {
+        return this.logExtensionOverrides;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean validateToken() {
+        return this.validateToken;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Rest rest() {
+        return this.rest;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public ExtensionManager extensionManager() {
+        return this.extensionManager;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Thread keepaliveThread() {
+        return this.keepaliveThread;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CountDownLatch latch() {
+        return this.latch;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean startedKeepalive() {
+        return this.startedKeepalive;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public CatnipOptions options() {
+        return this.options;
+    }
+}
@@ -0,0 +1,270 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+package com.mewna.catnip.rest;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+/**
+ * Adapted from https://stackoverflow.com/a/54675316
+ * Modified to fit the code standards of this project, to compact it, and add
+ * capabilities necessary to add compatibility. Files can be streamed into the
+ * body from disk, input streams, or buffers via {@link FileUpload}.
+ *
+ * @author kjp12
+ * @since 3/25/2019
+ */
+public class MultipartBodyPublisher {
+    private static final byte[] CRLF = {'\r', '\n'};
+    private final Collection<PartsSpecification> partsSpecificationList = new ArrayList<>();
+    private final String boundary = UUID.randomUUID().toString();
+
+    public BodyPublisher build() {
+        if (partsSpecificationList.isEmpty()) {
+            throw new IllegalStateException("Must have at least one part to build multipart message.");
+        }
+        addFinalBoundary();
+        return new PartsPublisher();
+    }
+
+    @ParametersAreNonnullByDefault
+    public MultipartBodyPublisher addPart(final String name, final String value) {
+        partsSpecificationList.add(new PartsSpecification(Type.STRING, name).value(value.getBytes(StandardCharsets.UTF_8)));
+        return this;
+    }
+
+    @ParametersAreNonnullByDefault
+    public MultipartBodyPublisher addPart(final String name, final String filename, final byte[] value) {
+        partsSpecificationList.add(new PartsSpecification(Type.FILE, name).filename(filename).value(value));
+        return this;
+    }
+
+    /**
+     * Adds a file part that is streamed into the body when the request is
+     * sent, rather than being held in memory.
+     */
+    @ParametersAreNonnullByDefault
+    public MultipartBodyPublisher addPart(final String name, final FileUpload upload) {
+        partsSpecificationList.add(new PartsSpecification(Type.FILE, name).filename(upload.name()).upload(upload));
+        return this;
+    }
+
+    private void addFinalBoundary() {
+        partsSpecificationList.add(new PartsSpecification(Type.FINAL_BOUNDARY, null));
+    }
+
+
+    public enum Type {
+        STRING, FILE, FINAL_BOUNDARY;
+    }
+
+
+    protected class PartsSpecification {
+        protected final Type type;
+        protected final String name;
+        protected byte[] value;
+        protected FileUpload upload;
+        protected String filename;
+
+        public String toString() {
+            if (type == Type.FINAL_BOUNDARY) {
+                return "--" + boundary + "--";
+            }
+            if (type == Type.FILE) {
+                return "--" + boundary + "\r\nContent-Disposition: file; name=" + name + "; filename=" + filename + ";\r\nContent-Type:application/octet-stream\r\n\r\n";
+            }
+            return "--" + boundary + "\r\nContent-Disposition: form-data; name=" + name + ";\r\nContent-Type: text/plain; charset=UTF-8\r\n\r\n";
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartsSpecification(final Type type, final String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartsSpecification value(final byte[] value) {
+            this.value = value;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartsSpecification upload(final FileUpload upload) {
+            this.upload = upload;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public PartsSpecification filename(final String filename) {
+            this.filename = filename;
+            return this;
+        }
+    }
+
+
+    /**
+     * Closes any file that's being streamed into the body once the request is
+     * cancelled or fails, since the HTTP client just stops reading the body
+     * then.
+     */
+    private final class PartsPublisher implements BodyPublisher {
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+            final PartsIterator iterator = new PartsIterator();
+            BodyPublishers.ofByteArrays(() -> iterator).subscribe(new Subscriber<>() {
+                @Override
+                public void onSubscribe(final Subscription subscription) {
+                    subscriber.onSubscribe(new Subscription() {
+                        @Override
+                        public void request(final long n) {
+                            subscription.request(n);
+                        }
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                            iterator.close();
+                        }
+                    });
+                }
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    subscriber.onNext(item);
+                }
+                @Override
+                public void onError(final Throwable throwable) {
+                    iterator.close();
+                    subscriber.onError(throwable);
+                }
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+
+
+    class PartsIterator implements Iterator<byte[]> {
+        private final Iterator<PartsSpecification> parts;
+        // Chunks of the current part, ie. its header, its value, and CRLF
+        private final Deque<Iterator<byte[]>> chunks = new ArrayDeque<>(3);
+        // The last file that was queued, so that it can be closed from
+        // another thread
+        private volatile LazyIterator upload;
+
+        PartsIterator() {
+            parts = partsSpecificationList.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (true) {
+                final Iterator<byte[]> current = chunks.peek();
+                if (current == null) {
+                    if (!parts.hasNext()) {
+                        return false;
+                    }
+                    computeNext();
+                } else if (current.hasNext()) {
+                    return true;
+                } else {
+                    chunks.poll();
+                }
+            }
+        }
+
+        @Override
+        public byte[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunks.peek().next();
+        }
+
+        /**
+         * Closes the file that's currently being read, if any. Files that
+         * haven't been opened yet never will be, as the body isn't read any
+         * further.
+         */
+        void close() {
+            final LazyIterator upload = this.upload;
+            if (upload != null) {
+                try {
+                    upload.close();
+                } catch (final UncheckedIOException ignored) {
+                }
+            }
+            // The request is already cancelled or failed, so there's
+            // no one left to tell
+        }
+
+        private void computeNext() {
+            final var part = parts.next();
+            chunks.add(List.of(part.toString().getBytes(StandardCharsets.UTF_8)).iterator());
+            if (part.type != Type.FINAL_BOUNDARY) {
+                // Streamed parts are only opened once the previous parts
+                // have been sent
+                if (part.upload != null) {
+                    upload = new LazyIterator(part.upload);
+                    chunks.add(upload);
+                } else {
+                    chunks.add(List.of(part.value).iterator());
+                }
+                chunks.add(List.of(CRLF).iterator());
+            }
+        }
+    }
+
+
+    private static final class LazyIterator implements Iterator<byte[]> {
+        private final FileUpload upload;
+        private FileUpload.Chunks chunks;
+        private boolean closed;
+
+        private LazyIterator(final FileUpload upload) {
+            this.upload = upload;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (chunks == null) {
+                chunks = upload.chunks();
+            }
+            return chunks.hasNext();
+        }
+
+        @Override
+        public synchronized byte[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunks.next();
+        }
+
+        private synchronized void close() {
+            closed = true;
+            if (chunks != null) {
+                chunks.close();
+            }
+        }
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String getBoundary() {
+        return this.boundary;
+    }
+}
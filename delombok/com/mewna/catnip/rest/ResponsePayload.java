@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.rest;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The body of a REST response. Bodies received from Discord are kept as the
+ * raw UTF-8 bytes of the response, and {@link #object()} and {@link #array()}
+ * parse straight from those bytes, so the body is never turned into a
+ * {@link String} unless something asks for {@link #string()}.
+ */
+public class ResponsePayload {
+    private final byte[] bytes;
+    private volatile String body;
+    
+    public ResponsePayload(final String body) {
+        bytes = null;
+        this.body = body;
+    }
+    
+    private ResponsePayload(@Nullable final byte[] bytes) {
+        this.bytes = bytes;
+    }
+    
+    /**
+     * @param bytes The raw UTF-8 bytes of the body.
+     *
+     * @return A payload that's only decoded into a string if something asks
+     * for {@link #string()}.
+     */
+    @Nonnull
+    public static ResponsePayload fromBytes(@Nullable final byte[] bytes) {
+        return new ResponsePayload(bytes);
+    }
+    
+    /**
+     * @return The body as a string. Decoded from the response bytes on the
+     * first call.
+     */
+    public String string() {
+        String string = body;
+        if(string == null && bytes != null) {
+            string = new String(bytes, StandardCharsets.UTF_8);
+            body = string;
+        }
+        return string;
+    }
+    
+    /**
+     * @return Whether the body is empty.
+     */
+    public boolean isEmpty() {
+        return bytes != null ? bytes.length == 0 : body == null || body.isEmpty();
+    }
+    
+    /**
+     * @return Whether the body looks like a JSON object, ie. whether it
+     * starts with an opening brace. Doesn't decode the body.
+     */
+    public boolean isObject() {
+        if(bytes != null) {
+            return bytes.length > 0 && bytes[0] == '{';
+        }
+        return body != null && body.startsWith("{");
+    }
+    
+    public JsonObject object() {
+        try {
+            if(bytes != null && body == null) {
+                return JsonParser.object().from(new ByteArrayInputStream(bytes));
+            }
+            return JsonParser.object().from(body);
+        } catch(final JsonParserException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    public JsonArray array() {
+        try {
+            if(bytes != null && body == null) {
+                return JsonParser.array().from(new ByteArrayInputStream(bytes));
+            }
+            return JsonParser.array().from(body);
+        } catch(final JsonParserException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest;
+
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.handler.*;
+
+/**
+ * @author amy
+ * @since 9/1/18.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class Rest {
+    private final RestChannel channel;
+    private final RestGuild guild;
+    private final RestUser user;
+    private final RestEmoji emoji;
+    private final RestInvite invite;
+    private final RestVoice voice;
+    private final RestWebhook webhook;
+    private final RestBulk bulk;
+
+    public Rest(final CatnipImpl catnip) {
+        channel = new RestChannel(catnip);
+        guild = new RestGuild(catnip);
+        user = new RestUser(catnip);
+        emoji = new RestEmoji(catnip);
+        invite = new RestInvite(catnip);
+        voice = new RestVoice(catnip);
+        webhook = new RestWebhook(catnip);
+        bulk = new RestBulk(catnip);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestChannel channel() {
+        return this.channel;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestGuild guild() {
+        return this.guild;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestUser user() {
+        return this.user;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestEmoji emoji() {
+        return this.emoji;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestInvite invite() {
+        return this.invite;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestVoice voice() {
+        return this.voice;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestWebhook webhook() {
+        return this.webhook;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public RestBulk bulk() {
+        return this.bulk;
+    }
+}
@@ -0,0 +1,370 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static com.mewna.catnip.rest.Routes.HttpMethod.*;
+
+/**
+ * @author amy
+ * @since 8/31/18.
+ */
+@SuppressWarnings({"StaticVariableOfConcreteClass", "WeakerAccess"})
+public final class Routes {
+    // @formatter:off
+    public static final Route GET_GATEWAY_BOT = new Route(GET, "/gateway/bot");
+    public static final Route DELETE_CHANNEL = new Route(DELETE, "/channels/:channel", "channel");
+    public static final Route GET_CHANNEL = new Route(GET, "/channels/:channel", "channel");
+    public static final Route MODIFY_CHANNEL = new Route(PATCH, "/channels/:channel", "channel");
+    public static final Route GET_CHANNEL_INVITES = new Route(GET, "/channels/:channel/invites", "channel");
+    public static final Route CREATE_CHANNEL_INVITE = new Route(POST, "/channels/:channel/invites", "channel");
+    public static final Route GET_CHANNEL_MESSAGES = new Route(GET, "/channels/:channel/messages", "channel");
+    public static final Route CREATE_MESSAGE = new Route(POST, "/channels/:channel/messages", "channel");
+    public static final Route BULK_DELETE_MESSAGES = new Route(POST, "/channels/:channel/messages/bulk-delete", "channel");
+    public static final Route DELETE_MESSAGE = new Route(DELETE, "/channels/:channel/messages/:message", "channel");
+    public static final Route GET_CHANNEL_MESSAGE = new Route(GET, "/channels/:channel/messages/:message", "channel");
+    public static final Route EDIT_MESSAGE = new Route(PATCH, "/channels/:channel/messages/:message", "channel");
+    public static final Route DELETE_ALL_REACTIONS = new Route(DELETE, "/channels/:channel/messages/:message/reactions", "channel");
+    public static final Route DELETE_EMOJI_REACTIONS = new Route(DELETE, "/channels/:channel/messages/:message/reactions/:emojis", "channel");
+    public static final Route GET_REACTIONS = new Route(GET, "/channels/:channel/messages/:message/reactions/:emojis", "channel");
+    public static final Route DELETE_OWN_REACTION = new Route(DELETE, "/channels/:channel/messages/:message/reactions/:emojis/@me", "channel");
+    public static final Route CREATE_REACTION = new Route(PUT, "/channels/:channel/messages/:message/reactions/:emojis/@me", "channel", true);
+    public static final Route DELETE_USER_REACTION = new Route(DELETE, "/channels/:channel/messages/:message/reactions/:emojis/:user", "channel");
+    public static final Route CROSSPOST_MESSAGE = new Route(POST, "/channels/:channel/messages/:message/crosspost");
+    public static final Route DELETE_CHANNEL_PERMISSION = new Route(DELETE, "/channels/:channel/permissions/:overwrite", "channel");
+    public static final Route EDIT_CHANNEL_PERMISSIONS = new Route(PUT, "/channels/:channel/permissions/:overwrite", "channel");
+    public static final Route GET_PINNED_MESSAGES = new Route(GET, "/channels/:channel/pins", "channel");
+    public static final Route DELETE_PINNED_CHANNEL_MESSAGE = new Route(DELETE, "/channels/:channel/pins/:message", "channel");
+    public static final Route ADD_PINNED_CHANNEL_MESSAGE = new Route(PUT, "/channels/:channel/pins/:message", "channel");
+    public static final Route TRIGGER_TYPING_INDICATOR = new Route(POST, "/channels/:channel/typing", "channel");
+    public static final Route GET_CHANNEL_WEBHOOKS = new Route(GET, "/channels/:channel/webhooks", "channel");
+    public static final Route CREATE_WEBHOOK = new Route(POST, "/channels/:channel/webhooks", "channel");
+    public static final Route CREATE_GUILD = new Route(POST, "/guilds");
+    public static final Route DELETE_GUILD = new Route(DELETE, "/guilds/:guild", "guild");
+    public static final Route GET_GUILD = new Route(GET, "/guilds/:guild", "guild");
+    public static final Route MODIFY_GUILD = new Route(PATCH, "/guilds/:guild", "guild");
+    public static final Route GET_GUILD_AUDIT_LOG = new Route(GET, "/guilds/:guild/audit-logs", "guild");
+    public static final Route GET_GUILD_BANS = new Route(GET, "/guilds/:guild/bans", "guild");
+    public static final Route GET_GUILD_BAN = new Route(GET, "/guilds/:guild/bans/:user", "guild");
+    public static final Route REMOVE_GUILD_BAN = new Route(DELETE, "/guilds/:guild/bans/:user", "guild");
+    public static final Route CREATE_GUILD_BAN = new Route(PUT, "/guilds/:guild/bans/:user", "guild");
+    public static final Route GET_GUILD_CHANNELS = new Route(GET, "/guilds/:guild/channels", "guild");
+    public static final Route MODIFY_GUILD_CHANNEL_POSITIONS = new Route(PATCH, "/guilds/:guild/channels", "guild");
+    public static final Route CREATE_GUILD_CHANNEL = new Route(POST, "/guilds/:guild/channels", "guild");
+    public static final Route GET_GUILD_EMBED = new Route(GET, "/guilds/:guild/embed", "guild");
+    public static final Route MODIFY_GUILD_EMBED = new Route(PATCH, "/guilds/:guild/embed", "guild");
+    public static final Route GET_GUILD_VANITY_URL = new Route(GET, "/guilds/:guild/vanity-url", "guild");
+    public static final Route LIST_GUILD_EMOJIS = new Route(GET, "/guilds/:guild/emojis", "guild");
+    public static final Route GET_GUILD_EMOJI = new Route(GET, "/guilds/:guild/emojis/:emojis", "guild");
+    public static final Route CREATE_GUILD_EMOJI = new Route(POST, "/guilds/:guild/emojis", "guild");
+    public static final Route MODIFY_GUILD_EMOJI = new Route(PATCH, "/guilds/:guild/emojis/:emojis", "guild");
+    public static final Route DELETE_GUILD_EMOJI = new Route(DELETE, "/guilds/:guild/emojis/:emojis", "guild");
+    public static final Route GET_GUILD_INTEGRATIONS = new Route(GET, "/guilds/:guild/integrations", "guild");
+    public static final Route CREATE_GUILD_INTEGRATION = new Route(POST, "/guilds/:guild/integrations", "guild");
+    public static final Route DELETE_GUILD_INTEGRATION = new Route(DELETE, "/guilds/:guild/integrations/:integration", "guild");
+    public static final Route MODIFY_GUILD_INTEGRATION = new Route(PATCH, "/guilds/:guild/integrations/:integration", "guild");
+    public static final Route SYNC_GUILD_INTEGRATION = new Route(POST, "/guilds/:guild/integrations/:integration/sync", "guild");
+    public static final Route GET_GUILD_INVITES = new Route(GET, "/guilds/:guild/invites", "guild");
+    public static final Route LIST_GUILD_MEMBERS = new Route(GET, "/guilds/:guild/members", "guild");
+    public static final Route MODIFY_CURRENT_USERS_NICK = new Route(PATCH, "/guilds/:guild/members/@me/nick", "guild");
+    public static final Route REMOVE_GUILD_MEMBER = new Route(DELETE, "/guilds/:guild/members/:user", "guild");
+    public static final Route GET_GUILD_MEMBER = new Route(GET, "/guilds/:guild/members/:user", "guild");
+    public static final Route MODIFY_GUILD_MEMBER = new Route(PATCH, "/guilds/:guild/members/:user", "guild");
+    public static final Route ADD_GUILD_MEMBER = new Route(PUT, "/guilds/:guild/members/:user", "guild");
+    public static final Route REMOVE_GUILD_MEMBER_ROLE = new Route(DELETE, "/guilds/:guild/members/:user/roles/:role", "guild");
+    public static final Route ADD_GUILD_MEMBER_ROLE = new Route(PUT, "/guilds/:guild/members/:user/roles/:role", "guild");
+    public static final Route GET_GUILD_PRUNE_COUNT = new Route(GET, "/guilds/:guild/prune", "guild");
+    public static final Route BEGIN_GUILD_PRUNE = new Route(POST, "/guilds/:guild/prune", "guild");
+    public static final Route GET_GUILD_VOICE_REGIONS = new Route(GET, "/guilds/:guild/regions", "guild");
+    public static final Route GET_GUILD_ROLES = new Route(GET, "/guilds/:guild/roles", "guild");
+    public static final Route MODIFY_GUILD_ROLE_POSITIONS = new Route(PATCH, "/guilds/:guild/roles", "guild");
+    public static final Route CREATE_GUILD_ROLE = new Route(POST, "/guilds/:guild/roles", "guild");
+    public static final Route DELETE_GUILD_ROLE = new Route(DELETE, "/guilds/:guild/roles/:role", "guild");
+    public static final Route MODIFY_GUILD_ROLE = new Route(PATCH, "/guilds/:guild/roles/:role", "guild");
+    public static final Route GET_GUILD_WEBHOOKS = new Route(GET, "/guilds/:guild/webhooks", "guild");
+    public static final Route GET_WEBHOOK = new Route(GET, "/webhooks/:webhook", "webhook");
+    public static final Route MODIFY_WEBHOOK = new Route(PATCH, "/webhooks/:webhook", "webhook");
+    public static final Route DELETE_WEBHOOK = new Route(DELETE, "/webhooks/:webhook", "webhook");
+    public static final Route GET_WEBHOOK_TOKEN = new Route(GET, "/webhooks/:webhook/:token", "webhook");
+    public static final Route EXECUTE_WEBHOOK = new Route(POST, "/webhooks/:webhook/:token", "webhook");
+    public static final Route DELETE_INVITE = new Route(DELETE, "/invites/:invite");
+    public static final Route GET_INVITE = new Route(GET, "/invites/:invite");
+    public static final Route ACCEPT_INVITE = new Route(POST, "/invites/:invite");
+    public static final Route GET_CURRENT_USER = new Route(GET, "/users/@me");
+    public static final Route MODIFY_CURRENT_USER = new Route(PATCH, "/users/@me");
+    public static final Route GET_USER_DMS = new Route(GET, "/users/@me/channels");
+    public static final Route CREATE_DM = new Route(POST, "/users/@me/channels");
+    public static final Route GET_CURRENT_USER_GUILDS = new Route(GET, "/users/@me/guilds");
+    public static final Route LEAVE_GUILD = new Route(DELETE, "/users/@me/guilds/:guild");
+    public static final Route GET_USER = new Route(GET, "/users/:user");
+    public static final Route GET_CURRENT_APPLICATION_INFORMATION = new Route(GET, "/oauth2/applications/@me");
+    public static final Route LIST_VOICE_REGIONS = new Route(GET, "/voice/regions");
+
+    // @formatter:on
+    private Routes() {
+    }
+
+
+    public enum HttpMethod {
+        OPTIONS, GET, HEAD, POST, PUT, DELETE, TRACE, CONNECT, PATCH, OTHER;
+    }
+
+
+    @SuppressWarnings({"WeakerAccess", "unused", "ClassWithTooManyConstructors"})
+    public static final class Route {
+        private HttpMethod method;
+        private String baseRoute;
+        private String majorParam;
+        private String ratelimitKey;
+        // Some routes, specifically reaction-create, require millisecond
+        // precision for correct operation. Rather than special-casing this
+        // with a String.contains() or similar, we can just mark individual
+        // routes as needed, and then the requester can just check
+        // Route#requiresMsPrecision()
+        private boolean requiresMsPrecision;
+        // The route in Routes that this route was derived from via ex.
+        // #withMajorParam or #compile. Used to apply per-route settings, as
+        // compiled routes don't compare equal to the route they came from.
+        private Route origin = this;
+        // baseRoute split into literals and param names, ie.
+        // ["/guilds/", "guild", "/members/", "user", ""], so that every param
+        // can be filled in with one pass. Parsed lazily, and passed on to
+        // derived routes where possible so it's only parsed once per route
+        // in Routes.
+        private volatile String[] template;
+
+        public Route() {
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute) {
+            this(method, baseRoute, null);
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute, final boolean requiresMsPrecision) {
+            this(method, baseRoute, null, requiresMsPrecision);
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute, @Nullable final String majorParam) {
+            this(method, baseRoute, majorParam, baseRoute);
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute, @Nullable final String majorParam, final boolean requiresMsPrecision) {
+            this(method, baseRoute, majorParam, baseRoute, requiresMsPrecision);
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute, @Nullable final String majorParam, @Nonnull final String ratelimitKey) {
+            this(method, baseRoute, majorParam, ratelimitKey, false);
+        }
+
+        public Route(@Nonnull final HttpMethod method, @Nonnull final String baseRoute, @Nullable final String majorParam, @Nonnull final String ratelimitKey, final boolean requiresMsPrecision) {
+            this.method = method;
+            this.baseRoute = baseRoute;
+            this.majorParam = majorParam;
+            this.ratelimitKey = ratelimitKey;
+            this.requiresMsPrecision = requiresMsPrecision;
+        }
+
+        @Nonnull
+        @CheckReturnValue
+        public Route withMajorParam(@Nonnull final String value) {
+            if (majorParam == null) {
+                throw new IllegalStateException("This route takes no major params!");
+            }
+            final String[] template = template();
+            // Fill in the major param, merging the literals around it
+            int slots = 0;
+            for (int i = 1; i < template.length; i += 2) {
+                if (!template[i].equals(majorParam)) {
+                    slots++;
+                }
+            }
+            final String[] compiled = new String[slots * 2 + 1];
+            final StringBuilder literal = new StringBuilder(template[0]);
+            int next = 0;
+            for (int i = 1; i < template.length; i += 2) {
+                if (template[i].equals(majorParam)) {
+                    literal.append(value);
+                } else {
+                    compiled[next++] = literal.toString();
+                    compiled[next++] = template[i];
+                    literal.setLength(0);
+                }
+                literal.append(template[i + 1]);
+            }
+            compiled[next] = literal.toString();
+            final String route = slots == 0 ? compiled[0] : toRoute(compiled);
+            final Route derived = derive(new Route(method, route, null, route, requiresMsPrecision));
+            derived.template = compiled;
+            return derived;
+        }
+
+        @Nonnull
+        @CheckReturnValue
+        public Route compile(@Nonnull final String param, @Nonnull final String value) {
+            if (param.equalsIgnoreCase(majorParam)) {
+                return this;
+            }
+            return derive(new Route(method, baseRoute.replace(':' + param, value), majorParam, ratelimitKey, requiresMsPrecision));
+        }
+
+        /**
+         * Fills in every param in one pass. Params that aren't in the map, as
+         * well as the major param, are left as-is.
+         *
+         * @param params The param values, keyed by param name.
+         *
+         * @return The compiled route.
+         */
+        @Nonnull
+        @CheckReturnValue
+        public Route compile(@Nonnull final Map<String, String> params) {
+            final String[] template = template();
+            if (params.isEmpty() || template.length == 1) {
+                return this;
+            }
+            final StringBuilder builder = new StringBuilder(baseRoute.length() + 20 * (template.length / 2));
+            builder.append(template[0]);
+            for (int i = 1; i < template.length; i += 2) {
+                final String param = template[i];
+                final String value = param.equalsIgnoreCase(majorParam) ? null : params.get(param);
+                if (value == null) {
+                    builder.append(':').append(param);
+                } else {
+                    builder.append(value);
+                }
+                builder.append(template[i + 1]);
+            }
+            return derive(new Route(method, builder.toString(), majorParam, ratelimitKey, requiresMsPrecision));
+        }
+
+        @Nonnull
+        @CheckReturnValue
+        public Route copy() {
+            final Route copy = derive(new Route(method, baseRoute, majorParam, ratelimitKey));
+            copy.template = template;
+            return copy;
+        }
+
+        public Route withQueryString(final String qs) {
+            return derive(new Route(method, baseRoute + qs, majorParam, ratelimitKey, requiresMsPrecision));
+        }
+
+        private Route derive(@Nonnull final Route route) {
+            route.origin = origin;
+            return route;
+        }
+
+        @Nonnull
+        private String[] template() {
+            String[] template = this.template;
+            if (template == null) {
+                final List<String> parts = new ArrayList<>();
+                int literalStart = 0;
+                int colon = baseRoute.indexOf(':');
+                while (colon != -1) {
+                    int end = colon + 1;
+                    while (end < baseRoute.length() && Character.isLetterOrDigit(baseRoute.charAt(end))) {
+                        end++;
+                    }
+                    if (end > colon + 1) {
+                        parts.add(baseRoute.substring(literalStart, colon));
+                        parts.add(baseRoute.substring(colon + 1, end));
+                        literalStart = end;
+                    }
+                    colon = baseRoute.indexOf(':', end);
+                }
+                parts.add(baseRoute.substring(literalStart));
+                template = parts.toArray(new String[0]);
+                this.template = template;
+            }
+            return template;
+        }
+
+        @Nonnull
+        private static String toRoute(@Nonnull final String[] template) {
+            final StringBuilder builder = new StringBuilder(template[0]);
+            for (int i = 1; i < template.length; i += 2) {
+                builder.append(':').append(template[i]).append(template[i + 1]);
+            }
+            return builder.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return baseRoute.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Route)) {
+                return false;
+            }
+            return baseRoute.equalsIgnoreCase(((Route) o).baseRoute);
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + baseRoute;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public HttpMethod method() {
+            return this.method;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String baseRoute() {
+            return this.baseRoute;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String majorParam() {
+            return this.majorParam;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String ratelimitKey() {
+            return this.ratelimitKey;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public boolean requiresMsPrecision() {
+            return this.requiresMsPrecision;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Route origin() {
+            return this.origin;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.bulk;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs the REST calls of a bulk operation one after another, reporting
+ * {@link BulkProgress} after each of them. Only one call is ever in flight,
+ * so a bulk operation never queues more than one request in a bucket at a
+ * time and the rate limiter paces it against the bucket's budget.
+ */
+public final class BulkOperation {
+    private BulkOperation() {
+    }
+    
+    /**
+     * @param batches The REST calls to make, in order.
+     *
+     * @return A flowable that makes the calls when subscribed to, emitting
+     * progress after each of them. Cancelling it stops the operation after
+     * the call in flight.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public static Flowable<BulkProgress> run(@Nonnull final List<Batch> batches) {
+        final int total = batches.stream().mapToInt(Batch::items).sum();
+        return Flowable.fromIterable(batches)
+                .concatMapSingle(batch -> batch.call().get()
+                        .toSingle(() -> (Outcome) progress -> progress.succeeded(batch.items()))
+                        .onErrorReturn(e -> progress -> progress.failed(batch.items(), e)))
+                .scan(BulkProgress.start(total), (progress, outcome) -> outcome.apply(progress))
+                .skip(1);
+    }
+    
+    /**
+     * A single REST call of a bulk operation.
+     */
+    public static final class Batch {
+        private final int items;
+        private final Supplier<Completable> call;
+        
+        /**
+         * @param items How many items the call covers.
+         * @param call  Makes the call. Invoked when it's the batch's turn.
+         */
+        public Batch(@Nonnegative final int items, @Nonnull final Supplier<Completable> call) {
+            this.items = items;
+            this.call = call;
+        }
+        
+        @Nonnegative
+        public int items() {
+            return items;
+        }
+        
+        @Nonnull
+        public Supplier<Completable> call() {
+            return call;
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Outcome {
+        BulkProgress apply(BulkProgress progress);
+    }
+}
@@ -0,0 +1,186 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.bulk;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Progress of a bulk REST operation, emitted after every REST call the
+ * operation makes. A failed call doesn't stop the operation; it's counted in
+ * {@link #failed()} and the error is kept as {@link #lastError()}.
+ */
+public final class BulkProgress {
+    /**
+     * How many items, ie. messages or members, the operation covers.
+     */
+    @Nonnegative
+    private final int total;
+    /**
+     * How many items were processed successfully so far.
+     */
+    @Nonnegative
+    private final int succeeded;
+    /**
+     * How many items failed so far.
+     */
+    @Nonnegative
+    private final int failed;
+    /**
+     * How many REST calls were made so far.
+     */
+    @Nonnegative
+    private final int requests;
+    /**
+     * The last error a REST call failed with, if any.
+     */
+    @Nullable
+    private final Throwable lastError;
+
+    @Nonnull
+    @CheckReturnValue
+    public static BulkProgress start(@Nonnegative final int total) {
+        return new BulkProgress(total, 0, 0, 0, null);
+    }
+
+    /**
+     * @return How many items were processed so far, whether they succeeded
+     * or not.
+     */
+    @Nonnegative
+    public int processed() {
+        return succeeded + failed;
+    }
+
+    /**
+     * @return Whether all items were processed.
+     */
+    public boolean done() {
+        return processed() >= total;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    BulkProgress succeeded(@Nonnegative final int items) {
+        return new BulkProgress(total, succeeded + items, failed, requests + 1, lastError);
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    BulkProgress failed(@Nonnegative final int items, @Nonnull final Throwable error) {
+        return new BulkProgress(total, succeeded, failed + items, requests + 1, error);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public BulkProgress(final int total, final int succeeded, final int failed, final int requests, @Nullable final Throwable lastError) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.requests = requests;
+        this.lastError = lastError;
+    }
+
+    /**
+     * How many items, ie. messages or members, the operation covers.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int total() {
+        return this.total;
+    }
+
+    /**
+     * How many items were processed successfully so far.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int succeeded() {
+        return this.succeeded;
+    }
+
+    /**
+     * How many items failed so far.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int failed() {
+        return this.failed;
+    }
+
+    /**
+     * How many REST calls were made so far.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int requests() {
+        return this.requests;
+    }
+
+    /**
+     * The last error a REST call failed with, if any.
+     */
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Throwable lastError() {
+        return this.lastError;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public boolean equals(final java.lang.Object o) {
+        if (o == this) return true;
+        if (!(o instanceof BulkProgress)) return false;
+        final BulkProgress other = (BulkProgress) o;
+        if (this.total() != other.total()) return false;
+        if (this.succeeded() != other.succeeded()) return false;
+        if (this.failed() != other.failed()) return false;
+        if (this.requests() != other.requests()) return false;
+        final java.lang.Object this$lastError = this.lastError();
+        final java.lang.Object other$lastError = other.lastError();
+        if (this$lastError == null ? other$lastError != null : !this$lastError.equals(other$lastError)) return false;
+        return true;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public int hashCode() {
+        final int PRIME = 59;
+        int result = 1;
+        result = result * PRIME + this.total();
+        result = result * PRIME + this.succeeded();
+        result = result * PRIME + this.failed();
+        result = result * PRIME + this.requests();
+        final java.lang.Object $lastError = this.lastError();
+        result = result * PRIME + ($lastError == null ? 43 : $lastError.hashCode());
+        return result;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public java.lang.String toString() {
+        return "BulkProgress(total=" + this.total() + ", succeeded=" + this.succeeded() + ", failed=" + this.failed() + ", requests=" + this.requests() + ", lastError=" + this.lastError() + ")";
+    }
+}
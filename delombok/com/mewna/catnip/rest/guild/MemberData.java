@@ -0,0 +1,202 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.guild;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.Role;
+import com.mewna.catnip.entity.user.VoiceState;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * @author SamOphis
+ * @since 10/18/2018
+ */
+@SuppressWarnings("unused")
+public class MemberData {
+    private Set<String> roles;
+    private String nickname;
+    private String channelId;
+    private Boolean mute;
+    private Boolean deaf;
+
+    private static String voiceChannel(@Nonnull final Member member) {
+        return Optional.ofNullable(member.catnip().cache().voiceState(member.guildId(), member.id())).map(VoiceState::channelId).orElse(null);
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public static MemberData of(@Nonnull final Member member) {
+        final String voiceChannel = voiceChannel(member);
+        return new MemberData().roles(member.roleIds()).deaf(voiceChannel != null ? member.deaf() : null).mute(voiceChannel != null ? member.mute() : null).nickname(member.nick()).channelId(voiceChannel);
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public Collection<String> roles() {
+        return List.copyOf(roles);
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    @SuppressWarnings("TypeMayBeWeakened")
+    public MemberData addRole(@Nonnull final Role role) {
+        if (roles == null) {
+            roles = new HashSet<>();
+        }
+        roles.add(role.id());
+        return this;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public MemberData addRole(@Nonnull final String roleId) {
+        if (roles == null) {
+            roles = new HashSet<>();
+        }
+        roles.add(roleId);
+        return this;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    @SuppressWarnings("TypeMayBeWeakened")
+    public MemberData removeRole(@Nonnull final Role role) {
+        if (roles != null) {
+            roles.remove(role.id());
+        }
+        return this;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public MemberData removeRole(@Nonnull final String roleId) {
+        if (roles != null) {
+            roles.remove(roleId);
+        }
+        return this;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    public JsonObject toJson() {
+        final JsonObject object = new JsonObject();
+        if (roles != null) {
+            final JsonArray array = new JsonArray();
+            array.addAll(roles);
+            object.put("roles", array);
+        }
+        if (nickname != null) {
+            object.put("nick", nickname);
+        }
+        if (mute != null) {
+            object.put("mute", mute);
+        }
+        if (deaf != null) {
+            object.put("deaf", deaf);
+        }
+        object.put("channel_id", channelId);
+        return object;
+    }
+
+    @CheckReturnValue
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public String nickname() {
+        return this.nickname;
+    }
+
+    @CheckReturnValue
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public String channelId() {
+        return this.channelId;
+    }
+
+    @CheckReturnValue
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Boolean mute() {
+        return this.mute;
+    }
+
+    @CheckReturnValue
+    @Nullable
+    @java.lang.SuppressWarnings("all")
+    public Boolean deaf() {
+        return this.deaf;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public MemberData roles(@Nonnull final Set<String> roles) {
+        this.roles = roles;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public MemberData nickname(@Nonnull final String nickname) {
+        this.nickname = nickname;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public MemberData mute(@Nonnull final Boolean mute) {
+        this.mute = mute;
+        return this;
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public MemberData deaf(@Nonnull final Boolean deaf) {
+        this.deaf = deaf;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public MemberData() {
+    }
+
+    @CheckReturnValue
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public MemberData channelId(@Nullable final String channelId) {
+        this.channelId = channelId;
+        return this;
+    }
+}
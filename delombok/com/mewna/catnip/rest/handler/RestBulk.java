@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.handler;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.bulk.BulkOperation;
+import com.mewna.catnip.rest.bulk.BulkOperation.Batch;
+import com.mewna.catnip.rest.bulk.BulkProgress;
+import com.mewna.catnip.rest.requester.RequestPriority;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.mewna.catnip.util.Utils.DISCORD_EPOCH;
+
+/**
+ * Bulk operations that would otherwise take thousands of calls by hand. Every
+ * operation is lazy: nothing is sent until the returned flowable is
+ * subscribed to. Calls are made one after another at
+ * {@link RequestPriority#BACKGROUND} priority, so other requests on the same
+ * bucket aren't held up behind them.
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class RestBulk extends RestHandler {
+    /**
+     * Discord only bulk deletes messages up to two weeks old. Messages this
+     * close to the limit are deleted one by one instead, in case they cross
+     * it before the request is sent.
+     */
+    public static final Duration BULK_DELETE_MAX_AGE = Duration.ofDays(14).minusMinutes(5);
+    public static final int BULK_DELETE_MAX_MESSAGES = 100;
+    
+    public RestBulk(final CatnipImpl catnip) {
+        super(catnip);
+    }
+    
+    /**
+     * Deletes the given messages, in batches of up to
+     * {@value #BULK_DELETE_MAX_MESSAGES} where they're young enough for
+     * {@link Routes#BULK_DELETE_MESSAGES} and one by one otherwise.
+     *
+     * @param channelId  The channel to delete messages in.
+     * @param messageIds The messages to delete. Duplicates are ignored.
+     * @param reason     The audit log reason, if any.
+     *
+     * @return Progress after every REST call.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> deleteMessages(@Nonnull final String channelId,
+                                                 @Nonnull final Collection<String> messageIds,
+                                                 @Nullable final String reason) {
+        return Flowable.defer(() -> {
+            final long cutoff = System.currentTimeMillis() - BULK_DELETE_MAX_AGE.toMillis();
+            final List<String> young = new ArrayList<>();
+            final List<String> old = new ArrayList<>();
+            for(final String id : new LinkedHashSet<>(messageIds)) {
+                if((Long.parseUnsignedLong(id) >>> 22) + DISCORD_EPOCH > cutoff) {
+                    young.add(id);
+                } else {
+                    old.add(id);
+                }
+            }
+            final List<Batch> batches = new ArrayList<>();
+            for(int i = 0; i < young.size(); i += BULK_DELETE_MAX_MESSAGES) {
+                final List<String> chunk = young.subList(i, Math.min(i + BULK_DELETE_MAX_MESSAGES, young.size()));
+                if(chunk.size() == 1) {
+                    // Bulk deletes need at least two messages
+                    old.add(chunk.get(0));
+                } else {
+                    final JsonObject body = JsonObject.builder().value("messages", new JsonArray(chunk)).done();
+                    batches.add(new Batch(chunk.size(), () -> send(new OutboundRequest(
+                            Routes.BULK_DELETE_MESSAGES.withMajorParam(channelId), Map.of(), body, reason))));
+                }
+            }
+            for(final String id : old) {
+                batches.add(new Batch(1, () -> send(new OutboundRequest(
+                        Routes.DELETE_MESSAGE.withMajorParam(channelId), Map.of("message", id)).reason(reason))));
+            }
+            return BulkOperation.run(batches);
+        });
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> deleteMessages(@Nonnull final String channelId,
+                                                 @Nonnull final Collection<String> messageIds) {
+        return deleteMessages(channelId, messageIds, null);
+    }
+    
+    /**
+     * Adds a role to each of the given members, one call per member.
+     *
+     * @param guildId The guild the members are in.
+     * @param roleId  The role to add.
+     * @param userIds The members to add the role to. Duplicates are ignored.
+     * @param reason  The audit log reason, if any.
+     *
+     * @return Progress after every REST call.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> addGuildMemberRole(@Nonnull final String guildId, @Nonnull final String roleId,
+                                                     @Nonnull final Collection<String> userIds,
+                                                     @Nullable final String reason) {
+        return memberRoleChange(Routes.ADD_GUILD_MEMBER_ROLE, guildId, roleId, userIds, reason);
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> addGuildMemberRole(@Nonnull final String guildId, @Nonnull final String roleId,
+                                                     @Nonnull final Collection<String> userIds) {
+        return addGuildMemberRole(guildId, roleId, userIds, null);
+    }
+    
+    /**
+     * Removes a role from each of the given members, one call per member.
+     *
+     * @param guildId The guild the members are in.
+     * @param roleId  The role to remove.
+     * @param userIds The members to remove the role from. Duplicates are
+     *                ignored.
+     * @param reason  The audit log reason, if any.
+     *
+     * @return Progress after every REST call.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> removeGuildMemberRole(@Nonnull final String guildId, @Nonnull final String roleId,
+                                                        @Nonnull final Collection<String> userIds,
+                                                        @Nullable final String reason) {
+        return memberRoleChange(Routes.REMOVE_GUILD_MEMBER_ROLE, guildId, roleId, userIds, reason);
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<BulkProgress> removeGuildMemberRole(@Nonnull final String guildId, @Nonnull final String roleId,
+                                                        @Nonnull final Collection<String> userIds) {
+        return removeGuildMemberRole(guildId, roleId, userIds, null);
+    }
+    
+    private Flowable<BulkProgress> memberRoleChange(final Route route, final String guildId, final String roleId,
+                                                    final Collection<String> userIds, final String reason) {
+        return Flowable.defer(() -> {
+            final List<Batch> batches = new ArrayList<>();
+            for(final String userId : new LinkedHashSet<>(userIds)) {
+                batches.add(new Batch(1, () -> send(new OutboundRequest(route.withMajorParam(guildId),
+                        Map.of("user", userId, "role", roleId)).reason(reason).emptyBody(true))));
+            }
+            return BulkOperation.run(batches);
+        });
+    }
+    
+    private Completable send(final OutboundRequest request) {
+        return catnip().requester().queue(request.priority(RequestPriority.BACKGROUND)).ignoreElements();
+    }
+}
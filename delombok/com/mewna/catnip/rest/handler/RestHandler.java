@@ -0,0 +1,61 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.handler;
+
+import com.mewna.catnip.entity.impl.EntityBuilder;
+import com.mewna.catnip.internal.CatnipImpl;
+import javax.annotation.Nullable;
+
+/**
+ * @author amy
+ * @since 9/3/18.
+ */
+abstract class RestHandler {
+    private final EntityBuilder entityBuilder;
+    private final CatnipImpl catnip;
+
+    RestHandler(final CatnipImpl catnip) {
+        this.catnip = catnip;
+        entityBuilder = new EntityBuilder(catnip);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T uncheckedCast(@Nullable final Object object) {
+        return (T) object;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    protected EntityBuilder entityBuilder() {
+        return this.entityBuilder;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    protected CatnipImpl catnip() {
+        return this.catnip;
+    }
+}
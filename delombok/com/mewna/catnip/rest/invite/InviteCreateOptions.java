@@ -0,0 +1,119 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.invite;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.util.JsonConvertible;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * Options for the creation of invites.
+ */
+public class InviteCreateOptions implements JsonConvertible {
+    /**
+     * How old the invite can be before it expires.
+     */
+    private int maxAge;
+    /**
+     * How many times the invite can be used
+     */
+    private int maxUses;
+    private boolean temporary;
+    private boolean unique;
+
+    @Nonnull
+    @CheckReturnValue
+    public static InviteCreateOptions create() {
+        return new InviteCreateOptions();
+    }
+
+    @Nonnull
+    @Override
+    public JsonObject toJson() {
+        return JsonObject.builder().value("max_age", maxAge).value("max_uses", maxUses).value("temporary", temporary).value("unique", unique).done();
+    }
+
+    /**
+     * How old the invite can be before it expires.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int maxAge() {
+        return this.maxAge;
+    }
+
+    /**
+     * How many times the invite can be used
+     */
+    @java.lang.SuppressWarnings("all")
+    public int maxUses() {
+        return this.maxUses;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean temporary() {
+        return this.temporary;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public boolean unique() {
+        return this.unique;
+    }
+
+    /**
+     * How old the invite can be before it expires.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public InviteCreateOptions maxAge(final int maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    /**
+     * How many times the invite can be used
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public InviteCreateOptions maxUses(final int maxUses) {
+        this.maxUses = maxUses;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteCreateOptions temporary(final boolean temporary) {
+        this.temporary = temporary;
+        return this;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public InviteCreateOptions unique(final boolean unique) {
+        this.unique = unique;
+        return this;
+    }
+}
@@ -0,0 +1,315 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes.HttpMethod;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default {@link RetryPolicy}. Retries transient failures with
+ * exponential backoff and full jitter, ie. the n-th retry waits a random time
+ * between {@code 0} and {@code min(maxDelay, baseDelay * 2^(n - 1))}, so that
+ * many clients failing at once don't all retry at the same time.
+ * <p>
+ * Idempotent requests ({@code GET}, {@code PUT}, {@code DELETE}, ...) are
+ * retried on I/O errors, timeouts and {@code 5xx} responses. Other requests
+ * ({@code POST}, {@code PATCH}) may already have been applied when those
+ * happen, so by default they're only retried if the connection couldn't be
+ * established at all.
+ * <p>
+ * Retries are limited by a budget, so that an outage doesn't multiply the
+ * load it causes. Every queued request adds {@link #budgetRatio()} retries to
+ * the budget, and {@link #minRetriesPerSecond()} more are added every second,
+ * up to {@link #maxBudget()}. Once the budget is used up, failed requests
+ * aren't retried until it's refilled.
+ */
+@SuppressWarnings("unused")
+public class DefaultRetryPolicy implements RetryPolicy {
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE);
+    /**
+     * How many times a request is retried at most. Defaults to {@code 3}.
+     */
+    @Nonnegative
+    private int maxRetries = 3;
+    /**
+     * The cap on the first retry's delay, in milliseconds. Doubled for each
+     * further retry. Defaults to {@code 500}.
+     */
+    @Nonnegative
+    private long baseDelay = 500L;
+    /**
+     * The cap on any retry's delay, in milliseconds. Defaults to
+     * {@code 30000}.
+     */
+    @Nonnegative
+    private long maxDelay = 30000L;
+    /**
+     * Whether non-idempotent requests are retried on the same failures as
+     * idempotent ones. Defaults to {@code false}.
+     */
+    private boolean retryNonIdempotent;
+    /**
+     * How many retries each queued request adds to the budget. Defaults to
+     * {@code 0.2}, ie. at most one retry per five requests, on top of
+     * {@link #minRetriesPerSecond()}.
+     */
+    @Nonnegative
+    private double budgetRatio = 0.2;
+    /**
+     * How many retries are added to the budget every second, so that
+     * processes sending few requests can still retry. Defaults to {@code 5}.
+     */
+    @Nonnegative
+    private double minRetriesPerSecond = 5.0;
+    /**
+     * The most retries the budget holds. Defaults to {@code 100}.
+     */
+    @Nonnegative
+    private double maxBudget = 100.0;
+    private final LongAdder budgetExhausted = new LongAdder();
+    private double budget = minRetriesPerSecond;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * @return How many retries are currently left in the budget.
+     */
+    @Nonnegative
+    public synchronized double budget() {
+        refill();
+        return budget;
+    }
+
+    /**
+     * @return How many retries were denied because the budget was used up.
+     */
+    @Nonnegative
+    public long budgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    @Override
+    public synchronized void requestQueued(@Nonnull final OutboundRequest request) {
+        refill();
+        budget = Math.min(maxBudget, budget + budgetRatio);
+    }
+
+    @Override
+    public long retryDelay(@Nonnull final Route route, @Nonnull final OutboundRequest request, @Nonnegative final int attempt, @Nullable final Throwable failure, final int statusCode) {
+        if (attempt > maxRetries || !isRetryable(route.method(), failure, statusCode)) {
+            return NO_RETRY;
+        }
+        if (!withdraw()) {
+            budgetExhausted.increment();
+            return NO_RETRY;
+        }
+        // Full jitter, see https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/
+        final long cap = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    protected boolean isRetryable(@Nonnull final HttpMethod method, @Nullable final Throwable failure, final int statusCode) {
+        final boolean idempotent = retryNonIdempotent || IDEMPOTENT_METHODS.contains(method);
+        if (failure == null) {
+            return idempotent && statusCode >= 500;
+        }
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+            // Nothing was sent, so this is always safe to retry
+            return true;
+        }
+        return idempotent && cause instanceof IOException;
+    }
+
+    private synchronized boolean withdraw() {
+        refill();
+        if (budget >= 1.0) {
+            budget -= 1.0;
+            return true;
+        }
+        return false;
+    }
+
+    private void refill() {
+        final long now = System.nanoTime();
+        budget = Math.min(maxBudget, budget + minRetriesPerSecond * (now - lastRefill) / 1.0E9);
+        lastRefill = now;
+    }
+
+    /**
+     * How many times a request is retried at most. Defaults to {@code 3}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public int maxRetries() {
+        return this.maxRetries;
+    }
+
+    /**
+     * The cap on the first retry's delay, in milliseconds. Doubled for each
+     * further retry. Defaults to {@code 500}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public long baseDelay() {
+        return this.baseDelay;
+    }
+
+    /**
+     * The cap on any retry's delay, in milliseconds. Defaults to
+     * {@code 30000}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public long maxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Whether non-idempotent requests are retried on the same failures as
+     * idempotent ones. Defaults to {@code false}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public boolean retryNonIdempotent() {
+        return this.retryNonIdempotent;
+    }
+
+    /**
+     * How many retries each queued request adds to the budget. Defaults to
+     * {@code 0.2}, ie. at most one retry per five requests, on top of
+     * {@link #minRetriesPerSecond()}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public double budgetRatio() {
+        return this.budgetRatio;
+    }
+
+    /**
+     * How many retries are added to the budget every second, so that
+     * processes sending few requests can still retry. Defaults to {@code 5}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public double minRetriesPerSecond() {
+        return this.minRetriesPerSecond;
+    }
+
+    /**
+     * The most retries the budget holds. Defaults to {@code 100}.
+     */
+    @java.lang.SuppressWarnings("all")
+    public double maxBudget() {
+        return this.maxBudget;
+    }
+
+    /**
+     * How many times a request is retried at most. Defaults to {@code 3}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy maxRetries(final int maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * The cap on the first retry's delay, in milliseconds. Doubled for each
+     * further retry. Defaults to {@code 500}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy baseDelay(final long baseDelay) {
+        this.baseDelay = baseDelay;
+        return this;
+    }
+
+    /**
+     * The cap on any retry's delay, in milliseconds. Defaults to
+     * {@code 30000}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy maxDelay(final long maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Whether non-idempotent requests are retried on the same failures as
+     * idempotent ones. Defaults to {@code false}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy retryNonIdempotent(final boolean retryNonIdempotent) {
+        this.retryNonIdempotent = retryNonIdempotent;
+        return this;
+    }
+
+    /**
+     * How many retries each queued request adds to the budget. Defaults to
+     * {@code 0.2}, ie. at most one retry per five requests, on top of
+     * {@link #minRetriesPerSecond()}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy budgetRatio(final double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+        return this;
+    }
+
+    /**
+     * How many retries are added to the budget every second, so that
+     * processes sending few requests can still retry. Defaults to {@code 5}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy minRetriesPerSecond(final double minRetriesPerSecond) {
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        return this;
+    }
+
+    /**
+     * The most retries the budget holds. Defaults to {@code 100}.
+     * @return this
+     */
+    @java.lang.SuppressWarnings("all")
+    public DefaultRetryPolicy maxBudget(final double maxBudget) {
+        this.maxBudget = maxBudget;
+        return this;
+    }
+}
@@ -0,0 +1,272 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  1. Redistributions of source code must retain the above copyright notice, this
+ *     list of conditions and the following disclaimer.
+ *  2. Redistributions in binary form must reproduce the above copyright notice,
+ *     this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *  3. Neither the name of the copyright holder nor the names of its contributors
+ *     may be used to endorse or promote products derived from this software without
+ *     specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.rest.requester;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.rest.FileUpload;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes.Route;
+import io.reactivex.rxjava3.core.Observable;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A REST requester. The requester is responsible for queuing up new requests,
+ * and executing them at some point in the future. Once the request has been
+ * executed, the observable can then start emitting the response.
+ */
+public interface Requester {
+    String REASON_HEADER = "X-Audit-Log-Reason";
+
+    void catnip(@Nonnull Catnip catnip);
+
+    /**
+     * Queues a new request to be executed.
+     * @param r The request to execute.
+     * @return An {@link Observable} that emits when the request has completed.
+     */
+    @Nonnull
+    @CheckReturnValue
+    Observable<ResponsePayload> queue(@Nonnull OutboundRequest r);
+
+
+    /**
+     * POJO that represents an outbound request to Discord's REST API.
+     */
+    @SuppressWarnings("unused")
+    final class OutboundRequest {
+        private final Route route;
+        private final Map<String, String> params;
+        private JsonObject object;
+        private JsonArray array;
+        private boolean needsToken = true;
+        private String reason;
+        private List<ImmutablePair<String, byte[]>> buffers;
+        /**
+         * Files that are streamed into the request body when it's sent. Sent
+         * after any {@link #buffers()}.
+         */
+        private List<FileUpload> uploads;
+        private boolean emptyBody;
+        /**
+         * The lane this request is queued in within its bucket. Defaults to
+         * {@link RequestPriority#NORMAL}.
+         */
+        @Nonnull
+        private RequestPriority priority = RequestPriority.NORMAL;
+        /**
+         * When this request has to be sent by. Requests that are still queued
+         * in their bucket, or waiting for a ratelimit, at that point fail
+         * with a {@link java.util.concurrent.TimeoutException} instead of
+         * being sent. Defaults to {@code null}, ie. no deadline.
+         */
+        @Nullable
+        private Instant deadline;
+
+        public OutboundRequest(final Route route, final Map<String, String> params) {
+            this.route = route;
+            this.params = params;
+        }
+
+        public OutboundRequest(final Route route, final Map<String, String> params, final JsonObject object) {
+            this(route, params);
+            this.object = object;
+        }
+
+        public OutboundRequest(final Route route, final Map<String, String> params, final JsonObject object, final String reason) {
+            this(route, params, object);
+            this.reason = reason;
+        }
+
+        public OutboundRequest(final Route route, final Map<String, String> params, final JsonArray array) {
+            this(route, params);
+            this.array = array;
+        }
+
+        public OutboundRequest(final Route route, final Map<String, String> params, final JsonArray array, final String reason) {
+            this(route, params, array);
+            this.reason = reason;
+        }
+
+        /**
+         * Sets the {@link #deadline()} to the given time from now.
+         *
+         * @param timeout How long the request may wait to be sent.
+         *
+         * @return This request.
+         */
+        @Nonnull
+        public OutboundRequest timeout(@Nonnull final Duration timeout) {
+            deadline = Instant.now().plus(timeout);
+            return this;
+        }
+
+        /**
+         * @return Whether this request has a {@link #deadline()} that has
+         * passed.
+         */
+        public boolean pastDeadline() {
+            return deadline != null && Instant.now().isAfter(deadline);
+        }
+
+        /**
+         * @return Whether this request has any files, either as
+         * {@link #buffers()} or {@link #uploads()}.
+         */
+        public boolean hasFiles() {
+            return buffers != null && !buffers.isEmpty() || uploads != null && !uploads.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("OutboundRequest (%s, %s, object=%s, array=%s, buffers=%s, reason=%s, priority=%s)", route, params, object != null, array != null, hasFiles(), reason, priority);
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Route route() {
+            return this.route;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Map<String, String> params() {
+            return this.params;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public JsonObject object() {
+            return this.object;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public JsonArray array() {
+            return this.array;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public boolean needsToken() {
+            return this.needsToken;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String reason() {
+            return this.reason;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public List<ImmutablePair<String, byte[]>> buffers() {
+            return this.buffers;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public List<FileUpload> uploads() {
+            return this.uploads;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public boolean emptyBody() {
+            return this.emptyBody;
+        }
+
+        @Nonnull
+        @java.lang.SuppressWarnings("all")
+        public RequestPriority priority() {
+            return this.priority;
+        }
+
+        @Nullable
+        @java.lang.SuppressWarnings("all")
+        public Instant deadline() {
+            return this.deadline;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest object(final JsonObject object) {
+            this.object = object;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest array(final JsonArray array) {
+            this.array = array;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest needsToken(final boolean needsToken) {
+            this.needsToken = needsToken;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest reason(final String reason) {
+            this.reason = reason;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest buffers(final List<ImmutablePair<String, byte[]>> buffers) {
+            this.buffers = buffers;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest uploads(final List<FileUpload> uploads) {
+            this.uploads = uploads;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest emptyBody(final boolean emptyBody) {
+            this.emptyBody = emptyBody;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest priority(@Nonnull final RequestPriority priority) {
+            if (priority == null) {
+                throw new java.lang.NullPointerException("priority is marked non-null but is null");
+            }
+            this.priority = priority;
+            return this;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public OutboundRequest deadline(@Nullable final Instant deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+    }
+}
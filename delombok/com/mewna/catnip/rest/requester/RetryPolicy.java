@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Decides whether, and when, a failed REST request is retried. Requests fail
+ * either without a response, ie. on connection errors and timeouts, or with a
+ * {@code 5xx} response. Ratelimited requests are always retried once the
+ * ratelimit resets and never go through the retry policy.
+ */
+public interface RetryPolicy {
+    /**
+     * Returned by {@link #retryDelay(Route, OutboundRequest, int, Throwable, int)}
+     * to give up on a request.
+     */
+    long NO_RETRY = -1L;
+    
+    /**
+     * Called once for every request that's queued to be sent, ie. not
+     * coalesced or served from a cache, before its first attempt. Useful for
+     * budgeting retries against the total number of requests.
+     *
+     * @param request The request.
+     */
+    default void requestQueued(@Nonnull final OutboundRequest request) {
+    }
+    
+    /**
+     * @param route      The compiled route of the request.
+     * @param request    The request that failed.
+     * @param attempt    How many times the request has failed so far,
+     *                   including this time. Starts at {@code 1}.
+     * @param failure    The exception the request failed with, or
+     *                   {@code null} if it failed with a response.
+     * @param statusCode The status code the request failed with, or
+     *                   {@code -1} if it failed without a response.
+     *
+     * @return How long to wait before retrying the request, in milliseconds,
+     * or {@link #NO_RETRY} to fail it.
+     */
+    long retryDelay(@Nonnull Route route, @Nonnull OutboundRequest request, @Nonnegative int attempt,
+                    @Nullable Throwable failure, int statusCode);
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  1. Redistributions of source code must retain the above copyright notice, this
+ *     list of conditions and the following disclaimer.
+ *  2. Redistributions in binary form must reproduce the above copyright notice,
+ *     this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *  3. Neither the name of the copyright holder nor the names of its contributors
+ *     may be used to endorse or promote products derived from this software without
+ *     specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.RateLimiter;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends requests on the same bucket one at a time. Within a bucket, requests
+ * are drained by {@link RequestPriority}, highest first, and in FIFO order
+ * within a priority. To keep lower lanes from starving, once
+ * {@code starvationLimit} requests in a row were sent ahead of waiting lower
+ * priority requests, the longest-waiting lower priority request is sent next.
+ */
+public class SerialRequester extends AbstractRequester {
+    public static final int DEFAULT_STARVATION_LIMIT = 8;
+    
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+    
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<RequestPriority, LaneStats> laneStats = new EnumMap<>(RequestPriority.class);
+    private final int starvationLimit;
+    
+    public SerialRequester(@Nonnull final RateLimiter rateLimiter) {
+        this(rateLimiter, DEFAULT_STARVATION_LIMIT);
+    }
+    
+    /**
+     * @param rateLimiter     The rate limiter to use.
+     * @param starvationLimit How many requests in a row a bucket may send
+     *                        ahead of a waiting lower priority request.
+     */
+    public SerialRequester(@Nonnull final RateLimiter rateLimiter, @Nonnegative final int starvationLimit) {
+        super(rateLimiter);
+        if(starvationLimit < 1) {
+            throw new IllegalArgumentException("Starvation limit must be at least 1, got " + starvationLimit);
+        }
+        this.starvationLimit = starvationLimit;
+        for(final RequestPriority priority : PRIORITIES) {
+            laneStats.put(priority, new LaneStats());
+        }
+    }
+    
+    @Nonnull
+    @Override
+    protected Bucket getBucket(@Nonnull final Route route) {
+        return buckets.computeIfAbsent(route.baseRoute(), __ -> new SerialBucket(this));
+    }
+    
+    /**
+     * @param priority The lane to get stats for.
+     *
+     * @return Queue depth and wait time stats for the given lane, summed over
+     * all buckets.
+     */
+    @Nonnull
+    public LaneStats laneStats(@Nonnull final RequestPriority priority) {
+        return laneStats.get(priority);
+    }
+    
+    /**
+     * Stats for one {@link RequestPriority} lane. Wait times are measured from
+     * when a request is queued in its bucket to when the bucket hands it to
+     * the rate limiter.
+     */
+    public static final class LaneStats {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder promoted = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        
+        private LaneStats() {
+        }
+        
+        /**
+         * @return How many requests are currently waiting in this lane.
+         */
+        @Nonnegative
+        public int queued() {
+            return queued.get();
+        }
+        
+        /**
+         * @return How many requests were sent from this lane.
+         */
+        @Nonnegative
+        public long dispatched() {
+            return dispatched.sum();
+        }
+        
+        /**
+         * @return How many requests from this lane were sent ahead of higher
+         * priority requests, to keep them from starving.
+         */
+        @Nonnegative
+        public long promoted() {
+            return promoted.sum();
+        }
+        
+        /**
+         * @return How many requests were dropped from this lane without being
+         * sent, because they were cancelled or waited past their deadline.
+         */
+        @Nonnegative
+        public long dropped() {
+            return dropped.sum();
+        }
+        
+        @Nonnegative
+        public long totalWait(@Nonnull final TimeUnit unit) {
+            return unit.convert(totalWaitNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+        
+        @Nonnegative
+        public long averageWait(@Nonnull final TimeUnit unit) {
+            final long dispatched = dispatched();
+            return dispatched == 0 ? 0 : unit.convert(totalWaitNanos.sum() / dispatched, TimeUnit.NANOSECONDS);
+        }
+        
+        @Nonnegative
+        public long maxWait(@Nonnull final TimeUnit unit) {
+            return unit.convert(maxWaitNanos.get(), TimeUnit.NANOSECONDS);
+        }
+        
+        private void droppedRequest() {
+            queued.decrementAndGet();
+            dropped.increment();
+        }
+        
+        private void dispatchedRequest(final long waitNanos, final boolean promoted) {
+            queued.decrementAndGet();
+            dispatched.increment();
+            if(promoted) {
+                this.promoted.increment();
+            }
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("LaneStats (queued=%d, dispatched=%d, promoted=%d, dropped=%d, averageWait=%dms, maxWait=%dms)",
+                    queued(), dispatched(), promoted(), dropped(), averageWait(TimeUnit.MILLISECONDS), maxWait(TimeUnit.MILLISECONDS));
+        }
+    }
+    
+    private static class SerialBucket implements Bucket {
+        @SuppressWarnings("unchecked")
+        private final Deque<QueuedRequest>[] lanes = new Deque[PRIORITIES.length];
+        private final SerialRequester requester;
+        private volatile boolean executingRequest;
+        /**
+         * How many requests in a row were sent while a lower priority lane
+         * had requests waiting.
+         */
+        private int streak;
+        
+        SerialBucket(final SerialRequester requester) {
+            this.requester = requester;
+            for(int i = 0; i < lanes.length; i++) {
+                lanes[i] = new ArrayDeque<>();
+            }
+        }
+        
+        @Override
+        public synchronized void queueRequest(@Nonnull final QueuedRequest request) {
+            enqueue(request, false);
+            if(!executingRequest) {
+                executingRequest = submit();
+            }
+        }
+        
+        @Override
+        public synchronized void failedRequest(@Nonnull final QueuedRequest request, @Nonnull final Throwable failureCause) {
+            request.failed();
+            if(request.shouldRetry()) {
+                enqueue(request, true);
+                if(request.retryDelay() > 0) {
+                    // The bucket stays busy until the retry is sent, so
+                    // nothing else on it goes out during the backoff
+                    requester.catnip.rxScheduler().scheduleDirect(this::submitLater, request.retryDelay(),
+                            TimeUnit.MILLISECONDS);
+                } else {
+                    executingRequest = submit();
+                }
+            } else {
+                requester.catnip.logAdapter().debug("Request {} failed, giving up!", request.request());
+                request.future().completeExceptionally(failureCause);
+                requestDone();
+            }
+        }
+        
+        @Override
+        public synchronized void requestDone() {
+            executingRequest = submit();
+        }
+        
+        @Override
+        public synchronized void cancelRequest(@Nonnull final QueuedRequest request) {
+            if(lanes[request.request().priority().ordinal()].remove(request)) {
+                requester.laneStats(request.request().priority()).droppedRequest();
+                requester.requestDropped(request);
+            }
+        }
+        
+        private void enqueue(final QueuedRequest request, final boolean first) {
+            final Deque<QueuedRequest> lane = lanes[request.request().priority().ordinal()];
+            request.queuedAt = System.nanoTime();
+            if(first) {
+                lane.addFirst(request);
+            } else {
+                lane.addLast(request);
+            }
+            requester.laneStats(request.request().priority()).queued.incrementAndGet();
+        }
+        
+        /**
+         * @return The next request to send, or {@code null} if there are
+         * none. Cancelled requests and requests past their deadline are
+         * dropped.
+         */
+        private QueuedRequest poll() {
+            QueuedRequest request;
+            while((request = pollNext()) != null) {
+                if(request.future().isDone()) {
+                    requester.laneStats(request.request().priority()).droppedRequest();
+                    requester.requestDropped(request);
+                } else if(request.request().pastDeadline()) {
+                    requester.laneStats(request.request().priority()).droppedRequest();
+                    requester.requestDropped(request);
+                    failPastDeadline(request);
+                } else {
+                    requester.requestDispatched(request);
+                    requester.laneStats(request.request().priority())
+                            .dispatchedRequest(request.dispatchedAt - request.queuedAt, request.promoted);
+                    return request;
+                }
+            }
+            return null;
+        }
+        
+        private QueuedRequest pollNext() {
+            int highest = -1;
+            int oldestLower = -1;
+            for(int i = 0; i < lanes.length; i++) {
+                final QueuedRequest head = lanes[i].peekFirst();
+                if(head == null) {
+                    continue;
+                }
+                if(highest == -1) {
+                    highest = i;
+                } else if(oldestLower == -1 || head.queuedAt - lanes[oldestLower].peekFirst().queuedAt < 0) {
+                    oldestLower = i;
+                }
+            }
+            if(highest == -1) {
+                return null;
+            }
+            final int lane;
+            if(oldestLower == -1) {
+                streak = 0;
+                lane = highest;
+            } else if(streak >= requester.starvationLimit) {
+                streak = 0;
+                lane = oldestLower;
+            } else {
+                streak++;
+                lane = highest;
+            }
+            final QueuedRequest request = lanes[lane].pollFirst();
+            request.promoted = lane != highest;
+            return request;
+        }
+        
+        private synchronized void submitLater() {
+            executingRequest = submit();
+        }
+        
+        /**
+         * @return Whether a request was submitted.
+         */
+        private boolean submit() {
+            final QueuedRequest request = poll();
+            if(request == null) {
+                return false;
+            }
+            //noinspection ResultOfMethodCallIgnored
+            requester.rateLimiter.requestExecution(request.route())
+                    .subscribe(() -> requester.executeRequest(request),
+                            request.future::completeExceptionally);
+            return true;
+        }
+    }
+}
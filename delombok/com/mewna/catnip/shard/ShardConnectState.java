@@ -0,0 +1,9 @@
+package com.mewna.catnip.shard;
+
+public enum ShardConnectState {
+    FAILED,
+    READY,
+    RESUMED,
+    INVALID,
+    CANCEL,
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds how much work a shard can have outstanding, ie. frames waiting to
+ * be parsed, events waiting for the dispatch worker, or events being handled
+ * by a listener. Once
+ * {@link com.mewna.catnip.util.CatnipOptionsView#maxOutstandingEvents()} is
+ * reached, the shard stops requesting frames from its websocket, so that
+ * Discord's frames pile up in the TCP buffers instead of in memory, and
+ * starts reading again once its listeners have worked the backlog down to
+ * half of the limit.
+ * <p>
+ * The limit is approximate: events are only counted once they've made it
+ * through the cache and are dispatched, so a shard may read a few more
+ * frames before it notices that it should stop.
+ * <p>
+ * Only events dispatched by {@link com.mewna.catnip.shard.event.DefaultDispatchManager}
+ * are counted. Observable and Flowable subscribers count until their
+ * {@code onNext} returns, so subscribers that move events to other threads,
+ * ex. with {@code observeOn}, have to bound their own queues. Events that
+ * the {@link com.mewna.catnip.shard.buffer.EventBuffer} holds back while a
+ * shard is starting up aren't counted, since they can only be released by
+ * reading more frames.
+ */
+public final class ShardFlowControl {
+    private final int maxOutstanding;
+    private final int resumeThreshold;
+    private final Runnable resume;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger peakOutstanding = new AtomicInteger();
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder pausedNanos = new LongAdder();
+    private volatile long pausedAt;
+    
+    /**
+     * @param maxOutstanding How much dispatch work the shard may have
+     *                       outstanding before it stops reading, or
+     *                       {@code 0} to never stop.
+     * @param resume         Requests the next frame from the shard's
+     *                       websocket.
+     */
+    public ShardFlowControl(@Nonnegative final int maxOutstanding, @Nonnull final Runnable resume) {
+        this.maxOutstanding = maxOutstanding;
+        resumeThreshold = maxOutstanding / 2;
+        this.resume = resume;
+    }
+    
+    /**
+     * @return Whether the shard stops reading when its listeners fall behind.
+     */
+    @CheckReturnValue
+    public boolean enabled() {
+        return maxOutstanding > 0;
+    }
+    
+    /**
+     * @return How much dispatch work the shard may have outstanding before it
+     * stops reading, or {@code 0} if it never stops.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public int maxOutstanding() {
+        return maxOutstanding;
+    }
+    
+    /**
+     * @return How many frames are waiting to be parsed, plus how many events
+     * are waiting for the dispatch worker or being handled, counting each
+     * listener separately.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public int outstanding() {
+        return outstanding.get();
+    }
+    
+    /**
+     * @return The most events that were ever outstanding at once.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public int peakOutstanding() {
+        return peakOutstanding.get();
+    }
+    
+    /**
+     * @return Whether the shard has currently stopped reading from its
+     * websocket.
+     */
+    @CheckReturnValue
+    public boolean paused() {
+        return paused.get();
+    }
+    
+    /**
+     * @return How often the shard stopped reading from its websocket.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public long pauses() {
+        return pauses.sum();
+    }
+    
+    /**
+     * @param unit The unit to return the time in.
+     *
+     * @return How long the shard has spent not reading from its websocket in
+     * total, not counting a pause that's still ongoing.
+     */
+    @Nonnegative
+    @CheckReturnValue
+    public long pausedTime(@Nonnull final TimeUnit unit) {
+        return unit.convert(pausedNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Counts a frame or event as outstanding. Internal, called when a frame
+     * is queued to be parsed, or an event is dispatched.
+     */
+    public void acquire() {
+        final int now = outstanding.incrementAndGet();
+        peakOutstanding.accumulateAndGet(now, Math::max);
+    }
+    
+    /**
+     * Counts an outstanding frame or event as done, resuming the shard if
+     * it's caught up. Internal, called when a frame was parsed, or an event
+     * was handled.
+     */
+    public void release() {
+        if(outstanding.decrementAndGet() <= resumeThreshold && paused.get()) {
+            resume();
+        }
+    }
+    
+    /**
+     * Internal, called by the shard once it's done with a frame.
+     *
+     * @return Whether the shard should request the next frame now. If not,
+     * it will be requested once the shard's listeners have caught up.
+     */
+    boolean frameHandled() {
+        if(!enabled() || outstanding.get() < maxOutstanding) {
+            return true;
+        }
+        pausedAt = System.nanoTime();
+        paused.set(true);
+        pauses.increment();
+        // Listeners may have caught up before we were marked as paused, in
+        // which case nothing else would resume us
+        if(outstanding.get() <= resumeThreshold) {
+            resume();
+        }
+        return false;
+    }
+    
+    /**
+     * Internal, called when the shard opens a new websocket, which requests
+     * its first frame by itself.
+     */
+    void reset() {
+        if(paused.compareAndSet(true, false)) {
+            pausedNanos.add(System.nanoTime() - pausedAt);
+        }
+    }
+    
+    private void resume() {
+        if(paused.compareAndSet(true, false)) {
+            pausedNanos.add(System.nanoTime() - pausedAt);
+            resume.run();
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "ShardFlowControl(outstanding=" + outstanding() + '/' + maxOutstanding + ", peak=" + peakOutstanding()
+                + ", paused=" + paused() + ", pauses=" + pauses() + ", pausedTime=" + pausedTime(TimeUnit.MILLISECONDS) + "ms)";
+    }
+}
@@ -0,0 +1,486 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.shard.buffer;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.entity.impl.lifecycle.ChunkingDoneImpl;
+import com.mewna.catnip.entity.impl.lifecycle.MemberChunkRerequestImpl;
+import com.mewna.catnip.shard.GatewayIntent;
+import com.mewna.catnip.shard.LifecycleEvent;
+import com.mewna.catnip.shard.LifecycleState;
+import com.mewna.catnip.shard.ShardInfo;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.shard.event.EventTiming;
+import com.mewna.catnip.util.JsonUtil;
+import com.mewna.catnip.util.jfr.CacheUpdateEvent;
+import com.mewna.catnip.util.jfr.JfrEvents;
+import com.mewna.catnip.util.rx.RxHelpers;
+import io.reactivex.rxjava3.core.Completable;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import static com.mewna.catnip.shard.DiscordEvent.Raw;
+
+/**
+ * An implementation of {@link EventBuffer} used for the case of caching all
+ * guilds sent in the {@code READY} payload, as well as for caching data as it
+ * comes over the websocket connection.
+ *
+ * @author amy
+ * @since 9/9/18.
+ */
+@SuppressWarnings("unused")
+public class CachingBuffer extends AbstractBuffer {
+    private static final Set<String> CACHE_EVENTS = Set.of(
+    // Lifecycle
+    Raw.READY, 
+    // Channels
+    Raw.CHANNEL_CREATE, Raw.CHANNEL_UPDATE, Raw.CHANNEL_DELETE, 
+    // Guilds
+    Raw.GUILD_CREATE, Raw.GUILD_UPDATE, Raw.GUILD_DELETE, 
+    // Roles
+    Raw.GUILD_ROLE_CREATE, Raw.GUILD_ROLE_UPDATE, Raw.GUILD_ROLE_DELETE, 
+    // Emoji
+    Raw.GUILD_EMOJIS_UPDATE, 
+    // Members
+    Raw.GUILD_MEMBER_ADD, Raw.GUILD_MEMBER_REMOVE, Raw.GUILD_MEMBER_UPDATE, 
+    // Member chunking
+    Raw.GUILD_MEMBERS_CHUNK, 
+    // Users
+    Raw.USER_UPDATE, Raw.PRESENCE_UPDATE, 
+    // Voice
+    Raw.VOICE_STATE_UPDATE);
+    private static final Set<String> DELETE_EVENTS = Set.of(
+    // Channels
+    Raw.CHANNEL_DELETE, 
+    // Guilds
+    Raw.GUILD_DELETE, 
+    // Roles
+    Raw.GUILD_ROLE_DELETE, 
+    // Members
+    Raw.GUILD_MEMBER_REMOVE);
+    private final Map<Integer, BufferState> buffers = new ConcurrentHashMap<>();
+
+    @Override
+    public void buffer(final JsonObject event) {
+        buffer(event, EventContext.untimed());
+    }
+
+    @Override
+    public void buffer(final JsonObject event, final EventContext context) {
+        final JsonObject shardData = event.getObject("shard");
+        final int id = shardData.getInt("id");
+        final String type = event.getString("t");
+        final JsonObject d = event.getObject("d");
+        final BufferState bufferState = buffers.get(id);
+        switch (type) {
+        case Raw.READY: 
+            {
+                handleReady(id, event, context);
+                // In theory, we shouldn't need `bufferState != null` checks
+                // beyond this point. The default vert.x event bus is
+                // single-threaded, and #handleReady will already insert a
+                // BufferState into the mappings for us.
+                break;
+            }
+        case Raw.RESUMED: 
+            {
+                // A RESUME without a READY means that the shard was resumed
+                // on top of a cache loaded from a snapshot, so there are no
+                // guilds to await, but later GUILD_CREATEs still need a
+                // BufferState.
+                buffers.computeIfAbsent(id, __ -> new BufferState(id, ConcurrentHashMap.newKeySet()));
+                handleEvent(id, buffers.get(id), event, context);
+                break;
+            }
+        case Raw.GUILD_CREATE: 
+            {
+                handleGuildCreate(bufferState, event, context);
+                break;
+            }
+        case Raw.GUILD_MEMBERS_CHUNK: 
+            {
+                handleGuildMemberChunk(bufferState, event, context);
+                break;
+            }
+        default: 
+            {
+                // Buffer and replay later
+                handleEvent(id, bufferState, event, context);
+                break;
+            }
+        }
+    }
+
+    private void handleReady(final int shardId, final JsonObject event, final EventContext context) {
+        final JsonObject payloadData = event.getObject("d");
+        final String eventType = event.getString("t");
+        final Set<String> guilds = JsonUtil.toMutableSet(payloadData.getArray("guilds"), g -> g.getString("id"));
+        buffers.put(shardId, new BufferState(shardId, guilds));
+        catnip().logAdapter().debug("Prepared new BufferState for shard {} with {} guilds.", shardId, guilds.size());
+        // READY is also a cache event, as it does come with
+        // information about the current user
+        //noinspection ResultOfMethodCallIgnored
+        maybeCache(eventType, shardId, event, context).subscribe(() -> emitter().emit(event, context));
+    }
+
+    private void handleGuildCreate(final BufferState bufferState, final JsonObject event, final EventContext context) {
+        final int shardId = bufferState.id();
+        final JsonObject payloadData = event.getObject("d");
+        final String guild = payloadData.getString("id");
+        // Make sure to cache guild
+        // This will always succeed unless something goes horribly wrong
+        //noinspection ResultOfMethodCallIgnored
+        maybeCache(Raw.GUILD_CREATE, shardId, event, context).subscribe(() -> {
+            // Add the guild to be awaited so that we can buffer members
+            bufferState.awaitGuild(guild, event, context);
+            // Trigger member chunking if needed
+            final int memberCount = payloadData.getInt("member_count");
+            // TODO: v6 pre-intents compatibility hack
+            // REQUEST_GUILD_MEMBERS when using intents requires GUILD_MEMBERS
+            // intent when requesting the entire guild member list when using
+            // intents.
+            // See https://github.com/discordapp/discord-api-docs/pull/1307#issuecomment-581561519
+            final boolean canChunkViaIntents = catnip().options().intents().isEmpty() || catnip().options().intents().contains(GatewayIntent.GUILD_MEMBERS);
+            if (canChunkViaIntents && catnip().options().chunkMembers() && memberCount > catnip().options().largeThreshold()) {
+                // Actually send the chunking request
+                catnip().chunkMembers(guild);
+                catnip().taskScheduler().setTimer(catnip().options().memberChunkTimeout(), taskId -> {
+                    if (catnip().shardManager().shard(shardId).lifecycleState() != LifecycleState.LOGGED_IN) {
+                        catnip().logAdapter().warn("Chunk rerequest task {} for disconnected shard {}, cancelling!", taskId, shardId);
+                        return;
+                    }
+                    if (bufferState.guildCreateCache().containsKey(guild)) {
+                        catnip().logAdapter().warn("Didn\'t recv. member chunks for guild {} in time, re-requesting... If you see this a lot, you should probably increase the value of CatnipOptions#memberChunkTimeout.", guild);
+                        if (catnip().options().manualChunkRerequesting()) {
+                            emitter().emit(LifecycleEvent.Raw.MEMBER_CHUNK_REREQUEST, MemberChunkRerequestImpl.builder().catnip(catnip()).guildId(guild).shardInfo(new ShardInfo(shardId, catnip().shardManager().shardCount())).build());
+                        } else {
+                            catnip().chunkMembers(guild);
+                            catnip().taskScheduler().setTimer(catnip().options().memberChunkTimeout(), __ -> {
+                                if (bufferState.guildCreateCache.containsKey(guild)) {
+                                    catnip().logAdapter().warn("Didn\'t recv. member chunks for guild {} after {}ms even after retrying! You should probably increase the value of CatnipOptions#memberChunkTimeout!", guild, catnip().options().memberChunkTimeout());
+                                }
+                            });
+                        }
+                    }
+                });
+            } else {
+                // Defer 100ms to try to wait for the guild role create event
+                // that might come
+                catnip().taskScheduler().setTimer(100L, __ -> {
+                    emitter().emit(event, context);
+                    bufferState.replayGuild(guild);
+                    // Replay all buffered events once we run out
+                    if (bufferState.awaitedGuilds().isEmpty()) {
+                        bufferState.replay();
+                    }
+                });
+            }
+        });
+    }
+
+    private void handleGuildMemberChunk(final BufferState bufferState, final JsonObject event, final EventContext context) {
+        final String eventType = event.getString("t");
+        final JsonObject payloadData = event.getObject("d");
+        final int index = payloadData.getInt("chunk_index");
+        final int count = payloadData.getInt("chunk_count");
+        if (catnip().options().chunkMembers()) {
+            final String guild = payloadData.getString("guild_id");
+            cacheAndDispatch(eventType, bufferState.id(), event, context);
+            // TODO: I assumed this was zero-based and didn't test. I should test it.
+            if (index == count - 1) {
+                final BufferedEvent guildCreate = bufferState.guildCreate(guild);
+                emitter().emit(guildCreate.event(), guildCreate.context());
+                bufferState.replayGuild(guild);
+                // Replay all buffered events once we run out
+                if (bufferState.awaitedGuilds().isEmpty()) {
+                    bufferState.replay();
+                }
+            }
+        }
+    }
+
+    private void handleEvent(final int id, final BufferState bufferState, final JsonObject event, final EventContext context) {
+        final JsonObject payloadData = event.getObject("d");
+        final String eventType = event.getString("t");
+        final String guildId = payloadData.getString("guild_id", null);
+        if (guildId != null) {
+            if (bufferState.awaitedGuilds().contains(guildId)) {
+                // If we have a guild id, and we have a guild being awaited,
+                // buffer the event
+                bufferState.receiveGuildEvent(guildId, event, context);
+            } else {
+                // If we're not awaiting the guild, it means that we're done
+                // buffering events for the guild - ie. all member chunks have
+                // been received - and so we can emit
+                cacheAndDispatch(eventType, id, event, context);
+            }
+        } else {
+            // Emit if the payload has no guild id
+            cacheAndDispatch(eventType, id, event, context);
+        }
+    }
+
+    private void cacheAndDispatch(final String type, final int id, final JsonObject event, final EventContext context) {
+        if (DELETE_EVENTS.contains(type)) {
+            // TODO: Will this work always?
+            emitter().emit(event, context);
+            maybeCache(type, id, event, context);
+        } else {
+            //noinspection ResultOfMethodCallIgnored
+            maybeCache(type, id, event, context).subscribe(() -> emitter().emit(event, context));
+        }
+    }
+
+    private Completable maybeCache(final String eventType, final int shardId, final JsonObject payload, final EventContext context) {
+        final JsonObject data = payload.getObject("d");
+        final EventTiming timing = context.timing();
+        if (CACHE_EVENTS.contains(eventType)) {
+            try {
+                final CacheUpdateEvent event = JfrEvents.ENABLED ? CacheUpdateEvent.start() : null;
+                if (timing != null) {
+                    timing.cacheStarted();
+                }
+                final Completable update = catnip().cacheWorker().updateCache(eventType, shardId, data, context);
+                if (timing != null) {
+                    timing.cacheFinished();
+                }
+                if (event != null) {
+                    event.finish(shardId, eventType);
+                }
+                return update;
+            } catch (final Exception e) {
+                catnip().logAdapter().warn("Got error updating cache for payload {}", eventType, e);
+                catnip().logAdapter().warn("Payload: {}", JsonUtil.encodePrettily(data));
+                return RxHelpers.completedCompletable(catnip());
+            }
+        } else {
+            return RxHelpers.completedCompletable(catnip());
+        }
+    }
+
+
+    private static final class Counter {
+        private final JsonObject guildCreate;
+
+        @java.lang.SuppressWarnings("all")
+        public Counter(final JsonObject guildCreate) {
+            this.guildCreate = guildCreate;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public JsonObject guildCreate() {
+            return this.guildCreate;
+        }
+    }
+
+
+    /**
+     * A buffered event, along with the context that has to be emitted with it.
+     */
+    private static final class BufferedEvent {
+        private final JsonObject event;
+        private final EventContext context;
+
+        @java.lang.SuppressWarnings("all")
+        public BufferedEvent(final JsonObject event, final EventContext context) {
+            this.event = event;
+            this.context = context;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public JsonObject event() {
+            return this.event;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public EventContext context() {
+            return this.context;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public boolean equals(final java.lang.Object o) {
+            if (o == this) return true;
+            if (!(o instanceof CachingBuffer.BufferedEvent)) return false;
+            final CachingBuffer.BufferedEvent other = (CachingBuffer.BufferedEvent) o;
+            final java.lang.Object this$event = this.event();
+            final java.lang.Object other$event = other.event();
+            if (this$event == null ? other$event != null : !this$event.equals(other$event)) return false;
+            final java.lang.Object this$context = this.context();
+            final java.lang.Object other$context = other.context();
+            if (this$context == null ? other$context != null : !this$context.equals(other$context)) return false;
+            return true;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public int hashCode() {
+            final int PRIME = 59;
+            int result = 1;
+            final java.lang.Object $event = this.event();
+            result = result * PRIME + ($event == null ? 43 : $event.hashCode());
+            final java.lang.Object $context = this.context();
+            result = result * PRIME + ($context == null ? 43 : $context.hashCode());
+            return result;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "CachingBuffer.BufferedEvent(event=" + this.event() + ", context=" + this.context() + ")";
+        }
+    }
+
+
+    private final class BufferState {
+        private final int id;
+        private final Set<String> awaitedGuilds;
+        private final Map<String, Deque<BufferedEvent>> guildBuffers = new ConcurrentHashMap<>();
+        private final Map<String, BufferedEvent> guildCreateCache = new ConcurrentHashMap<>();
+        private final Deque<BufferedEvent> buffer = new ConcurrentLinkedDeque<>();
+
+        void awaitGuild(final String id, final JsonObject event, final EventContext context) {
+            awaitedGuilds.add(id);
+            guildCreateCache.put(id, new BufferedEvent(event, context));
+        }
+
+        void receiveGuildEvent(final String id, final JsonObject event, final EventContext context) {
+            final Deque<BufferedEvent> queue = guildBuffers.computeIfAbsent(id, __ -> new ConcurrentLinkedDeque<>());
+            queue.addLast(new BufferedEvent(event, context));
+        }
+
+        void buffer(final JsonObject event, final EventContext context) {
+            buffer.addLast(new BufferedEvent(event, context));
+        }
+
+        void replayGuild(final String id) {
+            awaitedGuilds.remove(id);
+            guildCreateCache.remove(id);
+            if (guildBuffers.containsKey(id)) {
+                final Deque<BufferedEvent> queue = guildBuffers.get(id);
+                queue.forEach(e -> cacheAndDispatch(e.event().getString("t"), this.id, e.event(), e.context()));
+                guildBuffers.remove(id);
+            }
+        }
+
+        void replay() {
+            while (!buffer.isEmpty()) {
+                // Properly empty the event buffer
+                final BufferedEvent e = buffer.pop();
+                cacheAndDispatch(e.event().getString("t"), id, e.event(), e.context());
+            }
+            if (buffers.values().stream().allMatch(e -> e.buffer.isEmpty())) {
+                // If all buffers are empty, emit an event saying as much
+                emitter().emit(LifecycleEvent.Raw.CHUNKING_DONE, ChunkingDoneImpl.builder().catnip(catnip()).build());
+            }
+        }
+
+        BufferedEvent guildCreate(final String guild) {
+            return guildCreateCache.get(guild);
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public BufferState(final int id, final Set<String> awaitedGuilds) {
+            this.id = id;
+            this.awaitedGuilds = awaitedGuilds;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public int id() {
+            return this.id;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Set<String> awaitedGuilds() {
+            return this.awaitedGuilds;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Map<String, Deque<BufferedEvent>> guildBuffers() {
+            return this.guildBuffers;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Map<String, BufferedEvent> guildCreateCache() {
+            return this.guildCreateCache;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public Deque<BufferedEvent> buffer() {
+            return this.buffer;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public boolean equals(final java.lang.Object o) {
+            if (o == this) return true;
+            if (!(o instanceof CachingBuffer.BufferState)) return false;
+            final CachingBuffer.BufferState other = (CachingBuffer.BufferState) o;
+            if (this.id() != other.id()) return false;
+            final java.lang.Object this$awaitedGuilds = this.awaitedGuilds();
+            final java.lang.Object other$awaitedGuilds = other.awaitedGuilds();
+            if (this$awaitedGuilds == null ? other$awaitedGuilds != null : !this$awaitedGuilds.equals(other$awaitedGuilds)) return false;
+            final java.lang.Object this$guildBuffers = this.guildBuffers();
+            final java.lang.Object other$guildBuffers = other.guildBuffers();
+            if (this$guildBuffers == null ? other$guildBuffers != null : !this$guildBuffers.equals(other$guildBuffers)) return false;
+            final java.lang.Object this$guildCreateCache = this.guildCreateCache();
+            final java.lang.Object other$guildCreateCache = other.guildCreateCache();
+            if (this$guildCreateCache == null ? other$guildCreateCache != null : !this$guildCreateCache.equals(other$guildCreateCache)) return false;
+            final java.lang.Object this$buffer = this.buffer();
+            final java.lang.Object other$buffer = other.buffer();
+            if (this$buffer == null ? other$buffer != null : !this$buffer.equals(other$buffer)) return false;
+            return true;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public int hashCode() {
+            final int PRIME = 59;
+            int result = 1;
+            result = result * PRIME + this.id();
+            final java.lang.Object $awaitedGuilds = this.awaitedGuilds();
+            result = result * PRIME + ($awaitedGuilds == null ? 43 : $awaitedGuilds.hashCode());
+            final java.lang.Object $guildBuffers = this.guildBuffers();
+            result = result * PRIME + ($guildBuffers == null ? 43 : $guildBuffers.hashCode());
+            final java.lang.Object $guildCreateCache = this.guildCreateCache();
+            result = result * PRIME + ($guildCreateCache == null ? 43 : $guildCreateCache.hashCode());
+            final java.lang.Object $buffer = this.buffer();
+            result = result * PRIME + ($buffer == null ? 43 : $buffer.hashCode());
+            return result;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "CachingBuffer.BufferState(id=" + this.id() + ", awaitedGuilds=" + this.awaitedGuilds() + ", guildBuffers=" + this.guildBuffers() + ", guildCreateCache=" + this.guildCreateCache() + ", buffer=" + this.buffer() + ")";
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.shard.buffer;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.entity.impl.lifecycle.ChunkingDoneImpl;
+import com.mewna.catnip.shard.LifecycleEvent.Raw;
+import com.mewna.catnip.shard.event.EventContext;
+
+/**
+ * A no-op implementation of {@link EventBuffer}. The no-op buffer simply
+ * passes all incoming events to the event bus, without any processing or
+ * buffering (eg. for caching). This is mainly useful for the case of writing a
+ * "stateless" (ie. cacheless) bot.
+ *
+ * @author amy
+ * @since 9/9/18.
+ */
+public class NoopBuffer extends AbstractBuffer {
+    private boolean chunkingDoneEmitted;
+    
+    @Override
+    public void buffer(final JsonObject event) {
+        buffer(event, EventContext.untimed());
+    }
+    
+    @Override
+    public void buffer(final JsonObject event, final EventContext context) {
+        if(!chunkingDoneEmitted) {
+            chunkingDoneEmitted = true;
+            emitter().emit(Raw.CHUNKING_DONE, ChunkingDoneImpl.builder().catnip(catnip()).build());
+        }
+        emitter().emit(event, context);
+    }
+}
@@ -0,0 +1,219 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  1. Redistributions of source code must retain the above copyright notice, this
+ *     list of conditions and the following disclaimer.
+ *  2. Redistributions in binary form must reproduce the above copyright notice,
+ *     this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *  3. Neither the name of the copyright holder nor the names of its contributors
+ *     may be used to endorse or promote products derived from this software without
+ *     specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.ShardFlowControl;
+import com.mewna.catnip.util.jfr.DispatchEvent;
+import com.mewna.catnip.util.jfr.JfrEvents;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler.Worker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+public class DefaultDispatchManager extends AbstractDispatchManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDispatchManager.class);
+    private final Map<String, Set<DefaultMessageConsumer<?>>> consumers = new ConcurrentHashMap<>();
+    private volatile Worker worker;
+    private volatile boolean closed;
+
+    @Override
+    public void catnip(final Catnip catnip) {
+        super.catnip(catnip);
+        worker = catnip().rxScheduler().createWorker();
+    }
+
+    @Override
+    public void dispatchEvent(final String address, final Object event) {
+        dispatchEvent(address, event, null, null);
+    }
+
+    @Override
+    public void dispatchEvent(final String address, final Object event, @Nullable final EventTiming timing, @Nullable final ShardFlowControl flowControl) {
+        final var addressConsumers = consumers.get(address);
+        if (addressConsumers != null) {
+            final Worker worker = this.worker;
+            if (worker == null) {
+                if (closed) {
+                    // Shards that are still disconnecting while catnip shuts
+                    // down may dispatch their last lifecycle events
+                    return;
+                }
+                LOGGER.warn("Please configure the Catnip parent instance before dispatching events.");
+                throw new IllegalStateException("dispatchEvent was called before DefaultDispatchManager was configured.");
+            }
+            final long dispatched = timing != null ? System.nanoTime() : 0L;
+            if (flowControl != null) {
+                // Held until every consumer has its own
+                flowControl.acquire();
+            }
+            worker.schedule(() -> {
+                try {
+                    addressConsumers.forEach(c -> c.handle(event, timing, dispatched, flowControl));
+                } finally {
+                    if (flowControl != null) {
+                        flowControl.release();
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public <T> MessageConsumer<T> createConsumer(final String address) {
+        final var consumer = new DefaultMessageConsumer<T>(address);
+        consumers.computeIfAbsent(address, __ -> new CopyOnWriteArraySet<>()).add(consumer);
+        return consumer;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        final Worker worker = this.worker;
+        if (worker != null) {
+            worker.dispose();
+            this.worker = null;
+        }
+    }
+
+
+    class DefaultMessageConsumer<T> implements MessageConsumer<T> {
+        private final String address;
+        private InternalHandler<T> internalHandler;
+
+        @SuppressWarnings("unchecked")
+        void handle(final Object event, @Nullable final EventTiming timing, final long dispatched, @Nullable final ShardFlowControl flowControl) {
+            if (internalHandler != null) {
+                if (flowControl != null) {
+                    flowControl.acquire();
+                }
+                internalHandler.handle((T) event, timing, dispatched, flowControl);
+            }
+        }
+
+        private void handled(final T event, @Nullable final EventTiming timing, final long dispatched, @Nullable final ShardFlowControl flowControl, @Nullable final DispatchEvent dispatchEvent, final long handlerStart) {
+            if (flowControl != null) {
+                flowControl.release();
+            }
+            if (dispatchEvent != null) {
+                dispatchEvent.finish(address, event);
+            }
+            if (timing != null) {
+                timing.handled(catnip(), address, dispatched, handlerStart, System.nanoTime());
+            }
+        }
+
+        // This method is specific to Catnip#on and can be safely removed if wanted.
+        @Override
+        public MessageConsumer<T> handler(final Consumer<T> handler) {
+            internalHandler = (event, timing, dispatched, flowControl) -> worker.schedule(() -> {
+                final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                final long handlerStart = timing != null ? System.nanoTime() : 0L;
+                try {
+                    handler.accept(event);
+                } catch (final Exception e) {
+                    LOGGER.error("Exception handling event on address " + address, e);
+                } finally {
+                    // Errors get past the catch, and would otherwise leak the
+                    // flow control permit, stopping the shard for good
+                    handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
+                }
+            });
+            return this;
+        }
+
+        @Override
+        public Observable<T> asObservable() {
+            return Observable.create(emitter -> {
+                internalHandler = (event, timing, dispatched, flowControl) -> {
+                    final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                    final long handlerStart = timing != null ? System.nanoTime() : 0L;
+                    try {
+                        emitter.onNext(event);
+                    } finally {
+                        handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
+                    }
+                };
+                emitter.setCancellable(this::close);
+            });
+        }
+
+        @Override
+        public Flowable<T> asFlowable(final BackpressureStrategy backpressureStrategy) {
+            return Flowable.create(emitter -> {
+                internalHandler = (event, timing, dispatched, flowControl) -> {
+                    final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                    final long handlerStart = timing != null ? System.nanoTime() : 0L;
+                    try {
+                        emitter.onNext(event);
+                    } finally {
+                        handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
+                    }
+                };
+                emitter.setCancellable(this::close);
+            }, backpressureStrategy);
+        }
+
+        @Override
+        public void close() {
+            final var addressConsumers = consumers.get(address);
+            if (addressConsumers != null) {
+                addressConsumers.remove(this);
+            }
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String address() {
+            return this.address;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public InternalHandler<T> internalHandler() {
+            return this.internalHandler;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public DefaultMessageConsumer(final String address) {
+            this.address = address;
+        }
+    }
+
+
+    @FunctionalInterface
+    private interface InternalHandler<T> {
+        void handle(T event, @Nullable EventTiming timing, long dispatched, @Nullable ShardFlowControl flowControl);
+    }
+}
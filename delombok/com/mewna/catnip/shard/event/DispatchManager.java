@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  1. Redistributions of source code must retain the above copyright notice, this
+ *     list of conditions and the following disclaimer.
+ *  2. Redistributions in binary form must reproduce the above copyright notice,
+ *     this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *  3. Neither the name of the copyright holder nor the names of its contributors
+ *     may be used to endorse or promote products derived from this software without
+ *     specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.ShardFlowControl;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+
+public interface DispatchManager extends Closeable {
+    void catnip(Catnip catnip);
+    
+    /**
+     * Dispatches an event to the provided address.
+     *
+     * @param address Address to send the event to.
+     * @param event   Event to dispatch.
+     */
+    void dispatchEvent(String address, Object event);
+    
+    /**
+     * Dispatches a gateway event to the provided address, timing it and
+     * counting it towards its shard's outstanding events until it's handled.
+     * Dispatch managers that don't support event latency tracking or flow
+     * control just dispatch it.
+     *
+     * @param address     Address to send the event to.
+     * @param event       Event to dispatch.
+     * @param timing      When the event reached each stage so far, or
+     *                    {@code null} if it isn't being timed.
+     * @param flowControl The flow control of the shard that received the
+     *                    event, or {@code null} if it's disabled.
+     */
+    default void dispatchEvent(final String address, final Object event, @Nullable final EventTiming timing,
+                               @Nullable final ShardFlowControl flowControl) {
+        dispatchEvent(address, event);
+    }
+    
+    /**
+     * Returns a consumer listening on the provided address.
+     *
+     * @param address Address to listen on.
+     * @param <T>     Type of the event handled by the consumer.
+     *
+     * @return A consumer listening on the provided address.
+     */
+    <T> MessageConsumer<T> createConsumer(String address);
+    
+    @Override
+    void close();
+}
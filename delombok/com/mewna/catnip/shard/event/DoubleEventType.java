@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.shard.event;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * @author amy
+ * @since 3/7/19.
+ */
+public interface DoubleEventType<T, E> {
+    /**
+     * Key used in the event bus.
+     *
+     * @return Key where this event is fired in the bus.
+     */
+    @Nonnull
+    @CheckReturnValue
+    String key();
+    
+    /**
+     * @return The "left side" of this event. Is the first event that the
+     * consumer must handle.
+     */
+    @Nonnull
+    @CheckReturnValue
+    Class<T> left();
+    
+    /**
+     * @return The "right side" of this event. Is the second event that the
+     * consumer must handle.
+     */
+    @Nonnull
+    @CheckReturnValue
+    Class<E> right();
+    
+    /**
+     * Classes sent in the event payload.
+     *
+     * @return A {@link Pair} of the classes that this event fires, in order.
+     */
+    @Nonnull
+    @CheckReturnValue
+    Pair<Class<T>, Class<E>> payloadClasses();
+}
@@ -0,0 +1,186 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.shard.ShardInfo;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long a gateway event spent in each {@link EventStage}, from its frame
+ * being received until a listener finished handling it. All durations are
+ * in nanoseconds.
+ */
+public final class EventLatency {
+    @Nonnull
+    private final String eventType;
+    @Nonnull
+    private final ShardInfo shardInfo;
+    private final long parse;
+    private final long buffer;
+    private final long cache;
+    private final long queue;
+    private final long handler;
+
+    /**
+     * @param stage The stage to get the duration of.
+     *
+     * @return How long the event spent in that stage, in nanoseconds.
+     */
+    public long stage(@Nonnull final EventStage stage) {
+        switch (stage) {
+        case PARSE: 
+            return parse;
+        case BUFFER: 
+            return buffer;
+        case CACHE: 
+            return cache;
+        case QUEUE: 
+            return queue;
+        case HANDLER: 
+            return handler;
+        default: 
+            throw new IllegalArgumentException("Unknown stage: " + stage);
+        }
+    }
+
+    /**
+     * @return The end-to-end latency, in nanoseconds.
+     */
+    public long total() {
+        return parse + buffer + cache + queue + handler;
+    }
+
+    @Nonnegative
+    public long total(@Nonnull final TimeUnit unit) {
+        return unit.convert(total(), TimeUnit.NANOSECONDS);
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public EventLatency(@Nonnull final String eventType, @Nonnull final ShardInfo shardInfo, final long parse, final long buffer, final long cache, final long queue, final long handler) {
+        if (eventType == null) {
+            throw new java.lang.NullPointerException("eventType is marked non-null but is null");
+        }
+        if (shardInfo == null) {
+            throw new java.lang.NullPointerException("shardInfo is marked non-null but is null");
+        }
+        this.eventType = eventType;
+        this.shardInfo = shardInfo;
+        this.parse = parse;
+        this.buffer = buffer;
+        this.cache = cache;
+        this.queue = queue;
+        this.handler = handler;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public String eventType() {
+        return this.eventType;
+    }
+
+    @Nonnull
+    @java.lang.SuppressWarnings("all")
+    public ShardInfo shardInfo() {
+        return this.shardInfo;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long parse() {
+        return this.parse;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long buffer() {
+        return this.buffer;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long cache() {
+        return this.cache;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long queue() {
+        return this.queue;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public long handler() {
+        return this.handler;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public boolean equals(final java.lang.Object o) {
+        if (o == this) return true;
+        if (!(o instanceof EventLatency)) return false;
+        final EventLatency other = (EventLatency) o;
+        final java.lang.Object this$eventType = this.eventType();
+        final java.lang.Object other$eventType = other.eventType();
+        if (this$eventType == null ? other$eventType != null : !this$eventType.equals(other$eventType)) return false;
+        final java.lang.Object this$shardInfo = this.shardInfo();
+        final java.lang.Object other$shardInfo = other.shardInfo();
+        if (this$shardInfo == null ? other$shardInfo != null : !this$shardInfo.equals(other$shardInfo)) return false;
+        if (this.parse() != other.parse()) return false;
+        if (this.buffer() != other.buffer()) return false;
+        if (this.cache() != other.cache()) return false;
+        if (this.queue() != other.queue()) return false;
+        if (this.handler() != other.handler()) return false;
+        return true;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public int hashCode() {
+        final int PRIME = 59;
+        int result = 1;
+        final java.lang.Object $eventType = this.eventType();
+        result = result * PRIME + ($eventType == null ? 43 : $eventType.hashCode());
+        final java.lang.Object $shardInfo = this.shardInfo();
+        result = result * PRIME + ($shardInfo == null ? 43 : $shardInfo.hashCode());
+        final long $parse = this.parse();
+        result = result * PRIME + (int) ($parse >>> 32 ^ $parse);
+        final long $buffer = this.buffer();
+        result = result * PRIME + (int) ($buffer >>> 32 ^ $buffer);
+        final long $cache = this.cache();
+        result = result * PRIME + (int) ($cache >>> 32 ^ $cache);
+        final long $queue = this.queue();
+        result = result * PRIME + (int) ($queue >>> 32 ^ $queue);
+        final long $handler = this.handler();
+        result = result * PRIME + (int) ($handler >>> 32 ^ $handler);
+        return result;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("all")
+    public java.lang.String toString() {
+        return "EventLatency(eventType=" + this.eventType() + ", shardInfo=" + this.shardInfo() + ", parse=" + this.parse() + ", buffer=" + this.buffer() + ", cache=" + this.cache() + ", queue=" + this.queue() + ", handler=" + this.handler() + ")";
+    }
+}
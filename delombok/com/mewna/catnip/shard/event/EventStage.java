@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard.event;
+
+/**
+ * The stages a gateway event passes through between its frame being
+ * received and a listener finishing handling it. Together they add up to the
+ * event's end-to-end latency.
+ *
+ * @see EventLatency
+ */
+public enum EventStage {
+    /**
+     * Waiting for the shard's earlier frames, then inflating, if compressed,
+     * and parsing the frame.
+     */
+    PARSE,
+    /**
+     * Held in the {@link com.mewna.catnip.shard.buffer.EventBuffer}, ex.
+     * while a shard is starting up or a guild's members are being chunked,
+     * not counting the cache update.
+     */
+    BUFFER,
+    /**
+     * Applying the event to the cache.
+     */
+    CACHE,
+    /**
+     * Waiting for the dispatch worker, from being dispatched until a
+     * listener started handling it.
+     */
+    QUEUE,
+    /**
+     * The listener handling the event.
+     */
+    HANDLER,
+}
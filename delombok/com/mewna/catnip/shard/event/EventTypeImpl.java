@@ -0,0 +1,73 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.shard.event;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * @param <T> Type of the event.
+ *
+ * @author natanbc
+ * @since 10/6/18.
+ */
+public class EventTypeImpl<T> implements EventType<T> {
+    private final String key;
+    private final Class<T> payloadClass;
+
+    public static <T> EventType<T> event(@Nonnull final String key, @Nonnull final Class<T> payloadClass) {
+        return new EventTypeImpl<>(key, payloadClass);
+    }
+
+    public static EventType<Void> notFired(@Nonnull final String key) {
+        return new EventTypeImpl<>(key, Void.class) {
+            @Nonnull
+            @CheckReturnValue
+            @Override
+            public String key() {
+                throw new UnsupportedOperationException("Event " + key + " is not implemented");
+            }
+        };
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public String key() {
+        return this.key;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Class<T> payloadClass() {
+        return this.payloadClass;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    private EventTypeImpl(final String key, final Class<T> payloadClass) {
+        this.key = key;
+        this.payloadClass = payloadClass;
+    }
+}
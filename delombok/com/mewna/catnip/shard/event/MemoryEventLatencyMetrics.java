@@ -0,0 +1,115 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.util.metrics.LatencyHistogram;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@link LatencyHistogram} per event type for every
+ * {@link EventStage}, and for the end-to-end latency.
+ */
+public final class MemoryEventLatencyMetrics implements EventLatencyMetrics {
+    private final Map<String, EventTypeMetrics> eventTypes = new ConcurrentHashMap<>();
+
+    /**
+     * @param eventType The event type, ex. {@code MESSAGE_CREATE}.
+     *
+     * @return The metrics for that event type, or {@code null} if no events
+     * of that type were handled.
+     */
+    @Nullable
+    @CheckReturnValue
+    public EventTypeMetrics eventType(@Nonnull final String eventType) {
+        return eventTypes.get(eventType);
+    }
+
+    /**
+     * @return The metrics for every event type that was handled, keyed by
+     * event type.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Map<String, EventTypeMetrics> eventTypes() {
+        return Collections.unmodifiableMap(eventTypes);
+    }
+
+    @Override
+    public void eventHandled(@Nonnull final EventLatency latency) {
+        final EventTypeMetrics metrics = eventTypes.computeIfAbsent(latency.eventType(), EventTypeMetrics::new);
+        for (final EventStage stage : EventStage.values()) {
+            metrics.stages.get(stage).record(latency.stage(stage));
+        }
+        metrics.total.record(latency.total());
+    }
+
+
+    public static final class EventTypeMetrics {
+        private final String eventType;
+        private final Map<EventStage, LatencyHistogram> stages = new EnumMap<>(EventStage.class);
+        /**
+         * End-to-end latency.
+         */
+        private final LatencyHistogram total = new LatencyHistogram();
+
+        private EventTypeMetrics(final String eventType) {
+            this.eventType = eventType;
+            for (final EventStage stage : EventStage.values()) {
+                stages.put(stage, new LatencyHistogram());
+            }
+        }
+
+        @Nonnull
+        public LatencyHistogram stage(@Nonnull final EventStage stage) {
+            return stages.get(stage);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(eventType).append(": total ").append(total);
+            stages.forEach((stage, histogram) -> builder.append(", ").append(stage).append(' ').append(histogram));
+            return builder.toString();
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String eventType() {
+            return this.eventType;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public LatencyHistogram total() {
+            return this.total;
+        }
+    }
+}
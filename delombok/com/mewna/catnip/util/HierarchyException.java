@@ -0,0 +1,29 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+package com.mewna.catnip.util;
+
+import com.mewna.catnip.entity.guild.PermissionHolder;
+
+public class HierarchyException extends RuntimeException {
+    private final PermissionHolder actor;
+    private final PermissionHolder target;
+
+    public HierarchyException(final PermissionHolder actor, final PermissionHolder target) {
+        super(message(actor, target));
+        this.actor = actor;
+        this.target = target;
+    }
+
+    private static String message(final PermissionHolder actor, final PermissionHolder target) {
+        return "Could not interact with " + target;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionHolder actor() {
+        return this.actor;
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public PermissionHolder target() {
+        return this.target;
+    }
+}
@@ -0,0 +1,63 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ *
+ *  * Copyright (c) 2018 amy, All rights reserved.
+ *  *
+ *  * Redistribution and use in source and binary forms, with or without
+ *  * modification, are permitted provided that the following conditions are met:
+ *  *
+ *  * 1. Redistributions of source code must retain the above copyright notice, this
+ *  *    list of conditions and the following disclaimer.
+ *  * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *  *    this list of conditions and the following disclaimer in the
+ *  *    documentation and/or other materials provided with the distribution.
+ *  * 3. Neither the name of the copyright holder nor the names of its contributors
+ *  *    may be used to endorse or promote products derived from this software without
+ *  *    specific prior written permission.
+ *  *
+ *  * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package com.mewna.catnip.util;
+
+import com.mewna.catnip.entity.util.Permission;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+public class MissingPermissionException extends RuntimeException {
+    private final Set<Permission> missing;
+
+    public MissingPermissionException(@Nonnull final Collection<Permission> missing) {
+        super(message(missing));
+        this.missing = Set.copyOf(missing);
+    }
+
+    private static String message(@Nonnull final Collection<Permission> permissions) {
+        final StringBuilder sb = new StringBuilder("Missing permissions ");
+        final Iterator<Permission> it = permissions.iterator();
+        while (it.hasNext()) {
+            final Permission permission = it.next();
+            sb.append(permission.name());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.toString();
+    }
+
+    @java.lang.SuppressWarnings("all")
+    public Set<Permission> missing() {
+        return this.missing;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.shard.ShardInfo;
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A frame received over a shard's gateway socket, from when it was complete
+ * until it was inflated and parsed. Handling the payload afterwards shows up
+ * as {@link DispatchEvent}s and {@link CacheUpdateEvent}s.
+ */
+@Name("catnip.GatewayFrame")
+@Label("Gateway Frame")
+@Description("A frame received over a shard's gateway socket, and decoded")
+@Category({JfrEvents.CATEGORY, "Gateway"})
+@StackTrace(false)
+public final class GatewayFrameEvent extends Event {
+    @Label("Shard")
+    private int shard;
+    @Label("Shard Count")
+    private int shardCount;
+    @Label("Size")
+    @Description("Size of the frame as received, ie. compressed if compression is enabled")
+    @DataAmount
+    private int size;
+    @Label("Compressed")
+    private boolean compressed;
+    @Label("Inflate Time")
+    @Timespan
+    private long inflateTime;
+    @Label("Opcode")
+    private int op;
+    @Label("Event Type")
+    private String eventType;
+    
+    /**
+     * @return A new event, for a frame that was just completed.
+     */
+    @Nonnull
+    public static GatewayFrameEvent start() {
+        final GatewayFrameEvent event = new GatewayFrameEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Commits this event, if it's being recorded.
+     *
+     * @param shardInfo   The shard that received the frame.
+     * @param size        The size of the frame, in bytes if it was compressed
+     *                    or in characters otherwise.
+     * @param compressed  Whether the frame was compressed.
+     * @param inflateTime How long inflating the frame took, in nanoseconds.
+     * @param payload     The parsed payload.
+     */
+    public void finish(@Nonnull final ShardInfo shardInfo, final int size, final boolean compressed,
+                       final long inflateTime, @Nonnull final JsonObject payload) {
+        end();
+        if(shouldCommit()) {
+            shard = shardInfo.getId();
+            shardCount = shardInfo.getLimit();
+            this.size = size;
+            this.compressed = compressed;
+            this.inflateTime = inflateTime;
+            op = payload.getInt("op");
+            eventType = payload.getString("t");
+            commit();
+        }
+    }
+}
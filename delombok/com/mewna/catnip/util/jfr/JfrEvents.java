@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+/**
+ * JDK Flight Recorder support. catnip emits its own events for gateway
+ * frames, dispatches, cache updates, REST requests and shard lifecycle
+ * transitions, so that a recording shows where time goes inside catnip
+ * instead of anonymous Rx lambdas. Start a recording as usual, ex. with
+ * {@code -XX:StartFlightRecording=filename=bot.jfr}, and look under
+ * {@code catnip} in JDK Mission Control.
+ * <p>
+ * When no recording is running, events are never committed, and the JIT
+ * removes them entirely. On JVMs without {@code jdk.jfr}, or when started
+ * with {@code -Dcatnip.jfr=false}, catnip never touches the event classes.
+ */
+public final class JfrEvents {
+    /**
+     * Whether catnip emits JFR events at all. Constant, so that the JIT can
+     * fold checks against it.
+     */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("catnip.jfr", "true"))
+            && ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+    
+    static final String CATEGORY = "catnip";
+    
+    private JfrEvents() {
+    }
+}
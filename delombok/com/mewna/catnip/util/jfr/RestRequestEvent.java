@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import com.mewna.catnip.rest.Routes.Route;
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A REST request's HTTP exchange, from when it was sent until the response
+ * arrived. How long it waited in its ratelimit bucket before that is
+ * recorded as {@code bucketWait}. Retries are separate events.
+ */
+@Name("catnip.RestRequest")
+@Label("REST Request")
+@Description("A REST request being sent to Discord")
+@Category({JfrEvents.CATEGORY, "REST"})
+@StackTrace(false)
+public final class RestRequestEvent extends Event {
+    @Label("Method")
+    private String method;
+    @Label("Route")
+    @Description("The route template, ex. /channels/:channel/messages")
+    private String route;
+    @Label("Major Parameter")
+    private String majorParam;
+    @Label("Status")
+    @Description("The HTTP status code, or -1 if the request failed without a response")
+    private int status;
+    @Label("Bucket Wait")
+    @Description("How long the request was queued before being sent")
+    @Timespan
+    private long bucketWait;
+    
+    @Nonnull
+    public static RestRequestEvent start() {
+        final RestRequestEvent event = new RestRequestEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Commits this event, if it's being recorded.
+     *
+     * @param route      The compiled route that was requested.
+     * @param status     The HTTP status code, or -1 if there was no response.
+     * @param bucketWait How long the request was queued before being sent, in
+     *                   nanoseconds.
+     */
+    public void finish(@Nonnull final Route route, final int status, final long bucketWait) {
+        end();
+        if(shouldCommit()) {
+            method = route.method().name();
+            this.route = route.origin().baseRoute();
+            majorParam = route.majorParam();
+            this.status = status;
+            this.bucketWait = bucketWait;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import com.mewna.catnip.shard.LifecycleState;
+import com.mewna.catnip.shard.ShardInfo;
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A shard moving from one {@link LifecycleState} to another.
+ */
+@Name("catnip.ShardLifecycle")
+@Label("Shard Lifecycle")
+@Description("A shard's lifecycle state changing")
+@Category({JfrEvents.CATEGORY, "Gateway"})
+@StackTrace(false)
+public final class ShardLifecycleEvent extends Event {
+    @Label("Shard")
+    private int shard;
+    @Label("Shard Count")
+    private int shardCount;
+    @Label("From")
+    private String from;
+    @Label("To")
+    private String to;
+    
+    /**
+     * Commits an event for a transition, if it's being recorded.
+     *
+     * @param shardInfo The shard.
+     * @param from      The state the shard was in, if any.
+     * @param to        The state the shard is in now.
+     */
+    public static void emit(@Nonnull final ShardInfo shardInfo, @Nullable final LifecycleState from,
+                            @Nonnull final LifecycleState to) {
+        final ShardLifecycleEvent event = new ShardLifecycleEvent();
+        if(event.shouldCommit()) {
+            event.shard = shardInfo.getId();
+            event.shardCount = shardInfo.getLimit();
+            event.from = from == null ? null : from.name();
+            event.to = to.name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.util.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.StackWalker.Option;
+
+/**
+ * @author amy
+ * @since 9/3/18.
+ */
+public class DefaultLogAdapter implements LogAdapter {
+    private final StackWalker stackWalker = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+
+    @Override
+    public boolean isEnabled(@Nonnull final Level level, @Nonnull final Class<?> caller) {
+        final Logger logger = LoggerFactory.getLogger(caller);
+        switch (level) {
+        case TRACE: 
+            {
+                return logger.isTraceEnabled();
+            }
+        case DEBUG: 
+            {
+                return logger.isDebugEnabled();
+            }
+        case INFO: 
+            {
+                return logger.isInfoEnabled();
+            }
+        case WARN: 
+            {
+                return logger.isWarnEnabled();
+            }
+        case ERROR: 
+            {
+                return logger.isErrorEnabled();
+            }
+        default: 
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void log(@Nonnull final Level level, @Nonnull final String message, @Nullable final Object... objects) {
+        //noinspection OptionalGetWithoutIsPresent
+        final Class<?> caller = stackWalker.walk(s -> s.skip(2).findFirst()).get().getDeclaringClass();
+        final Logger logger = LoggerFactory.getLogger(caller);
+        final FormattingTuple tuple = MessageFormatter.arrayFormat(message, objects);
+        final String formatted = tuple.getMessage();
+        if (logger != null) {
+            switch (level) {
+            case TRACE: 
+                {
+                    logger.trace(formatted);
+                    if (tuple.getThrowable() != null) {
+                        logger.trace("Stacktrace: ", tuple.getThrowable());
+                    }
+                    break;
+                }
+            case DEBUG: 
+                {
+                    logger.debug(formatted);
+                    if (tuple.getThrowable() != null) {
+                        logger.debug("Stacktrace: ", tuple.getThrowable());
+                    }
+                    break;
+                }
+            case INFO: 
+                {
+                    logger.info(formatted);
+                    if (tuple.getThrowable() != null) {
+                        logger.info("Stacktrace: ", tuple.getThrowable());
+                    }
+                    break;
+                }
+            case WARN: 
+                {
+                    logger.warn(formatted);
+                    if (tuple.getThrowable() != null) {
+                        logger.warn("Stacktrace: ", tuple.getThrowable());
+                    }
+                    break;
+                }
+            case ERROR: 
+                {
+                    logger.error(formatted);
+                    if (tuple.getThrowable() != null) {
+                        logger.error("Stacktrace: ", tuple.getThrowable());
+                    }
+                    break;
+                }
+            }
+        }
+    }
+}
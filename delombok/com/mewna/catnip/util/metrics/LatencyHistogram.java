@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.metrics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations, in nanoseconds. Values are counted in
+ * log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKETS} equal buckets, so percentiles are accurate to within
+ * about 12.5%, at a fixed size of a few kilobytes no matter how many values
+ * are recorded. Values up to about an hour are tracked; longer ones are
+ * counted in the last bucket.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 41;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    
+    static int bucketOf(final long value) {
+        if(value < SUB_BUCKETS) {
+            return (int) Math.max(0, value);
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if(exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        final int subBucket = (int) (value >>> exponent - SUB_BUCKET_BITS) & SUB_BUCKETS - 1;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * @return The largest value that's counted in the given bucket.
+     */
+    static long upperBoundOf(final int bucket) {
+        if(bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket + 1 << exponent - SUB_BUCKET_BITS) - 1;
+    }
+    
+    /**
+     * @param nanos The duration to record. Negative durations are counted as
+     *              {@code 0}.
+     */
+    public void record(final long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        sum.add(Math.max(0, nanos));
+        if(nanos > max.get()) {
+            max.accumulateAndGet(nanos, Math::max);
+        }
+    }
+    
+    public void record(final long duration, @Nonnull final TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+    
+    /**
+     * @return How many values were recorded.
+     */
+    @Nonnegative
+    public long count() {
+        return count.sum();
+    }
+    
+    @Nonnegative
+    public long max(@Nonnull final TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+    
+    @Nonnegative
+    public long mean(@Nonnull final TimeUnit unit) {
+        final long count = count();
+        return count == 0 ? 0 : unit.convert(sum.sum() / count, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * @param percentile The percentile to get, from {@code 0} to {@code 100}.
+     * @param unit       The unit to return the value in.
+     *
+     * @return An upper bound for the given percentile of recorded values, or
+     * {@code 0} if nothing was recorded.
+     */
+    @Nonnegative
+    public long percentile(final double percentile, @Nonnull final TimeUnit unit) {
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if(total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100D * total));
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if(seen >= rank) {
+                return unit.convert(Math.min(upperBoundOf(i), max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return max(unit);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram (count=%d, mean=%dus, p50=%dus, p99=%dus, max=%dus)", count(),
+                mean(TimeUnit.MICROSECONDS), percentile(50, TimeUnit.MICROSECONDS),
+                percentile(99, TimeUnit.MICROSECONDS), max(TimeUnit.MICROSECONDS));
+    }
+}
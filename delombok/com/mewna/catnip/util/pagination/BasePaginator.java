@@ -0,0 +1,379 @@
+// Generated by delombok at Mon Oct 19 17:44:00 UTC 2026
+/*
+ * Copyright (c) 2018 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mewna.catnip.util.pagination;
+
+import com.mewna.catnip.util.VoidHelper;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utility class for iterating paginated endpoints, handling fetching the
+ * next objects automatically, until a given limit is reached or no more
+ * entities can be fetched.
+ *
+ * @param <T> Type of the fetched entities.
+ * @param <J> (Internal use)
+ * @param <P> (Internal use)
+ *
+ * @author natanbc
+ * @since 10/8/18.
+ */
+@SuppressWarnings("unused")
+public abstract class BasePaginator<T, J, P extends BasePaginator<T, J, P>> {
+    protected final Function<T, String> idOf;
+    protected final int maxRequestSize;
+    protected int requestSize;
+    protected int limit;
+
+    public BasePaginator(@Nonnull final Function<T, String> idOf, @Nonnegative final int maxRequestSize) {
+        this.idOf = idOf;
+        this.maxRequestSize = maxRequestSize;
+        requestSize = maxRequestSize;
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    private static <T, J, P extends BasePaginator<T, J, P>> P uncheck(@Nonnull final BasePaginator<?, ?, ?> paginator) {
+        return (P) paginator;
+    }
+
+    /**
+     * Sets a limit to how many objects will be requested.
+     * <br>Only affects future calls to methods that start a
+     * pagination.
+     * <br>The actual amount of entities fetched may be smaller
+     * than the limit.
+     *
+     * @param limit Maximum amount of entities to fetch.
+     *
+     * @return {@code this}, for chaining calls.
+     */
+    public P limit(@Nonnegative final int limit) {
+        this.limit = limit;
+        return uncheck(this);
+    }
+
+    /**
+     * Sets how many entities to fetch per request.
+     * <br>Usually you don't need to touch this method,
+     * as an appropriate value will be chosen by default.
+     *
+     * @param requestSize Amount of entities to fetch per request.
+     *
+     * @return {@code this}, for chaining calls.
+     */
+    public P requestSize(@Nonnegative final int requestSize) {
+        if (requestSize > maxRequestSize) {
+            throw new IllegalArgumentException("Request size (" + requestSize + ") greater than maximum request size (" + maxRequestSize + ')');
+        }
+        this.requestSize = requestSize;
+        return uncheck(this);
+    }
+
+    /**
+     * Streams up to {@link #limit(int) limit} entities.
+     * <br>Pages are fetched as downstream demand requires them, with the
+     * page after the one being consumed always being prefetched, so that
+     * consumers don't have to wait a full round trip between pages. At most
+     * two pages are held in memory at any time. Nothing blocks; pages are
+     * fetched and parsed on the requester's threads.
+     *
+     * @return A flowable of the fetched entities.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<T> stream() {
+        return Flowable.defer(() -> {
+            final List<T> buffer = new ArrayList<>();
+            return pages(createState(buffer::add), buffer, null).concatMapIterable(Page::entities, 1);
+        });
+    }
+
+    /**
+     * Fetches up to {@link #limit(int) limit} entities.
+     * <br>This is the same as {@link #stream()}, but as an observable,
+     * which doesn't apply backpressure; all pages will be fetched as fast as
+     * possible.
+     *
+     * @return An observable of the fetched entities.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Observable<T> fetch() {
+        return stream().toObservable();
+    }
+
+    /**
+     * Fetches up to {@link #limit(int) limit} entities, providing them to a
+     * given callback.
+     * <br>This method will not cache the provided entities, so it's
+     * recommended for unbounded pagination.
+     * <br>If the provided callback throws an exception, <b>pagination
+     * will stop</b> and the returned {@link Observable completion stage}
+     * will be failed.
+     *
+     * @param action Callback for fetched entities.
+     *
+     * @return A completion stage representing the end of the iteration.
+     */
+    @Nonnull
+    public Observable<Void> forEach(@Nonnull final Consumer<T> action) {
+        return fetchWhile(e -> {
+            action.accept(e);
+            return true;
+        });
+    }
+
+    /**
+     * Fetches entities until the provided callback returns false or the
+     * {@link #limit(int) limit} is reached.
+     * <br>This method will not cache the provided entities, so it's
+     * recommended for unbounded pagination.
+     * <br>If the provided callback throws an exception, <b>pagination
+     * will stop</b> and the returned {@link Observable observable}
+     * will be failed.
+     *
+     * @param callback Callback for fetched entities.
+     *
+     * @return A completion stage representing the end of the iteration.
+     */
+    @Nonnull
+    public Observable<Void> fetchWhile(@Nonnull final PaginationCallback<T> callback) {
+        return stream().takeWhile(callback::accept).ignoreElements().andThen(Observable.just(VoidHelper.VOID));
+    }
+
+    /**
+     * Creates the state for a new pagination. Paginators that need extra
+     * parameters in {@link #fetchNext(RequestState, String, int)} should
+     * override this to add them with {@link RequestState#extra(String, Object)}.
+     *
+     * @param callback Callback for parsed entities.
+     *
+     * @return The state for a new pagination.
+     */
+    @Nonnull
+    @CheckReturnValue
+    protected RequestState<T> createState(@Nonnull final PaginationCallback<T> callback) {
+        return new RequestState<>(limit, requestSize, callback);
+    }
+
+    /**
+     * @deprecated Pages are fetched by {@link #stream()}, which doesn't call
+     * this. Use {@link #fetchWhile(PaginationCallback)} instead, and override
+     * {@link #createState(PaginationCallback)} to add request extras.
+     */
+    @Deprecated
+    @Nonnull
+    @CheckReturnValue
+    protected Observable<Void> fetch(@Nonnull final PaginationCallback<T> action) {
+        return fetch(null, createState(action));
+    }
+
+    /**
+     * @deprecated Pages are fetched by {@link #stream()}, which doesn't call
+     * this. Use {@link #fetchWhile(PaginationCallback)} instead.
+     */
+    @Deprecated
+    @Nonnull
+    @CheckReturnValue
+    protected Observable<Void> fetch(@Nullable final String id, @Nonnull final RequestState<T> state) {
+        // The state's callback gets the entities, so nothing is buffered
+        return pages(state, new ArrayList<>(), id).ignoreElements().andThen(Observable.just(VoidHelper.VOID));
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    private Flowable<Page<T>> pages(@Nonnull final RequestState<T> state, @Nonnull final List<T> buffer, @Nullable final String firstId) {
+        final AtomicReference<Page<T>> previous = new AtomicReference<>();
+        // Every page needs the last id of the page before it, so pages are
+        // deferred until they're subscribed to. concatMapSingle only
+        // subscribes to (ie. fetches) the next page once the previous one
+        // has been handed downstream, which, with a prefetch of 1, is what
+        // gives us one page of lookahead.
+        final Single<Page<T>> nextPage = Single.defer(() -> {
+            final Page<T> page = previous.get();
+            if (page != null && page.nextId() == null) {
+                return Single.just(page);
+            }
+            return fetchPage(state, buffer, page == null ? firstId : page.nextId()).doOnSuccess(previous::set);
+        });
+        return Flowable.<Single<Page<T>>>generate(emitter -> emitter.onNext(nextPage)).concatMapSingle(page -> page, 1).takeUntil(page -> page.nextId() == null);
+    }
+
+    @Nonnull
+    @CheckReturnValue
+    private Single<Page<T>> fetchPage(@Nonnull final RequestState<T> state, @Nonnull final List<T> buffer, @Nullable final String id) {
+        final int fetchCount = state.entitiesToFetch();
+        return fetchNext(state, id, fetchCount).firstOrError().map(data -> {
+            final int fetchedBefore = state.fetched();
+            update(state, data);
+            final List<T> entities = new ArrayList<>(buffer);
+            buffer.clear();
+            final T last = state.last();
+            // A short page means that there's nothing left to fetch
+            final boolean more = !state.done() && state.fetched() - fetchedBefore == fetchCount && last != null;
+            return new Page<>(entities, more ? idOf.apply(last) : null);
+        });
+    }
+
+    protected abstract void update(@Nonnull RequestState<T> state, @Nonnull J data);
+
+    @Nonnull
+    @CheckReturnValue
+    protected abstract Observable<J> fetchNext(@Nonnull RequestState<T> state, @Nullable String lastId, @Nonnegative int requestSize);
+
+
+    protected static class RequestState<T> {
+        private final Map<String, Object> extras = new HashMap<>();
+        private final int limit;
+        private final int requestSize;
+        private final PaginationCallback<T> callback;
+        private int fetched;
+        private T last;
+        private boolean callbackDone;
+
+        public RequestState(final int limit, final int requestSize, final PaginationCallback<T> callback) {
+            this.limit = limit;
+            this.requestSize = requestSize;
+            this.callback = callback;
+        }
+
+        public void update(@Nonnull final T entity) {
+            if (done()) {
+                return;
+            }
+            callbackDone = !callback.accept(entity);
+            fetched++;
+            last = entity;
+        }
+
+        @CheckReturnValue
+        public boolean done() {
+            return callbackDone || limit > 0 && fetched == limit;
+        }
+
+        @CheckReturnValue
+        public int entitiesToFetch() {
+            return limit > 0 ? Math.min(requestSize, remaining()) : requestSize;
+        }
+
+        @CheckReturnValue
+        public int fetched() {
+            return fetched;
+        }
+
+        @CheckReturnValue
+        public int remaining() {
+            return limit - fetched;
+        }
+
+        @Nullable
+        @CheckReturnValue
+        public T last() {
+            return last;
+        }
+
+        @Nonnull
+        public RequestState<T> extra(@Nonnull final String key, @Nonnull final Object value) {
+            extras.put(key, value);
+            return this;
+        }
+
+        @Nullable
+        @CheckReturnValue
+        @SuppressWarnings("unchecked")
+        public <U> U extra(@Nonnull final String key) {
+            return (U) extras.get(key);
+        }
+    }
+
+
+    private static final class Page<T> {
+        private final List<T> entities;
+        private final String nextId;
+
+        @java.lang.SuppressWarnings("all")
+        public Page(final List<T> entities, final String nextId) {
+            this.entities = entities;
+            this.nextId = nextId;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public List<T> entities() {
+            return this.entities;
+        }
+
+        @java.lang.SuppressWarnings("all")
+        public String nextId() {
+            return this.nextId;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public boolean equals(final java.lang.Object o) {
+            if (o == this) return true;
+            if (!(o instanceof BasePaginator.Page)) return false;
+            final BasePaginator.Page<?> other = (BasePaginator.Page<?>) o;
+            final java.lang.Object this$entities = this.entities();
+            final java.lang.Object other$entities = other.entities();
+            if (this$entities == null ? other$entities != null : !this$entities.equals(other$entities)) return false;
+            final java.lang.Object this$nextId = this.nextId();
+            final java.lang.Object other$nextId = other.nextId();
+            if (this$nextId == null ? other$nextId != null : !this$nextId.equals(other$nextId)) return false;
+            return true;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public int hashCode() {
+            final int PRIME = 59;
+            int result = 1;
+            final java.lang.Object $entities = this.entities();
+            result = result * PRIME + ($entities == null ? 43 : $entities.hashCode());
+            final java.lang.Object $nextId = this.nextId();
+            result = result * PRIME + ($nextId == null ? 43 : $nextId.hashCode());
+            return result;
+        }
+
+        @java.lang.Override
+        @java.lang.SuppressWarnings("all")
+        public java.lang.String toString() {
+            return "BasePaginator.Page(entities=" + this.entities() + ", nextId=" + this.nextId() + ")";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.util.rx;
+
+import com.mewna.catnip.Catnip;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A collection of utility methods to help make using Rx not quite so potato
+ * when trying to convert between various things.
+ *
+ * @author amy
+ * @since 5/18/19.
+ */
+public final class RxHelpers {
+    public static final ExecutorService FORK_JOIN_POOL = ForkJoinPool.commonPool();
+    public static final Scheduler FORK_JOIN_SCHEDULER = Schedulers.from(FORK_JOIN_POOL);
+    
+    private RxHelpers() {
+    }
+    
+    public static <T> Observable<T> futureToObservable(final CompletableFuture<T> future) {
+        return Observable.create(subscriber ->
+                future.whenComplete((result, error) -> {
+                    if(error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onNext(result);
+                        subscriber.onComplete();
+                    }
+                }));
+    }
+    
+    /**
+     * Cancels the future once everyone who subscribed to the observable has
+     * disposed of it before the future completed. Futures that are never
+     * subscribed to are never cancelled.
+     *
+     * @param observable The observable that emits the future's result.
+     * @param future     The future to cancel.
+     * @param <T>        The type of the observable.
+     *
+     * @return An observable that cancels the future when disposed.
+     */
+    public static <T> Observable<T> cancelOnDispose(final Observable<T> observable, final CompletableFuture<?> future) {
+        final AtomicInteger subscribers = new AtomicInteger();
+        return observable
+                .doOnSubscribe(__ -> subscribers.incrementAndGet())
+                .doOnDispose(() -> {
+                    if(subscribers.decrementAndGet() == 0 && !future.isDone()) {
+                        future.cancel(false);
+                    }
+                });
+    }
+    
+    public static Completable completedCompletable(@Nonnull final Catnip catnip) {
+        return Completable.fromFuture(CompletableFuture.completedFuture(null))
+                .subscribeOn(catnip.rxScheduler())
+                .observeOn(catnip.rxScheduler());
+    }
+}
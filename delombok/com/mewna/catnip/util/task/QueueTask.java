@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  1. Redistributions of source code must retain the above copyright notice, this
+ *     list of conditions and the following disclaimer.
+ *  2. Redistributions in binary form must reproduce the above copyright notice,
+ *     this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *  3. Neither the name of the copyright holder nor the names of its contributors
+ *     may be used to endorse or promote products derived from this software without
+ *     specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ *  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ *  FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ *  DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ *  CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ *  OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.util.task;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+public abstract class QueueTask<T> {
+    protected final Queue<T> queue;
+    protected final Consumer<T> action;
+    
+    public QueueTask(@Nonnull final Queue<T> queue, @Nonnull final Consumer<T> action) {
+        this.queue = queue;
+        this.action = action;
+    }
+    
+    public abstract void run();
+    
+    @Nonnull
+    @CheckReturnValue
+    public Queue<T> queue() {
+        return queue;
+    }
+    
+    @CheckReturnValue
+    public int size() {
+        return queue.size();
+    }
+    
+    public boolean offer(final T item) {
+        boolean inserted = false;
+        if(!queue.contains(item)) {
+            queue.add(item);
+            inserted = true;
+        }
+        return inserted;
+    }
+    
+    @CheckReturnValue
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+    @CheckReturnValue
+    public T peek() {
+        return queue.peek();
+    }
+}
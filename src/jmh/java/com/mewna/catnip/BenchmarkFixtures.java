@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip;
+
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.DiscordEvent.Raw;
+import com.mewna.catnip.shard.manager.DefaultShardManager;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gateway payloads for benchmarks, in {@code src/jmh/resources/fixtures}.
+ * They're shaped like what Discord actually sends, down to the fields catnip
+ * doesn't read, so that parsing and entity building do realistic work:
+ * <ul>
+ *     <li>{@code guild_create}: a community guild with 13 roles, 18
+ *     channels with permission overwrites, 7 emojis, and 250 members with
+ *     presences and activities.</li>
+ *     <li>{@code message_create}: a guild message with a member, a mention,
+ *     an embed, an attachment and a reaction.</li>
+ *     <li>{@code guild_member_add} and {@code presence_update}: a member of
+ *     the above guild.</li>
+ * </ul>
+ */
+public final class BenchmarkFixtures {
+    public static final String GUILD_CREATE = "guild_create";
+    public static final String MESSAGE_CREATE = "message_create";
+    public static final String GUILD_MEMBER_ADD = "guild_member_add";
+    public static final String PRESENCE_UPDATE = "presence_update";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    /**
+     * @param name The fixture to load, ex. {@link #GUILD_CREATE}.
+     *
+     * @return The whole gateway frame, as sent over the socket.
+     */
+    @Nonnull
+    public static String raw(@Nonnull final String name) {
+        try(final InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+            if(in == null) {
+                throw new IllegalArgumentException("No such fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch(final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * @param name The fixture to load, ex. {@link #GUILD_CREATE}.
+     *
+     * @return The parsed gateway frame.
+     */
+    @Nonnull
+    public static JsonObject frame(@Nonnull final String name) {
+        try {
+            return JsonParser.object().from(raw(name));
+        } catch(final JsonParserException e) {
+            throw new IllegalStateException("Invalid fixture: " + name, e);
+        }
+    }
+    
+    /**
+     * @param name The fixture to load, ex. {@link #GUILD_CREATE}.
+     *
+     * @return The parsed event data, ie. the frame's {@code d}.
+     */
+    @Nonnull
+    public static JsonObject data(@Nonnull final String name) {
+        return frame(name).getObject("d");
+    }
+    
+    /**
+     * @param options The options to create catnip with.
+     *
+     * @return A single-shard catnip that's never connected, with the
+     * {@link #GUILD_CREATE} guild in its cache.
+     */
+    @Nonnull
+    public static CatnipImpl catnip(@Nonnull final CatnipOptions options) {
+        final CatnipImpl catnip = new CatnipImpl(options
+                .shardManager(new DefaultShardManager(1))
+                .chunkMembers(false)
+                .logLifecycleEvents(false));
+        catnip.cacheWorker().updateCache(Raw.GUILD_CREATE, 0, data(GUILD_CREATE)).blockingAwait();
+        return catnip;
+    }
+    
+    @Nonnull
+    public static CatnipImpl catnip() {
+        return catnip(new CatnipOptions("token"));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH runs written with {@code -rf json}, and prints a table of
+ * how every benchmark moved that can be pasted into a pull request. Run with
+ * <pre>
+ * mvn -P benchmarks test-compile exec:exec@benchmark-report -Dreport.args="baseline.json current.json threshold=5"
+ * </pre>
+ * Both runs should come from the same machine, as scores from different
+ * hardware can't be compared.
+ * A benchmark regressed when it got worse by more than {@code threshold}
+ * percent, defaulting to 5, and the two scores are further apart than their
+ * errors. If any benchmark regressed, this exits with 1, so that it can gate
+ * a build.
+ */
+public final class BenchmarkReport {
+    private BenchmarkReport() {
+    }
+    
+    public static void main(final String[] args) throws IOException, JsonParserException {
+        if(args.length < 2) {
+            System.err.println("Usage: BenchmarkReport <baseline.json> <current.json> [threshold=5]");
+            System.exit(2);
+        }
+        double threshold = 5D;
+        for(int i = 2; i < args.length; i++) {
+            final String[] parts = args[i].split("=", 2);
+            if(parts[0].equals("threshold")) {
+                threshold = Double.parseDouble(parts[1]);
+            }
+        }
+        final Map<String, Result> baseline = read(Path.of(args[0]));
+        final Map<String, Result> current = read(Path.of(args[1]));
+        
+        final Map<String, String> rows = new TreeMap<>();
+        int regressions = 0;
+        for(final Map.Entry<String, Result> entry : current.entrySet()) {
+            final Result now = entry.getValue();
+            final Result before = baseline.get(entry.getKey());
+            if(before == null) {
+                rows.put(entry.getKey(), String.format("| %s | | %s | | new |", entry.getKey(), now));
+                continue;
+            }
+            final double change = (now.score - before.score) / before.score * 100D;
+            // For throughput higher is better, for everything else (times)
+            // lower is
+            final double worse = now.mode.equals("thrpt") ? -change : change;
+            final boolean significant = Math.abs(now.score - before.score) > before.error + now.error;
+            final String verdict;
+            if(significant && worse > threshold) {
+                verdict = "**regression**";
+                regressions++;
+            } else if(significant && worse < -threshold) {
+                verdict = "improvement";
+            } else {
+                verdict = "";
+            }
+            rows.put(entry.getKey(), String.format("| %s | %s | %s | %+.1f%% | %s |", entry.getKey(), before, now,
+                    change, verdict));
+        }
+        for(final Map.Entry<String, Result> entry : baseline.entrySet()) {
+            if(!current.containsKey(entry.getKey())) {
+                rows.put(entry.getKey(), String.format("| %s | %s | | | removed |", entry.getKey(), entry.getValue()));
+            }
+        }
+        
+        System.out.println("| Benchmark | Baseline | Current | Change | |");
+        System.out.println("|---|---:|---:|---:|---|");
+        rows.values().forEach(System.out::println);
+        System.out.println();
+        System.out.printf("%d benchmarks, %d regressed by more than %.1f%%%n", rows.size(), regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+    
+    @Nonnull
+    private static Map<String, Result> read(@Nonnull final Path path) throws IOException, JsonParserException {
+        final JsonArray runs;
+        try(final InputStream in = Files.newInputStream(path)) {
+            runs = JsonParser.array().from(in);
+        }
+        final Map<String, Result> results = new LinkedHashMap<>();
+        for(final Object run : runs) {
+            final JsonObject json = (JsonObject) run;
+            final StringBuilder key = new StringBuilder(json.getString("benchmark").replaceFirst("^com\\.mewna\\.catnip\\.", ""));
+            final JsonObject params = json.getObject("params");
+            if(params != null && !params.isEmpty()) {
+                key.append(new TreeMap<>(params));
+            }
+            final JsonObject metric = json.getObject("primaryMetric");
+            results.put(key.toString(), new Result(json.getString("mode"), number(metric.get("score")),
+                    number(metric.get("scoreError")), metric.getString("scoreUnit")));
+        }
+        return results;
+    }
+    
+    private static double number(final Object value) {
+        // JMH writes "NaN" as a string when there's a single measurement
+        return value instanceof Number ? ((Number) value).doubleValue() : 0D;
+    }
+    
+    private static final class Result {
+        private final String mode;
+        private final double score;
+        private final double error;
+        private final String unit;
+        
+        private Result(final String mode, final double score, final double error, final String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%.3f +/- %.3f %s", score, error, unit);
+        }
+    }
+}
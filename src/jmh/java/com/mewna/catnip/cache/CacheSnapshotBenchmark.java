@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.cache;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.entity.guild.Guild.*;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.impl.guild.GuildImpl;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.shard.manager.ShardManager;
+import com.mewna.catnip.shard.session.DefaultSessionManager;
+import com.mewna.catnip.util.logging.DefaultLogAdapter;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to load a cache snapshot. Every member comes
+ * with a user and a presence, so {@code entities} is split into guilds of
+ * {@link #MEMBERS_PER_GUILD} members, each of which accounts for three
+ * entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class CacheSnapshotBenchmark {
+    private static final int SHARD_COUNT = 16;
+    private static final int MEMBERS_PER_GUILD = 10_000;
+    
+    @Param({"1000000", "10000000"})
+    private int entities;
+    
+    private Catnip catnip;
+    private Path snapshot;
+    
+    private static Catnip catnip() {
+        final Catnip catnip = Mockito.mock(Catnip.class, Mockito.withSettings().stubOnly());
+        final ShardManager shardManager = Mockito.mock(ShardManager.class);
+        Mockito.when(shardManager.shardCount()).thenReturn(SHARD_COUNT);
+        Mockito.when(catnip.shardManager()).thenReturn(shardManager);
+        Mockito.when(catnip.sessionManager()).thenReturn(new DefaultSessionManager());
+        Mockito.when(catnip.logAdapter()).thenReturn(new DefaultLogAdapter());
+        Mockito.when(catnip.options()).thenReturn(new CatnipOptions("token"));
+        return catnip;
+    }
+    
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        catnip = catnip();
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache().catnip(catnip);
+        final int members = entities / 3;
+        final int guilds = Math.max(1, members / MEMBERS_PER_GUILD);
+        long nextId = 1L;
+        for(int g = 0; g < guilds; g++) {
+            final long guildId = nextId++ << 22;
+            final int shard = (int) ((guildId >> 22) % SHARD_COUNT);
+            cache.guildCache(shard).put(guildId, GuildImpl.builder()
+                    .idAsLong(guildId)
+                    .name("guild " + g)
+                    .ownerIdAsLong(guildId)
+                    .verificationLevel(VerificationLevel.NONE)
+                    .defaultMessageNotifications(NotificationLevel.ONLY_MENTIONS)
+                    .explicitContentFilter(ContentFilterLevel.DISABLED)
+                    .features(List.of())
+                    .mfaLevel(MFALevel.NONE)
+                    .premiumTier(PremiumTier.NONE)
+                    .build());
+            final List<Member> guildMembers = new ArrayList<>(MEMBERS_PER_GUILD);
+            final List<User> users = new ArrayList<>(MEMBERS_PER_GUILD);
+            final Map<String, Presence> presences = new HashMap<>();
+            for(int m = 0; m < members / guilds; m++) {
+                final long userId = nextId++ << 22;
+                guildMembers.add(MemberImpl.builder()
+                        .idAsLong(userId)
+                        .guildIdAsLong(guildId)
+                        .roleIds(Set.of())
+                        .joinedAt("2020-10-19T12:34:56.789000+00:00")
+                        .build());
+                users.add(UserImpl.builder()
+                        .idAsLong(userId)
+                        .username("user " + m)
+                        .discriminator(String.format("%04d", m % 10000))
+                        .build());
+                presences.put(Long.toUnsignedString(userId), PresenceImpl.builder()
+                        .status(OnlineStatus.ONLINE)
+                        .activities(List.of())
+                        .build());
+            }
+            cache.bulkCacheMembers(shard, guildMembers);
+            cache.bulkCacheUsers(shard, users);
+            cache.bulkCachePresences(shard, presences);
+        }
+        snapshot = Files.createTempFile("catnip-cache", ".snapshot");
+        cache.writeSnapshot(snapshot);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+    
+    @Benchmark
+    public MemoryEntityCache load() throws IOException {
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache().catnip(catnip);
+        cache.loadSnapshot(snapshot);
+        return cache;
+    }
+}
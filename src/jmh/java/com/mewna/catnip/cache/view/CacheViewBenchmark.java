@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.cache.view;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the operations the cache does on every event ({@link #get()} and
+ * {@link #put()}), and the ones users do on whole views, on
+ * {@link DefaultCacheView} and {@link DefaultNamedCacheView}. Entities are
+ * strings named after themselves, so that the cost of the entities doesn't
+ * show up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheViewBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+    
+    private DefaultNamedCacheView<String> view;
+    private long[] keys;
+    private String[] values;
+    private int next;
+    
+    @Setup
+    public void setup() {
+        view = new DefaultNamedCacheView<>(Function.identity());
+        keys = new long[size];
+        values = new String[size];
+        final Random random = new Random(1019);
+        for(int i = 0; i < size; i++) {
+            keys[i] = random.nextLong() >>> 1;
+            values[i] = "entity " + i;
+            view.put(keys[i], values[i]);
+        }
+    }
+    
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+    
+    @Benchmark
+    public String get() {
+        return view.getById(keys[nextIndex()]);
+    }
+    
+    @Benchmark
+    public String put() {
+        final int index = nextIndex();
+        return view.put(keys[index], values[index]);
+    }
+    
+    @Benchmark
+    public long count() {
+        return view.count(e -> e.endsWith("7"));
+    }
+    
+    @Benchmark
+    public Collection<String> snapshot() {
+        return view.snapshot();
+    }
+    
+    @Benchmark
+    public Collection<String> findByName() {
+        return view.findByName("ENTITY 42", true);
+    }
+    
+    @Benchmark
+    public Collection<String> findByNameContains() {
+        return view.findByNameContains("99", false);
+    }
+}
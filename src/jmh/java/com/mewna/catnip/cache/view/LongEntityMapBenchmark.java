@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.cache.view;
+
+import com.koloboke.collect.LongIterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link KolobokeLongEntityMap}, which backs every cache view,
+ * against the JDK maps it could be replaced with. The koloboke map is used
+ * through its primitive {@code long} methods, like {@link DefaultCacheView}
+ * does, and the JDK maps with boxed keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LongEntityMapBenchmark {
+    @Param({"koloboke", "hashmap", "concurrenthashmap"})
+    private String implementation;
+    
+    @Param({"1000", "100000"})
+    private int size;
+    
+    private LongEntityMap<Object> koloboke;
+    private Map<Long, Object> map;
+    private long[] keys;
+    private Object[] values;
+    private int next;
+    
+    @Setup
+    public void setup() {
+        switch(implementation) {
+            case "koloboke": {
+                koloboke = LongEntityMap.create(size);
+                map = koloboke;
+                break;
+            }
+            case "hashmap": {
+                map = new HashMap<>(size * 2);
+                break;
+            }
+            case "concurrenthashmap": {
+                map = new ConcurrentHashMap<>(size * 2);
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+            }
+        }
+        keys = new long[size];
+        values = new Object[size];
+        final Random random = new Random(1019);
+        for(int i = 0; i < size; i++) {
+            keys[i] = random.nextLong() >>> 1;
+            values[i] = new Object();
+            map.put(keys[i], values[i]);
+        }
+    }
+    
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+    
+    @Benchmark
+    public Object get() {
+        final long key = keys[nextIndex()];
+        return koloboke != null ? koloboke.get(key) : map.get(key);
+    }
+    
+    @Benchmark
+    public Object getMissing() {
+        final long key = ~keys[nextIndex()];
+        return koloboke != null ? koloboke.get(key) : map.get(key);
+    }
+    
+    @Benchmark
+    public Object put() {
+        final int index = nextIndex();
+        return koloboke != null ? koloboke.put(keys[index], values[index]) : map.put(keys[index], values[index]);
+    }
+    
+    @Benchmark
+    public long iterateKeys() {
+        long sum = 0;
+        if(koloboke != null) {
+            final LongIterator iterator = koloboke.iterator();
+            while(iterator.hasNext()) {
+                sum += iterator.nextLong();
+            }
+        } else {
+            for(final Long key : map.keySet()) {
+                sum += key;
+            }
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public int iterateValues() {
+        int count = 0;
+        for(final Object value : map.values()) {
+            if(value != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.entity.impl;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.BenchmarkFixtures;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.message.Message;
+import com.mewna.catnip.internal.CatnipImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building entities from already-parsed gateway payloads.
+ * {@link #createGuild()} only builds the guild itself, not the members,
+ * channels and roles that come with a {@code GUILD_CREATE}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityBuilderBenchmark {
+    private CatnipImpl catnip;
+    private EntityBuilder entityBuilder;
+    private JsonObject message;
+    private JsonObject guild;
+    private JsonObject member;
+    private String guildId;
+    
+    @Setup
+    public void setup() {
+        catnip = BenchmarkFixtures.catnip();
+        entityBuilder = new EntityBuilder(catnip);
+        message = BenchmarkFixtures.data(BenchmarkFixtures.MESSAGE_CREATE);
+        guild = BenchmarkFixtures.data(BenchmarkFixtures.GUILD_CREATE);
+        member = BenchmarkFixtures.data(BenchmarkFixtures.GUILD_MEMBER_ADD);
+        guildId = member.getString("guild_id");
+    }
+    
+    @TearDown
+    public void tearDown() {
+        catnip.shutdown();
+    }
+    
+    @Benchmark
+    public Message createMessage() {
+        return entityBuilder.createMessage(message);
+    }
+    
+    @Benchmark
+    public Guild createGuild() {
+        return entityBuilder.createGuild(guild);
+    }
+    
+    @Benchmark
+    public Member createMember() {
+        return entityBuilder.createMember(guildId, member);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import io.reactivex.rxjava3.core.Observable;
+import org.openjdk.jmh.annotations.*;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link AbstractRequester#queue(OutboundRequest)}
+ * with each {@link StacktraceCaptureMode}. Requests are queued from
+ * {@link #depth} frames deep, since the cost of capturing a stacktrace
+ * grows with the depth of the stack, and are dropped by the bucket rather
+ * than sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueStacktraceBenchmark {
+    @Param({"NONE", "FULL", "FRAMES"})
+    private StacktraceCaptureMode mode;
+    
+    @Param("1.0")
+    private double sampleRate;
+    
+    @Param("32")
+    private int depth;
+    
+    private AbstractRequester requester;
+    private OutboundRequest request;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        // A real instance rather than a mock, since mocks capture a
+        // stacktrace of their own on every call
+        requester = new DroppingRequester();
+        new CatnipImpl(new CatnipOptions("token")
+                .requester(requester)
+                .restStacktraceMode(mode)
+                .restStacktraceSampleRate(sampleRate));
+        // Not a GET, so that nothing is coalesced
+        request = new OutboundRequest(Routes.TRIGGER_TYPING_INDICATOR.withMajorParam("1"), Map.of());
+    }
+    
+    @Benchmark
+    public Observable<ResponsePayload> queue() {
+        return queue(depth);
+    }
+    
+    private Observable<ResponsePayload> queue(final int remaining) {
+        return remaining == 0 ? requester.queue(request) : queue(remaining - 1);
+    }
+    
+    private static final class DroppingRequester extends AbstractRequester {
+        private static final Bucket BUCKET = new Bucket() {
+            @Override
+            public void queueRequest(@Nonnull final QueuedRequest request) {
+            }
+            
+            @Override
+            public void failedRequest(@Nonnull final QueuedRequest request, @Nonnull final Throwable failureCause) {
+            }
+            
+            @Override
+            public void requestDone() {
+            }
+        };
+        
+        private DroppingRequester() {
+            super(new DefaultRateLimiter());
+        }
+        
+        @Nonnull
+        @Override
+        protected Bucket getBucket(@Nonnull final Route route) {
+            return BUCKET;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import ch.qos.logback.classic.Logger;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.AbstractRequester.QueuedRequest;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU cost of preparing a REST request, from creating the
+ * request like the REST handlers do to building the {@link HttpRequest},
+ * without sending it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPreparationBenchmark {
+    private static final String GUILD = "81384788765712384";
+    private static final String USER = "128316294742147072";
+    private static final String ROLE = "264445053596991498";
+    
+    private PreparingRequester requester;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        // The test logback config traces everything, which would make this
+        // a benchmark of logging
+        ((Logger) LoggerFactory.getLogger("com.mewna")).setLevel(ch.qos.logback.classic.Level.INFO);
+        requester = new PreparingRequester();
+        new CatnipImpl(new CatnipOptions("token").requester(requester));
+    }
+    
+    @Benchmark
+    public HttpRequest get() {
+        return prepare(new OutboundRequest(Routes.GET_GUILD_MEMBER.withMajorParam(GUILD), Map.of("user", USER)));
+    }
+    
+    @Benchmark
+    public HttpRequest put() {
+        return prepare(new OutboundRequest(Routes.ADD_GUILD_MEMBER_ROLE.withMajorParam(GUILD),
+                Map.of("user", USER, "role", ROLE)).reason("benchmark").emptyBody(true));
+    }
+    
+    private HttpRequest prepare(final OutboundRequest request) {
+        requester.executeRequest(new QueuedRequest(request, request.route(), new CompletableFuture<>(), null, RestStacktrace.NONE));
+        return requester.prepared;
+    }
+    
+    private static final class PreparingRequester extends AbstractRequester {
+        private HttpRequest prepared;
+        
+        private PreparingRequester() {
+            super(new DefaultRateLimiter());
+        }
+        
+        @Nonnull
+        @Override
+        protected Bucket getBucket(@Nonnull final Route route) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        protected void executeHttpRequest(@Nonnull final Route route, @Nullable final BodyPublisher body,
+                                          @Nonnull final QueuedRequest request, @Nonnull final String mediaType) {
+            prepared = buildHttpRequest(route, body, request, mediaType);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import ch.qos.logback.classic.Logger;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.FakeDiscordRestServer;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.util.metrics.LatencyHistogram;
+import io.reactivex.rxjava3.core.Completable;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends a burst of requests through each {@link Requester} implementation to
+ * a {@link FakeDiscordRestServer}, and reports throughput, how many requests
+ * were ratelimited, and end-to-end latency. Not a JMH benchmark, since what
+ * matters here is how requesters behave under ratelimits, not CPU time. Run
+ * with
+ * <pre>
+ * mvn -P benchmarks test-compile exec:exec@load-test -Dload.args="requests=2000 channels=20 limit=5 reset=250"
+ * </pre>
+ * Arguments, all optional:
+ * <ul>
+ *     <li>{@code requests}: how many requests to send. Defaults to 2000.</li>
+ *     <li>{@code channels}: how many channels, ie. buckets, to spread them
+ *     over. Defaults to 20.</li>
+ *     <li>{@code limit} and {@code reset}: the bucket limit, and reset time
+ *     in milliseconds. Default to 5 and 250.</li>
+ *     <li>{@code global}: the global limit per second. Defaults to 1000.</li>
+ *     <li>{@code latency}: the maximum injected latency in milliseconds, the
+ *     minimum being half of it. Defaults to 20.</li>
+ *     <li>{@code errors}: the fraction of requests answered with a 5xx.
+ *     Defaults to 0.01.</li>
+ * </ul>
+ */
+public final class RequesterLoadTest {
+    private RequesterLoadTest() {
+    }
+    
+    public static void main(final String[] args) throws Exception {
+        ((Logger) LoggerFactory.getLogger("com.mewna")).setLevel(ch.qos.logback.classic.Level.WARN);
+        final Map<String, String> options = new HashMap<>(Map.of("requests", "2000", "channels", "20",
+                "limit", "5", "reset", "250", "global", "1000", "latency", "20", "errors", "0.01"));
+        for(final String arg : args) {
+            final String[] parts = arg.split("=", 2);
+            options.put(parts[0], parts[1]);
+        }
+        final Map<String, Supplier<Requester>> requesters = new LinkedHashMap<>();
+        requesters.put("SerialRequester", () -> new SerialRequester(new DefaultRateLimiter()));
+        requesters.put("BurstRequester", () -> new BurstRequester(new DefaultRateLimiter()));
+        
+        System.out.printf("%-16s %10s %10s %10s %10s %10s %10s%n",
+                "Requester", "req/s", "429s", "429 %", "5xx", "p50 ms", "p99 ms");
+        for(final Map.Entry<String, Supplier<Requester>> entry : requesters.entrySet()) {
+            run(entry.getKey(), entry.getValue().get(), options);
+        }
+        System.exit(0);
+    }
+    
+    private static void run(final String name, final Requester requester, final Map<String, String> options)
+            throws Exception {
+        final int requests = Integer.parseInt(options.get("requests"));
+        final int channels = Integer.parseInt(options.get("channels"));
+        final long latency = Long.parseLong(options.get("latency"));
+        try(final FakeDiscordRestServer server = new FakeDiscordRestServer()
+                .defaultBucket(Integer.parseInt(options.get("limit")), Long.parseLong(options.get("reset")))
+                .globalLimit(Integer.parseInt(options.get("global")))
+                .latency(latency / 2, latency)
+                .errorRate(Double.parseDouble(options.get("errors")))) {
+            final MemoryRestMetrics metrics = new MemoryRestMetrics();
+            final CatnipImpl catnip = new CatnipImpl(new CatnipOptions("token")
+                    .apiHost(server.uri())
+                    .requester(requester)
+                    .restMetrics(metrics)
+                    .captureRestStacktraces(false));
+            final LatencyHistogram histogram = new LatencyHistogram();
+            final List<Completable> sends = new ArrayList<>(requests);
+            final long start = System.nanoTime();
+            for(int i = 0; i < requests; i++) {
+                final long queued = System.nanoTime();
+                sends.add(catnip.rest().channel().deleteMessage(String.valueOf(1000 + i % channels), String.valueOf(i))
+                        .onErrorComplete()
+                        .doOnComplete(() -> histogram.record(System.nanoTime() - queued)));
+            }
+            if(!Completable.merge(sends).blockingAwait(60, TimeUnit.SECONDS)) {
+                System.out.printf("%-16s timed out, stuck buckets:%n", name);
+                metrics.buckets().values().stream()
+                        .filter(bucket -> bucket.queued() > 0 || bucket.inFlight() > 0)
+                        .forEach(bucket -> System.out.println("    " + bucket));
+                return;
+            }
+            final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+            System.out.printf("%-16s %10.1f %10d %10.2f %10d %10d %10d%n", name, requests / seconds,
+                    server.rateLimited(), 100D * server.rateLimited() / server.requests(), server.serverErrors(),
+                    histogram.percentile(50, TimeUnit.MILLISECONDS), histogram.percentile(99, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.BenchmarkFixtures;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import io.reactivex.rxjava3.core.Observable;
+import org.openjdk.jmh.annotations.*;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead {@link AbstractRequester#queue} adds to every
+ * request: coalescing, metrics, stacktraces and wrapping the response in an
+ * observable. Requests never leave the process, their bucket completes them
+ * as soon as they're queued.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequesterQueueBenchmark {
+    private static final ResponsePayload RESPONSE = new ResponsePayload("{}");
+    
+    private CatnipImpl catnip;
+    private ImmediateRequester requester;
+    private long next;
+    
+    @Setup
+    public void setup() {
+        requester = new ImmediateRequester();
+        catnip = BenchmarkFixtures.catnip(new CatnipOptions("token")
+                .requester(requester)
+                .captureRestStacktraces(false));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        catnip.shutdown();
+    }
+    
+    /**
+     * A coalescable GET, for a different message every time.
+     */
+    @Benchmark
+    public Observable<ResponsePayload> queueGet() {
+        return requester.queue(new OutboundRequest(Routes.GET_CHANNEL_MESSAGE.withMajorParam("1"),
+                Map.of("message", Long.toString(next++))));
+    }
+    
+    @Benchmark
+    public Observable<ResponsePayload> queuePost() {
+        return requester.queue(new OutboundRequest(Routes.CREATE_MESSAGE.withMajorParam("1"), Map.of(),
+                new JsonObject()));
+    }
+    
+    /**
+     * Queues a request and waits for its response, which includes hopping
+     * onto the rx scheduler.
+     */
+    @Benchmark
+    public ResponsePayload roundTrip() {
+        return requester.queue(new OutboundRequest(Routes.CREATE_MESSAGE.withMajorParam("1"), Map.of(),
+                new JsonObject())).blockingFirst();
+    }
+    
+    private static final class ImmediateRequester extends AbstractRequester {
+        private final Bucket bucket = new Bucket() {
+            @Override
+            public void queueRequest(@Nonnull final QueuedRequest request) {
+                request.future().complete(RESPONSE);
+            }
+            
+            @Override
+            public void failedRequest(@Nonnull final QueuedRequest request, @Nonnull final Throwable failureCause) {
+            }
+            
+            @Override
+            public void requestDone() {
+            }
+        };
+        
+        private ImmediateRequester() {
+            super(new DefaultRateLimiter());
+        }
+        
+        @Nonnull
+        @Override
+        protected Bucket getBucket(@Nonnull final Route route) {
+            return bucket;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.BenchmarkFixtures;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.event.DefaultDispatchManager;
+import com.mewna.catnip.shard.event.EventTiming;
+import org.openjdk.jmh.annotations.*;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning a gateway payload into the event that's dispatched to
+ * listeners. The dispatch manager drops the events, so this only measures
+ * {@link DispatchEmitter} and the entities it builds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchEmitterBenchmark {
+    @Param({BenchmarkFixtures.MESSAGE_CREATE, BenchmarkFixtures.GUILD_MEMBER_ADD, BenchmarkFixtures.PRESENCE_UPDATE})
+    private String fixture;
+    
+    private CatnipImpl catnip;
+    private DispatchEmitter emitter;
+    private JsonObject payload;
+    private long dispatched;
+    
+    @Setup
+    public void setup() {
+        catnip = BenchmarkFixtures.catnip(new CatnipOptions("token")
+                .dispatchManager(new DefaultDispatchManager() {
+                    @Override
+                    public void dispatchEvent(final String address, final Object event,
+                                              @Nullable final EventTiming timing,
+                                              @Nullable final ShardFlowControl flowControl) {
+                        dispatched++;
+                    }
+                }));
+        emitter = new DispatchEmitter(catnip);
+        payload = BenchmarkFixtures.frame(fixture);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        catnip.shutdown();
+    }
+    
+    @Benchmark
+    public long emit() {
+        emitter.emit(payload);
+        return dispatched;
+    }
+}
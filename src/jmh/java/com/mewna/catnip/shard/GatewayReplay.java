@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.extension.AbstractExtension;
+import com.mewna.catnip.extension.hook.CatnipHook;
+import com.mewna.catnip.extension.recorder.GatewayRecorder;
+import com.mewna.catnip.extension.recorder.GatewayRecording;
+import com.mewna.catnip.extension.recorder.GatewayRecording.Frame;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.event.DefaultDispatchManager;
+import com.mewna.catnip.shard.event.EventTiming;
+import com.mewna.catnip.shard.manager.DefaultShardManager;
+import com.mewna.catnip.util.metrics.LatencyHistogram;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.Deflater;
+
+/**
+ * Replays a {@link GatewayRecorder} recording into {@link CatnipShardImpl}s
+ * through a fake {@link WebSocket}, and reports how fast the gateway ->
+ * buffer -> cache -> dispatch pipeline gets through it. Only dispatches are
+ * replayed, since the rest of the gateway protocol would try to talk back to
+ * Discord. Frames are fed from a single thread, in the order they were
+ * recorded, so shards don't run in parallel like they would when connected.
+ * Run with
+ * <pre>
+ * mvn -P benchmarks test-compile exec:exec@gateway-replay -Dreplay.args="file=recording.gz speed=max"
+ * </pre>
+ * Arguments, all optional:
+ * <ul>
+ *     <li>{@code file}: the recording to replay. If not given, a recording of
+ *     4 shards, 200 guilds of 100 members, and 100,000 messages is
+ *     generated.</li>
+ *     <li>{@code speed}: {@code max} to replay as fast as possible,
+ *     {@code recorded} to replay at the speed it was recorded at, or a
+ *     multiplier of the recorded speed. Defaults to {@code max}.</li>
+ *     <li>{@code compress}: {@code true} to replay frames zlib-stream
+ *     compressed, through {@link CatnipShardImpl#onBinary}, or {@code false}
+ *     to replay them through {@link CatnipShardImpl#onText}. Defaults to
+ *     {@code true}.</li>
+ *     <li>{@code iterations}: how many times to replay the recording, each
+ *     time into a fresh catnip instance. Defaults to 5.</li>
+ * </ul>
+ * Reported per iteration are dispatched events per second, bytes allocated
+ * per event, and latency percentiles in microseconds of each stage a frame
+ * goes through: decompressing and parsing it, buffering it and updating the
+ * cache with it, which happen on the socket's thread, and for
+ * {@code MESSAGE_CREATE}s, the whole way from the socket to a listener.
+ */
+public final class GatewayReplay {
+    private GatewayReplay() {
+    }
+    
+    public static void main(final String[] args) throws Exception {
+        ((Logger) LoggerFactory.getLogger("com.mewna")).setLevel(Level.WARN);
+        final Map<String, String> options = new HashMap<>(Map.of("speed", "max", "compress", "true",
+                "iterations", "5"));
+        for(final String arg : args) {
+            final String[] parts = arg.split("=", 2);
+            options.put(parts[0], parts[1]);
+        }
+        final List<Frame> frames;
+        if(options.containsKey("file")) {
+            frames = GatewayRecording.read(Path.of(options.get("file")));
+        } else {
+            final Path path = Files.createTempFile("catnip-gateway", ".recording");
+            try {
+                GatewayFixtures.record(path, 4, 200, 100, 100_000, 100, TimeUnit.MICROSECONDS);
+                frames = GatewayRecording.read(path);
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+        final List<Frame> dispatches = new ArrayList<>();
+        int messages = 0;
+        for(final Frame frame : frames) {
+            final JsonObject payload = JsonParser.object().from(frame.payload());
+            if(payload.getInt("op") == GatewayOp.DISPATCH.opcode()) {
+                dispatches.add(frame);
+                if(DiscordEvent.Raw.MESSAGE_CREATE.equals(payload.getString("t"))) {
+                    messages++;
+                }
+            }
+        }
+        final String speed = options.get("speed");
+        final double multiplier = "max".equals(speed) ? 0 : "recorded".equals(speed) ? 1 : Double.parseDouble(speed);
+        final boolean compress = Boolean.parseBoolean(options.get("compress"));
+        final Object[] payloads = compress ? compress(dispatches) : dispatches.stream().map(Frame::payload).toArray();
+        
+        System.out.printf("%d frames, %d dispatches, %s%n", frames.size(), dispatches.size(),
+                compress ? "zlib-stream" : "uncompressed");
+        System.out.printf("%-10s %10s %12s %10s %10s %10s %10s %10s %10s%n", "Iteration", "events/s", "bytes/event",
+                "decode p50", "decode p99", "cache p50", "cache p99", "msg p50", "msg p99");
+        for(int i = 0; i < Integer.parseInt(options.get("iterations")); i++) {
+            new Replay(dispatches, payloads, multiplier, messages).run(i + 1);
+        }
+        System.exit(0);
+    }
+    
+    /**
+     * Compresses each shard's frames as one zlib stream, the way Discord's
+     * {@code compress=zlib-stream} does.
+     */
+    private static Object[] compress(@Nonnull final List<Frame> frames) {
+        final Map<Integer, Deflater> deflaters = new HashMap<>();
+        final byte[] buffer = new byte[64 * 1024];
+        final Object[] compressed = new Object[frames.size()];
+        for(int i = 0; i < frames.size(); i++) {
+            final Frame frame = frames.get(i);
+            final Deflater deflater = deflaters.computeIfAbsent(frame.shardId(), __ -> new Deflater());
+            deflater.setInput(frame.payload().getBytes(StandardCharsets.UTF_8));
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int read;
+            do {
+                read = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, read);
+            } while(read == buffer.length);
+            compressed[i] = out.toByteArray();
+        }
+        deflaters.values().forEach(Deflater::end);
+        return compressed;
+    }
+    
+    private static long allocatedBytes() {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+    
+    private static final class Replay {
+        private final List<Frame> frames;
+        private final Object[] payloads;
+        private final double multiplier;
+        private final int messages;
+        private final LatencyHistogram decode = new LatencyHistogram();
+        private final LatencyHistogram cache = new LatencyHistogram();
+        private final LatencyHistogram delivery = new LatencyHistogram();
+        private final LongAdder events = new LongAdder();
+        private final Map<String, Long> messageStarts = new ConcurrentHashMap<>();
+        private final CountDownLatch delivered;
+        private final Map<Integer, CatnipShardImpl> shards = new HashMap<>();
+        private final CatnipImpl catnip;
+        /**
+         * When the frame being replayed was fed into its shard. Hooks run
+         * synchronously, so this is only touched by the replaying thread.
+         */
+        private long frameStart;
+        private long decodedAt;
+        
+        Replay(@Nonnull final List<Frame> frames, @Nonnull final Object[] payloads, final double multiplier,
+               final int messages) {
+            this.frames = frames;
+            this.payloads = payloads;
+            this.multiplier = multiplier;
+            this.messages = messages;
+            delivered = new CountDownLatch(messages);
+            final int shardCount = frames.isEmpty() ? 1 : frames.get(0).shardCount();
+            catnip = new CatnipImpl(new CatnipOptions("token")
+                    .shardManager(new DefaultShardManager(shardCount))
+                    .dispatchManager(new DefaultDispatchManager() {
+                        @Override
+                        public void dispatchEvent(final String address, final Object event,
+                                                  @Nullable final EventTiming timing,
+                                                  @Nullable final ShardFlowControl flowControl) {
+                            events.increment();
+                            super.dispatchEvent(address, event, timing, flowControl);
+                        }
+                    })
+                    .chunkMembers(false)
+                    .logLifecycleEvents(false)
+                    // Handle frames on the replaying thread, so that decode
+                    // and cache times can be told apart
+                    .gatewayParseExecutor(Runnable::run));
+            catnip.loadExtension(new AbstractExtension("replay-timing") {
+            }.registerHook(new CatnipHook() {
+                @Override
+                public JsonObject rawGatewayReceiveHook(@Nonnull final ShardInfo shardInfo,
+                                                        @Nonnull final JsonObject json) {
+                    decodedAt = System.nanoTime();
+                    decode.record(decodedAt - frameStart);
+                    if(DiscordEvent.Raw.MESSAGE_CREATE.equals(json.getString("t"))) {
+                        messageStarts.put(json.getObject("d").getString("id"), frameStart);
+                    }
+                    return json;
+                }
+            }));
+            catnip.on(DiscordEvent.MESSAGE_CREATE, message -> {
+                final Long start = messageStarts.remove(message.id());
+                if(start != null) {
+                    delivery.record(System.nanoTime() - start);
+                    delivered.countDown();
+                }
+            });
+            for(final Frame f : frames) {
+                shards.computeIfAbsent(f.shardId(), id -> new CatnipShardImpl(catnip, id, shardCount, null));
+            }
+        }
+        
+        void run(final int iteration) throws InterruptedException {
+            final WebSocket socket = new FakeWebSocket();
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            for(int i = 0; i < frames.size(); i++) {
+                final Frame recorded = frames.get(i);
+                if(multiplier > 0) {
+                    final long due = start + (long) (recorded.offset() / multiplier);
+                    long wait;
+                    while((wait = due - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                final CatnipShardImpl shard = shards.get(recorded.shardId());
+                frameStart = System.nanoTime();
+                if(payloads[i] instanceof byte[]) {
+                    shard.onBinary(socket, ByteBuffer.wrap((byte[]) payloads[i]), true);
+                } else {
+                    shard.onText(socket, (String) payloads[i], true);
+                }
+                cache.record(System.nanoTime() - decodedAt);
+            }
+            if(!delivered.await(1, TimeUnit.MINUTES)) {
+                System.out.printf("%-10d only %d of %d messages were delivered%n", iteration,
+                        messages - delivered.getCount(), messages);
+            }
+            final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+            final long allocated = allocatedBytes() - allocatedBefore;
+            final long count = Math.max(1, events.sum());
+            System.out.printf("%-10d %10.0f %12d %10d %10d %10d %10d %10d %10d%n", iteration, count / seconds,
+                    allocated / count,
+                    decode.percentile(50, TimeUnit.MICROSECONDS), decode.percentile(99, TimeUnit.MICROSECONDS),
+                    cache.percentile(50, TimeUnit.MICROSECONDS), cache.percentile(99, TimeUnit.MICROSECONDS),
+                    delivery.percentile(50, TimeUnit.MICROSECONDS), delivery.percentile(99, TimeUnit.MICROSECONDS));
+            catnip.shutdown();
+        }
+    }
+    
+    /**
+     * A websocket that drops everything sent to it.
+     */
+    private static final class FakeWebSocket implements WebSocket {
+        @Override
+        public CompletableFuture<WebSocket> sendText(final CharSequence data, final boolean last) {
+            return CompletableFuture.completedFuture(this);
+        }
+        
+        @Override
+        public CompletableFuture<WebSocket> sendBinary(final ByteBuffer data, final boolean last) {
+            return CompletableFuture.completedFuture(this);
+        }
+        
+        @Override
+        public CompletableFuture<WebSocket> sendPing(final ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+        
+        @Override
+        public CompletableFuture<WebSocket> sendPong(final ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+        
+        @Override
+        public CompletableFuture<WebSocket> sendClose(final int statusCode, final String reason) {
+            return CompletableFuture.completedFuture(this);
+        }
+        
+        @Override
+        public void request(final long n) {
+        }
+        
+        @Override
+        public String getSubprotocol() {
+            return "";
+        }
+        
+        @Override
+        public boolean isOutputClosed() {
+            return false;
+        }
+        
+        @Override
+        public boolean isInputClosed() {
+            return false;
+        }
+        
+        @Override
+        public void abort() {
+        }
+    }
+}
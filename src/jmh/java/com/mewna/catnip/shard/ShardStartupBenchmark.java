@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.manager.DefaultShardManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures how long it takes to start up {@code shards} shards against a
+ * {@link FakeDiscordGatewayServer}, from {@link CatnipImpl#connect()} until
+ * every shard has identified and cached its guilds. The connect queue delay
+ * is turned off, so this measures catnip's own per-shard overhead rather
+ * than Discord's IDENTIFY ratelimit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShardStartupBenchmark {
+    private static final int GUILDS_PER_SHARD = 10;
+    private static final int MEMBERS_PER_GUILD = 100;
+    private static final long STARTUP_TIMEOUT = TimeUnit.MINUTES.toNanos(2);
+    
+    @Param({"1", "10", "100", "1000"})
+    private int shards;
+    
+    private FakeDiscordGatewayServer server;
+    private CatnipImpl catnip;
+    
+    @Setup(Level.Invocation)
+    public void setup() throws IOException {
+        server = new FakeDiscordGatewayServer()
+                .shardCount(shards)
+                .guilds(shards * GUILDS_PER_SHARD, MEMBERS_PER_GUILD);
+        catnip = new CatnipImpl(new CatnipOptions("token")
+                .apiHost(server.uri())
+                .shardManager(new DefaultShardManager(shards).identifyDelay(0L))
+                .chunkMembers(false));
+    }
+    
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        catnip.shutdown();
+        server.close();
+    }
+    
+    @Benchmark
+    public int startup() throws InterruptedException, TimeoutException {
+        final long deadline = System.nanoTime() + STARTUP_TIMEOUT;
+        catnip.connect();
+        final int guilds = shards * GUILDS_PER_SHARD;
+        while(catnip.cache().guilds().size() < guilds) {
+            if(System.nanoTime() > deadline) {
+                throw new TimeoutException("Only cached " + catnip.cache().guilds().size() + '/' + guilds
+                        + " guilds, with " + server.identifies().size() + '/' + shards + " shards identified");
+            }
+            Thread.sleep(1L);
+        }
+        return server.identifies().size();
+    }
+}
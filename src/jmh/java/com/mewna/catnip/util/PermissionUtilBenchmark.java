@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util;
+
+import com.mewna.catnip.BenchmarkFixtures;
+import com.mewna.catnip.entity.channel.GuildChannel;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.util.Permission;
+import com.mewna.catnip.internal.CatnipImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures computing a member's permissions from the cache, in the guild and
+ * in the channel with the most permission overrides. The member is the one
+ * with the most roles who isn't the owner or an administrator, since those
+ * short-circuit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionUtilBenchmark {
+    private CatnipImpl catnip;
+    private Member member;
+    private GuildChannel channel;
+    
+    @Setup
+    public void setup() {
+        catnip = BenchmarkFixtures.catnip();
+        final String guildId = BenchmarkFixtures.data(BenchmarkFixtures.GUILD_CREATE).getString("id");
+        member = catnip.cache().members(guildId).stream()
+                .filter(m -> PermissionUtil.effectivePermissions(m) != Permission.ALL)
+                .max(Comparator.comparingInt(m -> m.roleIds().size()))
+                .orElseThrow();
+        channel = catnip.cache().channels(guildId).stream()
+                .max(Comparator.comparingInt(c -> c.overrides().size()))
+                .orElseThrow();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        catnip.shutdown();
+    }
+    
+    @Benchmark
+    public long guildPermissions() {
+        return PermissionUtil.effectivePermissions(member);
+    }
+    
+    @Benchmark
+    public long channelPermissions() {
+        return PermissionUtil.effectivePermissions(member, channel);
+    }
+}
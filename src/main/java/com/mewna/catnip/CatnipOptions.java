@@ -36,15 +36,22 @@ import com.mewna.catnip.entity.delegate.EntityDelegator;
 import com.mewna.catnip.entity.serialization.DefaultEntitySerializer;
 import com.mewna.catnip.entity.serialization.EntitySerializer;
 import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.rest.Routes.Route;
 import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.DefaultRetryPolicy;
 import com.mewna.catnip.rest.requester.Requester;
+import com.mewna.catnip.rest.requester.ResponseCache;
+import com.mewna.catnip.rest.requester.RestMetrics;
+import com.mewna.catnip.rest.requester.RetryPolicy;
 import com.mewna.catnip.rest.requester.SerialRequester;
+import com.mewna.catnip.rest.requester.StacktraceCaptureMode;
 import com.mewna.catnip.shard.CompressionMode;
 import com.mewna.catnip.shard.GatewayIntent;
 import com.mewna.catnip.shard.buffer.CachingBuffer;
 import com.mewna.catnip.shard.buffer.EventBuffer;
 import com.mewna.catnip.shard.event.DefaultDispatchManager;
 import com.mewna.catnip.shard.event.DispatchManager;
+import com.mewna.catnip.shard.event.EventLatencyMetrics;
 import com.mewna.catnip.shard.manager.DefaultShardManager;
 import com.mewna.catnip.shard.manager.ShardManager;
 import com.mewna.catnip.shard.ratelimit.MemoryRatelimiter;
@@ -66,8 +73,10 @@ import lombok.experimental.Accessors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -110,6 +119,9 @@ public final class CatnipOptions implements CatnipOptionsView, Cloneable {
     private boolean logExtensionOverrides = true;
     private boolean validateToken = true;
     private boolean captureRestStacktraces = true;
+    @Nonnull
+    private StacktraceCaptureMode restStacktraceMode = StacktraceCaptureMode.FRAMES;
+    private double restStacktraceSampleRate = 1D;
     private boolean logUncachedPresenceWhenNotChunking = true;
     private boolean enableGuildSubscriptions = true;
     private long memberChunkTimeout = TimeUnit.SECONDS.toMillis(10);
@@ -142,6 +154,23 @@ public final class CatnipOptions implements CatnipOptionsView, Cloneable {
     private JsonObject customIdentifyOptions;
     @Nonnull
     private EntityDelegator entityDelegator = new DefaultEntityDelegator();
+    @Nullable
+    private Path cacheSnapshotPath;
+    private boolean coalesceRestRequests;
+    @Nonnull
+    private Set<Route> uncoalescedRoutes = Set.of();
+    @Nullable
+    private ResponseCache restResponseCache;
+    @Nonnull
+    private RetryPolicy restRetryPolicy = new DefaultRetryPolicy();
+    @Nonnull
+    private RestMetrics restMetrics = RestMetrics.NOOP;
+    @Nonnull
+    private EventLatencyMetrics eventLatencyMetrics = EventLatencyMetrics.NOOP;
+    private long highEventLatencyThreshold = TimeUnit.SECONDS.toNanos(10);
+    private int maxOutstandingEvents;
+    @Nullable
+    private Executor gatewayParseExecutor;
     
     @Override
     public Object clone() {
@@ -36,6 +36,7 @@ import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
 import com.mewna.catnip.entity.user.Presence;
 import com.mewna.catnip.entity.user.User;
 import com.mewna.catnip.entity.user.VoiceState;
+import com.mewna.catnip.shard.event.EventContext;
 import io.reactivex.rxjava3.core.Completable;
 
 import javax.annotation.Nonnegative;
@@ -65,6 +66,28 @@ public interface EntityCacheWorker extends EntityCache {
     @SuppressWarnings("UnusedReturnValue")
     Completable updateCache(@Nonnull String eventType, @Nonnegative int shardId, @Nonnull JsonObject payload);
     
+    /**
+     * Update cache with a single gateway event. Entities that are built from
+     * the payload while updating the cache may be handed to
+     * {@link EventContext#parsed(Object)}, so that they don't have to be
+     * built again when the event is dispatched. The payload itself must not
+     * be modified.
+     * <p>
+     * The default implementation ignores the context.
+     *
+     * @param eventType Type of the event.
+     * @param payload   Data payload contained in the event
+     * @param context   The event's context.
+     *
+     * @return Itself.
+     */
+    @Nonnull
+    @SuppressWarnings("UnusedReturnValue")
+    default Completable updateCache(@Nonnull final String eventType, @Nonnegative final int shardId,
+                                    @Nonnull final JsonObject payload, @Nonnull final EventContext context) {
+        return updateCache(eventType, shardId, payload);
+    }
+    
     void bulkCacheUsers(@Nonnegative int shardId, @Nonnull Collection<User> users);
     
     void bulkCacheChannels(@Nonnegative int shardId, @Nonnull Collection<GuildChannel> channels);
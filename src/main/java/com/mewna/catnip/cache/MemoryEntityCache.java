@@ -37,13 +37,19 @@ import com.mewna.catnip.entity.channel.GuildChannel;
 import com.mewna.catnip.entity.channel.UserDMChannel;
 import com.mewna.catnip.entity.guild.Guild;
 import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.PartialMember;
 import com.mewna.catnip.entity.guild.Role;
 import com.mewna.catnip.entity.impl.EntityBuilder;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
 import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
 import com.mewna.catnip.entity.user.Presence;
 import com.mewna.catnip.entity.user.Presence.OnlineStatus;
 import com.mewna.catnip.entity.user.User;
 import com.mewna.catnip.entity.user.VoiceState;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.util.JsonUtil;
 import com.mewna.catnip.util.rx.RxHelpers;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
@@ -54,12 +60,17 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.LongPredicate;
 
@@ -89,6 +100,16 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
     protected final Map<Long, MutableCacheView<VoiceState>> voiceStateCache = new ConcurrentHashMap<>();
     @SuppressWarnings("WeakerAccess")
     protected final AtomicReference<User> selfUser = new AtomicReference<>(null);
+    private final LongAdder skippedUserUpdates = new LongAdder();
+    private final LongAdder appliedUserUpdates = new LongAdder();
+    private final LongAdder skippedPresenceUpdates = new LongAdder();
+    private final LongAdder appliedPresenceUpdates = new LongAdder();
+    /**
+     * Shards whose session was restored from a cache snapshot. If resuming
+     * fails, their guilds came from the snapshot and are dropped along with
+     * the rest of the shard, see {@link #invalidateShard(int)}.
+     */
+    final Set<Integer> snapshotShards = ConcurrentHashMap.newKeySet();
     @Getter
     private Catnip catnip;
     private EntityBuilder entityBuilder;
@@ -436,10 +457,17 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
         emojiCache(emoji.guildIdAsLong(), false).put(emoji.idAsLong(), emoji);
     }
     
-    @SuppressWarnings("DuplicateBranchesInSwitch")
     @Nonnull
     @Override
     public Completable updateCache(@Nonnull final String eventType, @Nonnegative final int shardId, @Nonnull final JsonObject payload) {
+        return updateCache(eventType, shardId, payload, EventContext.untimed());
+    }
+    
+    @SuppressWarnings("DuplicateBranchesInSwitch")
+    @Nonnull
+    @Override
+    public Completable updateCache(@Nonnull final String eventType, @Nonnegative final int shardId,
+                                   @Nonnull final JsonObject payload, @Nonnull final EventContext context) {
         switch(eventType) {
             // Lifecycle
             case Raw.READY: {
@@ -534,28 +562,25 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
                 break;
             }
             case Raw.GUILD_MEMBER_UPDATE: {
-                // This doesn't send an object like all the other events, so we build a fake
-                // payload object and create an entity from that
-                final JsonObject user = payload.getObject("user");
-                final String id = user.getString("id");
+                // Parse the update once, apply it to the cached member, and
+                // hand it to DispatchEmitter through the context to reuse
                 final String guild = payload.getString("guild_id");
-                final Member old = member(guild, id);
+                final PartialMember delta = entityBuilder.createPartialMember(guild, payload);
+                context.parsed(delta);
+                final Member old = member(delta.guildIdAsLong(), delta.idAsLong());
                 if(old != null) {
-                    @SuppressWarnings("ConstantConditions")
-                    final JsonObject data = JsonObject.builder()
-                            .value("user", user)
-                            .value("roles", payload.getArray("roles"))
-                            .value("nick", payload.getString("nick"))
-                            .value("deaf", old.deaf())
-                            .value("mute", old.mute())
-                            .value("joined_at", old.joinedAt()
-                                    // If we have an old member cached, this shouldn't be an issue
-                                    .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
-                            .done();
-                    final Member member = entityBuilder.createMember(guild, data);
-                    cacheMember(member);
+                    final MutableNamedCacheView<User> users = userCache(shardId);
+                    final User local = users.getById(delta.idAsLong());
+                    final User oldUser = local != null ? local : user(delta.idAsLong());
+                    if(oldUser != null) {
+                        updateCachedUser(users, oldUser, local != null, payload.getObject("user"));
+                    } else {
+                        users.put(delta.idAsLong(), delta.user());
+                    }
+                    applyMemberUpdate(guild, old, delta, payload);
                 } else {
-                    catnip.logAdapter().warn("Got GUILD_MEMBER_UPDATE for {} in {}, but we don't have them cached?!", id, guild);
+                    catnip.logAdapter().warn("Got GUILD_MEMBER_UPDATE for {} in {}, but we don't have them cached?!",
+                            delta.id(), guild);
                 }
                 break;
             }
@@ -595,7 +620,10 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
             case Raw.PRESENCE_UPDATE: {
                 final JsonObject user = payload.getObject("user");
                 final String id = user.getString("id");
-                final User old = user(id);
+                final long idAsLong = Long.parseUnsignedLong(id);
+                final MutableNamedCacheView<User> users = userCache(shardId);
+                final User local = users.getById(idAsLong);
+                final User old = local != null ? local : user(idAsLong);
                 if(old == null && !catnip.options().chunkMembers() && catnip.options().logUncachedPresenceWhenNotChunking()) {
                     catnip.logAdapter().warn("Received PRESENCE_UPDATE for uncached user {}!?", id);
                 } else if(old != null) {
@@ -604,18 +632,9 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
                     // - discriminator
                     // - avatar
                     // so we check the existing cache for a user, and update as needed
-                    final User updated = entityBuilder.createUser(JsonObject.builder()
-                            .value("id", id)
-                            .value("bot", old.bot())
-                            .value("username", user.getString("username", old.username()))
-                            .value("discriminator", user.getString("discriminator", old.discriminator()))
-                            .value("avatar", user.getString("avatar", old.avatar()))
-                            .done()
-                    );
-                    userCache(shardId).put(updated.idAsLong(), updated);
+                    updateCachedUser(users, old, local != null, user);
                     if(!catnip.options().cacheFlags().contains(CacheFlag.DROP_GAME_STATUSES)) {
-                        final Presence presence = entityBuilder.createPresence(payload);
-                        presenceCache(shardId).put(updated.idAsLong(), presence);
+                        updateCachedPresence(presenceCache(shardId), idAsLong, payload);
                     }
                 } else if(catnip.options().chunkMembers()) {
                     final String guildId = payload.getString("guild_id", "No guild");
@@ -637,6 +656,115 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
         return RxHelpers.completedCompletable(catnip);
     }
     
+    private void applyMemberUpdate(final String guild, final Member old, final PartialMember delta,
+                                   final JsonObject payload) {
+        if(old instanceof MemberImpl) {
+            // Like users and presences, the cached member is replaced rather
+            // than changed. Copying it keeps the raw join timestamp, so that
+            // it doesn't have to be parsed and formatted again.
+            cacheMember(catnip.options().entityDelegator().delegate(Member.class, ((MemberImpl) old).toBuilder()
+                    .nick(delta.nick())
+                    .roleIds(delta.roleIds())
+                    .premiumSince(payload.getString("premium_since", null))
+                    .build()));
+        } else {
+            // This doesn't send an object like all the other events, so we
+            // build a fake payload object and create an entity from that
+            @SuppressWarnings("ConstantConditions")
+            final JsonObject data = JsonObject.builder()
+                    .value("roles", payload.getArray("roles"))
+                    .value("nick", delta.nick())
+                    .value("premium_since", payload.getString("premium_since", null))
+                    .value("deaf", old.deaf())
+                    .value("mute", old.mute())
+                    .value("joined_at", old.joinedAt()
+                            // If we have an old member cached, this shouldn't be an issue
+                            .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                    .done();
+            cacheMember(entityBuilder.createMember(guild, old.id(), data));
+        }
+    }
+    
+    private void updateCachedUser(final MutableCacheView<User> cache, final User old, final boolean local,
+                                  final JsonObject data) {
+        final String username = data.getString("username", old.username());
+        final String discriminator = data.getString("discriminator", old.discriminator());
+        final String avatar = data.getString("avatar", old.avatar());
+        if(Objects.equals(username, old.username()) && Objects.equals(discriminator, old.discriminator())
+                && Objects.equals(avatar, old.avatar())) {
+            skippedUserUpdates.increment();
+            if(!local) {
+                cache.put(old.idAsLong(), old);
+            }
+            return;
+        }
+        appliedUserUpdates.increment();
+        // Cached entities are handed out to callers, so changes are never
+        // written into them; a changed user is always replaced by a copy.
+        if(old instanceof UserImpl) {
+            cache.put(old.idAsLong(), catnip.options().entityDelegator().delegate(User.class, UserImpl.builder()
+                    .catnip(catnip)
+                    .idAsLong(old.idAsLong())
+                    .username(username)
+                    .discriminator(discriminator)
+                    .avatar(avatar)
+                    .bot(old.bot())
+                    .publicFlags(old.publicFlags())
+                    .build()));
+        } else {
+            final User updated = entityBuilder.createUser(JsonObject.builder()
+                    .value("id", old.id())
+                    .value("bot", old.bot())
+                    .value("username", username)
+                    .value("discriminator", discriminator)
+                    .value("avatar", avatar)
+                    .done()
+            );
+            cache.put(updated.idAsLong(), updated);
+        }
+    }
+    
+    private void updateCachedPresence(final MutableCacheView<Presence> cache, final long id, final JsonObject data) {
+        final Presence old = cache.getById(id);
+        if(!(old instanceof PresenceImpl)) {
+            appliedPresenceUpdates.increment();
+            cache.put(id, entityBuilder.createPresence(data));
+            return;
+        }
+        final PresenceImpl presence = (PresenceImpl) old;
+        final JsonObject clientStatus = data.getObject("client_status");
+        final OnlineStatus status = OnlineStatus.fromString(data.getString("status"));
+        final OnlineStatus mobileStatus = clientStatus(clientStatus, "mobile");
+        final OnlineStatus webStatus = clientStatus(clientStatus, "web");
+        final OnlineStatus desktopStatus = clientStatus(clientStatus, "desktop");
+        final JsonArray activities = data.getArray("activities");
+        // Activities are only compared for the (by far most common) case of
+        // there being none before and after; anything else is rebuilt.
+        final boolean activitiesChanged = activities != null && !activities.isEmpty()
+                || presence.activities() != null && !presence.activities().isEmpty();
+        if(!activitiesChanged && status == presence.status() && mobileStatus == presence.mobileStatus()
+                && webStatus == presence.webStatus() && desktopStatus == presence.desktopStatus()) {
+            skippedPresenceUpdates.increment();
+            return;
+        }
+        appliedPresenceUpdates.increment();
+        cache.put(id, catnip.options().entityDelegator().delegate(Presence.class, PresenceImpl.builder()
+                .catnip(catnip)
+                .status(status)
+                .mobileStatus(mobileStatus)
+                .webStatus(webStatus)
+                .desktopStatus(desktopStatus)
+                .activities(activitiesChanged ? JsonUtil.toList(activities, entityBuilder::createActivity)
+                        : presence.activities())
+                .build()));
+    }
+    
+    @Nullable
+    private static OnlineStatus clientStatus(@Nullable final JsonObject clientStatus, @Nonnull final String key) {
+        final String status = clientStatus == null ? null : clientStatus.getString(key);
+        return status != null ? OnlineStatus.fromString(status) : null;
+    }
+    
     private void cacheVoiceState(final VoiceState state) {
         final long guild = state.guildIdAsLong();
         if(guild == 0) {
@@ -692,6 +820,11 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
         removeIf(guildChannelCache, predicate);
         removeIf(emojiCache, predicate);
         removeIf(voiceStateCache, predicate);
+        if(snapshotShards.remove(id)) {
+            // A shard that failed to resume after a warm start would
+            // otherwise keep guilds it may have left while it was down
+            guildCache(id).removeIf(predicate);
+        }
     }
     
     @Nullable
@@ -812,6 +945,91 @@ public abstract class MemoryEntityCache implements EntityCacheWorker {
         return selfUser.get();
     }
     
+    /**
+     * @return The number of user updates from {@code PRESENCE_UPDATE}s and
+     * {@code GUILD_MEMBER_UPDATE}s that didn't change any cached field, and
+     * so were skipped.
+     */
+    public long skippedUserUpdates() {
+        return skippedUserUpdates.sum();
+    }
+    
+    /**
+     * @return The number of user updates from {@code PRESENCE_UPDATE}s and
+     * {@code GUILD_MEMBER_UPDATE}s that changed the cached user.
+     */
+    public long appliedUserUpdates() {
+        return appliedUserUpdates.sum();
+    }
+    
+    /**
+     * @return The number of {@code PRESENCE_UPDATE}s that didn't change the
+     * cached presence, and so were skipped.
+     */
+    public long skippedPresenceUpdates() {
+        return skippedPresenceUpdates.sum();
+    }
+    
+    /**
+     * @return The number of {@code PRESENCE_UPDATE}s that changed the cached
+     * presence.
+     */
+    public long appliedPresenceUpdates() {
+        return appliedPresenceUpdates.sum();
+    }
+    
+    /**
+     * Writes a snapshot of every view in this cache to the given file, in
+     * the compact binary format of {@link com.mewna.catnip.entity.serialization.BinaryEntitySerializer}.
+     * The snapshot is stamped with the session id and seqnum of every shard,
+     * so that {@link #loadSnapshot(Path)} can let shards {@code RESUME}
+     * instead of re-downloading every guild.
+     * <p>
+     * Only call this once all shards have been shut down, as views aren't
+     * locked against concurrent updates while they're written. catnip does
+     * this automatically on {@link Catnip#shutdown()} when
+     * {@link com.mewna.catnip.util.CatnipOptionsView#cacheSnapshotPath()} is
+     * set.
+     *
+     * @param path The file to write the snapshot to.
+     *
+     * @throws IOException If the snapshot couldn't be written.
+     */
+    public void writeSnapshot(@Nonnull final Path path) throws IOException {
+        final long start = System.nanoTime();
+        final long entities = new MemoryEntityCacheSnapshot(this).write(path);
+        catnip.logAdapter().info("Wrote {} entities to cache snapshot {} in {}ms.", entities, path,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+    
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(Path)} into this
+     * cache, and restores the session id and seqnum of every shard, so that
+     * they {@code RESUME} when connecting. If a shard's resume fails, its
+     * part of the cache is invalidated and rebuilt from the gateway as
+     * usual.
+     * <p>
+     * Snapshots written by a different version of catnip, or with a
+     * different shard count than the one configured, are skipped. This must
+     * be called before any shards are started.
+     *
+     * @param path The file to load the snapshot from.
+     *
+     * @return Whether the snapshot was loaded.
+     *
+     * @throws IOException If the snapshot couldn't be read.
+     */
+    public boolean loadSnapshot(@Nonnull final Path path) throws IOException {
+        final long start = System.nanoTime();
+        final long entities = new MemoryEntityCacheSnapshot(this).load(path);
+        if(entities < 0) {
+            return false;
+        }
+        catnip.logAdapter().info("Loaded {} entities from cache snapshot {} in {}ms.", entities, path,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+    
     @Nonnull
     @Override
     public EntityCache catnip(@Nonnull final Catnip catnip) {
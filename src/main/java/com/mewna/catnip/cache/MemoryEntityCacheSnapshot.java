@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.cache;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.cache.view.CacheView;
+import com.mewna.catnip.cache.view.MutableCacheView;
+import com.mewna.catnip.entity.Entity;
+import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.channel.*;
+import com.mewna.catnip.entity.delegate.EntityDelegator;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.Role;
+import com.mewna.catnip.entity.misc.Emoji.CustomEmoji;
+import com.mewna.catnip.entity.serialization.BinaryEntityReader;
+import com.mewna.catnip.entity.serialization.BinaryEntitySerializer;
+import com.mewna.catnip.entity.serialization.BinaryEntityWriter;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.user.VoiceState;
+import com.mewna.catnip.shard.session.SessionManager;
+import com.mewna.catnip.util.rx.RxHelpers;
+import com.mewna.catnip.util.task.SerialExecutor;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Reads and writes on-disk snapshots of a {@link MemoryEntityCache}.
+ * <p>
+ * A snapshot starts with a magic number and a version byte, followed by a
+ * sequence of {@code [kind][length][payload]} chunks. The first chunk is
+ * always a header holding the shard count, the self user, and the session
+ * id and seqnum of every shard at the time the snapshot was written. It's
+ * followed by one chunk per guild, holding the guild and all of its roles,
+ * channels, emoji, members and voice states, and then by chunks of at most
+ * {@link #ENTRIES_PER_CHUNK} users, presences or DM channels. Every payload
+ * is encoded with its own {@link BinaryEntityWriter}, so that chunks can be
+ * decoded independently of each other, and thus in parallel. Decoded chunks
+ * are inserted into the cache one at a time, as cache views aren't required
+ * to support concurrent writers.
+ */
+final class MemoryEntityCacheSnapshot {
+    private static final int MAGIC = 0x434E4353;
+    private static final int VERSION = 1;
+    private static final int CHUNK_HEADER = 0;
+    private static final int CHUNK_GUILD = 1;
+    private static final int CHUNK_USERS = 2;
+    private static final int CHUNK_PRESENCES = 3;
+    private static final int CHUNK_DM_CHANNELS = 4;
+    private static final int ENTRIES_PER_CHUNK = 10_000;
+    
+    private final MemoryEntityCache cache;
+    private final Catnip catnip;
+    private final EntityDelegator delegator;
+    private final BinaryEntitySerializer serializer = new BinaryEntitySerializer();
+    
+    MemoryEntityCacheSnapshot(@Nonnull final MemoryEntityCache cache) {
+        this.cache = cache;
+        catnip = cache.catnip();
+        delegator = catnip.options().entityDelegator();
+    }
+    
+    /**
+     * Writes a snapshot of the cache to a temporary file next to the given
+     * path, and then moves it into place, so that an interrupted write never
+     * leaves a truncated snapshot behind.
+     * <p>
+     * This should only be called once all shards have been shut down, as
+     * the views are iterated without being locked against concurrent
+     * updates.
+     *
+     * @param path The path to write the snapshot to.
+     *
+     * @return The number of entities written.
+     *
+     * @throws IOException If the snapshot couldn't be written.
+     */
+    long write(@Nonnull final Path path) throws IOException {
+        final int shardCount = catnip.shardManager().shardCount();
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        final BinaryEntityWriter writer = new BinaryEntityWriter(64 * 1024);
+        final long[] entities = {0L};
+        try(final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            
+            writeHeader(writer, shardCount);
+            flushChunk(out, CHUNK_HEADER, writer);
+            
+            for(final Guild guild : cache.guildCache.snapshot()) {
+                writer.reset();
+                writer.writeVarLong(shardCount == 0 ? 0 : (guild.idAsLong() >> 22) % shardCount);
+                serializer.writeEntity(writer, guild);
+                final long id = guild.idAsLong();
+                entities[0] += 1 + writeGroup(writer, cache.roleCache(id, true))
+                        + writeGroup(writer, cache.channelCache(id, true))
+                        + writeGroup(writer, cache.emojiCache(id, true))
+                        + writeGroup(writer, cache.memberCache(id, true))
+                        + writeGroup(writer, cache.voiceStateCache(id, true));
+                flushChunk(out, CHUNK_GUILD, writer);
+            }
+            
+            // Unified caches return the same view for every shard, so make
+            // sure that each view is only written once.
+            final Set<CacheView<?>> written = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(int shard = 0; shard < shardCount; shard++) {
+                final CacheView<User> users = cache.userCache(shard);
+                if(written.add(users)) {
+                    entities[0] += writeChunked(out, writer, CHUNK_USERS, shard, users,
+                            (user, id) -> serializer.writeEntity(writer, user));
+                }
+                final CacheView<Presence> presences = cache.presenceCache(shard);
+                if(written.add(presences)) {
+                    entities[0] += writeChunked(out, writer, CHUNK_PRESENCES, shard, presences, (presence, id) -> {
+                        writer.writeSnowflake(id);
+                        serializer.writePresence(writer, presence);
+                    });
+                }
+                final CacheView<UserDMChannel> dmChannels = cache.dmChannelCache(shard);
+                if(written.add(dmChannels)) {
+                    entities[0] += writeChunked(out, writer, CHUNK_DM_CHANNELS, shard, dmChannels,
+                            (channel, id) -> serializer.writeEntity(writer, channel));
+                }
+            }
+        } catch(final IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(final AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return entities[0];
+    }
+    
+    /**
+     * Loads a snapshot into the cache. Chunks are read sequentially and
+     * decoded in parallel on {@link RxHelpers#FORK_JOIN_POOL}, and the
+     * decoded entities are inserted one chunk at a time.
+     * Every loaded entity has catnip attached and is passed through the
+     * configured entity delegator, just like freshly-built entities are.
+     * <p>
+     * Sessions and seqnums are only restored once every chunk has been
+     * loaded successfully, so that shards never try to resume on top of a
+     * partially-loaded cache.
+     *
+     * @param path The path to load the snapshot from.
+     *
+     * @return The number of entities loaded, or {@code -1} if the snapshot
+     * was skipped because it doesn't match this catnip instance, or because
+     * the shard count isn't known yet.
+     *
+     * @throws IOException If the snapshot couldn't be read or decoded.
+     */
+    long load(@Nonnull final Path path) throws IOException {
+        final LongAdder entities = new LongAdder();
+        final Header header;
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        // Views aren't required to be thread-safe, so only decoding is done in
+        // parallel
+        final Executor inserts = new SerialExecutor(RxHelpers.FORK_JOIN_POOL);
+        try(final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            if(in.readInt() != MAGIC) {
+                catnip.logAdapter().warn("Not loading cache snapshot {}: not a cache snapshot.", path);
+                return -1L;
+            }
+            final int version = in.readUnsignedByte();
+            if(version != VERSION) {
+                catnip.logAdapter().warn("Not loading cache snapshot {}: unsupported version {}.", path, version);
+                return -1L;
+            }
+            if(in.readUnsignedByte() != CHUNK_HEADER) {
+                throw new IOException("Cache snapshot " + path + " doesn't start with a header");
+            }
+            header = readHeader(new BinaryEntityReader(readChunk(in)));
+            final int shardCount = catnip.shardManager().shardCount();
+            if(shardCount == 0) {
+                // With automatic sharding, the shard count is only known once
+                // the shard manager has fetched it, which is after this runs
+                catnip.logAdapter().warn("Not loading cache snapshot {}: the shard count isn't known yet. " +
+                        "Configure a fixed shard count to use cache snapshots.", path);
+                return -1L;
+            }
+            if(shardCount != header.shardCount()) {
+                catnip.logAdapter().warn("Not loading cache snapshot {}: written with {} shards, but {} are configured.",
+                        path, header.shardCount(), shardCount);
+                return -1L;
+            }
+            int kind;
+            while((kind = in.read()) != -1) {
+                final int chunkKind = kind;
+                final byte[] chunk = readChunk(in);
+                tasks.add(CompletableFuture.supplyAsync(() -> decodeChunk(chunkKind, chunk, entities), RxHelpers.FORK_JOIN_POOL)
+                        .thenAcceptAsync(Runnable::run, inserts));
+            }
+        } catch(final EOFException e) {
+            throw new IOException("Cache snapshot " + path + " is truncated", e);
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch(final CompletionException e) {
+            throw new IOException("Couldn't decode cache snapshot " + path, e.getCause());
+        }
+        
+        if(header.selfUser() != null) {
+            cache.selfUser.set(header.selfUser());
+        }
+        final SessionManager sessionManager = catnip.sessionManager();
+        for(final SessionStamp stamp : header.sessions()) {
+            sessionManager.session(stamp.shardId(), stamp.session());
+            sessionManager.seqnum(stamp.shardId(), stamp.seqnum());
+            cache.snapshotShards.add(stamp.shardId());
+        }
+        catnip.logAdapter().info("Restored {} shard sessions from cache snapshot written {}s ago.",
+                header.sessions().size(),
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - header.writtenAt()));
+        return entities.sum();
+    }
+    
+    private void writeHeader(@Nonnull final BinaryEntityWriter writer, final int shardCount) {
+        writer.reset();
+        writer.writeVarLong(System.currentTimeMillis());
+        writer.writeVarLong(shardCount);
+        final User self = cache.selfUser.get();
+        writer.writeBoolean(self != null);
+        if(self != null) {
+            serializer.writeEntity(writer, self);
+        }
+        final SessionManager sessionManager = catnip.sessionManager();
+        final List<Integer> resumable = new ArrayList<>();
+        for(int shard = 0; shard < shardCount; shard++) {
+            if(sessionManager.session(shard) != null) {
+                resumable.add(shard);
+            }
+        }
+        writer.writeVarLong(resumable.size());
+        for(final int shard : resumable) {
+            writer.writeVarLong(shard);
+            writer.writeString(sessionManager.session(shard));
+            writer.writeSignedVarInt(sessionManager.seqnum(shard));
+        }
+    }
+    
+    @Nonnull
+    private Header readHeader(@Nonnull final BinaryEntityReader in) {
+        final long writtenAt = in.readVarLong();
+        final int shardCount = in.readVarInt();
+        final User self = in.readBoolean() ? restore(User.class, serializer.readEntity(in)) : null;
+        final int count = in.readVarInt();
+        final List<SessionStamp> sessions = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            sessions.add(new SessionStamp(in.readVarInt(), in.readString(), in.readSignedVarInt()));
+        }
+        return new Header(writtenAt, shardCount, self, sessions);
+    }
+    
+    private int writeGroup(@Nonnull final BinaryEntityWriter writer, @Nullable final CacheView<? extends Entity> view) {
+        if(view == null) {
+            writer.writeVarLong(0);
+            return 0;
+        }
+        final Collection<? extends Entity> entities = view.snapshot();
+        writer.writeVarLong(entities.size());
+        for(final Entity entity : entities) {
+            serializer.writeEntity(writer, entity);
+        }
+        return entities.size();
+    }
+    
+    private <T> long writeChunked(@Nonnull final DataOutputStream out, @Nonnull final BinaryEntityWriter writer,
+                                  final int kind, final int shard, @Nonnull final CacheView<T> view,
+                                  @Nonnull final ObjLongConsumer<T> entryWriter) throws IOException {
+        long written = 0;
+        int inChunk = 0;
+        for(final long id : view.keys()) {
+            final T value = view.getById(id);
+            if(value == null) {
+                continue;
+            }
+            if(inChunk == 0) {
+                writer.reset();
+                writer.writeVarLong(shard);
+            }
+            entryWriter.accept(value, id);
+            ++written;
+            if(++inChunk == ENTRIES_PER_CHUNK) {
+                flushChunk(out, kind, writer);
+                inChunk = 0;
+            }
+        }
+        if(inChunk > 0) {
+            flushChunk(out, kind, writer);
+        }
+        return written;
+    }
+    
+    private static void flushChunk(@Nonnull final DataOutputStream out, final int kind,
+                                   @Nonnull final BinaryEntityWriter writer) throws IOException {
+        out.writeByte(kind);
+        out.writeInt(writer.size());
+        writer.writeTo(out);
+    }
+    
+    @Nonnull
+    private static byte[] readChunk(@Nonnull final DataInputStream in) throws IOException {
+        final byte[] chunk = new byte[in.readInt()];
+        in.readFully(chunk);
+        return chunk;
+    }
+    
+    /**
+     * Decodes a chunk. The decoded entities aren't inserted into the cache
+     * until the returned task is run.
+     */
+    @Nonnull
+    private Runnable decodeChunk(final int kind, @Nonnull final byte[] chunk, @Nonnull final LongAdder entities) {
+        final BinaryEntityReader in = new BinaryEntityReader(chunk);
+        final int shard = in.readVarInt();
+        switch(kind) {
+            case CHUNK_GUILD: {
+                final Guild guild = restore(Guild.class, serializer.readEntity(in));
+                final List<Role> roles = readGroup(in, () -> restore(Role.class, serializer.readEntity(in)));
+                final List<GuildChannel> channels = readGroup(in,
+                        () -> restoreChannel((GuildChannel) serializer.readEntity(in)));
+                final List<CustomEmoji> emojis = readGroup(in, () -> restore(CustomEmoji.class, serializer.readEntity(in)));
+                final List<Member> members = readGroup(in, () -> restore(Member.class, serializer.readEntity(in)));
+                final List<VoiceState> states = readGroup(in, () -> restore(VoiceState.class, serializer.readEntity(in)));
+                entities.add(1L + roles.size() + channels.size() + emojis.size() + members.size() + states.size());
+                return () -> {
+                    final long id = guild.idAsLong();
+                    cache.guildCache(shard).put(id, guild);
+                    roles.forEach(role -> cache.roleCache(id, false).put(role.idAsLong(), role));
+                    channels.forEach(channel -> cache.channelCache(id, false).put(channel.idAsLong(), channel));
+                    emojis.forEach(emoji -> cache.emojiCache(id, false).put(emoji.idAsLong(), emoji));
+                    members.forEach(member -> cache.memberCache(id, false).put(member.idAsLong(), member));
+                    states.forEach(state -> cache.voiceStateCache(id, false).put(state.userIdAsLong(), state));
+                };
+            }
+            case CHUNK_USERS: {
+                final List<User> users = new ArrayList<>();
+                while(in.hasRemaining()) {
+                    users.add(restore(User.class, serializer.readEntity(in)));
+                }
+                entities.add(users.size());
+                return () -> {
+                    final MutableCacheView<User> view = cache.userCache(shard);
+                    users.forEach(user -> view.put(user.idAsLong(), user));
+                };
+            }
+            case CHUNK_PRESENCES: {
+                final Map<Long, Presence> presences = new HashMap<>();
+                while(in.hasRemaining()) {
+                    final long id = in.readSnowflake();
+                    presences.put(id, restore(Presence.class, serializer.readPresence(in)));
+                }
+                entities.add(presences.size());
+                return () -> {
+                    final MutableCacheView<Presence> view = cache.presenceCache(shard);
+                    presences.forEach(view::put);
+                };
+            }
+            case CHUNK_DM_CHANNELS: {
+                final List<UserDMChannel> channels = new ArrayList<>();
+                while(in.hasRemaining()) {
+                    channels.add(restore(UserDMChannel.class, serializer.readEntity(in)));
+                }
+                entities.add(channels.size());
+                return () -> {
+                    final MutableCacheView<UserDMChannel> view = cache.dmChannelCache(shard);
+                    channels.forEach(channel -> view.put(channel.idAsLong(), channel));
+                };
+            }
+            default: {
+                catnip.logAdapter().warn("Skipping unknown cache snapshot chunk of kind {}.", kind);
+                return () -> {
+                };
+            }
+        }
+    }
+    
+    @Nonnull
+    private static <T> List<T> readGroup(@Nonnull final BinaryEntityReader in, @Nonnull final Supplier<T> reader) {
+        final int count = in.readVarInt();
+        final List<T> group = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            group.add(reader.get());
+        }
+        return group;
+    }
+    
+    @Nonnull
+    private GuildChannel restoreChannel(@Nonnull final GuildChannel channel) {
+        if(channel instanceof NewsChannel) {
+            return restore(NewsChannel.class, channel);
+        } else if(channel instanceof TextChannel) {
+            return restore(TextChannel.class, channel);
+        } else if(channel instanceof VoiceChannel) {
+            return restore(VoiceChannel.class, channel);
+        } else if(channel instanceof Category) {
+            return restore(Category.class, channel);
+        } else if(channel instanceof StoreChannel) {
+            return restore(StoreChannel.class, channel);
+        } else {
+            return restore(GuildChannel.class, channel);
+        }
+    }
+    
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <T> T restore(@Nonnull final Class<T> type, @Nonnull final Object entity) {
+        if(entity instanceof RequiresCatnip) {
+            ((RequiresCatnip) entity).catnip(catnip);
+        }
+        return delegator.delegate(type, (T) entity);
+    }
+    
+    @Value
+    @Accessors(fluent = true)
+    private static class Header {
+        long writtenAt;
+        int shardCount;
+        User selfUser;
+        List<SessionStamp> sessions;
+    }
+    
+    @Value
+    @Accessors(fluent = true)
+    private static class SessionStamp {
+        int shardId;
+        String session;
+        int seqnum;
+    }
+}
@@ -60,7 +60,11 @@ public interface Entity {
     @SuppressWarnings("unchecked")
     static <T, E extends Entity> E deserialize(@Nonnull final Catnip catnip, @Nonnull final Class<E> type,
                                                @Nonnull final T data) {
-        return ((EntitySerializer<T>) catnip.entitySerializer()).deserialize(data, type);
+        final E entity = ((EntitySerializer<T>) catnip.entitySerializer()).deserialize(data, type);
+        if(entity instanceof RequiresCatnip) {
+            ((RequiresCatnip) entity).catnip(catnip);
+        }
+        return entity;
     }
     
     /**
@@ -27,6 +27,8 @@
 
 package com.mewna.catnip.entity;
 
+import com.mewna.catnip.util.Utils;
+
 import javax.annotation.Nullable;
 import java.time.OffsetDateTime;
 
@@ -38,6 +40,6 @@ import java.time.OffsetDateTime;
  */
 public interface Timestamped {
     default OffsetDateTime parseTimestamp(@Nullable final CharSequence raw) {
-        return raw == null ? null : OffsetDateTime.parse(raw);
+        return raw == null ? null : Utils.parseTimestamp(raw);
     }
 }
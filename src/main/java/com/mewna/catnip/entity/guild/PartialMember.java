@@ -33,6 +33,7 @@ import com.mewna.catnip.entity.user.User;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
 import java.util.Set;
 
 /**
@@ -57,4 +58,15 @@ public interface PartialMember extends GuildEntity, Snowflake {
     @Nullable
     @CheckReturnValue
     String nick();
+    
+    /**
+     * When the user last used their Nitro Boost on this guild.
+     * <br>This will be null if the user is not currently boosting the guild.
+     *
+     * @return The {@link OffsetDateTime date and time} when the member boosted
+     * the guild.
+     */
+    @Nullable
+    @CheckReturnValue
+    OffsetDateTime premiumSince();
 }
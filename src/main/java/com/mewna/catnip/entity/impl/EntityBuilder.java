@@ -67,6 +67,7 @@ import com.mewna.catnip.entity.user.Presence.*;
 import com.mewna.catnip.entity.util.Permission;
 import com.mewna.catnip.entity.voice.VoiceRegion;
 import com.mewna.catnip.entity.voice.VoiceServerUpdate;
+import com.mewna.catnip.util.Utils;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnegative;
@@ -84,6 +85,12 @@ import static com.mewna.catnip.util.JsonUtil.*;
  */
 @SuppressWarnings({"WeakerAccess", "unused", "OverlyCoupledClass"})
 public final class EntityBuilder {
+    /**
+     * The most entities {@link #createAndCacheGuild(int, JsonObject)} hands
+     * to the cache worker at once.
+     */
+    private static final int CACHE_BATCH_SIZE = 1000;
+    
     private final Catnip catnip;
     
     public EntityBuilder(final Catnip catnip) {
@@ -98,7 +105,7 @@ public final class EntityBuilder {
     @Nullable
     @CheckReturnValue
     private static OffsetDateTime parseTimestamp(@Nullable final CharSequence raw) {
-        return raw == null ? null : OffsetDateTime.parse(raw);
+        return raw == null ? null : Utils.parseTimestamp(raw);
     }
     
     @Nonnull
@@ -727,6 +734,7 @@ public final class EntityBuilder {
                 .user(createUser(data.getObject("user")))
                 .roleIds(toStringSet(data.getArray("roles")))
                 .nick(data.getString("nick"))
+                .premiumSince(data.getString("premium_since", null))
                 .build());
     }
     
@@ -1012,30 +1020,27 @@ public final class EntityBuilder {
         // As we don't store these fields on the guild object itself, we have
         // to update them in the cache
         final String id = data.getString("id"); //optimization
-        if(data.getArray("roles") != null) {
-            catnip.cacheWorker().bulkCacheRoles(shardId, toList(data.getArray("roles"),
-                    e -> createRole(id, e)));
-        }
-        if(data.getArray("channels") != null) {
-            catnip.cacheWorker().bulkCacheChannels(shardId, toList(data.getArray("channels"),
-                    e -> createGuildChannel(id, e)));
-        }
-        if(data.getArray("members") != null) {
-            catnip.cacheWorker().bulkCacheMembers(shardId, toList(data.getArray("members"),
-                    e -> createMember(id, e)));
-        }
-        if(data.getArray("emojis") != null) {
-            catnip.cacheWorker().bulkCacheEmoji(shardId, toList(data.getArray("emojis"),
-                    e -> createCustomEmoji(id, e)));
-        }
-        if(data.getArray("presences") != null) {
-            catnip.cacheWorker().bulkCachePresences(shardId, toMap(data.getArray("presences"),
-                    o -> o.getObject("user").getString("id"), this::createPresence));
-        }
-        if(data.getArray("voice_states") != null) {
-            catnip.cacheWorker().bulkCacheVoiceStates(shardId, toList(
-                    data.getArray("voice_states"), e -> createVoiceState(id, e)));
-        }
+        // Large guilds carry hundreds of thousands of members and presences,
+        // so everything is handed to the cache worker in bounded batches
+        // rather than being collected into one list first. The payload is
+        // left untouched, as it's shared with the rest of the pipeline.
+        forEachBatch(data.getArray("roles"), CACHE_BATCH_SIZE, e -> createRole(id, e),
+                batch -> catnip.cacheWorker().bulkCacheRoles(shardId, batch));
+        forEachBatch(data.getArray("channels"), CACHE_BATCH_SIZE, e -> createGuildChannel(id, e),
+                batch -> catnip.cacheWorker().bulkCacheChannels(shardId, batch));
+        forEachBatch(data.getArray("members"), CACHE_BATCH_SIZE, e -> createMember(id, e),
+                batch -> catnip.cacheWorker().bulkCacheMembers(shardId, batch));
+        forEachBatch(data.getArray("emojis"), CACHE_BATCH_SIZE, e -> createCustomEmoji(id, e),
+                batch -> catnip.cacheWorker().bulkCacheEmoji(shardId, batch));
+        forEachBatch(data.getArray("presences"), CACHE_BATCH_SIZE, e -> e, batch -> {
+            final Map<String, Presence> presences = new HashMap<>(batch.size());
+            for(final JsonObject presence : batch) {
+                presences.put(presence.getObject("user").getString("id"), createPresence(presence));
+            }
+            catnip.cacheWorker().bulkCachePresences(shardId, presences);
+        });
+        forEachBatch(data.getArray("voice_states"), CACHE_BATCH_SIZE, e -> createVoiceState(id, e),
+                batch -> catnip.cacheWorker().bulkCacheVoiceStates(shardId, batch));
         return createGuild(data);
     }
     
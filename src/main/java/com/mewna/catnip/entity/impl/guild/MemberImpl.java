@@ -45,7 +45,7 @@ import java.util.Set;
  */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @Accessors(fluent = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,12 +29,15 @@ package com.mewna.catnip.entity.impl.guild;
 
 import com.mewna.catnip.Catnip;
 import com.mewna.catnip.entity.RequiresCatnip;
+import com.mewna.catnip.entity.Timestamped;
 import com.mewna.catnip.entity.guild.PartialMember;
 import com.mewna.catnip.entity.user.User;
 import lombok.*;
 import lombok.experimental.Accessors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
 import java.util.Set;
 
 /**
@@ -47,13 +50,20 @@ import java.util.Set;
 @Accessors(fluent = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class PartialMemberImpl implements PartialMember, RequiresCatnip {
+public class PartialMemberImpl implements PartialMember, RequiresCatnip, Timestamped {
     private transient Catnip catnip;
     
     private User user;
     private long guildIdAsLong;
     private Set<String> roleIds;
     private String nick;
+    private String premiumSince;
+    
+    @Nullable
+    @Override
+    public OffsetDateTime premiumSince() {
+        return premiumSince == null ? null : parseTimestamp(premiumSince);
+    }
     
     @Override
     public void catnip(@Nonnull final Catnip catnip) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.entity.lifecycle;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.entity.Entity;
+import com.mewna.catnip.shard.ShardInfo;
+import com.mewna.catnip.shard.event.EventLatency;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * Fired when a gateway event takes longer than the value configured in
+ * {@link CatnipOptions#highEventLatencyThreshold()} from its frame being
+ * received until a listener finished handling it.
+ */
+public interface HighEventLatency extends Entity {
+    /**
+     * @return Information about which shard received the event.
+     */
+    @Nonnull
+    @CheckReturnValue
+    ShardInfo shardInfo();
+    
+    /**
+     * @return The event type, ex. {@code MESSAGE_CREATE}.
+     */
+    @Nonnull
+    @CheckReturnValue
+    String eventType();
+    
+    /**
+     * @return How long the event spent in each stage.
+     */
+    @Nonnull
+    @CheckReturnValue
+    EventLatency latency();
+}
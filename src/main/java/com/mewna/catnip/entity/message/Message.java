@@ -440,7 +440,7 @@ public interface Message extends Snowflake {
     
     @Nonnull
     default Single<Message> edit(@Nonnull final MessageOptions options) {
-        Validate.isTrue(options.files().isEmpty(), "attachments cannot be edited into messages");
+        Validate.isTrue(!options.hasFiles(), "attachments cannot be edited into messages");
         return catnip().rest().channel().editMessage(channelId(), id(), options.buildMessage());
     }
     
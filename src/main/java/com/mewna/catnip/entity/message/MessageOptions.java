@@ -31,6 +31,7 @@ import com.mewna.catnip.entity.guild.Member;
 import com.mewna.catnip.entity.guild.Role;
 import com.mewna.catnip.entity.impl.message.MessageImpl;
 import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.rest.FileUpload;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -42,9 +43,10 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -63,7 +65,8 @@ public class MessageOptions {
     private Embed embed;
     
     @Setter(AccessLevel.NONE)
-    private List<ImmutablePair<String, byte[]>> files;
+    @Getter(AccessLevel.NONE)
+    private List<FileUpload> files;
     
     /**
      * Restricts who get mentioned by this message. This does <b>NOT</b> get added to constructed {@link Message message} instances.
@@ -171,28 +174,43 @@ public class MessageOptions {
      * @param file A <b>not-null, existing, readable</b> {@link File File} instance.
      * @return Itself.
      * @see #addFile(File)
-     * @see #addFile(String, InputStream)
+     * @see #addFile(String, Path)
      */
     @CheckReturnValue
     @Nonnull
     @SuppressWarnings("WeakerAccess")
     public MessageOptions addFile(@Nonnull final String name, @Nonnull final File file) {
-        if(!file.exists()) {
+        return addFile(name, file.toPath());
+    }
+    
+    /**
+     * Adds a file, used when sending messages. Files are <b>NOT</b> added to constructed {@link Message Message} instances.
+     * <br><p>The file is streamed from disk when the message is sent, rather than being read into memory, so it must
+     * exist until the message has been sent.</p>
+     * @param name A <b>not-null</b> name for the file.
+     * @param file A <b>not-null, existing, readable</b> path to the file.
+     * @return Itself.
+     * @see #addFile(String, File)
+     * @see #addFile(String, InputStream)
+     */
+    @CheckReturnValue
+    @Nonnull
+    @SuppressWarnings("WeakerAccess")
+    public MessageOptions addFile(@Nonnull final String name, @Nonnull final Path file) {
+        if(!Files.exists(file)) {
             throw new IllegalArgumentException("file doesn't exist!");
         }
-        if(!file.canRead()) {
+        if(!Files.isReadable(file)) {
             throw new IllegalArgumentException("file cannot be read!");
         }
-        try {
-            return addFile(name, Files.readAllBytes(file.toPath()));
-        } catch(final IOException exc) {
-            throw new IllegalArgumentException("cannot read data from file!", exc);
-        }
+        return addFile(FileUpload.of(name, file));
     }
     
     /**
      * Adds an input stream/file, used when sending messages. Files are <b>NOT</b> added to constructed {@link Message Message} instances.
      * <br><p>This allows you to specify a custom name for the input stream data, unlike {@link #addFile(File)}.</p>
+     * <br><p>The stream is read when the message is sent, and closed once it has been read. Since a stream can only be
+     * read once, sending the message fails if it has to be retried, ie. after hitting a ratelimit.</p>
      * @param name A <b>not-null</b> name for the file.
      * @param stream A <b>not-null, readable</b> {@link InputStream InputStream}.
      * @return Itself.
@@ -202,11 +220,22 @@ public class MessageOptions {
     @CheckReturnValue
     @Nonnull
     public MessageOptions addFile(@Nonnull final String name, @Nonnull final InputStream stream) {
-        try {
-            return addFile(name, stream.readAllBytes());
-        } catch(final IOException exc) {
-            throw new IllegalArgumentException("cannot read data from inputstream!", exc);
-        }
+        return addFile(FileUpload.of(name, stream));
+    }
+    
+    /**
+     * Adds a buffer/file, used when sending messages. Files are <b>NOT</b> added to constructed {@link Message Message} instances.
+     * <br><p>The buffer's contents, from its position to its limit, are streamed when the message is sent, so they must not
+     * change until the message has been sent.</p>
+     * @param name A <b>not-null</b> name for the file.
+     * @param buffer A <b>not-null</b> buffer containing the raw data for the file.
+     * @return Itself.
+     * @see #addFile(String, byte[])
+     */
+    @CheckReturnValue
+    @Nonnull
+    public MessageOptions addFile(@Nonnull final String name, @Nonnull final ByteBuffer buffer) {
+        return addFile(FileUpload.of(name, buffer));
     }
     
     /**
@@ -222,13 +251,24 @@ public class MessageOptions {
     @Nonnull
     @SuppressWarnings("WeakerAccess")
     public MessageOptions addFile(@Nonnull final String name, @Nonnull final byte[] data) {
+        return addFile(FileUpload.of(name, data));
+    }
+    
+    /**
+     * Adds a file, used when sending messages. Files are <b>NOT</b> added to constructed {@link Message Message} instances.
+     * @param upload A <b>not-null</b> file.
+     * @return Itself.
+     */
+    @CheckReturnValue
+    @Nonnull
+    public MessageOptions addFile(@Nonnull final FileUpload upload) {
         if(files == null) {
             files = new ArrayList<>(10);
         }
         if(files.size() == 10) {
             throw new UnsupportedOperationException("maximum limit of 10 attachments!");
         }
-        files.add(new ImmutablePair<>(name, data));
+        files.add(upload);
         return this;
     }
     
@@ -242,16 +282,37 @@ public class MessageOptions {
         return files != null; // because checking via getter creates a new list each time.
     }
     
+    /**
+     * Constructs a new immutable list containing all of the files, which are streamed when the message is sent.
+     *
+     * @return A copy of the file list.
+     */
+    @CheckReturnValue
+    @Nonnull
+    public List<FileUpload> uploads() {
+        return hasFiles() ? List.copyOf(files) : List.of();
+    }
+    
     /**
      * Constructs a new immutable list containing all of the raw file data. Each immutable pair contains the name and the data buffer.
-     * <br><p>This method is <b>expensive!</b> It constructs a new list each time and should be used sparingly.</p>
+     * <br><p>This method is <b>expensive!</b> It constructs a new list each time, and reads every file that wasn't added as a
+     * byte array into memory. Input streams can only be read once, so they can't be sent after calling this.</p>
      *
      * @return A copy of the raw file list.
+     * @deprecated Use {@link #uploads()}, which doesn't read the files into memory.
      */
     @CheckReturnValue
     @Nonnull
+    @Deprecated
     public List<ImmutablePair<String, byte[]>> files() {
-        return hasFiles() ? List.copyOf(files) : List.of();
+        if(!hasFiles()) {
+            return List.of();
+        }
+        final List<ImmutablePair<String, byte[]>> pairs = new ArrayList<>(files.size());
+        for(final FileUpload file : files) {
+            pairs.add(ImmutablePair.of(file.name(), file.bytes()));
+        }
+        return List.copyOf(pairs);
     }
     
     /**
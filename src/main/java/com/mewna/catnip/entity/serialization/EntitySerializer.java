@@ -36,7 +36,8 @@ import javax.annotation.Nonnull;
  * A generic behaviour for de/serializing catnip entities. The default
  * implementation is {@link DefaultEntitySerializer}, <strong> which does
  * nothing but throw on method calls.</strong> You must provide a serializer
- * that properly handles de/serialization requests.
+ * that properly handles de/serialization requests. {@link BinaryEntitySerializer}
+ * is provided as a compact binary serializer for the most common entities.
  *
  * @param <T> The type of the serialized data.
  *
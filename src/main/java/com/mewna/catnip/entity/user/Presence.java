@@ -164,6 +164,7 @@ public interface Presence {
         PLAY(1 << 5),
         ;
         
+        @Getter
         private final int bits;
         
         @Nonnull
@@ -56,6 +56,8 @@ public enum UserFlag {
     BUG_HUNTER_LEVEL_2(1 << 14)
     ;
     
+    private static final UserFlag[] VALUES = values();
+    
     @Getter
     private final int value;
     
@@ -65,8 +67,11 @@ public enum UserFlag {
     
     public static Set<UserFlag> toSet(final long asLong) {
         final Set<UserFlag> flags = EnumSet.noneOf(UserFlag.class);
+        if(asLong == 0) {
+            return flags;
+        }
         
-        for(final UserFlag flag : values()) {
+        for(final UserFlag flag : VALUES) {
             if((asLong & flag.value) == flag.value) {
                 flags.add(flag);
             }
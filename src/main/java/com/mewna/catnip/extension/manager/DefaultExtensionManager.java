@@ -115,6 +115,11 @@ public class DefaultExtensionManager implements ExtensionManager {
         return Set.copyOf(loadedExtensions);
     }
     
+    @Override
+    public boolean hasExtensions() {
+        return !loadedExtensions.isEmpty();
+    }
+    
     @Override
     public void shutdown() {
         loadedExtensions.forEach(this::unloadExtension);
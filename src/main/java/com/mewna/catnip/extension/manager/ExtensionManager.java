@@ -118,6 +118,16 @@ public interface ExtensionManager {
     @Nonnull
     Set<Extension> extensions();
     
+    /**
+     * Whether any extensions are loaded. Cheaper than checking
+     * {@link #extensions()}, which copies the set of extensions.
+     *
+     * @return Whether any extensions are loaded.
+     */
+    default boolean hasExtensions() {
+        return !extensions().isEmpty();
+    }
+    
     /**
      * Shuts down the extension manager and unloads all extensions.
      */
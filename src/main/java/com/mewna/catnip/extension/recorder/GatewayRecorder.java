@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.extension.recorder;
+
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonWriter;
+import com.mewna.catnip.extension.AbstractExtension;
+import com.mewna.catnip.extension.hook.CatnipHook;
+import com.mewna.catnip.shard.ShardInfo;
+import io.reactivex.rxjava3.core.Completable;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records every payload received over the gateway, with the time it was
+ * received at, to a {@link GatewayRecording}. Recordings can be replayed into
+ * a shard to benchmark the gateway -> buffer -> cache -> dispatch pipeline on
+ * real traffic, without connecting to Discord.
+ * <p>
+ * Payloads are recorded from {@link CatnipHook#rawGatewayReceiveHook}, so
+ * they're re-serialized from the parsed JSON, and any hooks that run before
+ * this one will have already been applied. The recording is finished when
+ * the extension is unloaded, or when it's {@link #close() closed}.
+ */
+public class GatewayRecorder extends AbstractExtension implements CatnipHook, AutoCloseable {
+    private final GatewayRecording.Writer writer;
+    private final long start = System.nanoTime();
+    private boolean closed;
+    
+    public GatewayRecorder(@Nonnull final Path path) throws IOException {
+        this(Files.newOutputStream(path));
+    }
+    
+    public GatewayRecorder(@Nonnull final OutputStream out) throws IOException {
+        super("gateway-recorder");
+        writer = new GatewayRecording.Writer(out);
+        registerHook(this);
+    }
+    
+    @Override
+    public JsonObject rawGatewayReceiveHook(@Nonnull final ShardInfo shardInfo, @Nonnull final JsonObject json) {
+        final long offset = System.nanoTime() - start;
+        final String payload = JsonWriter.string(json);
+        synchronized(this) {
+            if(!closed) {
+                try {
+                    writer.write(offset, shardInfo, payload);
+                } catch(final IOException e) {
+                    catnip().logAdapter().error("Couldn't record gateway payload, stopping recording.", e);
+                    closed = true;
+                    try {
+                        writer.close();
+                    } catch(final IOException ignored) {
+                    }
+                }
+            }
+        }
+        return json;
+    }
+    
+    @Override
+    public Completable onUnloaded() {
+        return Completable.fromAction(this::close);
+    }
+    
+    /**
+     * Stops recording, and flushes and closes the recording.
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writer.close();
+        } catch(final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.extension.recorder;
+
+import com.mewna.catnip.shard.ShardInfo;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The file format written by {@link GatewayRecorder}. A recording is a gzip
+ * stream of a magic number, followed by one record per gateway payload: the
+ * time it was received at, in nanoseconds since the recording started, the
+ * shard that received it, and the payload's JSON as length-prefixed UTF-8.
+ */
+public final class GatewayRecording {
+    private static final int MAGIC = 0x43475231; // CGR1
+    
+    private GatewayRecording() {
+    }
+    
+    /**
+     * Reads a whole recording into memory.
+     *
+     * @param path The recording to read.
+     *
+     * @return The recorded frames, in the order they were received.
+     *
+     * @throws IOException If the recording can't be read, or isn't a
+     *                     recording.
+     */
+    @Nonnull
+    public static List<Frame> read(@Nonnull final Path path) throws IOException {
+        try(final InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+    
+    /**
+     * Reads a whole recording into memory. The stream is not closed.
+     *
+     * @param in The stream to read the recording from.
+     *
+     * @return The recorded frames, in the order they were received.
+     *
+     * @throws IOException If the recording can't be read, or isn't a
+     *                     recording.
+     */
+    @Nonnull
+    public static List<Frame> read(@Nonnull final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+        if(data.readInt() != MAGIC) {
+            throw new IOException("Not a gateway recording");
+        }
+        final List<Frame> frames = new ArrayList<>();
+        while(true) {
+            final long offset;
+            try {
+                offset = data.readLong();
+            } catch(final EOFException e) {
+                return frames;
+            }
+            final int shardId = data.readInt();
+            final int shardCount = data.readInt();
+            final byte[] payload = new byte[data.readInt()];
+            data.readFully(payload);
+            frames.add(new Frame(offset, shardId, shardCount, new String(payload, StandardCharsets.UTF_8)));
+        }
+    }
+    
+    /**
+     * A single recorded gateway payload.
+     */
+    @Value
+    @Accessors(fluent = true)
+    public static class Frame {
+        /**
+         * When the payload was received, in nanoseconds since the recording
+         * started.
+         */
+        long offset;
+        int shardId;
+        int shardCount;
+        /**
+         * The payload's JSON, as it was received.
+         */
+        String payload;
+        
+        public ShardInfo shardInfo() {
+            return new ShardInfo(shardId, shardCount);
+        }
+    }
+    
+    /**
+     * Writes frames to a recording. Not thread-safe.
+     */
+    public static final class Writer implements Closeable {
+        private final DataOutputStream out;
+        
+        public Writer(@Nonnull final OutputStream out) throws IOException {
+            this.out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(out), 64 * 1024));
+            this.out.writeInt(MAGIC);
+        }
+        
+        /**
+         * @param offset  When the payload was received, in nanoseconds since
+         *                the recording started.
+         * @param shard   The shard that received the payload.
+         * @param payload The payload's JSON.
+         *
+         * @throws IOException If the frame couldn't be written.
+         */
+        public void write(@Nonnegative final long offset, @Nonnull final ShardInfo shard,
+                          @Nonnull final String payload) throws IOException {
+            final byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            out.writeLong(offset);
+            out.writeInt(shard.getId());
+            out.writeInt(shard.getLimit());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -30,6 +30,7 @@ package com.mewna.catnip.internal;
 import com.grack.nanojson.JsonObject;
 import com.mewna.catnip.Catnip;
 import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.cache.MemoryEntityCache;
 import com.mewna.catnip.entity.impl.user.PresenceImpl;
 import com.mewna.catnip.entity.impl.user.PresenceImpl.ActivityImpl;
 import com.mewna.catnip.entity.misc.GatewayInfo;
@@ -49,6 +50,7 @@ import com.mewna.catnip.shard.GatewayIntent;
 import com.mewna.catnip.shard.GatewayOp;
 import com.mewna.catnip.util.PermissionUtil;
 import io.reactivex.rxjava3.core.Single;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -57,10 +59,17 @@ import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -83,10 +92,14 @@ public class CatnipImpl implements Catnip {
     private final Thread keepaliveThread;
     private final CountDownLatch latch = new CountDownLatch(1);
     private boolean startedKeepalive;
+    // Only created once a shard needs it, unless the options set an executor
+    @Getter(AccessLevel.NONE)
+    private ExecutorService gatewayParsePool;
     private long clientIdAsLong;
     private CatnipOptions options;
     
     public CatnipImpl(@Nonnull final CatnipOptions options) {
+        sanityCheckOptions(options);
         this.options = options;
         
         token = options.token();
@@ -112,6 +125,16 @@ public class CatnipImpl implements Catnip {
         if(options.highLatencyThreshold() < 0) {
             throw new IllegalArgumentException("High latency threshold of " + options.highLatencyThreshold() + " not greater than zero!");
         }
+        // Written this way round so that NaN fails too
+        if(!(options.restStacktraceSampleRate() >= 0 && options.restStacktraceSampleRate() <= 1)) {
+            throw new IllegalArgumentException("REST stacktrace sample rate of " + options.restStacktraceSampleRate() + " not between 0 and 1!");
+        }
+        if(options.highEventLatencyThreshold() < 0) {
+            throw new IllegalArgumentException("High event latency threshold of " + options.highEventLatencyThreshold() + " not greater than zero!");
+        }
+        if(options.maxOutstandingEvents() < 0) {
+            throw new IllegalArgumentException("Max outstanding events of " + options.maxOutstandingEvents() + " less than zero!");
+        }
     }
     
     @Nonnull
@@ -201,13 +224,47 @@ public class CatnipImpl implements Catnip {
     @Override
     public void shutdown() {
         logAdapter().info("Shutting down!");
-        dispatchManager().close();
+        // Shards dispatch lifecycle events as they disconnect, so they have
+        // to go first
         shardManager().shutdown();
+        dispatchManager().close();
+        shutdownGatewayParsePool();
+        writeCacheSnapshot();
         extensionManager.shutdown();
         // Will let the keepalive thread halt
         latch.countDown();
     }
     
+    /**
+     * @return The executor that this instance's shards handle gateway frames
+     * on. Unless {@link CatnipOptions#gatewayParseExecutor()} is set, this is
+     * a pool with a daemon thread per core that's owned by this instance, and
+     * shut down with it.
+     */
+    @Nonnull
+    public synchronized Executor gatewayParseExecutor() {
+        final Executor executor = options.gatewayParseExecutor();
+        if(executor != null) {
+            return executor;
+        }
+        if(gatewayParsePool == null) {
+            gatewayParsePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("catnip-gateway-parse-" + thread.getPoolIndex());
+                return thread;
+            }, null, true);
+        }
+        return gatewayParsePool;
+    }
+    
+    private synchronized void shutdownGatewayParsePool() {
+        // Frames that are still queued are handled on the thread that queues
+        // the next one instead, see SerialExecutor
+        if(gatewayParsePool != null) {
+            gatewayParsePool.shutdown();
+        }
+    }
+    
     @Nonnull
     @Override
     public Set<String> unavailableGuilds() {
@@ -375,10 +432,35 @@ public class CatnipImpl implements Catnip {
     
     @Nonnull
     public Catnip connect() {
+        loadCacheSnapshot();
         shardManager().start();
         return this;
     }
     
+    private void loadCacheSnapshot() {
+        final Path path = options.cacheSnapshotPath();
+        if(path == null || !(cacheWorker() instanceof MemoryEntityCache) || !Files.exists(path)) {
+            return;
+        }
+        try {
+            ((MemoryEntityCache) cacheWorker()).loadSnapshot(path);
+        } catch(final IOException e) {
+            logAdapter().warn("Couldn't load cache snapshot {}, starting with an empty cache.", path, e);
+        }
+    }
+    
+    private void writeCacheSnapshot() {
+        final Path path = options.cacheSnapshotPath();
+        if(path == null || !(cacheWorker() instanceof MemoryEntityCache)) {
+            return;
+        }
+        try {
+            ((MemoryEntityCache) cacheWorker()).writeSnapshot(path);
+        } catch(final IOException | RuntimeException e) {
+            logAdapter().error("Couldn't write cache snapshot {}.", path, e);
+        }
+    }
+    
     private int shardIdFor(@Nonnull final String guildId) {
         final long idLong = Long.parseUnsignedLong(guildId);
         return (int) ((idLong >>> 22) % shardManager().shardCount());
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A file to upload with a REST request. Files backed by a {@link Path},
+ * {@link InputStream}, or {@link ByteBuffer} are streamed into the request
+ * body in {@link #CHUNK_SIZE} chunks when the request is sent, rather than
+ * being read into memory up front.
+ */
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class FileUpload {
+    public static final int CHUNK_SIZE = 64 * 1024;
+    
+    /**
+     * The name of the file, ie. {@code image.png}.
+     */
+    @Getter
+    private final String name;
+    
+    /**
+     * @param name The name of the file.
+     * @param data The contents of the file. Not copied.
+     *
+     * @return A file with the given contents.
+     */
+    @Nonnull
+    public static FileUpload of(@Nonnull final String name, @Nonnull final byte[] data) {
+        return new FileUpload(name) {
+            @Nonnull
+            @Override
+            public Chunks chunks() {
+                return new Chunks() {
+                    private boolean read;
+                    
+                    @Override
+                    public boolean hasNext() {
+                        return !read;
+                    }
+                    
+                    @Override
+                    public byte[] next() {
+                        if(read) {
+                            throw new NoSuchElementException();
+                        }
+                        read = true;
+                        return data;
+                    }
+                    
+                    @Override
+                    public void close() {
+                        read = true;
+                    }
+                };
+            }
+            
+            @Nonnull
+            @Override
+            public byte[] bytes() {
+                return data;
+            }
+        };
+    }
+    
+    /**
+     * @param name The name of the file.
+     * @param path The file to upload. It's read every time the request is
+     *             sent, so it must exist until the request has completed.
+     *
+     * @return A file streamed from the given path.
+     */
+    @Nonnull
+    public static FileUpload of(@Nonnull final String name, @Nonnull final Path path) {
+        return new FileUpload(name) {
+            @Nonnull
+            @Override
+            public Chunks chunks() {
+                try {
+                    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                    return new ChunkIterator() {
+                        @Override
+                        protected int read(@Nonnull final ByteBuffer buffer) throws IOException {
+                            return channel.read(buffer);
+                        }
+                        
+                        @Override
+                        protected void closeSource() throws IOException {
+                            channel.close();
+                        }
+                    };
+                } catch(final IOException e) {
+                    throw new UncheckedIOException("Couldn't open " + path, e);
+                }
+            }
+        };
+    }
+    
+    /**
+     * @param name   The name of the file.
+     * @param stream The contents of the file. It's read when the request is
+     *               sent, and closed once it has been read fully. As streams
+     *               can only be read once, requests that have to be sent
+     *               again, ie. after hitting a ratelimit, will fail.
+     *
+     * @return A file streamed from the given input stream.
+     */
+    @Nonnull
+    public static FileUpload of(@Nonnull final String name, @Nonnull final InputStream stream) {
+        final AtomicBoolean consumed = new AtomicBoolean();
+        return new FileUpload(name) {
+            @Nonnull
+            @Override
+            public Chunks chunks() {
+                if(!consumed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("The stream for " + name + " has already been read");
+                }
+                return new ChunkIterator() {
+                    @Override
+                    protected int read(@Nonnull final ByteBuffer buffer) throws IOException {
+                        final int read = stream.read(buffer.array(), buffer.position(), buffer.remaining());
+                        if(read > 0) {
+                            buffer.position(buffer.position() + read);
+                        }
+                        return read;
+                    }
+                    
+                    @Override
+                    protected void closeSource() throws IOException {
+                        stream.close();
+                    }
+                };
+            }
+        };
+    }
+    
+    /**
+     * @param name   The name of the file.
+     * @param buffer The contents of the file, from its position to its limit.
+     *               The buffer itself isn't modified, but its contents must
+     *               not change until the request has completed.
+     *
+     * @return A file streamed from the given buffer.
+     */
+    @Nonnull
+    public static FileUpload of(@Nonnull final String name, @Nonnull final ByteBuffer buffer) {
+        final ByteBuffer contents = buffer.asReadOnlyBuffer();
+        return new FileUpload(name) {
+            @Nonnull
+            @Override
+            public Chunks chunks() {
+                final ByteBuffer source = contents.duplicate();
+                return new ChunkIterator() {
+                    @Override
+                    protected int read(@Nonnull final ByteBuffer buffer) {
+                        if(!source.hasRemaining()) {
+                            return -1;
+                        }
+                        final int read = Math.min(source.remaining(), buffer.remaining());
+                        final ByteBuffer slice = source.slice();
+                        slice.limit(read);
+                        buffer.put(slice);
+                        source.position(source.position() + read);
+                        return read;
+                    }
+                    
+                    @Override
+                    protected void closeSource() {
+                    }
+                };
+            }
+        };
+    }
+    
+    /**
+     * Starts reading the file. Every call starts from the beginning of the
+     * file, except for files backed by an {@link InputStream}, which can only
+     * be read once.
+     *
+     * @return The contents of the file, in chunks of at most
+     * {@link #CHUNK_SIZE} bytes. Reading may throw an
+     * {@link UncheckedIOException}. Must be closed if it isn't read fully.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public abstract Chunks chunks();
+    
+    /**
+     * Reads the whole file into memory. Avoid this where possible; the point
+     * of this class is to not have to.
+     *
+     * @return The contents of the file.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public byte[] bytes() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final Chunks chunks = chunks()) {
+            while(chunks.hasNext()) {
+                out.writeBytes(chunks.next());
+            }
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * The contents of a file, being read in chunks. The file is closed once
+     * it has been read fully, or once this is closed, whichever comes first.
+     */
+    public interface Chunks extends Iterator<byte[]>, AutoCloseable {
+        /**
+         * Stops reading the file, and closes whatever it's read from. Does
+         * nothing if the file was already read fully. May throw an
+         * {@link UncheckedIOException}.
+         */
+        @Override
+        void close();
+    }
+    
+    /**
+     * Synchronized so that a request being cancelled on one thread doesn't
+     * close the file while the HTTP client is reading it on another.
+     */
+    private abstract static class ChunkIterator implements Chunks {
+        private byte[] next;
+        private boolean done;
+        
+        /**
+         * Reads as many bytes as are available into the buffer.
+         *
+         * @return The number of bytes read, or {@code -1} at the end of the
+         * file.
+         */
+        protected abstract int read(@Nonnull ByteBuffer buffer) throws IOException;
+        
+        protected abstract void closeSource() throws IOException;
+        
+        @Override
+        public synchronized boolean hasNext() {
+            if(next == null && !done) {
+                next = readChunk();
+            }
+            return next != null;
+        }
+        
+        @Override
+        public synchronized byte[] next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final byte[] chunk = next;
+            next = null;
+            return chunk;
+        }
+        
+        @Override
+        public synchronized void close() {
+            if(done) {
+                return;
+            }
+            done = true;
+            next = null;
+            try {
+                closeSource();
+            } catch(final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        private byte[] readChunk() {
+            final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            try {
+                while(buffer.hasRemaining()) {
+                    if(read(buffer) == -1) {
+                        done = true;
+                        closeSource();
+                        break;
+                    }
+                }
+            } catch(final IOException e) {
+                done = true;
+                try {
+                    closeSource();
+                } catch(final IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw new UncheckedIOException(e);
+            }
+            if(buffer.position() == 0) {
+                return null;
+            }
+            return buffer.position() == CHUNK_SIZE ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position());
+        }
+    }
+}
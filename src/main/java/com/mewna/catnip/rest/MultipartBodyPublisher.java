@@ -6,22 +6,28 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.UncheckedIOException;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
 
 /**
  * Adapted from https://stackoverflow.com/a/54675316
- * Modified to fit the code standards of this project, to compact it, to remove
- * unnecessary capabilities (file read straight from disc and InputStream
- * suppliers), and add capabilities necessary to add compatibility.
+ * Modified to fit the code standards of this project, to compact it, and add
+ * capabilities necessary to add compatibility. Files can be streamed into the
+ * body from disk, input streams, or buffers via {@link FileUpload}.
  *
  * @author kjp12
  * @since 3/25/2019
  */
 
 public class MultipartBodyPublisher {
+    private static final byte[] CRLF = {'\r', '\n'};
+    
     private final Collection<PartsSpecification> partsSpecificationList = new ArrayList<>();
     @Getter
     private final String boundary = UUID.randomUUID().toString();
@@ -31,7 +37,7 @@ public class MultipartBodyPublisher {
             throw new IllegalStateException("Must have at least one part to build multipart message.");
         }
         addFinalBoundary();
-        return BodyPublishers.ofByteArrays(PartsIterator::new);
+        return new PartsPublisher();
     }
     
     @ParametersAreNonnullByDefault
@@ -46,6 +52,16 @@ public class MultipartBodyPublisher {
         return this;
     }
     
+    /**
+     * Adds a file part that is streamed into the body when the request is
+     * sent, rather than being held in memory.
+     */
+    @ParametersAreNonnullByDefault
+    public MultipartBodyPublisher addPart(final String name, final FileUpload upload) {
+        partsSpecificationList.add(new PartsSpecification(Type.FILE, name).filename(upload.name()).upload(upload));
+        return this;
+    }
+    
     private void addFinalBoundary() {
         partsSpecificationList.add(new PartsSpecification(Type.FINAL_BOUNDARY, null));
     }
@@ -61,6 +77,7 @@ public class MultipartBodyPublisher {
         protected final Type type;
         protected final String name;
         protected byte[] value;
+        protected FileUpload upload;
         protected String filename;
         
         public String toString() {
@@ -74,10 +91,63 @@ public class MultipartBodyPublisher {
         }
     }
     
+    /**
+     * Closes any file that's being streamed into the body once the request is
+     * cancelled or fails, since the HTTP client just stops reading the body
+     * then.
+     */
+    private final class PartsPublisher implements BodyPublisher {
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+        
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+            final PartsIterator iterator = new PartsIterator();
+            BodyPublishers.ofByteArrays(() -> iterator).subscribe(new Subscriber<>() {
+                @Override
+                public void onSubscribe(final Subscription subscription) {
+                    subscriber.onSubscribe(new Subscription() {
+                        @Override
+                        public void request(final long n) {
+                            subscription.request(n);
+                        }
+                        
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                            iterator.close();
+                        }
+                    });
+                }
+                
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    subscriber.onNext(item);
+                }
+                
+                @Override
+                public void onError(final Throwable throwable) {
+                    iterator.close();
+                    subscriber.onError(throwable);
+                }
+                
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+    
     class PartsIterator implements Iterator<byte[]> {
         private final Iterator<PartsSpecification> parts;
-        private boolean done;
-        private final List<byte[]> next = new ArrayList<>();
+        // Chunks of the current part, ie. its header, its value, and CRLF
+        private final Deque<Iterator<byte[]>> chunks = new ArrayDeque<>(3);
+        // The last file that was queued, so that it can be closed from
+        // another thread
+        private volatile LazyIterator upload;
         
         PartsIterator() {
             parts = partsSpecificationList.iterator();
@@ -85,18 +155,19 @@ public class MultipartBodyPublisher {
         
         @Override
         public boolean hasNext() {
-            if(done) {
-                return false;
-            }
-            if(!next.isEmpty()) {
-                return true;
-            }
-            computeNext();
-            if(next.isEmpty()) {
-                done = true;
-                return false;
+            while(true) {
+                final Iterator<byte[]> current = chunks.peek();
+                if(current == null) {
+                    if(!parts.hasNext()) {
+                        return false;
+                    }
+                    computeNext();
+                } else if(current.hasNext()) {
+                    return true;
+                } else {
+                    chunks.poll();
+                }
             }
-            return true;
         }
         
         @Override
@@ -104,19 +175,76 @@ public class MultipartBodyPublisher {
             if(!hasNext()) {
                 throw new NoSuchElementException();
             }
-            return next.remove(0);
+            return chunks.peek().next();
         }
         
-        private void computeNext() {
-            if(!parts.hasNext()) {
-                return;
+        /**
+         * Closes the file that's currently being read, if any. Files that
+         * haven't been opened yet never will be, as the body isn't read any
+         * further.
+         */
+        void close() {
+            final LazyIterator upload = this.upload;
+            if(upload != null) {
+                try {
+                    upload.close();
+                } catch(final UncheckedIOException ignored) {
+                    // The request is already cancelled or failed, so there's
+                    // no one left to tell
+                }
             }
+        }
+        
+        private void computeNext() {
             final var part = parts.next();
-            next.add(part.toString().getBytes(StandardCharsets.UTF_8));
+            chunks.add(List.of(part.toString().getBytes(StandardCharsets.UTF_8)).iterator());
             if(part.type != Type.FINAL_BOUNDARY) {
-                next.add(part.value);
-                next.add(new byte[] {'\r', '\n'});
+                // Streamed parts are only opened once the previous parts
+                // have been sent
+                if(part.upload != null) {
+                    upload = new LazyIterator(part.upload);
+                    chunks.add(upload);
+                } else {
+                    chunks.add(List.of(part.value).iterator());
+                }
+                chunks.add(List.of(CRLF).iterator());
+            }
+        }
+    }
+    
+    private static final class LazyIterator implements Iterator<byte[]> {
+        private final FileUpload upload;
+        private FileUpload.Chunks chunks;
+        private boolean closed;
+        
+        private LazyIterator(final FileUpload upload) {
+            this.upload = upload;
+        }
+        
+        @Override
+        public synchronized boolean hasNext() {
+            if(closed) {
+                return false;
+            }
+            if(chunks == null) {
+                chunks = upload.chunks();
+            }
+            return chunks.hasNext();
+        }
+        
+        @Override
+        public synchronized byte[] next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunks.next();
+        }
+        
+        private synchronized void close() {
+            closed = true;
+            if(chunks != null) {
+                chunks.close();
             }
         }
     }
-}
\ No newline at end of file
+}
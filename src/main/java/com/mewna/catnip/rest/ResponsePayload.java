@@ -32,19 +32,77 @@ import com.grack.nanojson.JsonObject;
 import com.grack.nanojson.JsonParser;
 import com.grack.nanojson.JsonParserException;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The body of a REST response. Bodies received from Discord are kept as the
+ * raw UTF-8 bytes of the response, and {@link #object()} and {@link #array()}
+ * parse straight from those bytes, so the body is never turned into a
+ * {@link String} unless something asks for {@link #string()}.
+ */
 public class ResponsePayload {
-    private final String body;
+    private final byte[] bytes;
+    private volatile String body;
     
     public ResponsePayload(final String body) {
+        bytes = null;
         this.body = body;
     }
     
+    private ResponsePayload(@Nullable final byte[] bytes) {
+        this.bytes = bytes;
+    }
+    
+    /**
+     * @param bytes The raw UTF-8 bytes of the body.
+     *
+     * @return A payload that's only decoded into a string if something asks
+     * for {@link #string()}.
+     */
+    @Nonnull
+    public static ResponsePayload fromBytes(@Nullable final byte[] bytes) {
+        return new ResponsePayload(bytes);
+    }
+    
+    /**
+     * @return The body as a string. Decoded from the response bytes on the
+     * first call.
+     */
     public String string() {
-        return body;
+        String string = body;
+        if(string == null && bytes != null) {
+            string = new String(bytes, StandardCharsets.UTF_8);
+            body = string;
+        }
+        return string;
+    }
+    
+    /**
+     * @return Whether the body is empty.
+     */
+    public boolean isEmpty() {
+        return bytes != null ? bytes.length == 0 : body == null || body.isEmpty();
+    }
+    
+    /**
+     * @return Whether the body looks like a JSON object, ie. whether it
+     * starts with an opening brace. Doesn't decode the body.
+     */
+    public boolean isObject() {
+        if(bytes != null) {
+            return bytes.length > 0 && bytes[0] == '{';
+        }
+        return body != null && body.startsWith("{");
     }
     
     public JsonObject object() {
         try {
+            if(bytes != null && body == null) {
+                return JsonParser.object().from(new ByteArrayInputStream(bytes));
+            }
             return JsonParser.object().from(body);
         } catch(final JsonParserException e) {
             throw new IllegalStateException(e);
@@ -53,6 +111,9 @@ public class ResponsePayload {
     
     public JsonArray array() {
         try {
+            if(bytes != null && body == null) {
+                return JsonParser.array().from(new ByteArrayInputStream(bytes));
+            }
             return JsonParser.array().from(body);
         } catch(final JsonParserException e) {
             throw new IllegalStateException(e);
@@ -33,6 +33,9 @@ import lombok.experimental.Accessors;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static com.mewna.catnip.rest.Routes.HttpMethod.*;
 
@@ -157,6 +160,17 @@ public final class Routes {
         // Route#requiresMsPrecision()
         @Getter
         private boolean requiresMsPrecision;
+        // The route in Routes that this route was derived from via ex.
+        // #withMajorParam or #compile. Used to apply per-route settings, as
+        // compiled routes don't compare equal to the route they came from.
+        @Getter
+        private Route origin = this;
+        // baseRoute split into literals and param names, ie.
+        // ["/guilds/", "guild", "/members/", "user", ""], so that every param
+        // can be filled in with one pass. Parsed lazily, and passed on to
+        // derived routes where possible so it's only parsed once per route
+        // in Routes.
+        private volatile String[] template;
         
         public Route() {
         }
@@ -198,9 +212,32 @@ public final class Routes {
             if(majorParam == null) {
                 throw new IllegalStateException("This route takes no major params!");
             }
-            final String majorParamString = ':' + majorParam;
-            return new Route(method, baseRoute.replace(majorParamString, value), null,
-                    baseRoute.replace(majorParamString, value), requiresMsPrecision);
+            final String[] template = template();
+            // Fill in the major param, merging the literals around it
+            int slots = 0;
+            for(int i = 1; i < template.length; i += 2) {
+                if(!template[i].equals(majorParam)) {
+                    slots++;
+                }
+            }
+            final String[] compiled = new String[slots * 2 + 1];
+            final StringBuilder literal = new StringBuilder(template[0]);
+            int next = 0;
+            for(int i = 1; i < template.length; i += 2) {
+                if(template[i].equals(majorParam)) {
+                    literal.append(value);
+                } else {
+                    compiled[next++] = literal.toString();
+                    compiled[next++] = template[i];
+                    literal.setLength(0);
+                }
+                literal.append(template[i + 1]);
+            }
+            compiled[next] = literal.toString();
+            final String route = slots == 0 ? compiled[0] : toRoute(compiled);
+            final Route derived = derive(new Route(method, route, null, route, requiresMsPrecision));
+            derived.template = compiled;
+            return derived;
         }
         
         @Nonnull
@@ -209,17 +246,89 @@ public final class Routes {
             if(param.equalsIgnoreCase(majorParam)) {
                 return this;
             }
-            return new Route(method, baseRoute.replace(':' + param, value), majorParam, ratelimitKey, requiresMsPrecision);
+            return derive(new Route(method, baseRoute.replace(':' + param, value), majorParam, ratelimitKey, requiresMsPrecision));
+        }
+        
+        /**
+         * Fills in every param in one pass. Params that aren't in the map, as
+         * well as the major param, are left as-is.
+         *
+         * @param params The param values, keyed by param name.
+         *
+         * @return The compiled route.
+         */
+        @Nonnull
+        @CheckReturnValue
+        public Route compile(@Nonnull final Map<String, String> params) {
+            final String[] template = template();
+            if(params.isEmpty() || template.length == 1) {
+                return this;
+            }
+            final StringBuilder builder = new StringBuilder(baseRoute.length() + 20 * (template.length / 2));
+            builder.append(template[0]);
+            for(int i = 1; i < template.length; i += 2) {
+                final String param = template[i];
+                final String value = param.equalsIgnoreCase(majorParam) ? null : params.get(param);
+                if(value == null) {
+                    builder.append(':').append(param);
+                } else {
+                    builder.append(value);
+                }
+                builder.append(template[i + 1]);
+            }
+            return derive(new Route(method, builder.toString(), majorParam, ratelimitKey, requiresMsPrecision));
         }
         
         @Nonnull
         @CheckReturnValue
         public Route copy() {
-            return new Route(method, baseRoute, majorParam, ratelimitKey);
+            final Route copy = derive(new Route(method, baseRoute, majorParam, ratelimitKey));
+            copy.template = template;
+            return copy;
         }
         
         public Route withQueryString(final String qs) {
-            return new Route(method, baseRoute + qs, majorParam, ratelimitKey, requiresMsPrecision);
+            return derive(new Route(method, baseRoute + qs, majorParam, ratelimitKey, requiresMsPrecision));
+        }
+        
+        private Route derive(@Nonnull final Route route) {
+            route.origin = origin;
+            return route;
+        }
+        
+        @Nonnull
+        private String[] template() {
+            String[] template = this.template;
+            if(template == null) {
+                final List<String> parts = new ArrayList<>();
+                int literalStart = 0;
+                int colon = baseRoute.indexOf(':');
+                while(colon != -1) {
+                    int end = colon + 1;
+                    while(end < baseRoute.length() && Character.isLetterOrDigit(baseRoute.charAt(end))) {
+                        end++;
+                    }
+                    if(end > colon + 1) {
+                        parts.add(baseRoute.substring(literalStart, colon));
+                        parts.add(baseRoute.substring(colon + 1, end));
+                        literalStart = end;
+                    }
+                    colon = baseRoute.indexOf(':', end);
+                }
+                parts.add(baseRoute.substring(literalStart));
+                template = parts.toArray(new String[0]);
+                this.template = template;
+            }
+            return template;
+        }
+        
+        @Nonnull
+        private static String toRoute(@Nonnull final String[] template) {
+            final StringBuilder builder = new StringBuilder(template[0]);
+            for(int i = 1; i < template.length; i += 2) {
+                builder.append(':').append(template[i]).append(template[i + 1]);
+            }
+            return builder.toString();
         }
         
         @Override
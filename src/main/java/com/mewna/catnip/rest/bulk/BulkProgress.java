@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.bulk;
+
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Progress of a bulk REST operation, emitted after every REST call the
+ * operation makes. A failed call doesn't stop the operation; it's counted in
+ * {@link #failed()} and the error is kept as {@link #lastError()}.
+ */
+@Value
+@Accessors(fluent = true)
+public class BulkProgress {
+    /**
+     * How many items, ie. messages or members, the operation covers.
+     */
+    @Nonnegative
+    int total;
+    /**
+     * How many items were processed successfully so far.
+     */
+    @Nonnegative
+    int succeeded;
+    /**
+     * How many items failed so far.
+     */
+    @Nonnegative
+    int failed;
+    /**
+     * How many REST calls were made so far.
+     */
+    @Nonnegative
+    int requests;
+    /**
+     * The last error a REST call failed with, if any.
+     */
+    @Nullable
+    Throwable lastError;
+    
+    @Nonnull
+    @CheckReturnValue
+    public static BulkProgress start(@Nonnegative final int total) {
+        return new BulkProgress(total, 0, 0, 0, null);
+    }
+    
+    /**
+     * @return How many items were processed so far, whether they succeeded
+     * or not.
+     */
+    @Nonnegative
+    public int processed() {
+        return succeeded + failed;
+    }
+    
+    /**
+     * @return Whether all items were processed.
+     */
+    public boolean done() {
+        return processed() >= total;
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    BulkProgress succeeded(@Nonnegative final int items) {
+        return new BulkProgress(total, succeeded + items, failed, requests + 1, lastError);
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    BulkProgress failed(@Nonnegative final int items, @Nonnull final Throwable error) {
+        return new BulkProgress(total, succeeded, failed + items, requests + 1, error);
+    }
+}
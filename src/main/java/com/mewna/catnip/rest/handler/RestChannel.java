@@ -51,7 +51,6 @@ import com.mewna.catnip.util.pagination.ReactionPaginator;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnegative;
@@ -150,9 +149,8 @@ public class RestChannel extends RestHandler {
         }
         
         final OutboundRequest request = new OutboundRequest(Routes.CREATE_MESSAGE.withMajorParam(channelId), Map.of(), json);
-        final List<ImmutablePair<String, byte[]>> buffers = options.files();
-        if(buffers != null && !buffers.isEmpty()) {
-            request.buffers(buffers);
+        if(options.hasFiles()) {
+            request.uploads(options.uploads());
         }
         return catnip().requester()
                 .queue(request)
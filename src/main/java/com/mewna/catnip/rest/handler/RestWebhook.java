@@ -231,7 +231,7 @@ public class RestWebhook extends RestHandler {
         return catnip().requester().
                 queue(new OutboundRequest(Routes.EXECUTE_WEBHOOK.withMajorParam(webhookId).withQueryString("?wait=true"),
                         Map.of("token", webhookToken), body).needsToken(false)
-                        .buffers(options.files()))
+                        .uploads(options.uploads()))
                 .map(ResponsePayload::object);
     }
 }
@@ -31,8 +31,10 @@ import com.mewna.catnip.Catnip;
 import com.mewna.catnip.rest.Routes.Route;
 import com.mewna.catnip.util.rx.RxHelpers;
 import io.reactivex.rxjava3.core.Completable;
+import org.slf4j.event.Level;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -52,14 +54,14 @@ public class DefaultRateLimiter implements RateLimiter {
     @Nonnull
     @Override
     public Completable requestExecution(@Nonnull final Route route) {
-        catnip.logAdapter().trace("Requested execution for route {} (ratelimit key = {})", route, route.ratelimitKey());
+        trace("Requested execution for route {} (ratelimit key = {})", route, route.ratelimitKey());
         final BucketContainer container = buckets.computeIfAbsent(route.ratelimitKey(), __ -> new BucketContainer());
         //noinspection SynchronizationOnLocalVariableOrMethodParameter
         synchronized(container) {
-            catnip.logAdapter().trace("{} remaining requests", container.remaining);
+            trace("{} remaining requests", container.remaining);
             if(container.remaining > 0) {
                 container.remaining--;
-                catnip.logAdapter().trace("EXECUTE_NOW");
+                trace("EXECUTE_NOW");
                 return RxHelpers.completedCompletable(catnip)
                         .subscribeOn(catnip.rxScheduler())
                         .observeOn(catnip.rxScheduler());
@@ -67,8 +69,12 @@ public class DefaultRateLimiter implements RateLimiter {
             final CompletableFuture<Void> future = new CompletableFuture<>();
             container.queue.offer(future);
             queueExecution(container);
-            catnip.logAdapter().trace("Execute later");
-            return Completable.fromFuture(future)
+            trace("Execute later");
+            // fromCompletionStage rather than fromFuture, since the latter
+            // blocks a scheduler thread until the bucket resets; with enough
+            // queued requests that starves the threads that would handle the
+            // responses that let the bucket reset
+            return Completable.fromCompletionStage(future)
                     .subscribeOn(catnip.rxScheduler())
                     .observeOn(catnip.rxScheduler());
         }
@@ -118,12 +124,20 @@ public class DefaultRateLimiter implements RateLimiter {
     }
     
     private synchronized long retryAfter(final long bucketReset) {
-        catnip.logAdapter().trace("Calculating retry timestamp (bucket = {}, global = {})", bucketReset, globalRateLimitReset);
+        trace("Calculating retry timestamp (bucket = {}, global = {})", bucketReset, globalRateLimitReset);
         final long retry = Math.max(1, Math.max(bucketReset, globalRateLimitReset) - System.currentTimeMillis());
-        catnip.logAdapter().trace("Retrying in {} ms", retry);
+        trace("Retrying in {} ms", retry);
         return retry;
     }
     
+    private void trace(@Nonnull final String message, @Nullable final Object... objects) {
+        // Checked first, since the default log adapter walks the stack to
+        // find the logger
+        if(catnip.logAdapter().isEnabled(Level.TRACE, DefaultRateLimiter.class)) {
+            catnip.logAdapter().trace(message, objects);
+        }
+    }
+    
     private void queueExecution(@Nonnull final BucketContainer container) {
         if(container.timerId != null) {
             return;
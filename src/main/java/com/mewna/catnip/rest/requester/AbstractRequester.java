@@ -32,6 +32,7 @@ import com.mewna.catnip.Catnip;
 import com.mewna.catnip.entity.impl.lifecycle.RestRatelimitHitImpl;
 import com.mewna.catnip.extension.Extension;
 import com.mewna.catnip.extension.hook.CatnipHook;
+import com.mewna.catnip.rest.FileUpload;
 import com.mewna.catnip.rest.MultipartBodyPublisher;
 import com.mewna.catnip.rest.ResponseException;
 import com.mewna.catnip.rest.ResponsePayload;
@@ -40,42 +41,58 @@ import com.mewna.catnip.rest.Routes.Route;
 import com.mewna.catnip.rest.ratelimit.RateLimiter;
 import com.mewna.catnip.shard.LifecycleEvent.Raw;
 import com.mewna.catnip.util.CatnipMeta;
+import com.mewna.catnip.util.CatnipOptionsView;
 import com.mewna.catnip.util.Utils;
+import com.mewna.catnip.util.jfr.JfrEvents;
+import com.mewna.catnip.util.jfr.RestRequestEvent;
 import com.mewna.catnip.util.rx.RxHelpers;
 import io.reactivex.rxjava3.core.Observable;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.slf4j.event.Level;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.StackWalker.Option;
-import java.lang.StackWalker.StackFrame;
 import java.net.URI;
 import java.net.http.HttpClient.Builder;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.mewna.catnip.rest.Routes.HttpMethod.GET;
 
 @SuppressWarnings("WeakerAccess")
 public abstract class AbstractRequester implements Requester {
     public static final BodyPublisher EMPTY_BODY = BodyPublishers.noBody();
-    private static final StackWalker STACK_WALKER = StackWalker.getInstance(Set.of(Option.RETAIN_CLASS_REFERENCE));
+    private static final String USER_AGENT = "DiscordBot (https://github.com/mewna/catnip, " + CatnipMeta.VERSION + ')';
     
     protected final RateLimiter rateLimiter;
+    private final Map<String, Observable<ResponsePayload>> inFlightRequests = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> coalescedRequests = new ConcurrentHashMap<>();
+    private final LongAdder totalCoalescedRequests = new LongAdder();
+    private final Map<String, LongAdder> retriedRequests = new ConcurrentHashMap<>();
+    private final LongAdder totalRetriedRequests = new LongAdder();
+    private final Map<String, LongAdder> abandonedRequests = new ConcurrentHashMap<>();
+    private final LongAdder totalAbandonedRequests = new LongAdder();
     protected Catnip catnip;
+    private volatile RequestPrefix prefix;
     
     public AbstractRequester(@Nonnull final RateLimiter rateLimiter) {
         this.rateLimiter = rateLimiter;
@@ -91,33 +108,202 @@ public abstract class AbstractRequester implements Requester {
     @Override
     public Observable<ResponsePayload> queue(@Nonnull final OutboundRequest r) {
         final CompletableFuture<ResponsePayload> future = new CompletableFuture<>();
+        // Disposing of the observable cancels the request, which removes it
+        // from its bucket or aborts it if it's in flight. Coalesced requests
+        // share the observable, so they're only cancelled once all of their
+        // subscribers are gone.
+        final Observable<ResponsePayload> observable = RxHelpers.cancelOnDispose(RxHelpers.futureToObservable(future)
+                .subscribeOn(catnip.rxScheduler())
+                .observeOn(catnip.rxScheduler()), future);
+        final ResponseCache cache = catnip.options().restResponseCache();
+        final boolean cacheable = cache != null && canCache(r, cache);
+        final boolean coalesce = canCoalesce(r);
+        final Route compiled = cache != null || coalesce ? compileRoute(r) : null;
+        if(cacheable) {
+            final ResponsePayload cached = cache.get(compiled);
+            if(cached != null) {
+                return Observable.just(cached)
+                        .subscribeOn(catnip.rxScheduler())
+                        .observeOn(catnip.rxScheduler());
+            }
+        }
+        if(coalesce) {
+            final String key = coalescingKey(compiled, r);
+            final Observable<ResponsePayload> inFlight = inFlightRequests.putIfAbsent(key, observable);
+            if(inFlight != null) {
+                // An identical request is already in flight, so just share
+                // its response
+                totalCoalescedRequests.increment();
+                coalescedRequests.computeIfAbsent(r.route().origin().toString(), __ -> new LongAdder()).increment();
+                return inFlight;
+            }
+            future.whenComplete((__, ___) -> inFlightRequests.remove(key, observable));
+        }
+        if(cacheable) {
+            final ResponseCache.Fetch fetch = cache.begin(compiled);
+            future.whenComplete((payload, e) -> cache.complete(fetch, e == null ? payload : null));
+        } else if(cache != null && compiled.method() != GET) {
+            future.thenRun(() -> cache.invalidateWrite(compiled));
+        }
+        catnip.options().restRetryPolicy().requestQueued(r);
         final Bucket bucket = getBucket(r.route());
         // Capture stacktrace if possible
-        final StackTraceElement[] stacktrace;
-        if(catnip.options().captureRestStacktraces()) {
-            stacktrace = STACK_WALKER.walk(stream -> stream
-                    .map(StackFrame::toStackTraceElement)
-                    .toArray(StackTraceElement[]::new));
-        } else {
-            stacktrace = new StackTraceElement[0];
+        final RestStacktrace stacktrace = catnip.options().captureRestStacktraces()
+                ? RestStacktrace.capture(catnip.options().restStacktraceMode(), catnip.options().restStacktraceSampleRate())
+                : RestStacktrace.NONE;
+        final QueuedRequest queued = new QueuedRequest(r, r.route(), future, bucket, stacktrace);
+        future.whenComplete((__, e) -> {
+            if(e instanceof CancellationException) {
+                cancelRequest(queued);
+            }
+        });
+        queued.queuedAt = System.nanoTime();
+        catnip.options().restMetrics().requestQueued(r.route());
+        bucket.queueRequest(queued);
+        return observable;
+    }
+    
+    /**
+     * Called when a request's future was cancelled. Removes it from its
+     * bucket if it's still queued, or aborts the HTTP exchange if it's in
+     * flight.
+     *
+     * @param request The cancelled request.
+     */
+    protected void cancelRequest(@Nonnull final QueuedRequest request) {
+        trace("Request {} was cancelled.", request.request());
+        request.bucket().cancelRequest(request);
+        final CompletableFuture<?> exchange = request.exchange;
+        if(exchange != null) {
+            exchange.cancel(true);
         }
-        bucket.queueRequest(new QueuedRequest(r, r.route(), future, bucket, stacktrace));
-        return RxHelpers.futureToObservable(future)
-                .subscribeOn(catnip.rxScheduler())
-                .observeOn(catnip.rxScheduler());
+    }
+    
+    /**
+     * @return The total number of requests that were coalesced into an
+     * identical request that was already in flight.
+     *
+     * @see com.mewna.catnip.util.CatnipOptionsView#coalesceRestRequests()
+     */
+    public long coalescedRequests() {
+        return totalCoalescedRequests.sum();
+    }
+    
+    /**
+     * @param route The route constant, from {@link com.mewna.catnip.rest.Routes}.
+     *
+     * @return The number of requests to the given route that were coalesced
+     * into an identical request that was already in flight.
+     */
+    public long coalescedRequests(@Nonnull final Route route) {
+        final LongAdder adder = coalescedRequests.get(route.origin().toString());
+        return adder == null ? 0 : adder.sum();
+    }
+    
+    /**
+     * @return The total number of retries of failed requests.
+     *
+     * @see com.mewna.catnip.util.CatnipOptionsView#restRetryPolicy()
+     */
+    public long retriedRequests() {
+        return totalRetriedRequests.sum();
+    }
+    
+    /**
+     * @param route The route constant, from {@link com.mewna.catnip.rest.Routes}.
+     *
+     * @return The number of retries of failed requests to the given route.
+     */
+    public long retriedRequests(@Nonnull final Route route) {
+        final LongAdder adder = retriedRequests.get(route.origin().toString());
+        return adder == null ? 0 : adder.sum();
+    }
+    
+    /**
+     * @return The total number of failed requests that the retry policy gave
+     * up on, either because they can't be retried or because they ran out of
+     * retries.
+     */
+    public long abandonedRequests() {
+        return totalAbandonedRequests.sum();
+    }
+    
+    /**
+     * @param route The route constant, from {@link com.mewna.catnip.rest.Routes}.
+     *
+     * @return The number of failed requests to the given route that the retry
+     * policy gave up on.
+     */
+    public long abandonedRequests(@Nonnull final Route route) {
+        final LongAdder adder = abandonedRequests.get(route.origin().toString());
+        return adder == null ? 0 : adder.sum();
     }
     
     @Nonnull
     @CheckReturnValue
     protected abstract Bucket getBucket(@Nonnull Route route);
     
+    protected boolean canCoalesce(@Nonnull final OutboundRequest r) {
+        if(r.route().method() != GET || !catnip.options().coalesceRestRequests()) {
+            return false;
+        }
+        if(r.object() != null || r.array() != null || r.hasFiles()) {
+            return false;
+        }
+        // Sharing a response would also share the first request's deadline,
+        // so requests with their own deadline are always sent separately
+        if(r.deadline() != null) {
+            return false;
+        }
+        final Route origin = r.route().origin();
+        for(final Route route : catnip.options().uncoalescedRoutes()) {
+            // Routes with different methods can share a base route, and thus
+            // be equal, so compare by identity instead
+            if(route.origin() == origin) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Requests are only coalesced if everything that affects how they're
+     * sent matches, not just the compiled route.
+     */
+    @Nonnull
+    protected String coalescingKey(@Nonnull final Route compiled, @Nonnull final OutboundRequest r) {
+        return compiled + "|" + r.needsToken() + '|' + r.priority() + '|' + r.reason();
+    }
+    
+    protected boolean canCache(@Nonnull final OutboundRequest r, @Nonnull final ResponseCache cache) {
+        if(r.object() != null || r.array() != null || r.hasFiles()) {
+            return false;
+        }
+        return cache.cacheable(r.route());
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    protected Route compileRoute(@Nonnull final OutboundRequest r) {
+        return r.route().compile(r.params());
+    }
+    
     protected void executeRequest(@Nonnull final QueuedRequest request) {
-        Route route = request.route();
-        // Compile route for usage
-        for(final Entry<String, String> stringStringEntry : request.request().params().entrySet()) {
-            route = route.compile(stringStringEntry.getKey(), stringStringEntry.getValue());
+        if(request.future().isDone()) {
+            // Cancelled while waiting for the ratelimit
+            requestDropped(request);
+            request.bucket().requestDone();
+            return;
         }
-        if(request.request().buffers() != null) {
+        if(request.request().pastDeadline()) {
+            failPastDeadline(request);
+            requestDropped(request);
+            request.bucket().requestDone();
+            return;
+        }
+        // Compile route for usage
+        final Route route = compileRoute(request.request());
+        if(request.request().hasFiles()) {
             handleRouteBufferBodySend(route, request);
         } else {
             handleRouteJsonBodySend(route, request);
@@ -128,14 +314,23 @@ public abstract class AbstractRequester implements Requester {
         try {
             final MultipartBodyPublisher publisher = new MultipartBodyPublisher();
             final OutboundRequest r = request.request();
-            for(int index = 0; index < r.buffers().size(); index++) {
-                final ImmutablePair<String, byte[]> pair = r.buffers().get(index);
-                publisher.addPart("file" + index, pair.left, pair.right);
+            int index = 0;
+            if(r.buffers() != null) {
+                for(final ImmutablePair<String, byte[]> pair : r.buffers()) {
+                    publisher.addPart("file" + index++, pair.left, pair.right);
+                }
+            }
+            if(r.uploads() != null) {
+                for(final FileUpload upload : r.uploads()) {
+                    publisher.addPart("file" + index++, upload);
+                }
             }
             if(r.object() != null) {
-                for(final Extension extension : catnip.extensionManager().extensions()) {
-                    for(final CatnipHook hook : extension.hooks()) {
-                        r.object(hook.rawRestSendObjectHook(finalRoute, r.object()));
+                if(catnip.extensionManager().hasExtensions()) {
+                    for(final Extension extension : catnip.extensionManager().extensions()) {
+                        for(final CatnipHook hook : extension.hooks()) {
+                            r.object(hook.rawRestSendObjectHook(finalRoute, r.object()));
+                        }
                     }
                 }
                 publisher.addPart("payload_json", JsonWriter.string(r.object()));
@@ -154,6 +349,10 @@ public abstract class AbstractRequester implements Requester {
             executeHttpRequest(finalRoute, publisher.build(), request, "multipart/form-data;boundary=" + publisher.getBoundary());
         } catch(final Exception e) {
             catnip.logAdapter().error("Failed to send multipart request", e);
+            // Nothing was sent, so fail the request and let the bucket move on
+            request.future().completeExceptionally(e);
+            requestDropped(request);
+            request.bucket().requestDone();
         }
     }
     
@@ -161,9 +360,11 @@ public abstract class AbstractRequester implements Requester {
         final OutboundRequest r = request.request();
         final String encoded;
         if(r.object() != null) {
-            for(final Extension extension : catnip.extensionManager().extensions()) {
-                for(final CatnipHook hook : extension.hooks()) {
-                    r.object(hook.rawRestSendObjectHook(finalRoute, r.object()));
+            if(catnip.extensionManager().hasExtensions()) {
+                for(final Extension extension : catnip.extensionManager().extensions()) {
+                    for(final CatnipHook hook : extension.hooks()) {
+                        r.object(hook.rawRestSendObjectHook(finalRoute, r.object()));
+                    }
                 }
             }
             encoded = JsonWriter.string(r.object());
@@ -177,27 +378,75 @@ public abstract class AbstractRequester implements Requester {
     
     protected void executeHttpRequest(@Nonnull final Route route, @Nullable final BodyPublisher body,
                                       @Nonnull final QueuedRequest request, @Nonnull final String mediaType) {
+        final HttpRequest httpRequest = buildHttpRequest(route, body, request, mediaType);
+        
+        // Update request start time as soon as possible
+        // See QueuedRequest docs for why we do this
+        request.start = System.nanoTime();
+        catnip.options().restMetrics().requestSent(request.route(),
+                request.start - (request.dispatchedAt != 0 ? request.dispatchedAt : request.queuedAt));
+        final RestRequestEvent event = JfrEvents.ENABLED ? RestRequestEvent.start() : null;
+        final CompletableFuture<HttpResponse<byte[]>> exchange = catnip.options().httpClient()
+                .sendAsync(httpRequest, BodyHandlers.ofByteArray());
+        request.exchange = exchange;
+        if(request.future().isDone()) {
+            // Cancelled while the request was being built
+            exchange.cancel(true);
+        }
+        exchange
+                .thenAccept(res -> {
+                    final int code = res.statusCode();
+                    final String message = "Unavailable to due Java's HTTP client.";
+                    final long requestEnd = System.nanoTime();
+                    catnip.options().restMetrics().requestCompleted(request.route(), code, requestEnd - request.start);
+                    if(event != null) {
+                        event.finish(route, code, request.start - request.queuedAt);
+                    }
+                    
+                    catnip.rxScheduler().scheduleDirect(() ->
+                            handleResponse(route, code, message, requestEnd, res.body(), res.headers(), request));
+                })
+                .exceptionally(e -> {
+                    catnip.options().restMetrics().requestCompleted(request.route(), -1, System.nanoTime() - request.start);
+                    if(event != null) {
+                        event.finish(route, -1, request.start - request.queuedAt);
+                    }
+                    if(request.future().isDone()) {
+                        // Cancelled, no need to retry
+                        request.bucket.requestDone();
+                        return null;
+                    }
+                    prepareRetry(route, request, e, -1);
+                    request.bucket.failedRequest(request, e);
+                    return null;
+                });
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    protected HttpRequest buildHttpRequest(@Nonnull final Route route, @Nullable final BodyPublisher body,
+                                           @Nonnull final QueuedRequest request, @Nonnull final String mediaType) {
         final HttpRequest.Builder builder;
-        final String apiHostVersion = catnip.options().apiHost() + "/api/v" + catnip.options().apiVersion();
+        final RequestPrefix prefix = prefix();
         
         if(route.method() == GET) {
             // No body
-            builder = HttpRequest.newBuilder(URI.create(apiHostVersion + route.baseRoute())).GET();
+            builder = HttpRequest.newBuilder(URI.create(prefix.api + route.baseRoute())).GET();
         } else {
             final var fakeBody = request.request.emptyBody();
-            builder = HttpRequest.newBuilder(URI.create(apiHostVersion + route.baseRoute()))
+            builder = HttpRequest.newBuilder(URI.create(prefix.api + route.baseRoute()))
                     .setHeader("Content-Type", mediaType)
                     .method(route.method().name(), fakeBody ? BodyPublishers.ofString(" ") : body);
             if(fakeBody) {
                 // If we don't have a body, then the body param is null, which
                 // seems to not set a Content-Length. This explicitly tries to set
                 // up a request shaped in a way that makes Discord not complain.
-                catnip.logAdapter().trace("Set fake body due to lack of body.");
+                trace("Set fake body due to lack of body.");
             }
         }
         
         // Required by Discord
-        builder.setHeader("User-Agent", "DiscordBot (https://github.com/mewna/catnip, " + CatnipMeta.VERSION + ')');
+        builder.setHeader("User-Agent", USER_AGENT);
         // Request more precise ratelimit headers for better timing
         // NOTE: THIS SHOULD NOT BE CONFIGURABLE BY THE END USER
         // This is pretty important for getting timing of things like reaction
@@ -207,49 +456,136 @@ public abstract class AbstractRequester implements Requester {
         builder.setHeader("X-RateLimit-Precision", "millisecond");
         
         if(request.request().needsToken()) {
-            builder.setHeader("Authorization", "Bot " + catnip.options().token());
+            builder.setHeader("Authorization", prefix.authorization);
         }
         if(request.request().reason() != null) {
-            catnip.logAdapter().trace("Adding reason header due to specific needs.");
+            trace("Adding reason header due to specific needs.");
             builder.header(Requester.REASON_HEADER, Utils.encodeUTF8(request.request().reason()));
         }
-        
-        // Update request start time as soon as possible
-        // See QueuedRequest docs for why we do this
-        request.start = System.nanoTime();
-        catnip.options().httpClient().sendAsync(builder.build(), BodyHandlers.ofString())
-                .thenAccept(res -> {
-                    final int code = res.statusCode();
-                    final String message = "Unavailable to due Java's HTTP client.";
-                    final long requestEnd = System.nanoTime();
-                    
-                    catnip.rxScheduler().scheduleDirect(() ->
-                            handleResponse(route, code, message, requestEnd, res.body(), res.headers(), request));
-                })
-                .exceptionally(e -> {
-                    request.bucket.failedRequest(request, e);
-                    return null;
-                });
+        return builder.build();
+    }
+    
+    /**
+     * @return The API URL prefix and authorization header for the current
+     * options. Cached, since options rarely change but these are needed for
+     * every request.
+     */
+    @Nonnull
+    private RequestPrefix prefix() {
+        final CatnipOptionsView options = catnip.options();
+        RequestPrefix prefix = this.prefix;
+        if(prefix == null || prefix.options != options) {
+            prefix = new RequestPrefix(options, options.apiHost() + "/api/v" + options.apiVersion(),
+                    "Bot " + options.token());
+            this.prefix = prefix;
+        }
+        return prefix;
     }
     
+    /**
+     * Called by buckets when they hand a request to the rate limiter.
+     *
+     * @param request The request.
+     */
+    protected void requestDispatched(@Nonnull final QueuedRequest request) {
+        request.dispatchedAt = System.nanoTime();
+        catnip.options().restMetrics().requestDispatched(request.route(), request.dispatchedAt - request.queuedAt);
+    }
+    
+    /**
+     * Called when a queued request is dropped without being sent, because it
+     * was cancelled or is past its deadline.
+     *
+     * @param request The request.
+     */
+    protected void requestDropped(@Nonnull final QueuedRequest request) {
+        catnip.options().restMetrics().requestDropped(request.route());
+    }
+    
+    /**
+     * Fails a request that wasn't sent before its
+     * {@link OutboundRequest#deadline()}.
+     *
+     * @param request The request to fail.
+     */
+    protected static void failPastDeadline(@Nonnull final QueuedRequest request) {
+        final Throwable throwable = new RuntimeException("REST error context");
+        throwable.setStackTrace(request.stacktrace());
+        request.future().completeExceptionally(new TimeoutException("Request " + request.request()
+                + " wasn't sent before its deadline " + request.request().deadline()).initCause(throwable));
+    }
+    
+    /**
+     * Asks the {@link RetryPolicy} whether the request should be retried, and
+     * records the decision in the request, for the bucket's
+     * {@link Bucket#failedRequest(QueuedRequest, Throwable)} to act on.
+     *
+     * @return Whether the request will be retried.
+     */
+    protected boolean prepareRetry(@Nonnull final Route route, @Nonnull final QueuedRequest request,
+                                   @Nullable final Throwable failure, final int statusCode) {
+        request.retryDelay = catnip.options().restRetryPolicy()
+                .retryDelay(route, request.request(), request.failedAttempts() + 1, failure, statusCode);
+        final String origin = request.route().origin().toString();
+        if(request.retryDelay >= 0) {
+            request.queuedAt = System.nanoTime();
+            catnip.options().restMetrics().requestQueued(request.route());
+            trace("Retrying request {} in {}ms after failure {}.", request.request(), request.retryDelay,
+                    failure == null ? statusCode : failure);
+            totalRetriedRequests.increment();
+            retriedRequests.computeIfAbsent(origin, __ -> new LongAdder()).increment();
+            return true;
+        } else {
+            totalAbandonedRequests.increment();
+            abandonedRequests.computeIfAbsent(origin, __ -> new LongAdder()).increment();
+            return false;
+        }
+    }
+    
+    private void trace(@Nonnull final String message, @Nullable final Object... objects) {
+        // Tracing is off almost all of the time, and the default log adapter
+        // walks the stack to find the logger, so check first
+        if(catnip.logAdapter().isEnabled(Level.TRACE, AbstractRequester.class)) {
+            catnip.logAdapter().trace(message, objects);
+        }
+    }
+    
+    /**
+     * @deprecated Response bodies are read as bytes now, so this is no longer
+     * called by catnip. Use
+     * {@link #handleResponse(Route, int, String, long, byte[], HttpHeaders, QueuedRequest)}.
+     */
+    @Deprecated
     protected void handleResponse(@Nonnull final Route route, final int statusCode,
-                                  @SuppressWarnings("SameParameterValue") @Nonnull final String statusMessage,
+                                  @Nonnull final String statusMessage,
                                   final long requestEnd, final String body, final HttpHeaders headers,
                                   @Nonnull final QueuedRequest request) {
+        handleResponse(route, statusCode, statusMessage, requestEnd,
+                body == null ? null : body.getBytes(StandardCharsets.UTF_8), headers, request);
+    }
+    
+    protected void handleResponse(@Nonnull final Route route, final int statusCode,
+                                  @SuppressWarnings("SameParameterValue") @Nonnull final String statusMessage,
+                                  final long requestEnd, final byte[] body, final HttpHeaders headers,
+                                  @Nonnull final QueuedRequest request) {
         final String dateHeader = headers.firstValue("Date").orElse(null);
         final long requestDuration = TimeUnit.NANOSECONDS.toMillis(requestEnd - request.start);
         final long timeDifference;
         if(dateHeader == null || route.requiresMsPrecision()) {
             timeDifference = requestDuration;
-            catnip.logAdapter().trace("No date header, time difference = request duration = {}", timeDifference);
+            trace("No date header, time difference = request duration = {}", timeDifference);
         } else {
             final long now = System.currentTimeMillis();
             final long date = OffsetDateTime.parse(dateHeader, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
                     .toEpochMilli();
             timeDifference = now - date + requestDuration;
-            catnip.logAdapter().trace("Have date header, time difference = now - date + request duration = " +
+            trace("Have date header, time difference = now - date + request duration = " +
                             "{} - {} + {} = {}",
                     now, date, requestDuration, timeDifference);
+            // The Date header is truncated to the second, and was generated
+            // somewhere during the request, so compare it to the middle of
+            // the request
+            catnip.options().restMetrics().clockSkew(request.route(), now - requestDuration / 2 - (date + 500));
         }
         if(statusCode == 429) {
             if(catnip.options().logLifecycleEvents()) {
@@ -261,27 +597,29 @@ public abstract class AbstractRequester implements Requester {
                         headers.firstValue("X-Ratelimit-Reset").orElse(null)
                 );
             }
+            final boolean global = Boolean.parseBoolean(headers.firstValue("X-RateLimit-Global").orElse(null));
             catnip.dispatchManager().dispatchEvent(Raw.REST_RATELIMIT_HIT,
-                    new RestRatelimitHitImpl(catnip, route.baseRoute(),
-                            Boolean.parseBoolean(headers.firstValue("X-RateLimit-Global").orElse(null))));
+                    new RestRatelimitHitImpl(catnip, route.baseRoute(), global));
+            catnip.options().restMetrics().rateLimitHit(request.route(), global);
             
             String retry = headers.firstValue("Retry-After").orElse(null);
             if(retry == null || retry.isEmpty()) {
-                try {
-                    retry = JsonParser.object().from(body).get("retry_after").toString();
-                } catch(final JsonParserException e) {
-                    throw new IllegalStateException(e);
-                }
+                retry = ResponsePayload.fromBytes(body).object().get("retry_after").toString();
             }
             final long retryAfter = Long.parseLong(retry);
-            if(Boolean.parseBoolean(headers.firstValue("X-RateLimit-Global").orElse(null))) {
-                catnip.logAdapter().trace("Updating global bucket due to ratelimit.");
+            if(global) {
+                trace("Updating global bucket due to ratelimit.");
                 rateLimiter.updateGlobalRateLimit(System.currentTimeMillis() + timeDifference + retryAfter);
             } else {
-                catnip.logAdapter().trace("Updating bucket headers due to ratelimit.");
+                trace("Updating bucket headers due to ratelimit.");
                 updateBucket(route, headers,
                         System.currentTimeMillis() + timeDifference + retryAfter, timeDifference);
             }
+            // Straight back to the rate limiter, without waiting in the
+            // bucket again
+            request.queuedAt = System.nanoTime();
+            catnip.options().restMetrics().requestQueued(request.route());
+            requestDispatched(request);
             // It should get autodisposed anyway, so we don't need to worry
             // about handling the method result
             //noinspection ResultOfMethodCallIgnored
@@ -292,27 +630,34 @@ public abstract class AbstractRequester implements Requester {
                                 throwable.setStackTrace(request.stacktrace());
                                 request.future().completeExceptionally(e.initCause(throwable));
                             });
+        } else if(statusCode >= 500 && prepareRetry(route, request, null, statusCode)) {
+            trace("Updating bucket headers from server error with code {}.", statusCode);
+            updateBucket(route, headers, -1, timeDifference);
+            request.bucket().failedRequest(request, new ResponseException(route.toString(), statusCode,
+                    statusMessage, -1, "Server error, retrying.", null));
         } else {
-            catnip.logAdapter().trace("Updating bucket headers from successful completion with code {}.", statusCode);
+            trace("Updating bucket headers from successful completion with code {}.", statusCode);
             updateBucket(route, headers, -1, timeDifference);
             request.bucket().requestDone();
             
-            ResponsePayload payload = new ResponsePayload(body);
-            for(final Extension extension : catnip.extensionManager().extensions()) {
-                for(final CatnipHook hook : extension.hooks()) {
-                    payload = hook.rawRestReceiveDataHook(route, payload);
+            ResponsePayload payload = ResponsePayload.fromBytes(body);
+            if(catnip.extensionManager().hasExtensions()) {
+                for(final Extension extension : catnip.extensionManager().extensions()) {
+                    for(final CatnipHook hook : extension.hooks()) {
+                        payload = hook.rawRestReceiveDataHook(route, payload);
+                    }
                 }
             }
             // We got a 4xx, meaning there's errors. Fail the request with this and move on.
             if(statusCode >= 400) {
-                catnip.logAdapter().trace("Request received an error code ({} >= 400), processing...", statusCode);
-                if(payload.string() != null && payload.string().startsWith("{")) {
+                trace("Request received an error code ({} >= 400), processing...", statusCode);
+                if(payload.isObject()) {
                     // If the payload HAS a body, AND it looks like a JSON object, try to parse it for info
                     final JsonObject response = payload.object();
                     if(statusCode == 400 && response.getInt("code", -1) > 1000) {
                         // 1000 was just the easiest number to check to skip over http error codes
                         // Discord error codes are all >=10000 afaik, so this should be safe?
-                        catnip.logAdapter().trace("Status code 400 + JSON code, creating RestPayloadException...");
+                        trace("Status code 400 + JSON code, creating RestPayloadException...");
                         final Map<String, List<String>> failures = new HashMap<>();
                         response.forEach((key, value) -> {
                             if(value instanceof JsonArray) {
@@ -335,7 +680,7 @@ public abstract class AbstractRequester implements Requester {
                         throwable.setStackTrace(request.stacktrace());
                         request.future().completeExceptionally(new RestPayloadException(failures).initCause(throwable));
                     } else {
-                        catnip.logAdapter().trace("Status code != 400, creating ResponseException...");
+                        trace("Status code != 400, creating ResponseException...");
                         final String message = response.getString("message", "No message.");
                         final int code = response.getInt("code", -1);
                         final Throwable throwable = new RuntimeException("REST error context");
@@ -344,14 +689,14 @@ public abstract class AbstractRequester implements Requester {
                                 statusMessage, code, message, response).initCause(throwable));
                     }
                 } else {
-                    catnip.logAdapter().trace("Status code != 400 and no JSON body, creating ResponseException...");
+                    trace("Status code != 400 and no JSON body, creating ResponseException...");
                     final Throwable throwable = new RuntimeException("REST error context");
                     throwable.setStackTrace(request.stacktrace());
                     request.future().completeExceptionally(new ResponseException(route.toString(), statusCode,
                             statusMessage, -1, "No message.", null).initCause(throwable));
                 }
             } else {
-                catnip.logAdapter().trace("Successfully completed request future.");
+                trace("Successfully completed request future.");
                 request.future().complete(payload);
             }
         }
@@ -366,7 +711,7 @@ public abstract class AbstractRequester implements Requester {
         final Optional<Long> rateLimitResetAfter = headers.firstValue("X-RateLimit-Reset-After")
                 .map(s -> Long.parseLong(s.replace(".", "")));
         
-        catnip.logAdapter().trace(
+        trace(
                 "Updating headers for {} ({}): remaining = {}, limit = {}, reset = {}, retryAfter = {}, timeDifference = {}",
                 route, route.ratelimitKey(), rateLimitRemaining.orElse(-1L), rateLimitLimit.orElse(-1L),
                 rateLimitReset.orElse(-1L), retryAfter, timeDifference
@@ -404,6 +749,16 @@ public abstract class AbstractRequester implements Requester {
         void failedRequest(@Nonnull QueuedRequest request, @Nonnull Throwable failureCause);
         
         void requestDone();
+        
+        /**
+         * Removes a cancelled request from the bucket, if it's still queued.
+         * Buckets that don't queue requests can ignore this; cancelled
+         * requests are never sent.
+         *
+         * @param request The cancelled request.
+         */
+        default void cancelRequest(@Nonnull final QueuedRequest request) {
+        }
     }
     
     @Getter
@@ -414,16 +769,65 @@ public abstract class AbstractRequester implements Requester {
         protected final Route route;
         protected final CompletableFuture<ResponsePayload> future;
         protected final Bucket bucket;
-        protected final StackTraceElement[] stacktrace;
+        protected final RestStacktrace stacktrace;
         protected int failedAttempts;
+        /**
+         * When this request was last put into its bucket's queue, in
+         * {@link System#nanoTime()} time.
+         */
+        protected long queuedAt;
+        /**
+         * How long to wait before retrying this request after its last
+         * failure, in milliseconds, or {@link RetryPolicy#NO_RETRY}.
+         */
+        protected long retryDelay = RetryPolicy.NO_RETRY;
+        /**
+         * The HTTP exchange of this request's current attempt, if it was
+         * sent.
+         */
+        protected volatile CompletableFuture<?> exchange;
+        /**
+         * Whether this request was last sent ahead of higher priority
+         * requests, to keep its lane from starving.
+         */
+        protected boolean promoted;
+        /**
+         * When this request was last handed to the rate limiter, in
+         * {@link System#nanoTime()} time.
+         */
+        protected long dispatchedAt;
         private long start;
         
+        public QueuedRequest(final OutboundRequest request, final Route route, final CompletableFuture<ResponsePayload> future,
+                             final Bucket bucket, final StackTraceElement[] stacktrace) {
+            this(request, route, future, bucket, RestStacktrace.of(stacktrace));
+        }
+        
+        /**
+         * @return The stacktrace of the code that queued this request. May be
+         * empty, depending on {@link com.mewna.catnip.util.CatnipOptionsView#restStacktraceMode()}.
+         */
+        public StackTraceElement[] stacktrace() {
+            return stacktrace.elements();
+        }
+        
         public void failed() {
             failedAttempts++;
         }
         
+        /**
+         * @return Whether the {@link RetryPolicy} decided to retry this
+         * request after its last failure.
+         */
         public boolean shouldRetry() {
-            return failedAttempts < 3;
+            return retryDelay >= 0;
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class RequestPrefix {
+        private final CatnipOptionsView options;
+        private final String api;
+        private final String authorization;
+    }
 }
@@ -32,6 +32,7 @@ import com.mewna.catnip.rest.ratelimit.RateLimiter;
 
 import javax.annotation.Nonnull;
 import java.net.http.HttpClient.Builder;
+import java.util.concurrent.TimeUnit;
 
 public class BurstRequester extends AbstractRequester {
     private final Bucket bucket = new BurstBucket(this);
@@ -55,6 +56,7 @@ public class BurstRequester extends AbstractRequester {
         
         @Override
         public void queueRequest(@Nonnull final QueuedRequest request) {
+            requester.requestDispatched(request);
             //noinspection ResultOfMethodCallIgnored
             requester.rateLimiter.requestExecution(request.route())
                     .subscribe(() -> requester.executeRequest(request),
@@ -65,7 +67,8 @@ public class BurstRequester extends AbstractRequester {
         public void failedRequest(@Nonnull final QueuedRequest request, @Nonnull final Throwable failureCause) {
             request.failed();
             if(request.shouldRetry()) {
-                queueRequest(request);
+                requester.catnip.rxScheduler().scheduleDirect(() -> queueRequest(request), request.retryDelay(),
+                        TimeUnit.MILLISECONDS);
             } else {
                 requester.catnip.logAdapter().debug("Request {} failed, giving up!", request.request());
                 request.future().completeExceptionally(failureCause);
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.util.metrics.LatencyHistogram;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RestMetrics} that are kept in memory, per route in
+ * {@link com.mewna.catnip.rest.Routes}, for polling by a monitoring system or
+ * for debugging. Requests are counted towards the ratelimit key of the route
+ * they were compiled from, ie. {@code /channels/:channel/messages}, rather
+ * than of the compiled route, so that the number of keys is bounded by the
+ * number of routes rather than growing with every channel or guild that
+ * requests are made for.
+ */
+public final class MemoryRestMetrics implements RestMetrics {
+    private final Map<String, BucketMetrics> buckets = new ConcurrentHashMap<>();
+    private final LongAdder globalRateLimitHits = new LongAdder();
+    private volatile long clockSkew;
+    private volatile boolean clockSkewKnown;
+    
+    private BucketMetrics metrics(final Route route) {
+        return buckets.computeIfAbsent(route.origin().ratelimitKey(), BucketMetrics::new);
+    }
+    
+    /**
+     * @param route The route to get metrics for. Compiled routes share the
+     *              metrics of the route they were compiled from.
+     *
+     * @return The metrics for that route, or {@code null} if no requests were
+     * made to it.
+     */
+    @Nullable
+    @CheckReturnValue
+    public BucketMetrics bucket(@Nonnull final Route route) {
+        return bucket(route.origin().ratelimitKey());
+    }
+    
+    /**
+     * @param ratelimitKey The {@link Route#ratelimitKey()} of the route in
+     *                     {@link com.mewna.catnip.rest.Routes} to get
+     *                     metrics for.
+     *
+     * @return The metrics for that key, or {@code null} if no requests were
+     * made with it.
+     */
+    @Nullable
+    @CheckReturnValue
+    public BucketMetrics bucket(@Nonnull final String ratelimitKey) {
+        return buckets.get(ratelimitKey);
+    }
+    
+    /**
+     * @return The metrics for every ratelimit key requests were made with,
+     * keyed by ratelimit key.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Map<String, BucketMetrics> buckets() {
+        return Collections.unmodifiableMap(buckets);
+    }
+    
+    /**
+     * @return How often the global ratelimit was hit.
+     */
+    @Nonnegative
+    public long globalRateLimitHits() {
+        return globalRateLimitHits.sum();
+    }
+    
+    /**
+     * @return An estimate of how far the local clock is ahead of Discord's,
+     * in milliseconds, smoothed over recent responses. {@code 0} until a
+     * response with a {@code Date} header was received.
+     */
+    public long clockSkew() {
+        return clockSkew;
+    }
+    
+    @Override
+    public void requestQueued(@Nonnull final Route route) {
+        metrics(route).queued.incrementAndGet();
+    }
+    
+    @Override
+    public void requestDispatched(@Nonnull final Route route, final long queueWaitNanos) {
+        metrics(route).queueWait.record(queueWaitNanos);
+    }
+    
+    @Override
+    public void requestDropped(@Nonnull final Route route) {
+        final BucketMetrics metrics = metrics(route);
+        metrics.queued.decrementAndGet();
+        metrics.dropped.increment();
+    }
+    
+    @Override
+    public void requestSent(@Nonnull final Route route, final long rateLimitWaitNanos) {
+        final BucketMetrics metrics = metrics(route);
+        metrics.queued.decrementAndGet();
+        metrics.inFlight.incrementAndGet();
+        metrics.rateLimitWait.record(rateLimitWaitNanos);
+    }
+    
+    @Override
+    public void requestCompleted(@Nonnull final Route route, final int statusCode, final long httpNanos) {
+        final BucketMetrics metrics = metrics(route);
+        metrics.inFlight.decrementAndGet();
+        metrics.http.record(httpNanos);
+        if(statusCode == -1) {
+            metrics.failures.increment();
+        } else if(statusCode >= 500) {
+            metrics.serverErrors.increment();
+        }
+    }
+    
+    @Override
+    public void rateLimitHit(@Nonnull final Route route, final boolean global) {
+        metrics(route).rateLimitHits.increment();
+        if(global) {
+            globalRateLimitHits.increment();
+        }
+    }
+    
+    @Override
+    public synchronized void clockSkew(@Nonnull final Route route, final long skewMillis) {
+        // Exponentially weighted, so that the second precision of the Date
+        // header averages out
+        if(clockSkewKnown) {
+            clockSkew += (skewMillis - clockSkew) / 8;
+        } else {
+            clockSkew = skewMillis;
+            clockSkewKnown = true;
+        }
+    }
+    
+    /**
+     * Metrics for a single uncompiled ratelimit key.
+     */
+    public static final class BucketMetrics {
+        private final String ratelimitKey;
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram rateLimitWait = new LatencyHistogram();
+        private final LatencyHistogram http = new LatencyHistogram();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder rateLimitHits = new LongAdder();
+        
+        private BucketMetrics(final String ratelimitKey) {
+            this.ratelimitKey = ratelimitKey;
+        }
+        
+        @Nonnull
+        public String ratelimitKey() {
+            return ratelimitKey;
+        }
+        
+        /**
+         * @return How long requests waited in their bucket.
+         */
+        @Nonnull
+        public LatencyHistogram queueWait() {
+            return queueWait;
+        }
+        
+        /**
+         * @return How long requests waited for the rate limiter.
+         */
+        @Nonnull
+        public LatencyHistogram rateLimitWait() {
+            return rateLimitWait;
+        }
+        
+        /**
+         * @return How long HTTP exchanges took.
+         */
+        @Nonnull
+        public LatencyHistogram http() {
+            return http;
+        }
+        
+        /**
+         * @return How many requests are waiting to be sent, either in their
+         * bucket or for the rate limiter.
+         */
+        public int queued() {
+            return queued.get();
+        }
+        
+        /**
+         * @return How many requests are waiting for a response.
+         */
+        public int inFlight() {
+            return inFlight.get();
+        }
+        
+        /**
+         * @return How many requests were cancelled or past their deadline
+         * before they were sent.
+         */
+        @Nonnegative
+        public long dropped() {
+            return dropped.sum();
+        }
+        
+        /**
+         * @return How many requests got no response, ie. because of
+         * connection errors or timeouts.
+         */
+        @Nonnegative
+        public long failures() {
+            return failures.sum();
+        }
+        
+        /**
+         * @return How many {@code 5xx} responses were received.
+         */
+        @Nonnegative
+        public long serverErrors() {
+            return serverErrors.sum();
+        }
+        
+        /**
+         * @return How many {@code 429} responses were received.
+         */
+        @Nonnegative
+        public long rateLimitHits() {
+            return rateLimitHits.sum();
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("BucketMetrics (%s, queued=%d, inFlight=%d, 429s=%d, 5xxs=%d, http=%dms p99)",
+                    ratelimitKey, queued(), inFlight(), rateLimitHits(), serverErrors(),
+                    http.percentile(99, TimeUnit.MILLISECONDS));
+        }
+    }
+}
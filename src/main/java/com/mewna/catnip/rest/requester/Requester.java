@@ -30,6 +30,7 @@ package com.mewna.catnip.rest.requester;
 import com.grack.nanojson.JsonArray;
 import com.grack.nanojson.JsonObject;
 import com.mewna.catnip.Catnip;
+import com.mewna.catnip.rest.FileUpload;
 import com.mewna.catnip.rest.ResponsePayload;
 import com.mewna.catnip.rest.Routes.Route;
 import io.reactivex.rxjava3.core.Observable;
@@ -40,6 +41,9 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -83,9 +87,34 @@ public interface Requester {
         @Setter
         private List<ImmutablePair<String, byte[]>> buffers;
         
+        /**
+         * Files that are streamed into the request body when it's sent. Sent
+         * after any {@link #buffers()}.
+         */
+        @Setter
+        private List<FileUpload> uploads;
+        
         @Setter
         private boolean emptyBody;
         
+        /**
+         * The lane this request is queued in within its bucket. Defaults to
+         * {@link RequestPriority#NORMAL}.
+         */
+        @Setter
+        @Nonnull
+        private RequestPriority priority = RequestPriority.NORMAL;
+        
+        /**
+         * When this request has to be sent by. Requests that are still queued
+         * in their bucket, or waiting for a ratelimit, at that point fail
+         * with a {@link java.util.concurrent.TimeoutException} instead of
+         * being sent. Defaults to {@code null}, ie. no deadline.
+         */
+        @Setter
+        @Nullable
+        private Instant deadline;
+        
         public OutboundRequest(final Route route, final Map<String, String> params) {
             this.route = route;
             this.params = params;
@@ -111,10 +140,39 @@ public interface Requester {
             this.reason = reason;
         }
         
+        /**
+         * Sets the {@link #deadline()} to the given time from now.
+         *
+         * @param timeout How long the request may wait to be sent.
+         *
+         * @return This request.
+         */
+        @Nonnull
+        public OutboundRequest timeout(@Nonnull final Duration timeout) {
+            deadline = Instant.now().plus(timeout);
+            return this;
+        }
+        
+        /**
+         * @return Whether this request has a {@link #deadline()} that has
+         * passed.
+         */
+        public boolean pastDeadline() {
+            return deadline != null && Instant.now().isAfter(deadline);
+        }
+        
+        /**
+         * @return Whether this request has any files, either as
+         * {@link #buffers()} or {@link #uploads()}.
+         */
+        public boolean hasFiles() {
+            return buffers != null && !buffers.isEmpty() || uploads != null && !uploads.isEmpty();
+        }
+        
         @Override
         public String toString() {
-            return String.format("OutboundRequest (%s, %s, object=%s, array=%s, buffers=%s, reason=%s)",
-                    route, params, object != null, array != null, buffers != null && !buffers.isEmpty(), reason);
+            return String.format("OutboundRequest (%s, %s, object=%s, array=%s, buffers=%s, reason=%s, priority=%s)",
+                    route, params, object != null, array != null, hasFiles(), reason, priority);
         }
     }
 }
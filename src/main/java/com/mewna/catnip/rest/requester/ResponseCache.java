@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mewna.catnip.rest.Routes.HttpMethod.GET;
+import static com.mewna.catnip.shard.DiscordEvent.Raw;
+
+/**
+ * An optional cache of REST responses, for processes that run without a full
+ * entity cache but still fetch the same entities over and over. Only
+ * {@code GET} requests to routes that have a TTL are cached. Entries are
+ * keyed by compiled route, including the query string, and the least
+ * recently used entries are evicted once the cache is full.
+ * <p>
+ * Gateway events invalidate the entries that they make stale, ie.
+ * {@code CHANNEL_UPDATE} invalidates {@link Routes#GET_CHANNEL}, and a
+ * successful non-{@code GET} request invalidates the path it was made to,
+ * everything under it, and all of its parents. A response that arrives
+ * after its path was invalidated is not cached.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ResponseCache {
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    
+    // Route constant -> TTL in nanoseconds. Keyed by toString() since
+    // routes with different methods can be equal.
+    private final Map<String, Long> ttls = new ConcurrentHashMap<>();
+    private final int maxSize;
+    // Everything below is guarded by this
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75F, true);
+    // Path without the query string -> keys of the entries for that path.
+    // Sorted so that a whole subtree can be invalidated at once.
+    private final NavigableMap<String, Set<String>> paths = new TreeMap<>();
+    private final NavigableMap<String, List<Fetch>> fetches = new TreeMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAX_SIZE} responses,
+     * with the default TTLs.
+     */
+    public ResponseCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+    
+    /**
+     * Creates a cache with the default TTLs: one minute for channels,
+     * guilds, roles, members, and emojis, and five minutes for users.
+     *
+     * @param maxSize The maximum number of responses to keep.
+     */
+    public ResponseCache(final int maxSize) {
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        ttl(Routes.GET_CHANNEL, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_GUILD, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_GUILD_CHANNELS, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_GUILD_ROLES, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_GUILD_MEMBER, 1, TimeUnit.MINUTES);
+        ttl(Routes.LIST_GUILD_EMOJIS, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_GUILD_EMOJI, 1, TimeUnit.MINUTES);
+        ttl(Routes.GET_USER, 5, TimeUnit.MINUTES);
+        ttl(Routes.GET_CURRENT_USER, 5, TimeUnit.MINUTES);
+    }
+    
+    /**
+     * Sets how long responses from the given route are cached for.
+     *
+     * @param route The route constant, from {@link Routes}. Must be a
+     *              {@code GET} route.
+     * @param ttl   How long to cache responses for. {@code 0} disables
+     *              caching for the route.
+     * @param unit  The unit of {@code ttl}.
+     *
+     * @return Itself.
+     */
+    @Nonnull
+    public ResponseCache ttl(@Nonnull final Route route, final long ttl, @Nonnull final TimeUnit unit) {
+        if(route.method() != GET) {
+            throw new IllegalArgumentException("Only GET routes can be cached, got " + route);
+        }
+        if(ttl <= 0) {
+            ttls.remove(route.origin().toString());
+        } else {
+            ttls.put(route.origin().toString(), unit.toNanos(ttl));
+        }
+        return this;
+    }
+    
+    /**
+     * @param route The route constant, from {@link Routes}.
+     *
+     * @return How long responses from the route are cached for, in
+     * milliseconds, or {@code 0} if they aren't cached.
+     */
+    public long ttl(@Nonnull final Route route) {
+        final Long ttl = ttls.get(route.origin().toString());
+        return ttl == null ? 0 : TimeUnit.NANOSECONDS.toMillis(ttl);
+    }
+    
+    /**
+     * @return Whether responses from the given route are cached.
+     */
+    public boolean cacheable(@Nonnull final Route route) {
+        return route.method() == GET && ttls.containsKey(route.origin().toString());
+    }
+    
+    /**
+     * @param route The compiled route.
+     *
+     * @return The cached response, or {@code null} if there is no unexpired
+     * response for the route.
+     */
+    @Nullable
+    @CheckReturnValue
+    public synchronized ResponsePayload get(@Nonnull final Route route) {
+        final String key = route.toString();
+        final CachedResponse entry = entries.get(key);
+        if(entry == null) {
+            misses.increment();
+            return null;
+        }
+        if(entry.expiresAt - System.nanoTime() <= 0) {
+            remove(key, entry.path);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.payload;
+    }
+    
+    /**
+     * Starts fetching the given route. The fetch must always be finished with
+     * {@link #complete(Fetch, ResponsePayload)}, even if the request fails.
+     *
+     * @param route The compiled route.
+     *
+     * @return A handle for the fetch.
+     */
+    @Nonnull
+    synchronized Fetch begin(@Nonnull final Route route) {
+        final Long ttl = ttls.get(route.origin().toString());
+        final Fetch fetch = new Fetch(route.toString(), path(route), ttl == null ? 0 : ttl);
+        fetches.computeIfAbsent(fetch.path, __ -> new ArrayList<>(1)).add(fetch);
+        return fetch;
+    }
+    
+    /**
+     * Finishes a fetch, caching the response unless the path was invalidated
+     * while the fetch was in flight.
+     *
+     * @param fetch   The fetch.
+     * @param payload The response, or {@code null} if the request failed.
+     */
+    synchronized void complete(@Nonnull final Fetch fetch, @Nullable final ResponsePayload payload) {
+        final List<Fetch> pending = fetches.get(fetch.path);
+        if(pending != null) {
+            pending.remove(fetch);
+            if(pending.isEmpty()) {
+                fetches.remove(fetch.path);
+            }
+        }
+        if(payload == null || fetch.stale || fetch.ttl <= 0) {
+            return;
+        }
+        final CachedResponse previous = entries.put(fetch.key,
+                new CachedResponse(fetch.path, payload, System.nanoTime() + fetch.ttl));
+        if(previous == null) {
+            paths.computeIfAbsent(fetch.path, __ -> new HashSet<>(2)).add(fetch.key);
+        }
+        while(entries.size() > maxSize) {
+            final Iterator<Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            final Entry<String, CachedResponse> eldest = iterator.next();
+            iterator.remove();
+            unindex(eldest.getKey(), eldest.getValue().path);
+            evictions.increment();
+        }
+    }
+    
+    /**
+     * Invalidates everything that a successful non-{@code GET} request to
+     * the given route could have changed: the path itself, everything under
+     * it, and all of its parents.
+     *
+     * @param route The compiled route.
+     */
+    public synchronized void invalidateWrite(@Nonnull final Route route) {
+        if(isEmpty()) {
+            return;
+        }
+        String path = path(route);
+        invalidate(path, true);
+        int slash;
+        while((slash = path.lastIndexOf('/')) > 0) {
+            path = path.substring(0, slash);
+            invalidate(path, false);
+        }
+    }
+    
+    /**
+     * Invalidates the cached responses for the given path, with any query
+     * string.
+     *
+     * @param path    The path, ie. {@code /channels/1234}.
+     * @param subtree Whether to also invalidate everything under the path,
+     *                ie. {@code /channels/1234/messages/5678}.
+     */
+    public synchronized void invalidate(@Nonnull final String path, final boolean subtree) {
+        if(isEmpty()) {
+            return;
+        }
+        invalidatePath(path);
+        if(subtree) {
+            // '0' sorts directly after '/', so this is everything starting
+            // with path + '/'
+            final Collection<String> children = new ArrayList<>(paths.subMap(path + '/', path + '0').keySet());
+            children.addAll(fetches.subMap(path + '/', path + '0').keySet());
+            for(final String child : children) {
+                invalidatePath(child);
+            }
+        }
+    }
+    
+    /**
+     * Invalidates the entries that the given gateway event makes stale.
+     *
+     * @param type The event type, ie. {@code CHANNEL_UPDATE}.
+     * @param data The event data.
+     */
+    public void handleGatewayEvent(@Nonnull final String type, @Nonnull final JsonObject data) {
+        if(isEmpty()) {
+            return;
+        }
+        switch(type) {
+            case Raw.CHANNEL_CREATE:
+            case Raw.CHANNEL_UPDATE:
+            case Raw.CHANNEL_DELETE: {
+                invalidate("/channels/" + data.getString("id"), Raw.CHANNEL_DELETE.equals(type));
+                invalidateGuild(data, "/channels");
+                break;
+            }
+            case Raw.CHANNEL_PINS_UPDATE: {
+                invalidateChannel(data, "/pins");
+                break;
+            }
+            case Raw.GUILD_CREATE:
+            case Raw.GUILD_DELETE: {
+                invalidate("/guilds/" + data.getString("id"), true);
+                break;
+            }
+            case Raw.GUILD_UPDATE: {
+                invalidate("/guilds/" + data.getString("id"), false);
+                break;
+            }
+            case Raw.GUILD_ROLE_CREATE:
+            case Raw.GUILD_ROLE_UPDATE:
+            case Raw.GUILD_ROLE_DELETE: {
+                // Guilds include their roles
+                invalidateGuild(data, "");
+                invalidateGuild(data, "/roles");
+                break;
+            }
+            case Raw.GUILD_EMOJIS_UPDATE: {
+                // Guilds include their emojis
+                invalidateGuild(data, "");
+                final String guild = data.getString("guild_id");
+                if(guild != null) {
+                    invalidate("/guilds/" + guild + "/emojis", true);
+                }
+                break;
+            }
+            case Raw.GUILD_MEMBER_ADD:
+            case Raw.GUILD_MEMBER_UPDATE:
+            case Raw.GUILD_MEMBER_REMOVE: {
+                final String user = userId(data);
+                if(user != null) {
+                    invalidateGuild(data, "/members/" + user);
+                    invalidate("/users/" + user, false);
+                }
+                invalidateGuild(data, "/members");
+                break;
+            }
+            case Raw.GUILD_BAN_ADD:
+            case Raw.GUILD_BAN_REMOVE: {
+                final String user = userId(data);
+                if(user != null) {
+                    invalidateGuild(data, "/bans/" + user);
+                }
+                invalidateGuild(data, "/bans");
+                break;
+            }
+            case Raw.GUILD_INTEGRATIONS_UPDATE: {
+                invalidateGuild(data, "/integrations");
+                break;
+            }
+            case Raw.USER_UPDATE: {
+                invalidate("/users/@me", false);
+                invalidate("/users/" + data.getString("id"), false);
+                break;
+            }
+            case Raw.PRESENCE_UPDATE: {
+                // Presences only include the full user when something about
+                // the user, not just the presence, has changed
+                final JsonObject user = data.getObject("user");
+                if(user != null && user.size() > 1) {
+                    invalidate("/users/" + user.getString("id"), false);
+                }
+                break;
+            }
+            case Raw.MESSAGE_CREATE: {
+                invalidateChannel(data, "/messages");
+                break;
+            }
+            case Raw.MESSAGE_UPDATE:
+            case Raw.MESSAGE_DELETE: {
+                invalidateChannel(data, "/messages");
+                invalidateChannel(data, "/messages/" + data.getString("id"));
+                break;
+            }
+            case Raw.MESSAGE_DELETE_BULK: {
+                invalidateChannel(data, "/messages");
+                final JsonArray ids = data.getArray("ids");
+                if(ids != null) {
+                    for(final Object id : ids) {
+                        invalidateChannel(data, "/messages/" + id);
+                    }
+                }
+                break;
+            }
+            case Raw.MESSAGE_REACTION_ADD:
+            case Raw.MESSAGE_REACTION_REMOVE:
+            case Raw.MESSAGE_REACTION_REMOVE_ALL:
+            case Raw.MESSAGE_REACTION_REMOVE_EMOJI: {
+                final String channel = data.getString("channel_id");
+                if(channel != null) {
+                    invalidate("/channels/" + channel + "/messages/" + data.getString("message_id"), true);
+                }
+                break;
+            }
+            case Raw.WEBHOOKS_UPDATE: {
+                invalidateChannel(data, "/webhooks");
+                invalidateGuild(data, "/webhooks");
+                break;
+            }
+            case Raw.INVITE_CREATE:
+            case Raw.INVITE_DELETE: {
+                invalidateChannel(data, "/invites");
+                invalidateGuild(data, "/invites");
+                break;
+            }
+            default: {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Removes every cached response.
+     */
+    public synchronized void clear() {
+        invalidations.add(entries.size());
+        entries.clear();
+        paths.clear();
+        for(final List<Fetch> pending : fetches.values()) {
+            for(final Fetch fetch : pending) {
+                fetch.stale = true;
+            }
+        }
+    }
+    
+    /**
+     * @return The number of cached responses, including expired responses
+     * that haven't been removed yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * @return The number of requests that were answered from the cache.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+    
+    /**
+     * @return The number of cacheable requests that weren't in the cache.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+    
+    /**
+     * @return The number of responses evicted to keep the cache under its
+     * maximum size.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+    
+    /**
+     * @return The number of responses removed due to invalidation.
+     */
+    public long invalidations() {
+        return invalidations.sum();
+    }
+    
+    private synchronized boolean isEmpty() {
+        return entries.isEmpty() && fetches.isEmpty();
+    }
+    
+    private void invalidateChannel(@Nonnull final JsonObject data, @Nonnull final String suffix) {
+        final String channel = data.getString("channel_id");
+        if(channel != null) {
+            invalidate("/channels/" + channel + suffix, false);
+        }
+    }
+    
+    private void invalidateGuild(@Nonnull final JsonObject data, @Nonnull final String suffix) {
+        final String guild = data.getString("guild_id");
+        if(guild != null) {
+            invalidate("/guilds/" + guild + suffix, false);
+        }
+    }
+    
+    // Must hold the lock
+    private void invalidatePath(@Nonnull final String path) {
+        final Set<String> keys = paths.remove(path);
+        if(keys != null) {
+            for(final String key : keys) {
+                entries.remove(key);
+            }
+            invalidations.add(keys.size());
+        }
+        final List<Fetch> pending = fetches.get(path);
+        if(pending != null) {
+            for(final Fetch fetch : pending) {
+                fetch.stale = true;
+            }
+        }
+    }
+    
+    // Must hold the lock
+    private void remove(@Nonnull final String key, @Nonnull final String path) {
+        entries.remove(key);
+        unindex(key, path);
+    }
+    
+    // Must hold the lock
+    private void unindex(@Nonnull final String key, @Nonnull final String path) {
+        final Set<String> keys = paths.get(path);
+        if(keys != null && keys.remove(key) && keys.isEmpty()) {
+            paths.remove(path);
+        }
+    }
+    
+    @Nullable
+    private static String userId(@Nonnull final JsonObject data) {
+        final JsonObject user = data.getObject("user");
+        return user == null ? null : user.getString("id");
+    }
+    
+    @Nonnull
+    private static String path(@Nonnull final Route route) {
+        final String base = route.baseRoute();
+        final int query = base.indexOf('?');
+        return query == -1 ? base : base.substring(0, query);
+    }
+    
+    private static final class CachedResponse {
+        private final String path;
+        private final ResponsePayload payload;
+        private final long expiresAt;
+        
+        private CachedResponse(final String path, final ResponsePayload payload, final long expiresAt) {
+            this.path = path;
+            this.payload = payload;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    /**
+     * A request for a cacheable route that is in flight.
+     */
+    static final class Fetch {
+        private final String key;
+        private final String path;
+        private final long ttl;
+        // Guarded by the cache's lock
+        private boolean stale;
+        
+        private Fetch(final String key, final String path, final long ttl) {
+            this.key = key;
+            this.path = path;
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes.Route;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Receives telemetry about REST requests, so it can be bridged to whatever
+ * metrics library is in use. Every method is called on the requester's hot
+ * path and must return quickly. All methods do nothing by default.
+ * <p>
+ * The route passed to every method is the route of the request with its
+ * major param filled in, so {@link Route#ratelimitKey()} identifies its
+ * ratelimit bucket, and {@link Route#origin()} the route constant from
+ * {@link com.mewna.catnip.rest.Routes} it came from.
+ * <p>
+ * A request moves through these stages, each of which is reported:
+ * <ol>
+ *     <li>{@link #requestQueued(Route)}: queued in its bucket.</li>
+ *     <li>{@link #requestDispatched(Route, long)}: handed from the bucket to
+ *     the rate limiter.</li>
+ *     <li>{@link #requestSent(Route, long)}: sent once the rate limiter
+ *     allowed it.</li>
+ *     <li>{@link #requestCompleted(Route, int, long)}: a response was
+ *     received, or sending failed.</li>
+ * </ol>
+ * A request that's cancelled or past its deadline before it's sent is
+ * reported with {@link #requestDropped(Route)} instead. Retries go through
+ * the stages again.
+ *
+ * @see MemoryRestMetrics
+ */
+public interface RestMetrics {
+    /**
+     * Reports nothing.
+     */
+    RestMetrics NOOP = new RestMetrics() {
+    };
+    
+    /**
+     * @param route The request's route.
+     */
+    default void requestQueued(@Nonnull final Route route) {
+    }
+    
+    /**
+     * @param route          The request's route.
+     * @param queueWaitNanos How long the request waited in its bucket.
+     */
+    default void requestDispatched(@Nonnull final Route route, @Nonnegative final long queueWaitNanos) {
+    }
+    
+    /**
+     * @param route The request's route.
+     */
+    default void requestDropped(@Nonnull final Route route) {
+    }
+    
+    /**
+     * @param route              The request's route.
+     * @param rateLimitWaitNanos How long the request waited for the rate
+     *                           limiter.
+     */
+    default void requestSent(@Nonnull final Route route, @Nonnegative final long rateLimitWaitNanos) {
+    }
+    
+    /**
+     * @param route      The request's route.
+     * @param statusCode The response's status code, or {@code -1} if no
+     *                   response was received.
+     * @param httpNanos  How long the HTTP exchange took.
+     */
+    default void requestCompleted(@Nonnull final Route route, final int statusCode, @Nonnegative final long httpNanos) {
+    }
+    
+    /**
+     * Called for every {@code 429} response, in addition to
+     * {@link #requestCompleted(Route, int, long)}.
+     *
+     * @param route  The request's route.
+     * @param global Whether the global ratelimit was hit.
+     */
+    default void rateLimitHit(@Nonnull final Route route, final boolean global) {
+    }
+    
+    /**
+     * Called for every response with a {@code Date} header.
+     *
+     * @param route      The request's route.
+     * @param skewMillis An estimate of how far the local clock is ahead of
+     *                   Discord's, in milliseconds. Negative if it's behind.
+     *                   The {@code Date} header only has second precision,
+     *                   so single estimates are only accurate to about
+     *                   half a second.
+     */
+    default void clockSkew(@Nonnull final Route route, final long skewMillis) {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import javax.annotation.Nonnull;
+import java.lang.StackWalker.StackFrame;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The stacktrace of the code that queued a REST request, used as the cause of
+ * the exception when the request fails. Depending on the
+ * {@link StacktraceCaptureMode}, the {@link StackTraceElement}s are only
+ * built the first time that {@link #elements()} is called.
+ */
+public final class RestStacktrace {
+    public static final RestStacktrace NONE = new RestStacktrace(new StackTraceElement[0]);
+    
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    
+    // Null once converted
+    private Throwable backtrace;
+    private volatile StackTraceElement[] elements;
+    
+    private RestStacktrace(@Nonnull final Throwable backtrace) {
+        this.backtrace = backtrace;
+    }
+    
+    private RestStacktrace(@Nonnull final StackTraceElement[] elements) {
+        this.elements = elements;
+    }
+    
+    /**
+     * @param elements Already-built stacktrace elements.
+     *
+     * @return A stacktrace made up of the given elements.
+     */
+    @Nonnull
+    public static RestStacktrace of(@Nonnull final StackTraceElement[] elements) {
+        return elements.length == 0 ? NONE : new RestStacktrace(elements);
+    }
+    
+    /**
+     * Captures the current thread's stacktrace, starting at the caller of
+     * this method.
+     *
+     * @param mode       How to capture the stacktrace.
+     * @param sampleRate The fraction of calls, from {@code 0} to {@code 1},
+     *                   that actually capture a stacktrace. The others
+     *                   return {@link #NONE}.
+     *
+     * @return The captured stacktrace.
+     */
+    @Nonnull
+    public static RestStacktrace capture(@Nonnull final StacktraceCaptureMode mode, final double sampleRate) {
+        if(mode == StacktraceCaptureMode.NONE || sampleRate <= 0D
+                || sampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return NONE;
+        }
+        switch(mode) {
+            case FULL: {
+                final StackTraceElement[] elements = STACK_WALKER.walk(stream -> stream
+                        .skip(1)
+                        .map(StackFrame::toStackTraceElement)
+                        .toArray(StackTraceElement[]::new));
+                return new RestStacktrace(elements);
+            }
+            case FRAMES: {
+                // Filling in a throwable's stacktrace only records the VM's
+                // backtrace; the elements are built by getStackTrace()
+                return new RestStacktrace(new Throwable());
+            }
+            default: {
+                throw new IllegalArgumentException("Unknown stacktrace capture mode: " + mode);
+            }
+        }
+    }
+    
+    /**
+     * @return The stacktrace elements. Built on the first call if the
+     * stacktrace was captured lazily.
+     */
+    @Nonnull
+    public StackTraceElement[] elements() {
+        StackTraceElement[] elements = this.elements;
+        if(elements == null) {
+            synchronized(this) {
+                elements = this.elements;
+                if(elements == null) {
+                    elements = convert(backtrace);
+                    this.elements = elements;
+                    backtrace = null;
+                }
+            }
+        }
+        return elements;
+    }
+    
+    @Nonnull
+    private static StackTraceElement[] convert(@Nonnull final Throwable backtrace) {
+        // Drop the frame for capture()
+        final StackTraceElement[] elements = backtrace.getStackTrace();
+        return elements.length == 0 ? elements : Arrays.copyOfRange(elements, 1, elements.length);
+    }
+}
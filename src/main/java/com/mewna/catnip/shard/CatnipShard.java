@@ -61,6 +61,16 @@ public interface CatnipShard {
     @CheckReturnValue
     Presence presence();
     
+    /**
+     * Return the shard's flow control, which bounds how much dispatch work
+     * the shard can have outstanding, and how far its listeners are behind.
+     *
+     * @return The shard's flow control.
+     */
+    @Nonnull
+    @CheckReturnValue
+    ShardFlowControl flowControl();
+    
     // internal methods
     
     @Nonnull
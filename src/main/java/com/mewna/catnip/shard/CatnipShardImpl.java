@@ -37,13 +37,21 @@ import com.mewna.catnip.entity.misc.GatewayInfo;
 import com.mewna.catnip.entity.user.Presence;
 import com.mewna.catnip.extension.Extension;
 import com.mewna.catnip.extension.hook.CatnipHook;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.requester.ResponseCache;
 import com.mewna.catnip.shard.LifecycleEvent.Raw;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.shard.event.EventTiming;
 import com.mewna.catnip.shard.manager.AbstractShardManager;
 import com.mewna.catnip.shard.manager.DefaultShardManager;
 import com.mewna.catnip.shard.manager.ShardManager;
 import com.mewna.catnip.util.JsonUtil;
 import com.mewna.catnip.util.ReentrantLockWebSocket;
+import com.mewna.catnip.util.jfr.GatewayFrameEvent;
+import com.mewna.catnip.util.jfr.JfrEvents;
+import com.mewna.catnip.util.jfr.ShardLifecycleEvent;
 import com.mewna.catnip.util.task.GatewayTask;
+import com.mewna.catnip.util.task.SerialExecutor;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.core.SingleEmitter;
 import lombok.Getter;
@@ -99,6 +107,10 @@ public class CatnipShardImpl implements CatnipShard, Listener {
     private final StringBuffer socketInputBuffer = new StringBuffer(); //Using a StringBuffer instead of a StringBuilder due to async-friendly synchronizations.
     private final GatewayTask<JsonObject> sendTask;
     private final GatewayTask<PresenceImpl> presenceTask;
+    @Getter
+    private final ShardFlowControl flowControl;
+    // Handles this shard's frames in order, off of the websocket's thread
+    private final SerialExecutor frameQueue;
     private volatile Presence currentPresence;
     private volatile boolean heartbeatAcked = true;
     private volatile long lastHeartbeat = -1; //use System.nanoTime() as that is monotonic
@@ -110,9 +122,13 @@ public class CatnipShardImpl implements CatnipShard, Listener {
     private volatile boolean connected;
     private volatile boolean socketOpen;
     private volatile boolean closedByClient;
-    private WebSocket socket;
+    private volatile WebSocket socket;
     private SingleEmitter<ShardConnectState> message;
     private LifecycleState lifecycleState;
+    // When the frame being handled was received and parsed, for event
+    // latency tracking. Only touched by the frame queue.
+    private long frameReceivedAt;
+    private long frameParsedAt;
     
     public CatnipShardImpl(@Nonnull final Catnip catnip, @Nonnegative final int id, @Nonnegative final int limit,
                            @Nullable final Presence presence) {
@@ -126,7 +142,9 @@ public class CatnipShardImpl implements CatnipShard, Listener {
                     sendToSocket(basePayload(GatewayOp.STATUS_UPDATE, update.asPresenceUpdateJson()));
                     currentPresence = update;
                 });
-        lifecycleState = CREATED;
+        flowControl = new ShardFlowControl(catnip.options().maxOutstandingEvents(), this::resumeReading);
+        frameQueue = new SerialExecutor(((CatnipImpl) catnip).gatewayParseExecutor());
+        lifecycleState(CREATED);
     }
     
     public static JsonObject basePayload(@Nonnull final GatewayOp op) {
@@ -149,7 +167,7 @@ public class CatnipShardImpl implements CatnipShard, Listener {
     
     @SuppressWarnings("ResultOfMethodCallIgnored")
     private void connectSocket() {
-        lifecycleState = CONNECTING;
+        lifecycleState(CONNECTING);
         catnip.dispatchManager().dispatchEvent(Raw.CONNECTING_TO_GATEWAY, shardInfo);
         
         final GatewayInfo info = catnip.gatewayInfo();
@@ -174,12 +192,12 @@ public class CatnipShardImpl implements CatnipShard, Listener {
             url += "&compress=" + catnip.options().compressionMode().asDiscord();
         }
         catnip.options().httpClient().newWebSocketBuilder().buildAsync(URI.create(url), this).thenAcceptAsync(ws -> {
-            lifecycleState = CONNECTED;
+            lifecycleState(CONNECTED);
             socket = new ReentrantLockWebSocket(ws);
             socketOpen = true;
             catnip.dispatchManager().dispatchEvent(Raw.CONNECTED_TO_GATEWAY, shardInfo);
         }).exceptionally(t -> {
-            lifecycleState = DISCONNECTED;
+            lifecycleState(DISCONNECTED);
             socket = null;
             socketOpen = false;
             if(catnip.options().logLifecycleEvents()) {
@@ -238,64 +256,149 @@ public class CatnipShardImpl implements CatnipShard, Listener {
                 hook.rawGatewayOpenHook(shardInfo);
             }
         }
+        flowControl.reset();
         webSocket.request(1);
     }
     
     @Override
     public CompletionStage<?> onText(final WebSocket webSocket, final CharSequence data, final boolean last) {
-        if(socket == null) {
-            // Socket is too quick!
-            socket = new ReentrantLockWebSocket(webSocket);
-            socketOpen = true;
-        }
         if(last) {
-            try {
-                final var payload = socketInputBuffer.length() > 0 ? socketInputBuffer.append(data).toString() : data.toString();
-                handleSocketData(JsonParser.object().from(payload));
-            } catch(final JsonParserException e) {
-                catnip.logAdapter().error("Shard {}: Error parsing payload", shardInfo, e);
-                // TODO
-                stateReply(ShardConnectState.FAILED);
-            } finally {
-                socketInputBuffer.setLength(0);
-            }
+            final long received = System.nanoTime();
+            final String payload = socketInputBuffer.length() > 0 ? socketInputBuffer.append(data).toString() : data.toString();
+            socketInputBuffer.setLength(0);
+            queueFrame(webSocket, () -> handleTextFrame(payload, received));
         } else {
             socketInputBuffer.append(data);
         }
-        socket.request(1L);
+        if(!last || requestNextFrame()) {
+            webSocket.request(1L);
+        }
         return null;
     }
     
     @Override
     public CompletionStage<?> onBinary(final WebSocket webSocket, final ByteBuffer data, final boolean last) {
-        if(socket == null) {
-            // Socket is too quick!
-            socket = new ReentrantLockWebSocket(webSocket);
-            socketOpen = true;
-        }
         // If we get a packet <4 bytes, then we shouldn't check if it's the zlib suffix
-        final boolean isEnd = data.remaining() >= 4 && data.getInt(data.remaining() - 4) == ZLIB_SUFFIX;
-        readBuffer.write(data.array(), data.position() + data.arrayOffset(), data.remaining());
+        final boolean isEnd = data.remaining() >= 4 && data.getInt(data.limit() - 4) == ZLIB_SUFFIX;
+        // The client may hand us read-only buffers (ie. over plain ws://), which
+        // don't expose their backing array
+        if(data.hasArray()) {
+            readBuffer.write(data.array(), data.position() + data.arrayOffset(), data.remaining());
+        } else {
+            final byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            readBuffer.write(bytes, 0, bytes.length);
+        }
         if(isEnd) {
-            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-            try(final InflaterOutputStream decompressor = new InflaterOutputStream(buffer, inflater)) {
-                readBuffer.writeTo(decompressor);
-                readBuffer.reset();
-                handleSocketData(JsonParser.object().from(buffer.toString(StandardCharsets.UTF_8)));
-            } catch(final IOException e) {
-                catnip.logAdapter().error("Shard {}: Error decompressing payload", shardInfo, e);
-                disconnectFromSocket(ShardConnectState.FAILED);
-            } catch(final JsonParserException e) {
-                catnip.logAdapter().error("Shard {}: Error parsing payload", shardInfo, e);
-                disconnectFromSocket(ShardConnectState.FAILED);
-            }
+            final long received = System.nanoTime();
+            final byte[] compressed = readBuffer.toByteArray();
+            readBuffer.reset();
+            queueFrame(webSocket, () -> handleBinaryFrame(compressed, received));
+        }
+        if(!isEnd || requestNextFrame()) {
+            webSocket.request(1L);
         }
-        socket.request(1L);
         return null;
     }
     
+    /**
+     * Hands a frame off to be inflated, parsed and handled on the gateway
+     * parse pool, so that the websocket's thread only does I/O. Frames are
+     * handled one at a time, in the order they were received, so that
+     * seqnums, sessions and lifecycle changes are seen in order.
+     * <p>
+     * Without flow control, the next frame is only requested from the frame's
+     * websocket once this one was handled, so that at most one frame is ever
+     * waiting to be parsed.
+     * <p>
+     * Listener callbacks only ever use the websocket they're handed, since
+     * {@link #socket} is cleared on the frame queue when the socket errors
+     * or closes.
+     */
+    private void queueFrame(final WebSocket webSocket, final Runnable handler) {
+        flowControl.acquire();
+        frameQueue.execute(() -> {
+            try {
+                if(socket == null) {
+                    // Socket is too quick!
+                    socket = new ReentrantLockWebSocket(webSocket);
+                    socketOpen = true;
+                }
+                handler.run();
+            } catch(final Exception e) {
+                catnip.logAdapter().error("Shard {}: Error handling payload", shardInfo, e);
+            } finally {
+                flowControl.release();
+                if(!flowControl.enabled()) {
+                    webSocket.request(1L);
+                }
+            }
+        });
+    }
+    
+    /**
+     * @return Whether the next frame should be requested as soon as a whole
+     * frame was queued. If not, it's requested once the queued frame was
+     * handled, or once the shard's listeners have caught up.
+     */
+    private boolean requestNextFrame() {
+        return flowControl.enabled() && flowControl.frameHandled();
+    }
+    
+    private void handleTextFrame(final String payload, final long received) {
+        try {
+            final GatewayFrameEvent frameEvent = JfrEvents.ENABLED ? GatewayFrameEvent.start() : null;
+            final JsonObject json = JsonParser.object().from(payload);
+            frameReceivedAt = received;
+            frameParsedAt = System.nanoTime();
+            if(frameEvent != null) {
+                frameEvent.finish(shardInfo, payload.length(), false, 0L, json);
+            }
+            handleSocketData(json);
+        } catch(final JsonParserException e) {
+            catnip.logAdapter().error("Shard {}: Error parsing payload", shardInfo, e);
+            // TODO
+            stateReply(ShardConnectState.FAILED);
+        }
+    }
+    
+    private void handleBinaryFrame(final byte[] compressed, final long received) {
+        final GatewayFrameEvent frameEvent = JfrEvents.ENABLED ? GatewayFrameEvent.start() : null;
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try(final InflaterOutputStream decompressor = new InflaterOutputStream(buffer, inflater)) {
+            final long inflateStart = frameEvent != null ? System.nanoTime() : 0L;
+            decompressor.write(compressed);
+            final long inflateTime = frameEvent != null ? System.nanoTime() - inflateStart : 0L;
+            final JsonObject json = JsonParser.object().from(buffer.toString(StandardCharsets.UTF_8));
+            frameReceivedAt = received;
+            frameParsedAt = System.nanoTime();
+            if(frameEvent != null) {
+                frameEvent.finish(shardInfo, compressed.length, true, inflateTime, json);
+            }
+            handleSocketData(json);
+        } catch(final IOException e) {
+            catnip.logAdapter().error("Shard {}: Error decompressing payload", shardInfo, e);
+            disconnectFromSocket(ShardConnectState.FAILED);
+        } catch(final JsonParserException e) {
+            catnip.logAdapter().error("Shard {}: Error parsing payload", shardInfo, e);
+            disconnectFromSocket(ShardConnectState.FAILED);
+        }
+    }
+    
+    private void resumeReading() {
+        final WebSocket current = socket;
+        if(current != null) {
+            current.request(1L);
+        }
+    }
+    
     @Override
     public void onError(final WebSocket webSocket, final Throwable error) {
+        // Handled after any frames that are still queued
+        frameQueue.execute(() -> handleError(error));
+    }
+    
+    private void handleError(final Throwable error) {
         socket = null;
         socketOpen = false;
         if(catnip.options().logLifecycleEvents()) {
@@ -313,6 +416,13 @@ public class CatnipShardImpl implements CatnipShard, Listener {
     //@SuppressWarnings("squid:S1172")
     @Override
     public CompletionStage<?> onClose(final WebSocket webSocket, final int closeCode, final String reason) {
+        // Handled after any frames that are still queued, so that ex. a
+        // RESUME is sent with the seqnum of the last frame we got
+        frameQueue.execute(() -> handleClose(closeCode, reason));
+        return null;
+    }
+    
+    private void handleClose(final int closeCode, final String reason) {
         for(final Extension extension : catnip.extensionManager().extensions()) {
             for(final CatnipHook hook : extension.hooks()) {
                 hook.rawGatewayCloseHook(shardInfo, closeCode, reason);
@@ -371,7 +481,6 @@ public class CatnipShardImpl implements CatnipShard, Listener {
         } else {
             stateReply(ShardConnectState.FAILED);
         }
-        return null;
     }
     
     @Override
@@ -385,6 +494,14 @@ public class CatnipShardImpl implements CatnipShard, Listener {
         return lifecycleState;
     }
     
+    private void lifecycleState(@Nonnull final LifecycleState state) {
+        final LifecycleState previous = lifecycleState;
+        lifecycleState = state;
+        if(JfrEvents.ENABLED) {
+            ShardLifecycleEvent.emit(shardInfo, previous, state);
+        }
+    }
+    
     @Override
     public long lastHeartbeatLatency() {
         return lastHeartbeatLatency;
@@ -408,7 +525,7 @@ public class CatnipShardImpl implements CatnipShard, Listener {
     }
     
     private void disconnectFromSocket(final ShardConnectState connectState) {
-        lifecycleState = DISCONNECTED;
+        lifecycleState(DISCONNECTED);
         
         if(socket != null) {
             closedByClient = true;
@@ -498,10 +615,10 @@ public class CatnipShardImpl implements CatnipShard, Listener {
             // RESUME. If this buffer fills up in less than that 3-minute
             // window, your session is no longer resumable.
             // See: https://discord.com/channels/81384788765712384/381887113391505410/584900930525200386
-            lifecycleState = RESUMING;
+            lifecycleState(RESUMING);
             sendToSocket(resume());
         } else {
-            lifecycleState = IDENTIFYING;
+            lifecycleState(IDENTIFYING);
             sendToSocket(identify());
         }
     }
@@ -527,7 +644,7 @@ public class CatnipShardImpl implements CatnipShard, Listener {
         
         switch(type) {
             case "READY": {
-                lifecycleState = LOGGED_IN;
+                lifecycleState(LOGGED_IN);
                 catnip.sessionManager().session(shardInfo.getId(), data.getString("session_id"));
                 // Reply after IDENTIFY ratelimit
                 catnip.dispatchManager().dispatchEvent(Raw.IDENTIFIED, shardInfo);
@@ -535,7 +652,7 @@ public class CatnipShardImpl implements CatnipShard, Listener {
                 break;
             }
             case "RESUMED": {
-                lifecycleState = LOGGED_IN;
+                lifecycleState(LOGGED_IN);
                 // RESUME is fine, just reply immediately
                 catnip.dispatchManager().dispatchEvent(Raw.RESUMED, shardInfo);
                 stateReply(ShardConnectState.RESUMED);
@@ -546,11 +663,20 @@ public class CatnipShardImpl implements CatnipShard, Listener {
             }
         }
         
+        // Invalidate REST responses before anything can see the event, so
+        // that handlers never fetch a stale response
+        final ResponseCache responseCache = catnip.options().restResponseCache();
+        if(responseCache != null) {
+            responseCache.handleGatewayEvent(type, data);
+        }
+        
         // This allows a buffer to know WHERE an event is coming from, so that
         // it can be accurate in the case of ex. buffering events until a shard
         // has finished booting.
         event.put("shard", JsonObject.builder().value("id", shardInfo.getId()).value("limit", shardInfo.getLimit()).done());
-        catnip.eventBuffer().buffer(event);
+        catnip.eventBuffer().buffer(event, new EventContext(EventTiming.enabled(catnip)
+                ? new EventTiming(shardInfo, frameReceivedAt, frameParsedAt)
+                : null));
     }
     
     private void handleHeartbeat() {
@@ -42,10 +42,13 @@ import com.mewna.catnip.entity.user.Presence.OnlineStatus;
 import com.mewna.catnip.entity.user.PresenceUpdate;
 import com.mewna.catnip.entity.user.User;
 import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.shard.event.EventTiming;
 import com.mewna.catnip.util.JsonUtil;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import static com.mewna.catnip.shard.DiscordEvent.Raw;
 
@@ -77,6 +80,10 @@ public final class DispatchEmitter {
     }
     
     public void emit(@Nonnull final JsonObject payload) {
+        emit(payload, EventContext.untimed());
+    }
+    
+    public void emit(@Nonnull final JsonObject payload, @Nonnull final EventContext context) {
         if(!catnip.options().emitEventObjects()) {
             return;
         }
@@ -85,15 +92,17 @@ public final class DispatchEmitter {
             return;
         }
         try {
-            emit0(payload);
+            emit0(payload, context, flowControl(payload));
         } catch(final Exception e) {
             catnip.logAdapter().error("Error emitting event with payload {}", payload, e);
         }
     }
     
     @SuppressWarnings({"DuplicateBranchesInSwitch", "ResultOfMethodCallIgnored"})
-    private void emit0(@Nonnull final JsonObject payload) {
+    private void emit0(@Nonnull final JsonObject payload, @Nonnull final EventContext context,
+                       @Nullable final ShardFlowControl flowControl) {
         final String type = payload.getString("t");
+        final EventTiming timing = context.timing();
         final JsonObject data = payload.getObject("d");
         
         switch(type) {
@@ -108,86 +117,86 @@ public final class DispatchEmitter {
                         .map(Snowflake::id)
                         .forEach(((CatnipImpl) catnip)::markUnavailable);
                 final Ready ready = entityBuilder.createReady(data);
-                catnip.dispatchManager().dispatchEvent(type, ready);
+                dispatch(timing, flowControl, type, ready);
                 break;
             }
             case Raw.RESUMED: {
                 final Resumed resumed = entityBuilder.createResumed(data);
-                catnip.dispatchManager().dispatchEvent(type, resumed);
+                dispatch(timing, flowControl, type, resumed);
                 break;
             }
             
             // Messages
             case Raw.MESSAGE_CREATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createMessage(data));
+                dispatch(timing, flowControl, type, entityBuilder.createMessage(data));
                 break;
             }
             case Raw.MESSAGE_UPDATE: {
                 if(data.getObject("author", null) == null) {
                     // Embeds update, emit the special case
-                    catnip.dispatchManager().dispatchEvent(Raw.MESSAGE_EMBEDS_UPDATE,
+                    dispatch(timing, flowControl, Raw.MESSAGE_EMBEDS_UPDATE,
                             entityBuilder.createMessageEmbedUpdate(data));
                 } else {
-                    catnip.dispatchManager().dispatchEvent(type, entityBuilder.createMessage(data));
+                    dispatch(timing, flowControl, type, entityBuilder.createMessage(data));
                 }
                 break;
             }
             case Raw.MESSAGE_DELETE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createDeletedMessage(data));
+                dispatch(timing, flowControl, type, entityBuilder.createDeletedMessage(data));
                 break;
             }
             case Raw.MESSAGE_DELETE_BULK: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createBulkDeletedMessages(data));
+                dispatch(timing, flowControl, type, entityBuilder.createBulkDeletedMessages(data));
                 break;
             }
             case Raw.TYPING_START: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createTypingUser(data));
+                dispatch(timing, flowControl, type, entityBuilder.createTypingUser(data));
                 break;
             }
             case Raw.MESSAGE_REACTION_REMOVE_ALL: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createBulkRemovedReactions(data));
+                dispatch(timing, flowControl, type, entityBuilder.createBulkRemovedReactions(data));
                 break;
             }
             case Raw.MESSAGE_REACTION_REMOVE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createReactionUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createReactionUpdate(data));
                 break;
             }
             case Raw.MESSAGE_REACTION_ADD: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createReactionUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createReactionUpdate(data));
                 break;
             }
             case Raw.MESSAGE_REACTION_REMOVE_EMOJI: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createReactionUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createReactionUpdate(data));
                 break;
             }
             
             // Channels
             case Raw.CHANNEL_CREATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createChannel(data));
+                dispatch(timing, flowControl, type, entityBuilder.createChannel(data));
                 break;
             }
             case Raw.CHANNEL_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createChannel(data));
+                dispatch(timing, flowControl, type, entityBuilder.createChannel(data));
                 break;
             }
             case Raw.CHANNEL_DELETE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createChannel(data));
+                dispatch(timing, flowControl, type, entityBuilder.createChannel(data));
                 break;
             }
             case Raw.CHANNEL_PINS_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createChannelPinsUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createChannelPinsUpdate(data));
                 break;
             }
             case Raw.WEBHOOKS_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createWebhooksUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createWebhooksUpdate(data));
                 break;
             }
             case Raw.INVITE_CREATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createInvite(data));
+                dispatch(timing, flowControl, type, entityBuilder.createInvite(data));
                 break;
             }
             case Raw.INVITE_DELETE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createDeletedInvite(data));
+                dispatch(timing, flowControl, type, entityBuilder.createDeletedInvite(data));
             }
             
             // Guilds
@@ -195,80 +204,83 @@ public final class DispatchEmitter {
                 final String id = data.getString("id");
                 final Guild guild = entityBuilder.createGuild(data);
                 if(catnip.isUnavailable(id)) {
-                    catnip.dispatchManager().dispatchEvent(Raw.GUILD_AVAILABLE, guild);
+                    dispatch(timing, flowControl, Raw.GUILD_AVAILABLE, guild);
                     ((CatnipImpl) catnip).markAvailable(id);
                 } else {
-                    catnip.dispatchManager().dispatchEvent(type, guild);
+                    dispatch(timing, flowControl, type, guild);
                 }
                 break;
             }
             case Raw.GUILD_UPDATE: {
                 final Guild guild = entityBuilder.createGuild(data);
                 catnip.cache().guildAsync(guild.idAsLong())
-                        .subscribe(old -> catnip.dispatchManager().dispatchEvent(type, ImmutablePair.of(old, guild)), e -> cacheErrorLog(type, e));
+                        .subscribe(old -> dispatch(timing, flowControl, type, ImmutablePair.of(old, guild)), e -> cacheErrorLog(type, e));
                 break;
             }
             case Raw.GUILD_DELETE: {
                 final String id = data.getString("id");
                 if(data.getBoolean("unavailable", false)) {
                     ((CatnipImpl) catnip).markUnavailable(id);
-                    catnip.dispatchManager().dispatchEvent(Raw.GUILD_UNAVAILABLE, entityBuilder.createUnavailableGuild(data));
+                    dispatch(timing, flowControl, Raw.GUILD_UNAVAILABLE, entityBuilder.createUnavailableGuild(data));
                 } else {
-                    catnip.dispatchManager().dispatchEvent(type, catnip.cache().guild(id));
+                    dispatch(timing, flowControl, type, catnip.cache().guild(id));
                 }
                 break;
             }
             case Raw.GUILD_BAN_ADD: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createGatewayGuildBan(data));
+                dispatch(timing, flowControl, type, entityBuilder.createGatewayGuildBan(data));
                 break;
             }
             case Raw.GUILD_BAN_REMOVE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createGatewayGuildBan(data));
+                dispatch(timing, flowControl, type, entityBuilder.createGatewayGuildBan(data));
                 break;
             }
             case Raw.GUILD_INTEGRATIONS_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, data.getString("guild_id"));
+                dispatch(timing, flowControl, type, data.getString("guild_id"));
                 break;
             }
             
             // Roles
             case Raw.GUILD_ROLE_CREATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createRole(data.getString("guild_id"),
+                dispatch(timing, flowControl, type, entityBuilder.createRole(data.getString("guild_id"),
                         data.getObject("role")));
                 break;
             }
             case Raw.GUILD_ROLE_UPDATE: {
                 final Role role = entityBuilder.createRole(data.getString("guild_id"), data.getObject("role"));
                 catnip.cache().roleAsync(role.guildIdAsLong(), role.idAsLong())
-                        .subscribe(old -> catnip.dispatchManager().dispatchEvent(type, ImmutablePair.of(old, role)), e -> cacheErrorLog(type, e));
+                        .subscribe(old -> dispatch(timing, flowControl, type, ImmutablePair.of(old, role)), e -> cacheErrorLog(type, e));
                 break;
             }
             case Raw.GUILD_ROLE_DELETE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createPartialRole(data.getString("guild_id"),
+                dispatch(timing, flowControl, type, entityBuilder.createPartialRole(data.getString("guild_id"),
                         data.getString("role_id")));
                 break;
             }
             
             // Emoji
             case Raw.GUILD_EMOJIS_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createGuildEmojisUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createGuildEmojisUpdate(data));
                 break;
             }
             
             // Members
             case Raw.GUILD_MEMBER_ADD: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createMember(data.getString("guild_id"), data));
+                dispatch(timing, flowControl, type, entityBuilder.createMember(data.getString("guild_id"), data));
                 break;
             }
             case Raw.GUILD_MEMBER_REMOVE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createMember(data.getString("guild_id"), data));
+                dispatch(timing, flowControl, type, entityBuilder.createMember(data.getString("guild_id"), data));
                 break;
             }
             case Raw.GUILD_MEMBER_UPDATE: {
-                final String guild = data.getString("guild_id");
-                final PartialMember partialMember = entityBuilder.createPartialMember(guild, data);
+                // The cache worker may have already parsed this while applying it
+                final PartialMember parsed = context.parsed(PartialMember.class);
+                final PartialMember partialMember = parsed != null
+                        ? parsed
+                        : entityBuilder.createPartialMember(data.getString("guild_id"), data);
                 catnip.cache().memberAsync(partialMember.guildIdAsLong(), partialMember.idAsLong())
-                        .subscribe(old -> catnip.dispatchManager().dispatchEvent(type, ImmutablePair.of(old, partialMember)), e -> cacheErrorLog(type, e));
+                        .subscribe(old -> dispatch(timing, flowControl, type, ImmutablePair.of(old, partialMember)), e -> cacheErrorLog(type, e));
                 break;
             }
             
@@ -276,7 +288,7 @@ public final class DispatchEmitter {
             case Raw.USER_UPDATE: {
                 final User user = entityBuilder.createUser(data);
                 catnip.cache().selfUserAsync()
-                        .subscribe(old -> catnip.dispatchManager().dispatchEvent(type, ImmutablePair.of(old, user)), e -> cacheErrorLog(type, e));
+                        .subscribe(old -> dispatch(timing, flowControl, type, ImmutablePair.of(old, user)), e -> cacheErrorLog(type, e));
                 break;
             }
             case Raw.PRESENCE_UPDATE: {
@@ -290,17 +302,17 @@ public final class DispatchEmitter {
                             "JSON in your report:\n{}", JsonUtil.encodePrettily(clone));
                 }
                 catnip.cache().presenceAsync(presence.idAsLong())
-                        .subscribe(old -> catnip.dispatchManager().dispatchEvent(type, ImmutablePair.of(old, presence)), e -> cacheErrorLog(type, e));
+                        .subscribe(old -> dispatch(timing, flowControl, type, ImmutablePair.of(old, presence)), e -> cacheErrorLog(type, e));
                 break;
             }
             
             // Voice
             case Raw.VOICE_STATE_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createVoiceState(data));
+                dispatch(timing, flowControl, type, entityBuilder.createVoiceState(data));
                 break;
             }
             case Raw.VOICE_SERVER_UPDATE: {
-                catnip.dispatchManager().dispatchEvent(type, entityBuilder.createVoiceServerUpdate(data));
+                dispatch(timing, flowControl, type, entityBuilder.createVoiceServerUpdate(data));
                 break;
             }
             
@@ -324,6 +336,20 @@ public final class DispatchEmitter {
         }
     }
     
+    private void dispatch(@Nullable final EventTiming timing, @Nullable final ShardFlowControl flowControl,
+                          @Nonnull final String type, @Nonnull final Object event) {
+        catnip.dispatchManager().dispatchEvent(type, event, timing, flowControl);
+    }
+    
+    @Nullable
+    private ShardFlowControl flowControl(@Nonnull final JsonObject payload) {
+        if(catnip.options().maxOutstandingEvents() == 0) {
+            return null;
+        }
+        final JsonObject shard = payload.getObject("shard", null);
+        return shard != null ? catnip.shardManager().shard(shard.getInt("id")).flowControl() : null;
+    }
+    
     private void cacheErrorLog(final String eventType, final Throwable e) {
         catnip.logAdapter().error("Couldn't fetch previous entity from cache for update event {}:", eventType, e);
     }
@@ -99,6 +99,12 @@ public interface LifecycleEvent {
      * {@link CatnipOptions#highLatencyThreshold()}.
      */
     EventType<HighWebsocketLatency> HIGH_WEBSOCKET_LATENCY = event(Raw.HIGH_WEBSOCKET_LATENCY, HighWebsocketLatency.class);
+    /**
+     * Fired whenever a gateway event takes longer than the value specified in
+     * {@link CatnipOptions#highEventLatencyThreshold()} from being received
+     * until a listener finished handling it.
+     */
+    EventType<HighEventLatency> HIGH_EVENT_LATENCY = event(Raw.HIGH_EVENT_LATENCY, HighEventLatency.class);
     
     interface Raw {
         // @formatter:off
@@ -116,6 +122,7 @@ public interface LifecycleEvent {
         String GATEWAY_WEBSOCKET_CONNECTION_FAILED = "GATEWAY_WEBSOCKET_CONNECTION_FAILED";
         String REST_RATELIMIT_HIT                  = "REST_RATELIMIT_HIT";
         String HIGH_WEBSOCKET_LATENCY              = "HIGH_WEBSOCKET_LATENCY";
+        String HIGH_EVENT_LATENCY                  = "HIGH_EVENT_LATENCY";
         // @formatter:on
     }
 }
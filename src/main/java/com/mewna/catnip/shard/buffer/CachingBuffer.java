@@ -34,7 +34,11 @@ import com.mewna.catnip.shard.GatewayIntent;
 import com.mewna.catnip.shard.LifecycleEvent;
 import com.mewna.catnip.shard.LifecycleState;
 import com.mewna.catnip.shard.ShardInfo;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.shard.event.EventTiming;
 import com.mewna.catnip.util.JsonUtil;
+import com.mewna.catnip.util.jfr.CacheUpdateEvent;
+import com.mewna.catnip.util.jfr.JfrEvents;
 import com.mewna.catnip.util.rx.RxHelpers;
 import io.reactivex.rxjava3.core.Completable;
 import lombok.AllArgsConstructor;
@@ -96,6 +100,11 @@ public class CachingBuffer extends AbstractBuffer {
     
     @Override
     public void buffer(final JsonObject event) {
+        buffer(event, EventContext.untimed());
+    }
+    
+    @Override
+    public void buffer(final JsonObject event, final EventContext context) {
         final JsonObject shardData = event.getObject("shard");
         final int id = shardData.getInt("id");
         final String type = event.getString("t");
@@ -104,30 +113,39 @@ public class CachingBuffer extends AbstractBuffer {
         final BufferState bufferState = buffers.get(id);
         switch(type) {
             case Raw.READY: {
-                handleReady(id, event);
+                handleReady(id, event, context);
                 // In theory, we shouldn't need `bufferState != null` checks
                 // beyond this point. The default vert.x event bus is
                 // single-threaded, and #handleReady will already insert a
                 // BufferState into the mappings for us.
                 break;
             }
+            case Raw.RESUMED: {
+                // A RESUME without a READY means that the shard was resumed
+                // on top of a cache loaded from a snapshot, so there are no
+                // guilds to await, but later GUILD_CREATEs still need a
+                // BufferState.
+                buffers.computeIfAbsent(id, __ -> new BufferState(id, ConcurrentHashMap.newKeySet()));
+                handleEvent(id, buffers.get(id), event, context);
+                break;
+            }
             case Raw.GUILD_CREATE: {
-                handleGuildCreate(bufferState, event);
+                handleGuildCreate(bufferState, event, context);
                 break;
             }
             case Raw.GUILD_MEMBERS_CHUNK: {
-                handleGuildMemberChunk(bufferState, event);
+                handleGuildMemberChunk(bufferState, event, context);
                 break;
             }
             default: {
                 // Buffer and replay later
-                handleEvent(id, bufferState, event);
+                handleEvent(id, bufferState, event, context);
                 break;
             }
         }
     }
     
-    private void handleReady(final int shardId, final JsonObject event) {
+    private void handleReady(final int shardId, final JsonObject event, final EventContext context) {
         final JsonObject payloadData = event.getObject("d");
         final String eventType = event.getString("t");
         final Set<String> guilds = JsonUtil.toMutableSet(payloadData.getArray("guilds"), g -> g.getString("id"));
@@ -136,19 +154,19 @@ public class CachingBuffer extends AbstractBuffer {
         // READY is also a cache event, as it does come with
         // information about the current user
         //noinspection ResultOfMethodCallIgnored
-        maybeCache(eventType, shardId, payloadData).subscribe(() -> emitter().emit(event));
+        maybeCache(eventType, shardId, event, context).subscribe(() -> emitter().emit(event, context));
     }
     
-    private void handleGuildCreate(final BufferState bufferState, final JsonObject event) {
+    private void handleGuildCreate(final BufferState bufferState, final JsonObject event, final EventContext context) {
         final int shardId = bufferState.id();
         final JsonObject payloadData = event.getObject("d");
         final String guild = payloadData.getString("id");
         // Make sure to cache guild
         // This will always succeed unless something goes horribly wrong
         //noinspection ResultOfMethodCallIgnored
-        maybeCache(Raw.GUILD_CREATE, shardId, payloadData).subscribe(() -> {
+        maybeCache(Raw.GUILD_CREATE, shardId, event, context).subscribe(() -> {
             // Add the guild to be awaited so that we can buffer members
-            bufferState.awaitGuild(guild, event);
+            bufferState.awaitGuild(guild, event, context);
             
             // Trigger member chunking if needed
             final int memberCount = payloadData.getInt("member_count");
@@ -199,7 +217,7 @@ public class CachingBuffer extends AbstractBuffer {
                 // Defer 100ms to try to wait for the guild role create event
                 // that might come
                 catnip().taskScheduler().setTimer(100L, __ -> {
-                    emitter().emit(event);
+                    emitter().emit(event, context);
                     bufferState.replayGuild(guild);
                     // Replay all buffered events once we run out
                     if(bufferState.awaitedGuilds().isEmpty()) {
@@ -210,7 +228,8 @@ public class CachingBuffer extends AbstractBuffer {
         });
     }
     
-    private void handleGuildMemberChunk(final BufferState bufferState, final JsonObject event) {
+    private void handleGuildMemberChunk(final BufferState bufferState, final JsonObject event,
+                                        final EventContext context) {
         final String eventType = event.getString("t");
         final JsonObject payloadData = event.getObject("d");
         final int index = payloadData.getInt("chunk_index");
@@ -218,10 +237,11 @@ public class CachingBuffer extends AbstractBuffer {
         
         if(catnip().options().chunkMembers()) {
             final String guild = payloadData.getString("guild_id");
-            cacheAndDispatch(eventType, bufferState.id(), event);
+            cacheAndDispatch(eventType, bufferState.id(), event, context);
             // TODO: I assumed this was zero-based and didn't test. I should test it.
             if(index == count - 1) {
-                emitter().emit(bufferState.guildCreate(guild));
+                final BufferedEvent guildCreate = bufferState.guildCreate(guild);
+                emitter().emit(guildCreate.event(), guildCreate.context());
                 bufferState.replayGuild(guild);
                 // Replay all buffered events once we run out
                 if(bufferState.awaitedGuilds().isEmpty()) {
@@ -231,7 +251,8 @@ public class CachingBuffer extends AbstractBuffer {
         }
     }
     
-    private void handleEvent(final int id, final BufferState bufferState, final JsonObject event) {
+    private void handleEvent(final int id, final BufferState bufferState, final JsonObject event,
+                             final EventContext context) {
         final JsonObject payloadData = event.getObject("d");
         final String eventType = event.getString("t");
         
@@ -240,35 +261,48 @@ public class CachingBuffer extends AbstractBuffer {
             if(bufferState.awaitedGuilds().contains(guildId)) {
                 // If we have a guild id, and we have a guild being awaited,
                 // buffer the event
-                bufferState.receiveGuildEvent(guildId, event);
+                bufferState.receiveGuildEvent(guildId, event, context);
             } else {
                 // If we're not awaiting the guild, it means that we're done
                 // buffering events for the guild - ie. all member chunks have
                 // been received - and so we can emit
-                cacheAndDispatch(eventType, id, event);
+                cacheAndDispatch(eventType, id, event, context);
             }
         } else {
             // Emit if the payload has no guild id
-            cacheAndDispatch(eventType, id, event);
+            cacheAndDispatch(eventType, id, event, context);
         }
     }
     
-    private void cacheAndDispatch(final String type, final int id, final JsonObject event) {
-        final JsonObject d = event.getObject("d");
+    private void cacheAndDispatch(final String type, final int id, final JsonObject event, final EventContext context) {
         if(DELETE_EVENTS.contains(type)) {
             // TODO: Will this work always?
-            emitter().emit(event);
-            maybeCache(type, id, d);
+            emitter().emit(event, context);
+            maybeCache(type, id, event, context);
         } else {
             //noinspection ResultOfMethodCallIgnored
-            maybeCache(type, id, d).subscribe(() -> emitter().emit(event));
+            maybeCache(type, id, event, context).subscribe(() -> emitter().emit(event, context));
         }
     }
     
-    private Completable maybeCache(final String eventType, final int shardId, final JsonObject data) {
+    private Completable maybeCache(final String eventType, final int shardId, final JsonObject payload,
+                                   final EventContext context) {
+        final JsonObject data = payload.getObject("d");
+        final EventTiming timing = context.timing();
         if(CACHE_EVENTS.contains(eventType)) {
             try {
-                return catnip().cacheWorker().updateCache(eventType, shardId, data);
+                final CacheUpdateEvent event = JfrEvents.ENABLED ? CacheUpdateEvent.start() : null;
+                if(timing != null) {
+                    timing.cacheStarted();
+                }
+                final Completable update = catnip().cacheWorker().updateCache(eventType, shardId, data, context);
+                if(timing != null) {
+                    timing.cacheFinished();
+                }
+                if(event != null) {
+                    event.finish(shardId, eventType);
+                }
+                return update;
             } catch(final Exception e) {
                 catnip().logAdapter().warn("Got error updating cache for payload {}", eventType, e);
                 catnip().logAdapter().warn("Payload: {}", JsonUtil.encodePrettily(data));
@@ -286,35 +320,45 @@ public class CachingBuffer extends AbstractBuffer {
         private final JsonObject guildCreate;
     }
     
+    /**
+     * A buffered event, along with the context that has to be emitted with it.
+     */
+    @Value
+    @Accessors(fluent = true)
+    private static class BufferedEvent {
+        JsonObject event;
+        EventContext context;
+    }
+    
     @Value
     @Accessors(fluent = true)
     private final class BufferState {
         private int id;
         private final Set<String> awaitedGuilds;
-        private final Map<String, Deque<JsonObject>> guildBuffers = new ConcurrentHashMap<>();
-        private final Map<String, JsonObject> guildCreateCache = new ConcurrentHashMap<>();
-        private final Deque<JsonObject> buffer = new ConcurrentLinkedDeque<>();
+        private final Map<String, Deque<BufferedEvent>> guildBuffers = new ConcurrentHashMap<>();
+        private final Map<String, BufferedEvent> guildCreateCache = new ConcurrentHashMap<>();
+        private final Deque<BufferedEvent> buffer = new ConcurrentLinkedDeque<>();
         
-        void awaitGuild(final String id, final JsonObject event) {
+        void awaitGuild(final String id, final JsonObject event, final EventContext context) {
             awaitedGuilds.add(id);
-            guildCreateCache.put(id, event);
+            guildCreateCache.put(id, new BufferedEvent(event, context));
         }
         
-        void receiveGuildEvent(final String id, final JsonObject event) {
-            final Deque<JsonObject> queue = guildBuffers.computeIfAbsent(id, __ -> new ConcurrentLinkedDeque<>());
-            queue.addLast(event);
+        void receiveGuildEvent(final String id, final JsonObject event, final EventContext context) {
+            final Deque<BufferedEvent> queue = guildBuffers.computeIfAbsent(id, __ -> new ConcurrentLinkedDeque<>());
+            queue.addLast(new BufferedEvent(event, context));
         }
         
-        void buffer(final JsonObject event) {
-            buffer.addLast(event);
+        void buffer(final JsonObject event, final EventContext context) {
+            buffer.addLast(new BufferedEvent(event, context));
         }
         
         void replayGuild(final String id) {
             awaitedGuilds.remove(id);
             guildCreateCache.remove(id);
             if(guildBuffers.containsKey(id)) {
-                final Deque<JsonObject> queue = guildBuffers.get(id);
-                queue.forEach(e -> cacheAndDispatch(e.getString("t"), this.id, e));
+                final Deque<BufferedEvent> queue = guildBuffers.get(id);
+                queue.forEach(e -> cacheAndDispatch(e.event().getString("t"), this.id, e.event(), e.context()));
                 guildBuffers.remove(id);
             }
         }
@@ -322,8 +366,8 @@ public class CachingBuffer extends AbstractBuffer {
         void replay() {
             while(!buffer.isEmpty()) {
                 // Properly empty the event buffer
-                final JsonObject e = buffer.pop();
-                cacheAndDispatch(e.getString("t"), id, e);
+                final BufferedEvent e = buffer.pop();
+                cacheAndDispatch(e.event().getString("t"), id, e.event(), e.context());
             }
             if(buffers.values().stream().allMatch(e -> e.buffer.isEmpty())) {
                 // If all buffers are empty, emit an event saying as much
@@ -331,7 +375,7 @@ public class CachingBuffer extends AbstractBuffer {
             }
         }
         
-        JsonObject guildCreate(final String guild) {
+        BufferedEvent guildCreate(final String guild) {
             return guildCreateCache.get(guild);
         }
     }
@@ -29,6 +29,7 @@ package com.mewna.catnip.shard.buffer;
 
 import com.grack.nanojson.JsonObject;
 import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.event.EventContext;
 
 /**
  * Used for buffering events for things like caching.
@@ -44,5 +45,18 @@ public interface EventBuffer {
      */
     void buffer(JsonObject event);
     
+    /**
+     * Buffers a single event, along with the state that catnip carries
+     * alongside it. Buffers that hand events to a
+     * {@link com.mewna.catnip.shard.DispatchEmitter} should pass the context
+     * on to it; the default implementation drops it.
+     *
+     * @param event   The event to buffer.
+     * @param context The event's context.
+     */
+    default void buffer(final JsonObject event, final EventContext context) {
+        buffer(event);
+    }
+    
     void catnip(Catnip catnip);
 }
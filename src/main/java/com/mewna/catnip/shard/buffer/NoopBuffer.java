@@ -30,6 +30,7 @@ package com.mewna.catnip.shard.buffer;
 import com.grack.nanojson.JsonObject;
 import com.mewna.catnip.entity.impl.lifecycle.ChunkingDoneImpl;
 import com.mewna.catnip.shard.LifecycleEvent.Raw;
+import com.mewna.catnip.shard.event.EventContext;
 
 /**
  * A no-op implementation of {@link EventBuffer}. The no-op buffer simply
@@ -45,10 +46,15 @@ public class NoopBuffer extends AbstractBuffer {
     
     @Override
     public void buffer(final JsonObject event) {
+        buffer(event, EventContext.untimed());
+    }
+    
+    @Override
+    public void buffer(final JsonObject event, final EventContext context) {
         if(!chunkingDoneEmitted) {
             chunkingDoneEmitted = true;
             emitter().emit(Raw.CHUNKING_DONE, ChunkingDoneImpl.builder().catnip(catnip()).build());
         }
-        emitter().emit(event);
+        emitter().emit(event, context);
     }
 }
@@ -28,6 +28,9 @@
 package com.mewna.catnip.shard.event;
 
 import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.ShardFlowControl;
+import com.mewna.catnip.util.jfr.DispatchEvent;
+import com.mewna.catnip.util.jfr.JfrEvents;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
@@ -38,6 +41,7 @@ import lombok.experimental.Accessors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,7 +51,8 @@ import java.util.function.Consumer;
 public class DefaultDispatchManager extends AbstractDispatchManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDispatchManager.class);
     private final Map<String, Set<DefaultMessageConsumer<?>>> consumers = new ConcurrentHashMap<>();
-    private Worker worker;
+    private volatile Worker worker;
+    private volatile boolean closed;
     
     @Override
     public void catnip(final Catnip catnip) {
@@ -57,14 +62,39 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
     
     @Override
     public void dispatchEvent(final String address, final Object event) {
+        dispatchEvent(address, event, null, null);
+    }
+    
+    @Override
+    public void dispatchEvent(final String address, final Object event, @Nullable final EventTiming timing,
+                              @Nullable final ShardFlowControl flowControl) {
         final var addressConsumers = consumers.get(address);
         
         if(addressConsumers != null) {
+            final Worker worker = this.worker;
             if (worker == null) {
+                if(closed) {
+                    // Shards that are still disconnecting while catnip shuts
+                    // down may dispatch their last lifecycle events
+                    return;
+                }
                 LOGGER.warn("Please configure the Catnip parent instance before dispatching events.");
                 throw new IllegalStateException("dispatchEvent was called before DefaultDispatchManager was configured.");
             }
-            worker.schedule(() -> addressConsumers.forEach(c -> c.handle(event)));
+            final long dispatched = timing != null ? System.nanoTime() : 0L;
+            if(flowControl != null) {
+                // Held until every consumer has its own
+                flowControl.acquire();
+            }
+            worker.schedule(() -> {
+                try {
+                    addressConsumers.forEach(c -> c.handle(event, timing, dispatched, flowControl));
+                } finally {
+                    if(flowControl != null) {
+                        flowControl.release();
+                    }
+                }
+            });
         }
     }
     
@@ -77,8 +107,12 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
     
     @Override
     public void close() {
-        worker.dispose();
-        worker = null;
+        closed = true;
+        final Worker worker = this.worker;
+        if(worker != null) {
+            worker.dispose();
+            this.worker = null;
+        }
     }
     
     @Getter
@@ -87,23 +121,47 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
     class DefaultMessageConsumer<T> implements MessageConsumer<T> {
         private final String address;
         
-        private Consumer<T> internalHandler;
+        private InternalHandler<T> internalHandler;
         
         @SuppressWarnings("unchecked")
-        void handle(final Object event) {
+        void handle(final Object event, @Nullable final EventTiming timing, final long dispatched,
+                    @Nullable final ShardFlowControl flowControl) {
             if(internalHandler != null) {
-                internalHandler.accept((T) event);
+                if(flowControl != null) {
+                    flowControl.acquire();
+                }
+                internalHandler.handle((T) event, timing, dispatched, flowControl);
+            }
+        }
+        
+        private void handled(final T event, @Nullable final EventTiming timing, final long dispatched,
+                             @Nullable final ShardFlowControl flowControl, @Nullable final DispatchEvent dispatchEvent,
+                             final long handlerStart) {
+            if(flowControl != null) {
+                flowControl.release();
+            }
+            if(dispatchEvent != null) {
+                dispatchEvent.finish(address, event);
+            }
+            if(timing != null) {
+                timing.handled(catnip(), address, dispatched, handlerStart, System.nanoTime());
             }
         }
     
         // This method is specific to Catnip#on and can be safely removed if wanted.
         @Override
         public MessageConsumer<T> handler(final Consumer<T> handler) {
-            internalHandler = event -> worker.schedule(() -> {
+            internalHandler = (event, timing, dispatched, flowControl) -> worker.schedule(() -> {
+                final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                final long handlerStart = timing != null ? System.nanoTime() : 0L;
                 try {
                     handler.accept(event);
                 } catch(final Exception e) {
                     LOGGER.error("Exception handling event on address " + address, e);
+                } finally {
+                    // Errors get past the catch, and would otherwise leak the
+                    // flow control permit, stopping the shard for good
+                    handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
                 }
             });
             return this;
@@ -112,7 +170,15 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
         @Override
         public Observable<T> asObservable() {
             return Observable.create(emitter -> {
-                internalHandler = emitter::onNext;
+                internalHandler = (event, timing, dispatched, flowControl) -> {
+                    final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                    final long handlerStart = timing != null ? System.nanoTime() : 0L;
+                    try {
+                        emitter.onNext(event);
+                    } finally {
+                        handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
+                    }
+                };
                 emitter.setCancellable(this::close);
             });
         }
@@ -120,7 +186,15 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
         @Override
         public Flowable<T> asFlowable(final BackpressureStrategy backpressureStrategy) {
             return Flowable.create(emitter -> {
-                internalHandler = emitter::onNext;
+                internalHandler = (event, timing, dispatched, flowControl) -> {
+                    final DispatchEvent dispatchEvent = JfrEvents.ENABLED ? DispatchEvent.start() : null;
+                    final long handlerStart = timing != null ? System.nanoTime() : 0L;
+                    try {
+                        emitter.onNext(event);
+                    } finally {
+                        handled(event, timing, dispatched, flowControl, dispatchEvent, handlerStart);
+                    }
+                };
                 emitter.setCancellable(this::close);
             }, backpressureStrategy);
         }
@@ -134,4 +208,9 @@ public class DefaultDispatchManager extends AbstractDispatchManager {
             }
         }
     }
+    
+    @FunctionalInterface
+    private interface InternalHandler<T> {
+        void handle(T event, @Nullable EventTiming timing, long dispatched, @Nullable ShardFlowControl flowControl);
+    }
 }
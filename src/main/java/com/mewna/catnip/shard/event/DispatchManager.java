@@ -28,7 +28,9 @@
 package com.mewna.catnip.shard.event;
 
 import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.ShardFlowControl;
 
+import javax.annotation.Nullable;
 import java.io.Closeable;
 
 public interface DispatchManager extends Closeable {
@@ -42,6 +44,24 @@ public interface DispatchManager extends Closeable {
      */
     void dispatchEvent(String address, Object event);
     
+    /**
+     * Dispatches a gateway event to the provided address, timing it and
+     * counting it towards its shard's outstanding events until it's handled.
+     * Dispatch managers that don't support event latency tracking or flow
+     * control just dispatch it.
+     *
+     * @param address     Address to send the event to.
+     * @param event       Event to dispatch.
+     * @param timing      When the event reached each stage so far, or
+     *                    {@code null} if it isn't being timed.
+     * @param flowControl The flow control of the shard that received the
+     *                    event, or {@code null} if it's disabled.
+     */
+    default void dispatchEvent(final String address, final Object event, @Nullable final EventTiming timing,
+                               @Nullable final ShardFlowControl flowControl) {
+        dispatchEvent(address, event);
+    }
+    
     /**
      * Returns a consumer listening on the provided address.
      *
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+
+package com.mewna.catnip.shard.event;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Per-event state that travels alongside a gateway event's payload, from the
+ * shard through the {@link com.mewna.catnip.shard.buffer.EventBuffer}, the
+ * cache worker and the {@link com.mewna.catnip.shard.DispatchEmitter}. The
+ * payload is shared with raw hooks and the rest of the pipeline, so catnip
+ * never stashes its own state in it.
+ */
+public final class EventContext {
+    private final EventTiming timing;
+    // Set by the cache worker, read by the emitter once the update completes
+    private volatile Object parsed;
+    
+    public EventContext(@Nullable final EventTiming timing) {
+        this.timing = timing;
+    }
+    
+    /**
+     * @return A context for an event that isn't being timed.
+     */
+    @Nonnull
+    public static EventContext untimed() {
+        return new EventContext(null);
+    }
+    
+    /**
+     * @return The event's timing, or {@code null} if it isn't being timed.
+     */
+    @Nullable
+    public EventTiming timing() {
+        return timing;
+    }
+    
+    /**
+     * Hands over an entity that was built from the payload while updating the
+     * cache, so that the emitter can dispatch it instead of building it again.
+     *
+     * @param entity The entity built from the payload.
+     */
+    public void parsed(@Nonnull final Object entity) {
+        parsed = entity;
+    }
+    
+    /**
+     * @param type The type of entity to get.
+     * @param <T>  The type of entity to get.
+     *
+     * @return The entity the cache worker built from the payload, or
+     * {@code null} if it didn't build one of the given type.
+     */
+    @Nullable
+    public <T> T parsed(@Nonnull final Class<T> type) {
+        final Object entity = parsed;
+        return type.isInstance(entity) ? type.cast(entity) : null;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.shard.ShardInfo;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long a gateway event spent in each {@link EventStage}, from its frame
+ * being received until a listener finished handling it. All durations are
+ * in nanoseconds.
+ */
+@Value
+@Accessors(fluent = true)
+public class EventLatency {
+    @Nonnull
+    String eventType;
+    @Nonnull
+    ShardInfo shardInfo;
+    long parse;
+    long buffer;
+    long cache;
+    long queue;
+    long handler;
+    
+    /**
+     * @param stage The stage to get the duration of.
+     *
+     * @return How long the event spent in that stage, in nanoseconds.
+     */
+    public long stage(@Nonnull final EventStage stage) {
+        switch(stage) {
+            case PARSE:
+                return parse;
+            case BUFFER:
+                return buffer;
+            case CACHE:
+                return cache;
+            case QUEUE:
+                return queue;
+            case HANDLER:
+                return handler;
+            default:
+                throw new IllegalArgumentException("Unknown stage: " + stage);
+        }
+    }
+    
+    /**
+     * @return The end-to-end latency, in nanoseconds.
+     */
+    public long total() {
+        return parse + buffer + cache + queue + handler;
+    }
+    
+    @Nonnegative
+    public long total(@Nonnull final TimeUnit unit) {
+        return unit.convert(total(), TimeUnit.NANOSECONDS);
+    }
+}
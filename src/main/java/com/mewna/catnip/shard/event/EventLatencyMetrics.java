@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives how long gateway events took from their frame being received
+ * until a listener finished handling them, broken down by
+ * {@link EventStage}, so it can be bridged to whatever metrics library is in
+ * use. Called once per listener invocation, on the dispatch worker, so it
+ * must return quickly.
+ * <p>
+ * Events are only timed when this isn't {@link #NOOP}, and only by
+ * {@link DefaultDispatchManager}; other dispatch managers don't report
+ * anything.
+ *
+ * @see MemoryEventLatencyMetrics
+ */
+public interface EventLatencyMetrics {
+    /**
+     * Reports nothing, and turns event timing off.
+     */
+    EventLatencyMetrics NOOP = new EventLatencyMetrics() {
+    };
+    
+    /**
+     * @param latency How long the event took, by stage.
+     */
+    default void eventHandled(@Nonnull final EventLatency latency) {
+    }
+}
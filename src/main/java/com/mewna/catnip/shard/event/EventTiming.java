@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard.event;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.entity.impl.lifecycle.HighEventLatencyImpl;
+import com.mewna.catnip.shard.LifecycleEvent.Raw;
+import com.mewna.catnip.shard.ShardInfo;
+
+import javax.annotation.Nonnull;
+
+/**
+ * When a gateway event reached each stage of the pipeline, so that its
+ * {@link EventLatency} can be worked out once a listener has handled it.
+ * <p>
+ * A timing is created by the shard and carried alongside the event's payload
+ * in its {@link EventContext}; the payload itself is never touched. Timings
+ * are only created when
+ * {@link com.mewna.catnip.util.CatnipOptionsView#eventLatencyMetrics()} is
+ * set, so that events aren't timed when nothing would be reported.
+ */
+public final class EventTiming {
+    private final ShardInfo shardInfo;
+    private final long received;
+    private final long parsed;
+    // The cache is updated and the event dispatched on whichever threads the
+    // cache worker and the scheduler pick
+    private volatile long cacheStart;
+    private volatile long cacheEnd;
+    
+    /**
+     * Starts timing an event.
+     *
+     * @param shardInfo The shard that received the event.
+     * @param received  When the frame was received, from {@link System#nanoTime()}.
+     * @param parsed    When the frame was parsed, from {@link System#nanoTime()}.
+     */
+    public EventTiming(@Nonnull final ShardInfo shardInfo, final long received, final long parsed) {
+        this.shardInfo = shardInfo;
+        this.received = received;
+        this.parsed = parsed;
+    }
+    
+    /**
+     * @param catnip The catnip instance.
+     *
+     * @return Whether events should be timed.
+     */
+    public static boolean enabled(@Nonnull final Catnip catnip) {
+        return catnip.options().eventLatencyMetrics() != EventLatencyMetrics.NOOP;
+    }
+    
+    /**
+     * Marks the start of the event's cache update.
+     */
+    public void cacheStarted() {
+        cacheStart = System.nanoTime();
+    }
+    
+    /**
+     * Marks the end of the event's cache update.
+     */
+    public void cacheFinished() {
+        cacheEnd = System.nanoTime();
+    }
+    
+    /**
+     * Works out how long the event spent in each stage, reports it to
+     * {@link com.mewna.catnip.util.CatnipOptionsView#eventLatencyMetrics()},
+     * and fires {@link Raw#HIGH_EVENT_LATENCY} if it took too long.
+     *
+     * @param catnip       The catnip instance.
+     * @param eventType    The type of the dispatched event.
+     * @param dispatched   When the event was dispatched.
+     * @param handlerStart When a listener started handling it.
+     * @param handlerEnd   When the listener finished handling it.
+     *
+     * @return How long the event spent in each stage.
+     */
+    @Nonnull
+    public EventLatency handled(@Nonnull final Catnip catnip, @Nonnull final String eventType, final long dispatched,
+                                final long handlerStart, final long handlerEnd) {
+        // Delete events are dispatched before the cache is updated, so the
+        // update isn't part of their latency
+        final long cacheEnd = this.cacheEnd;
+        final long cache = cacheEnd != 0L && cacheEnd <= dispatched ? cacheEnd - cacheStart : 0L;
+        final EventLatency latency = new EventLatency(eventType, shardInfo, parsed - received,
+                dispatched - parsed - cache, cache, handlerStart - dispatched, handlerEnd - handlerStart);
+        catnip.options().eventLatencyMetrics().eventHandled(latency);
+        if(latency.total() > catnip.options().highEventLatencyThreshold()) {
+            catnip.dispatchManager().dispatchEvent(Raw.HIGH_EVENT_LATENCY, HighEventLatencyImpl.builder()
+                    .catnip(catnip)
+                    .shardInfo(shardInfo)
+                    .eventType(eventType)
+                    .latency(latency)
+                    .build());
+        }
+        return latency;
+    }
+}
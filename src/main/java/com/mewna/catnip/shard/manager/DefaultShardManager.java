@@ -37,6 +37,7 @@ import com.mewna.catnip.util.task.QueueTask;
 import com.mewna.catnip.util.task.ShardConnectTask;
 import io.reactivex.rxjava3.core.Single;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import javax.annotation.Nonnegative;
@@ -60,6 +61,15 @@ public class DefaultShardManager extends AbstractShardManager {
     private int shardCount;
     @Getter
     private final QueueTask<Integer> connectQueue = new ShardConnectTask(this::startShard);
+    /**
+     * How long to wait after connecting a shard before connecting the next
+     * one, in milliseconds. Discord only allows one IDENTIFY every 5 seconds,
+     * so this should only be lowered when connecting to something else, ie.
+     * a local gateway for testing.
+     */
+    @Getter
+    @Setter
+    private long identifyDelay = 5500L;
     private volatile boolean started;
     
     public DefaultShardManager() {
@@ -281,7 +291,7 @@ public class DefaultShardManager extends AbstractShardManager {
     private void connectNextShard() {
         catnip().logAdapter().debug("Connecting next shard: {}", connectQueue.peek());
         connectQueue.run();
-        catnip().taskScheduler().setTimer(5500, r -> runConnectQueue());
+        catnip().taskScheduler().setTimer(identifyDelay, r -> runConnectQueue());
     }
     
     @Override
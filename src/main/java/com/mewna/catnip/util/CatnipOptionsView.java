@@ -39,8 +39,15 @@ import com.mewna.catnip.entity.lifecycle.MemberChunkRerequest;
 import com.mewna.catnip.entity.serialization.EntitySerializer;
 import com.mewna.catnip.entity.user.Presence;
 import com.mewna.catnip.extension.Extension;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.requester.DefaultRetryPolicy;
 import com.mewna.catnip.rest.requester.Requester;
+import com.mewna.catnip.rest.requester.ResponseCache;
+import com.mewna.catnip.rest.requester.RestMetrics;
+import com.mewna.catnip.rest.requester.RetryPolicy;
 import com.mewna.catnip.rest.requester.SerialRequester;
+import com.mewna.catnip.rest.requester.StacktraceCaptureMode;
 import com.mewna.catnip.shard.CompressionMode;
 import com.mewna.catnip.shard.DiscordEvent.Raw;
 import com.mewna.catnip.shard.GatewayIntent;
@@ -49,6 +56,8 @@ import com.mewna.catnip.shard.buffer.EventBuffer;
 import com.mewna.catnip.shard.buffer.NoopBuffer;
 import com.mewna.catnip.shard.event.DefaultDispatchManager;
 import com.mewna.catnip.shard.event.DispatchManager;
+import com.mewna.catnip.shard.event.EventLatencyMetrics;
+import com.mewna.catnip.shard.event.MemoryEventLatencyMetrics;
 import com.mewna.catnip.shard.manager.DefaultShardManager;
 import com.mewna.catnip.shard.manager.ShardManager;
 import com.mewna.catnip.shard.ratelimit.MemoryRatelimiter;
@@ -66,7 +75,9 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * An immutable view of {@link com.mewna.catnip.CatnipOptions}.
@@ -209,8 +220,10 @@ public interface CatnipOptionsView {
      * thrown by the REST handler.
      * <p>
      * NOTE: Capturing stacktraces is <strong>s l o w</strong>. If you have
-     * performance problems around REST requests, you can disable this, at the
-     * cost of losing debuggability. Note that it may be useful to add
+     * performance problems around REST requests, you can use a cheaper
+     * {@link #restStacktraceMode()}, only capture some stacktraces with
+     * {@link #restStacktraceSampleRate()}, or disable this, at the cost of
+     * losing debuggability. Note that it may be useful to add
      * <code>-XX:-OmitStackTraceInFastThrow</code> to your JVM flags to ensure
      * that this doesn't get optimized out.
      * <p>
@@ -218,6 +231,23 @@ public interface CatnipOptionsView {
      */
     boolean captureRestStacktraces();
     
+    /**
+     * @return How REST stacktraces are captured when
+     * {@link #captureRestStacktraces()} is enabled. Defaults to
+     * {@link StacktraceCaptureMode#FRAMES}, which keeps the stack frames and
+     * only builds the stacktrace if the request fails.
+     */
+    @Nonnull
+    StacktraceCaptureMode restStacktraceMode();
+    
+    /**
+     * @return The fraction of REST requests, from {@code 0} to {@code 1},
+     * that capture a stacktrace when {@link #captureRestStacktraces()} is
+     * enabled. Requests that aren't sampled fail with an empty stacktrace.
+     * Defaults to {@code 1}, ie. every request.
+     */
+    double restStacktraceSampleRate();
+    
     /**
      * Whether or not to log "Received presence for uncached user XXX" when
      * catnip is not chunking members. Basically, this avoids a ton of logspam.
@@ -377,4 +407,120 @@ public interface CatnipOptionsView {
      */
     @Nonnull
     EntityDelegator entityDelegator();
+    
+    /**
+     * @return The file that the cache is snapshotted to on shutdown, and
+     * loaded from on connect, so that shards can resume without
+     * re-downloading every guild after a restart. Only used when the
+     * {@link #cacheWorker()} is a {@link com.mewna.catnip.cache.MemoryEntityCache},
+     * and only loaded when the shard manager has a fixed shard count that
+     * matches the snapshot's. Defaults to {@code null}, ie. no snapshots.
+     */
+    @Nullable
+    Path cacheSnapshotPath();
+    
+    /**
+     * @return Whether or not concurrent, identical {@code GET} requests should
+     * be coalesced into a single HTTP request, with the response being
+     * shared between all of them. Requests are identical if they have the
+     * same compiled route and query string, audit log reason, priority and
+     * authorization. Requests with a deadline are never coalesced. Defaults
+     * to {@code false}.
+     */
+    boolean coalesceRestRequests();
+    
+    /**
+     * @return Routes that should never be coalesced, even when
+     * {@link #coalesceRestRequests()} is enabled. These are the route
+     * constants from {@link Routes}, not compiled routes. Defaults to an
+     * empty set.
+     */
+    @Nonnull
+    Set<Route> uncoalescedRoutes();
+    
+    /**
+     * @return The cache that responses from frequently-read {@code GET}
+     * routes, like {@link Routes#GET_CHANNEL}, are kept in. Entries expire
+     * after a per-route TTL, and are invalidated by the gateway events that
+     * make them stale. Useful when running without a full entity cache.
+     * Defaults to {@code null}, ie. no caching.
+     */
+    @Nullable
+    ResponseCache restResponseCache();
+    
+    /**
+     * @return The policy that decides whether, and after how long, REST
+     * requests that failed with connection errors, timeouts or {@code 5xx}
+     * responses are retried. Defaults to {@link DefaultRetryPolicy}, which
+     * backs off exponentially with jitter, only retries non-idempotent
+     * requests if nothing was sent, and limits retries with a budget.
+     */
+    @Nonnull
+    RetryPolicy restRetryPolicy();
+    
+    /**
+     * @return Where telemetry about REST requests is reported: queue,
+     * ratelimit and HTTP timings, {@code 429} and {@code 5xx} responses,
+     * queued and in-flight requests, and clock skew. Implement
+     * {@link RestMetrics} to bridge it to a monitoring system, or use
+     * {@link com.mewna.catnip.rest.requester.MemoryRestMetrics} to keep it
+     * in memory. Defaults to {@link RestMetrics#NOOP}.
+     */
+    @Nonnull
+    RestMetrics restMetrics();
+    
+    /**
+     * @return Where the end-to-end latency of gateway events, from their
+     * frame being received until a listener finished handling them, is
+     * reported, broken down into parsing, buffering, caching, queueing for
+     * the dispatch worker, and the listener itself. Implement
+     * {@link EventLatencyMetrics} to bridge it to a monitoring system, or use
+     * {@link MemoryEventLatencyMetrics} to keep it in memory. Events are only
+     * timed when this is set. Defaults to {@link EventLatencyMetrics#NOOP}.
+     */
+    @Nonnull
+    EventLatencyMetrics eventLatencyMetrics();
+    
+    /**
+     * If a gateway event takes longer than this much time from its frame
+     * being received until a listener finished handling it, catnip will emit
+     * a {@link com.mewna.catnip.entity.lifecycle.HighEventLatency} event
+     * containing how long it spent in each stage. Only applies when
+     * {@link #eventLatencyMetrics()} is set.<br />
+     *
+     * <strong>This value is specified in nanoseconds.</strong>
+     */
+    long highEventLatencyThreshold();
+    
+    /**
+     * How many frames each shard may have waiting to be parsed, plus events
+     * waiting for the dispatch worker or being handled by listeners, counting
+     * each listener separately, before it stops reading from its websocket
+     * until it catches up to half of this. This bounds how much memory slow
+     * listeners can make catnip use, at the cost of events being delayed, and
+     * of heartbeat ACKs being read late if listeners stay behind for too
+     * long. See {@link com.mewna.catnip.shard.ShardFlowControl}, which is
+     * also where the per-shard queue depth can be read from. Only supported
+     * by {@link DefaultDispatchManager}. Defaults to {@code 0}, ie. shards
+     * always keep reading.
+     */
+    int maxOutstandingEvents();
+    
+    /**
+     * The executor that shards inflate, parse and handle gateway frames on,
+     * so that the HTTP client's threads only do websocket I/O, and a burst
+     * of large frames can't hold up REST responses. Each shard handles its
+     * frames one at a time, in the order they were received, while different
+     * shards' frames are handled in parallel. Defaults to {@code null}, ie.
+     * each catnip instance creates its own pool with a thread per core once
+     * its first shard starts, and shuts it down in
+     * {@link com.mewna.catnip.Catnip#shutdown()}. Executors set here are
+     * never shut down by catnip. Set this to {@code Runnable::run} to handle
+     * frames on the websocket's thread instead. Unless
+     * {@link #maxOutstandingEvents()} is set, a shard only reads its next
+     * frame once the previous one was handled, so frames can't pile up in
+     * this executor's queue.
+     */
+    @Nullable
+    Executor gatewayParseExecutor();
 }
@@ -35,6 +35,7 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class JsonUtil {
@@ -130,6 +131,42 @@ public final class JsonUtil {
         return List.copyOf(ret);
     }
     
+    /**
+     * Maps the objects in the array in batches of at most {@code batchSize},
+     * handing each batch to the consumer as soon as it's full, so that only
+     * one batch of mapped objects is ever alive at a time. The array itself
+     * is left untouched.
+     *
+     * @param array     The array to map. May be {@code null}, in which case
+     *                  the consumer is never called.
+     * @param batchSize The maximum number of objects in a batch.
+     * @param mapper    The function to map each object with.
+     * @param consumer  The consumer to hand each batch to.
+     * @param <T>       The type of the mapped objects.
+     */
+    public static <T> void forEachBatch(@Nullable final JsonArray array, final int batchSize,
+                                        @Nonnull final Function<JsonObject, T> mapper,
+                                        @Nonnull final Consumer<List<T>> consumer) {
+        if(array == null) {
+            return;
+        }
+        List<T> batch = new ArrayList<>(Math.min(array.size(), batchSize));
+        for(final Object object : array) {
+            if(!(object instanceof JsonObject)) {
+                throw new IllegalArgumentException("Expected all values to be JsonObjects, but found " +
+                        (object == null ? "null" : object.getClass()));
+            }
+            batch.add(mapper.apply((JsonObject) object));
+            if(batch.size() == batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if(!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+    
     @Nonnull
     @CheckReturnValue
     public static <T> List<T> toListFromCache(@Nullable final JsonArray array, @Nonnull final Function<String, T> mapper) {
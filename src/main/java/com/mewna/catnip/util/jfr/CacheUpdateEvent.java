@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A gateway event being applied to the cache by
+ * {@link com.mewna.catnip.cache.EntityCacheWorker#updateCache}. Only the
+ * call itself is timed, which for the default cache is the whole update;
+ * cache workers that update asynchronously only show up with how long it
+ * took to start the update.
+ */
+@Name("catnip.CacheUpdate")
+@Label("Cache Update")
+@Description("A gateway event being applied to the cache")
+@Category({JfrEvents.CATEGORY, "Cache"})
+@StackTrace(false)
+public final class CacheUpdateEvent extends Event {
+    @Label("Shard")
+    private int shard;
+    @Label("Event Type")
+    private String eventType;
+    
+    @Nonnull
+    public static CacheUpdateEvent start() {
+        final CacheUpdateEvent event = new CacheUpdateEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Commits this event, if it's being recorded.
+     *
+     * @param shard     The shard the event was received on.
+     * @param eventType The event type.
+     */
+    public void finish(final int shard, @Nonnull final String eventType) {
+        end();
+        if(shouldCommit()) {
+            this.shard = shard;
+            this.eventType = eventType;
+            commit();
+        }
+    }
+}
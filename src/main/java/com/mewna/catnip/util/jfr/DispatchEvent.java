@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import com.mewna.catnip.entity.guild.GuildEntity;
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An event being handled by a listener, ie. a handler passed to
+ * {@link com.mewna.catnip.Catnip#on}, or a subscriber of
+ * {@link com.mewna.catnip.Catnip#observable}. Its duration is how long the
+ * listener took.
+ */
+@Name("catnip.Dispatch")
+@Label("Dispatch")
+@Description("An event being handled by a listener")
+@Category({JfrEvents.CATEGORY, "Dispatch"})
+@StackTrace(false)
+public final class DispatchEvent extends Event {
+    @Label("Event Type")
+    private String eventType;
+    @Label("Guild")
+    @Description("The id of the event's guild, if it has one")
+    private long guild;
+    
+    @Nonnull
+    public static DispatchEvent start() {
+        final DispatchEvent event = new DispatchEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Commits this event, if it's being recorded.
+     *
+     * @param eventType The event type, ie. the dispatch address.
+     * @param payload   The event that was handled.
+     */
+    public void finish(@Nonnull final String eventType, @Nullable final Object payload) {
+        end();
+        if(shouldCommit()) {
+            this.eventType = eventType;
+            if(payload instanceof GuildEntity) {
+                guild = ((GuildEntity) payload).guildIdAsLong();
+            }
+            commit();
+        }
+    }
+}
@@ -46,6 +46,31 @@ import java.lang.StackWalker.Option;
 public class DefaultLogAdapter implements LogAdapter {
     private final StackWalker stackWalker = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
     
+    @Override
+    public boolean isEnabled(@Nonnull final Level level, @Nonnull final Class<?> caller) {
+        final Logger logger = LoggerFactory.getLogger(caller);
+        switch(level) {
+            case TRACE: {
+                return logger.isTraceEnabled();
+            }
+            case DEBUG: {
+                return logger.isDebugEnabled();
+            }
+            case INFO: {
+                return logger.isInfoEnabled();
+            }
+            case WARN: {
+                return logger.isWarnEnabled();
+            }
+            case ERROR: {
+                return logger.isErrorEnabled();
+            }
+            default: {
+                return true;
+            }
+        }
+    }
+    
     @Override
     public void log(@Nonnull final Level level, @Nonnull final String message, @Nullable final Object... objects) {
         //noinspection OptionalGetWithoutIsPresent
@@ -46,6 +46,21 @@ import static org.slf4j.event.Level.*;
 public interface LogAdapter {
     void log(@Nonnull Level level, @Nonnull String message, @Nullable Object... objects);
     
+    /**
+     * Whether messages logged at the given level from the given class would
+     * actually be logged. Hot paths check this before logging, so that
+     * messages that are thrown away are never built. Defaults to
+     * {@code true}.
+     *
+     * @param level  The level to check.
+     * @param caller The class that would log the message.
+     *
+     * @return Whether the level is enabled for the class.
+     */
+    default boolean isEnabled(@Nonnull final Level level, @Nonnull final Class<?> caller) {
+        return true;
+    }
+    
     default void trace(@Nonnull final String message, @Nullable final Object... objects) {
         log(TRACE, message, objects);
     }
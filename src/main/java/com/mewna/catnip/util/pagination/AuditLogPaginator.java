@@ -35,7 +35,6 @@ import com.mewna.catnip.entity.guild.audit.AuditLogEntry;
 import com.mewna.catnip.entity.impl.EntityBuilder;
 import com.mewna.catnip.entity.user.User;
 import com.mewna.catnip.util.JsonUtil;
-import io.reactivex.rxjava3.core.Observable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -81,11 +80,10 @@ public abstract class AuditLogPaginator extends BasePaginator<AuditLogEntry, Jso
     
     @Nonnull
     @Override
-    protected Observable<Void> fetch(@Nonnull final PaginationCallback<AuditLogEntry> action) {
-        return fetch(null, new RequestState<>(limit, requestSize, action)
+    protected RequestState<AuditLogEntry> createState(@Nonnull final PaginationCallback<AuditLogEntry> callback) {
+        return super.createState(callback)
                 .extra("user", userId)
-                .extra("type", type)
-        );
+                .extra("type", type);
     }
     
     @Override
@@ -28,15 +28,18 @@
 package com.mewna.catnip.util.pagination;
 
 import com.mewna.catnip.util.VoidHelper;
-import com.mewna.catnip.util.rx.RxHelpers;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import lombok.Value;
+import lombok.experimental.Accessors;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -108,20 +111,36 @@ public abstract class BasePaginator<T, J, P extends BasePaginator<T, J, P>> {
     }
     
     /**
-     * Fetches up to {@link #limit(int) limit} entities, returning a list
-     * containing all of them.
-     * <br><b>This method will keep all entities in memory</b>, so for unbounded
-     * pagination it should be avoided.
+     * Streams up to {@link #limit(int) limit} entities.
+     * <br>Pages are fetched as downstream demand requires them, with the
+     * page after the one being consumed always being prefetched, so that
+     * consumers don't have to wait a full round trip between pages. At most
+     * two pages are held in memory at any time. Nothing blocks; pages are
+     * fetched and parsed on the requester's threads.
      *
-     * @return A list containing all the fetched entities.
+     * @return A flowable of the fetched entities.
+     */
+    @Nonnull
+    @CheckReturnValue
+    public Flowable<T> stream() {
+        return Flowable.defer(() -> {
+            final List<T> buffer = new ArrayList<>();
+            return pages(createState(buffer::add), buffer, null).concatMapIterable(Page::entities, 1);
+        });
+    }
+    
+    /**
+     * Fetches up to {@link #limit(int) limit} entities.
+     * <br>This is the same as {@link #stream()}, but as an observable,
+     * which doesn't apply backpressure; all pages will be fetched as fast as
+     * possible.
+     *
+     * @return An observable of the fetched entities.
      */
     @Nonnull
     @CheckReturnValue
     public Observable<T> fetch() {
-        final List<T> list = new ArrayList<>();
-        return forEach(list::add)
-                .map(__ -> Collections.unmodifiableList(list))
-                .flatMapIterable(e -> e);
+        return stream().toObservable();
     }
     
     /**
@@ -160,27 +179,89 @@ public abstract class BasePaginator<T, J, P extends BasePaginator<T, J, P>> {
      */
     @Nonnull
     public Observable<Void> fetchWhile(@Nonnull final PaginationCallback<T> callback) {
-        return fetch(callback);
+        return stream()
+                .takeWhile(callback::accept)
+                .ignoreElements()
+                .andThen(Observable.just(VoidHelper.VOID));
+    }
+    
+    /**
+     * Creates the state for a new pagination. Paginators that need extra
+     * parameters in {@link #fetchNext(RequestState, String, int)} should
+     * override this to add them with {@link RequestState#extra(String, Object)}.
+     *
+     * @param callback Callback for parsed entities.
+     *
+     * @return The state for a new pagination.
+     */
+    @Nonnull
+    @CheckReturnValue
+    protected RequestState<T> createState(@Nonnull final PaginationCallback<T> callback) {
+        return new RequestState<>(limit, requestSize, callback);
     }
     
+    /**
+     * @deprecated Pages are fetched by {@link #stream()}, which doesn't call
+     * this. Use {@link #fetchWhile(PaginationCallback)} instead, and override
+     * {@link #createState(PaginationCallback)} to add request extras.
+     */
+    @Deprecated
     @Nonnull
     @CheckReturnValue
     protected Observable<Void> fetch(@Nonnull final PaginationCallback<T> action) {
-        return fetch(null, new RequestState<>(limit, requestSize, action));
+        return fetch(null, createState(action));
     }
     
+    /**
+     * @deprecated Pages are fetched by {@link #stream()}, which doesn't call
+     * this. Use {@link #fetchWhile(PaginationCallback)} instead.
+     */
+    @Deprecated
     @Nonnull
     @CheckReturnValue
     protected Observable<Void> fetch(@Nullable final String id, @Nonnull final RequestState<T> state) {
+        // The state's callback gets the entities, so nothing is buffered
+        return pages(state, new ArrayList<>(), id)
+                .ignoreElements()
+                .andThen(Observable.just(VoidHelper.VOID));
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    private Flowable<Page<T>> pages(@Nonnull final RequestState<T> state, @Nonnull final List<T> buffer,
+                                    @Nullable final String firstId) {
+        final AtomicReference<Page<T>> previous = new AtomicReference<>();
+        // Every page needs the last id of the page before it, so pages are
+        // deferred until they're subscribed to. concatMapSingle only
+        // subscribes to (ie. fetches) the next page once the previous one
+        // has been handed downstream, which, with a prefetch of 1, is what
+        // gives us one page of lookahead.
+        final Single<Page<T>> nextPage = Single.defer(() -> {
+            final Page<T> page = previous.get();
+            if(page != null && page.nextId() == null) {
+                return Single.just(page);
+            }
+            return fetchPage(state, buffer, page == null ? firstId : page.nextId()).doOnSuccess(previous::set);
+        });
+        return Flowable.<Single<Page<T>>>generate(emitter -> emitter.onNext(nextPage))
+                .concatMapSingle(page -> page, 1)
+                .takeUntil(page -> page.nextId() == null);
+    }
+    
+    @Nonnull
+    @CheckReturnValue
+    private Single<Page<T>> fetchPage(@Nonnull final RequestState<T> state, @Nonnull final List<T> buffer,
+                                      @Nullable final String id) {
         final int fetchCount = state.entitiesToFetch();
-        return fetchNext(state, id, fetchCount).compose(data -> {
-            final int remaining = state.remaining();
-            update(state, data.blockingFirst());
+        return fetchNext(state, id, fetchCount).firstOrError().map(data -> {
+            final int fetchedBefore = state.fetched();
+            update(state, data);
+            final List<T> entities = new ArrayList<>(buffer);
+            buffer.clear();
             final T last = state.last();
-            if(state.done() || remaining - fetchCount != state.remaining() || last == null) {
-                return RxHelpers.futureToObservable(CompletableFuture.completedFuture(VoidHelper.VOID));
-            }
-            return fetch(idOf.apply(last), state);
+            // A short page means that there's nothing left to fetch
+            final boolean more = !state.done() && state.fetched() - fetchedBefore == fetchCount && last != null;
+            return new Page<>(entities, more ? idOf.apply(last) : null);
         });
     }
     
@@ -222,7 +303,12 @@ public abstract class BasePaginator<T, J, P extends BasePaginator<T, J, P>> {
         
         @CheckReturnValue
         public int entitiesToFetch() {
-            return Math.min(requestSize, remaining());
+            return limit > 0 ? Math.min(requestSize, remaining()) : requestSize;
+        }
+        
+        @CheckReturnValue
+        public int fetched() {
+            return fetched;
         }
         
         @CheckReturnValue
@@ -249,4 +335,11 @@ public abstract class BasePaginator<T, J, P extends BasePaginator<T, J, P>> {
             return (U) extras.get(key);
         }
     }
+    
+    @Value
+    @Accessors(fluent = true)
+    private static class Page<T> {
+        List<T> entities;
+        String nextId;
+    }
 }
@@ -37,6 +37,7 @@ import javax.annotation.Nonnull;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A collection of utility methods to help make using Rx not quite so potato
@@ -64,6 +65,28 @@ public final class RxHelpers {
                 }));
     }
     
+    /**
+     * Cancels the future once everyone who subscribed to the observable has
+     * disposed of it before the future completed. Futures that are never
+     * subscribed to are never cancelled.
+     *
+     * @param observable The observable that emits the future's result.
+     * @param future     The future to cancel.
+     * @param <T>        The type of the observable.
+     *
+     * @return An observable that cancels the future when disposed.
+     */
+    public static <T> Observable<T> cancelOnDispose(final Observable<T> observable, final CompletableFuture<?> future) {
+        final AtomicInteger subscribers = new AtomicInteger();
+        return observable
+                .doOnSubscribe(__ -> subscribers.incrementAndGet())
+                .doOnDispose(() -> {
+                    if(subscribers.decrementAndGet() == 0 && !future.isDone()) {
+                        future.cancel(false);
+                    }
+                });
+    }
+    
     public static Completable completedCompletable(@Nonnull final Catnip catnip) {
         return Completable.fromFuture(CompletableFuture.completedFuture(null))
                 .subscribeOn(catnip.rxScheduler())
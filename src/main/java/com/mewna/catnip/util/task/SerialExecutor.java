@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.task;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks one at a time, in the order they were submitted, on another
+ * executor. Many serial executors can share one pool, so that ex. every
+ * shard's frames are handled in order, while different shards' frames are
+ * handled in parallel.
+ * <p>
+ * A serial executor only holds on to a pool thread for {@value #BATCH_SIZE}
+ * tasks at a time before handing it back, so that one busy queue can't starve
+ * the others. Tasks that throw are reported to the thread's uncaught
+ * exception handler, and once the executor rejects tasks, ie. because it's
+ * shutting down, the queue is drained on the calling thread instead.
+ */
+public final class SerialExecutor implements Executor {
+    private static final int BATCH_SIZE = 64;
+    
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    
+    public SerialExecutor(@Nonnull final Executor executor) {
+        this.executor = executor;
+    }
+    
+    @Override
+    public void execute(@Nonnull final Runnable task) {
+        tasks.add(task);
+        if(pending.getAndIncrement() == 0 && !schedule()) {
+            drain();
+        }
+    }
+    
+    /**
+     * @return How many tasks are queued or running.
+     */
+    @Nonnegative
+    public int pending() {
+        return pending.get();
+    }
+    
+    /**
+     * @return Whether the queue will be drained on the executor. If the
+     * executor rejected it, ie. because it's shutting down, the caller has to
+     * drain it itself, otherwise the queued tasks would never run.
+     */
+    private boolean schedule() {
+        try {
+            executor.execute(this::drain);
+            return true;
+        } catch(final RejectedExecutionException e) {
+            return false;
+        }
+    }
+    
+    private void drain() {
+        int remaining = 1;
+        while(remaining > 0) {
+            for(int i = 0; i < BATCH_SIZE && remaining > 0; i++) {
+                final Runnable task = tasks.poll();
+                try {
+                    task.run();
+                } catch(final Throwable t) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                } finally {
+                    remaining = pending.decrementAndGet();
+                }
+            }
+            // Let other queues have a turn
+            if(remaining > 0 && schedule()) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.cache;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.cache.view.DefaultNamedCacheView;
+import com.mewna.catnip.cache.view.MutableNamedCacheView;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.Guild.*;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.impl.guild.GuildImpl;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.shard.manager.ShardManager;
+import com.mewna.catnip.shard.session.DefaultSessionManager;
+import com.mewna.catnip.shard.session.SessionManager;
+import com.mewna.catnip.util.logging.DefaultLogAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("WeakerAccess")
+public class MemoryEntityCacheSnapshotTest {
+    private static final long GUILD_ID = 267500017260953601L;
+    private static final long USER_ID = 128316294742147072L;
+    
+    @TempDir
+    Path directory;
+    
+    private static Catnip catnip(final int shardCount, final SessionManager sessionManager) {
+        final Catnip catnip = Mockito.mock(Catnip.class);
+        final ShardManager shardManager = Mockito.mock(ShardManager.class);
+        Mockito.when(shardManager.shardCount()).thenReturn(shardCount);
+        Mockito.when(catnip.shardManager()).thenReturn(shardManager);
+        Mockito.when(catnip.sessionManager()).thenReturn(sessionManager);
+        Mockito.when(catnip.logAdapter()).thenReturn(new DefaultLogAdapter());
+        Mockito.when(catnip.options()).thenReturn(new CatnipOptions("token"));
+        return catnip;
+    }
+    
+    private static MemoryEntityCache populatedCache(final Catnip catnip) {
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache().catnip(catnip);
+        cache.guildCache(0).put(GUILD_ID, GuildImpl.builder()
+                .idAsLong(GUILD_ID)
+                .name("catnip")
+                .ownerIdAsLong(USER_ID)
+                .verificationLevel(VerificationLevel.NONE)
+                .defaultMessageNotifications(NotificationLevel.ALL_MESSAGES)
+                .explicitContentFilter(ContentFilterLevel.DISABLED)
+                .features(List.of())
+                .mfaLevel(MFALevel.NONE)
+                .premiumTier(PremiumTier.NONE)
+                .build());
+        cache.bulkCacheMembers(0, List.of(MemberImpl.builder()
+                .idAsLong(USER_ID)
+                .guildIdAsLong(GUILD_ID)
+                .nick("catnip")
+                .roleIds(Set.of())
+                .joinedAt("2018-09-01T12:34:56.789000+00:00")
+                .build()));
+        final User user = UserImpl.builder()
+                .idAsLong(USER_ID)
+                .username("amy")
+                .discriminator("0001")
+                .build();
+        cache.bulkCacheUsers(0, List.of(user));
+        cache.bulkCachePresences(0, Map.of(Long.toUnsignedString(USER_ID), PresenceImpl.builder()
+                .status(OnlineStatus.IDLE)
+                .activities(List.of())
+                .build()));
+        cache.selfUser.set(user);
+        return cache;
+    }
+    
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        final Path path = directory.resolve("cache.snapshot");
+        final SessionManager sessions = new DefaultSessionManager();
+        sessions.session(0, "session");
+        sessions.seqnum(0, 1234);
+        populatedCache(catnip(2, sessions)).writeSnapshot(path);
+        assertTrue(Files.exists(path));
+        assertFalse(Files.exists(directory.resolve("cache.snapshot.tmp")));
+        
+        final SessionManager restoredSessions = new DefaultSessionManager();
+        final Catnip catnip = catnip(2, restoredSessions);
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache().catnip(catnip);
+        assertTrue(cache.loadSnapshot(path));
+        
+        final Guild guild = cache.guild(GUILD_ID);
+        assertNotNull(guild);
+        assertEquals("catnip", guild.name());
+        assertSame(catnip, guild.catnip());
+        final Member member = cache.member(GUILD_ID, USER_ID);
+        assertNotNull(member);
+        assertEquals("catnip", member.nick());
+        assertNotNull(cache.user(USER_ID));
+        assertEquals(OnlineStatus.IDLE, cache.presence(USER_ID).status());
+        assertNotNull(cache.selfUser());
+        assertEquals("session", restoredSessions.session(0));
+        assertEquals(1234, restoredSessions.seqnum(0));
+        assertNull(restoredSessions.session(1));
+    }
+    
+    @Test
+    public void testFailedResumeDropsSnapshotGuilds() throws IOException {
+        final Path path = directory.resolve("cache.snapshot");
+        final SessionManager sessions = new DefaultSessionManager();
+        sessions.session(1, "session");
+        populatedCache(catnip(2, sessions)).writeSnapshot(path);
+        
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache()
+                .catnip(catnip(2, new DefaultSessionManager()));
+        assertTrue(cache.loadSnapshot(path));
+        cache.invalidateShard(1);
+        assertNull(cache.guild(GUILD_ID));
+        assertNull(cache.member(GUILD_ID, USER_ID));
+    }
+    
+    @Test
+    public void testInvalidationKeepsGuildsWithoutSnapshot() {
+        final MemoryEntityCache cache = populatedCache(catnip(2, new DefaultSessionManager()));
+        cache.invalidateShard(1);
+        assertNotNull(cache.guild(GUILD_ID));
+        assertNull(cache.member(GUILD_ID, USER_ID));
+    }
+    
+    @Test
+    public void testMismatchedShardCountIsSkipped() throws IOException {
+        final Path path = directory.resolve("cache.snapshot");
+        populatedCache(catnip(2, new DefaultSessionManager())).writeSnapshot(path);
+        
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache()
+                .catnip(catnip(4, new DefaultSessionManager()));
+        assertFalse(cache.loadSnapshot(path));
+        assertTrue(cache.guilds().isEmpty());
+    }
+    
+    @Test
+    public void testUnknownShardCountIsSkipped() throws IOException {
+        final Path path = directory.resolve("cache.snapshot");
+        populatedCache(catnip(2, new DefaultSessionManager())).writeSnapshot(path);
+        
+        // Automatic sharding; the shard count isn't known until the shards start
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache()
+                .catnip(catnip(0, new DefaultSessionManager()));
+        assertFalse(cache.loadSnapshot(path));
+        assertTrue(cache.guilds().isEmpty());
+    }
+    
+    @Test
+    public void testChunksAreInsertedOneAtATime() throws IOException {
+        final Path path = directory.resolve("cache.snapshot");
+        final MemoryEntityCache written = populatedCache(catnip(1, new DefaultSessionManager()));
+        for(long id = 1; id <= 64; id++) {
+            written.guildCache(0).put(id, GuildImpl.builder()
+                    .idAsLong(id)
+                    .name("guild " + id)
+                    .ownerIdAsLong(USER_ID)
+                    .verificationLevel(VerificationLevel.NONE)
+                    .defaultMessageNotifications(NotificationLevel.ALL_MESSAGES)
+                    .explicitContentFilter(ContentFilterLevel.DISABLED)
+                    .features(List.of())
+                    .mfaLevel(MFALevel.NONE)
+                    .premiumTier(PremiumTier.NONE)
+                    .build());
+        }
+        written.writeSnapshot(path);
+        
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final MemoryEntityCache cache = (MemoryEntityCache) new SplitMemoryEntityCache() {
+            @Override
+            protected MutableNamedCacheView<Guild> createGuildCacheView() {
+                // A view that isn't safe for concurrent writers
+                return new DefaultNamedCacheView<>(Guild::name) {
+                    private final AtomicBoolean writing = new AtomicBoolean();
+                    
+                    @Override
+                    public Guild put(final long key, @Nonnull final Guild value) {
+                        if(!writing.compareAndSet(false, true)) {
+                            overlapped.set(true);
+                        }
+                        try {
+                            Thread.sleep(1L);
+                            return super.put(key, value);
+                        } catch(final InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        } finally {
+                            writing.set(false);
+                        }
+                    }
+                };
+            }
+        }.catnip(catnip(1, new DefaultSessionManager()));
+        assertTrue(cache.loadSnapshot(path));
+        assertEquals(65L, cache.guilds().size());
+        assertFalse(overlapped.get(), "Chunks were inserted into the same view concurrently");
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+
+package com.mewna.catnip.cache;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.grack.nanojson.JsonWriter;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.PartialMember;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.shard.DiscordEvent.Raw;
+import com.mewna.catnip.shard.GatewayFixtures;
+import com.mewna.catnip.shard.event.EventContext;
+import com.mewna.catnip.shard.manager.ShardManager;
+import com.mewna.catnip.util.logging.DefaultLogAdapter;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("WeakerAccess")
+public class MemoryEntityCacheTest {
+    private static final long GUILD_ID = 267500017260953601L;
+    private static final long USER_ID = 128316294742147072L;
+    
+    private static MemoryEntityCache cache() {
+        final Catnip catnip = Mockito.mock(Catnip.class);
+        Mockito.when(catnip.logAdapter()).thenReturn(new DefaultLogAdapter());
+        Mockito.when(catnip.options()).thenReturn(new CatnipOptions("token"));
+        Mockito.when(catnip.rxScheduler()).thenReturn(Schedulers.trampoline());
+        return (MemoryEntityCache) new SplitMemoryEntityCache().catnip(catnip);
+    }
+    
+    private static void cacheUser(final MemoryEntityCache cache) {
+        cache.bulkCacheUsers(0, List.of(UserImpl.builder()
+                .idAsLong(USER_ID)
+                .username("amy")
+                .discriminator("0001")
+                .avatar("avatar")
+                .build()));
+    }
+    
+    private static JsonObject presenceUpdate(final String username, final String status) {
+        return JsonObject.builder()
+                .value("guild_id", Long.toUnsignedString(GUILD_ID))
+                .object("user")
+                .value("id", Long.toUnsignedString(USER_ID))
+                .value("username", username)
+                .value("discriminator", "0001")
+                .value("avatar", "avatar")
+                .end()
+                .value("status", status)
+                .object("client_status")
+                .value("desktop", status)
+                .end()
+                .value("activities", new JsonArray())
+                .done();
+    }
+    
+    @Test
+    public void testUnchangedPresenceUpdateIsSkipped() {
+        final MemoryEntityCache cache = cache();
+        cacheUser(cache);
+        final User user = cache.user(USER_ID);
+        cache.updateCache(Raw.PRESENCE_UPDATE, 0, presenceUpdate("amy", "online"), EventContext.untimed()).blockingAwait();
+        assertEquals(1, cache.skippedUserUpdates());
+        assertEquals(1, cache.appliedPresenceUpdates());
+        final Presence presence = cache.presence(USER_ID);
+        assertNotNull(presence);
+        
+        cache.updateCache(Raw.PRESENCE_UPDATE, 0, presenceUpdate("amy", "online"), EventContext.untimed()).blockingAwait();
+        assertEquals(2, cache.skippedUserUpdates());
+        assertEquals(0, cache.appliedUserUpdates());
+        assertEquals(1, cache.skippedPresenceUpdates());
+        assertEquals(1, cache.appliedPresenceUpdates());
+        assertSame(user, cache.user(USER_ID));
+        assertSame(presence, cache.presence(USER_ID));
+    }
+    
+    @Test
+    public void testChangedPresenceUpdateReplacesCachedEntities() {
+        final MemoryEntityCache cache = cache();
+        cacheUser(cache);
+        final User user = cache.user(USER_ID);
+        cache.updateCache(Raw.PRESENCE_UPDATE, 0, presenceUpdate("amy", "online"), EventContext.untimed()).blockingAwait();
+        final Presence presence = cache.presence(USER_ID);
+        
+        cache.updateCache(Raw.PRESENCE_UPDATE, 0, presenceUpdate("mina", "idle"), EventContext.untimed()).blockingAwait();
+        assertEquals(1, cache.appliedUserUpdates());
+        assertEquals(2, cache.appliedPresenceUpdates());
+        assertEquals(0, cache.skippedPresenceUpdates());
+        final User updatedUser = cache.user(USER_ID);
+        assertNotNull(updatedUser);
+        assertEquals("mina", updatedUser.username());
+        assertEquals("0001", updatedUser.discriminator());
+        final Presence updatedPresence = cache.presence(USER_ID);
+        assertNotNull(updatedPresence);
+        assertEquals(OnlineStatus.IDLE, updatedPresence.status());
+        assertEquals(OnlineStatus.IDLE, updatedPresence.desktopStatus());
+        // Entities handed out before the update must not change under the caller
+        assertEquals("amy", user.username());
+        assertEquals(OnlineStatus.ONLINE, presence.status());
+    }
+    
+    @Test
+    public void testMemberUpdateReplacesCachedMember() {
+        final MemoryEntityCache cache = cache();
+        cache.bulkCacheMembers(0, List.of(MemberImpl.builder()
+                .idAsLong(USER_ID)
+                .guildIdAsLong(GUILD_ID)
+                .nick("old")
+                .roleIds(Set.of())
+                .joinedAt("2018-09-01T12:34:56.789000+00:00")
+                .build()));
+        final Member old = cache.member(GUILD_ID, USER_ID);
+        final JsonObject payload = JsonObject.builder()
+                .value("guild_id", Long.toUnsignedString(GUILD_ID))
+                .object("user")
+                .value("id", Long.toUnsignedString(USER_ID))
+                .value("username", "amy")
+                .value("discriminator", "0001")
+                .end()
+                .value("roles", new JsonArray())
+                .value("nick", "new")
+                .done();
+        final JsonObject copy = new JsonObject(payload);
+        final EventContext context = EventContext.untimed();
+        cache.updateCache(Raw.GUILD_MEMBER_UPDATE, 0, payload, context).blockingAwait();
+        
+        final Member updated = cache.member(GUILD_ID, USER_ID);
+        assertNotNull(updated);
+        assertEquals("new", updated.nick());
+        assertEquals(old.joinedAt(), updated.joinedAt());
+        // Members handed out before the update must not change under the caller
+        assertEquals("old", old.nick());
+        final PartialMember delta = context.parsed(PartialMember.class);
+        assertNotNull(delta);
+        assertEquals("new", delta.nick());
+        assertEquals(copy, payload);
+    }
+    
+    @Test
+    public void testMemberUpdateSkipsUnchangedUser() {
+        final MemoryEntityCache cache = cache();
+        cacheUser(cache);
+        cache.bulkCacheMembers(0, List.of(MemberImpl.builder()
+                .idAsLong(USER_ID)
+                .guildIdAsLong(GUILD_ID)
+                .roleIds(Set.of())
+                .joinedAt("2018-09-01T12:34:56.789000+00:00")
+                .build()));
+        final User user = cache.user(USER_ID);
+        final JsonObject payload = JsonObject.builder()
+                .value("guild_id", Long.toUnsignedString(GUILD_ID))
+                .object("user")
+                .value("id", Long.toUnsignedString(USER_ID))
+                .value("username", "amy")
+                .value("discriminator", "0001")
+                .value("avatar", "avatar")
+                .end()
+                .value("roles", new JsonArray())
+                .value("nick", "new")
+                .done();
+        cache.updateCache(Raw.GUILD_MEMBER_UPDATE, 0, payload, EventContext.untimed()).blockingAwait();
+        assertEquals(1, cache.skippedUserUpdates());
+        assertSame(user, cache.user(USER_ID));
+        
+        payload.getObject("user").put("username", "mina");
+        cache.updateCache(Raw.GUILD_MEMBER_UPDATE, 0, payload, EventContext.untimed()).blockingAwait();
+        assertEquals(1, cache.appliedUserUpdates());
+        assertEquals("mina", cache.user(USER_ID).username());
+    }
+    
+    @Test
+    public void testLargeGuildCreateIsFullyCached() throws JsonParserException {
+        final int count = 2500;
+        final MemoryEntityCache cache = cache();
+        final ShardManager shardManager = Mockito.mock(ShardManager.class);
+        Mockito.when(shardManager.shardCount()).thenReturn(1);
+        Mockito.when(cache.catnip().shardManager()).thenReturn(shardManager);
+        Mockito.when(cache.catnip().cacheWorker()).thenReturn(cache);
+        
+        // More members, presences, roles and channels than fit in one batch
+        final JsonObject payload = GatewayFixtures.guildCreate(1, count);
+        final JsonObject role = payload.getArray("roles").getObject(0);
+        final JsonObject channel = payload.getArray("channels").getObject(0);
+        for(int i = 1; i < count; i++) {
+            final JsonObject extraRole = new JsonObject(role);
+            extraRole.put("id", GatewayFixtures.snowflake(1_500_000 + i));
+            payload.getArray("roles").add(extraRole);
+            final JsonObject extraChannel = new JsonObject(channel);
+            extraChannel.put("id", GatewayFixtures.snowflake(1_500_000 + i));
+            payload.getArray("channels").add(extraChannel);
+        }
+        final JsonObject copy = JsonParser.object().from(JsonWriter.string(payload));
+        cache.updateCache(Raw.GUILD_CREATE, 0, payload, EventContext.untimed()).blockingAwait();
+        
+        final long guild = Long.parseUnsignedLong(payload.getString("id"));
+        assertNotNull(cache.guild(guild));
+        assertEquals(count, cache.members(guild).size());
+        assertEquals(count, cache.roles(guild).size());
+        assertEquals(count, cache.channels(guild).size());
+        assertEquals(count, cache.presences().size());
+        // The payload is shared with the rest of the pipeline
+        assertEquals(copy, payload);
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.entity.serialization;
+
+import com.mewna.catnip.entity.channel.TextChannel;
+import com.mewna.catnip.entity.guild.Guild;
+import com.mewna.catnip.entity.guild.Guild.*;
+import com.mewna.catnip.entity.guild.GuildFeature;
+import com.mewna.catnip.entity.guild.Member;
+import com.mewna.catnip.entity.guild.PermissionOverride;
+import com.mewna.catnip.entity.guild.PermissionOverride.OverrideType;
+import com.mewna.catnip.entity.impl.channel.TextChannelImpl;
+import com.mewna.catnip.entity.impl.guild.GuildImpl;
+import com.mewna.catnip.entity.impl.guild.MemberImpl;
+import com.mewna.catnip.entity.impl.guild.PermissionOverrideImpl;
+import com.mewna.catnip.entity.impl.message.EmbedImpl;
+import com.mewna.catnip.entity.impl.message.EmbedImpl.FieldImpl;
+import com.mewna.catnip.entity.impl.message.MessageImpl;
+import com.mewna.catnip.entity.impl.message.ReactionImpl;
+import com.mewna.catnip.entity.impl.misc.UnicodeEmojiImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl;
+import com.mewna.catnip.entity.impl.user.PresenceImpl.ActivityImpl;
+import com.mewna.catnip.entity.impl.user.UserImpl;
+import com.mewna.catnip.entity.message.Embed.EmbedType;
+import com.mewna.catnip.entity.message.Message;
+import com.mewna.catnip.entity.message.MessageType;
+import com.mewna.catnip.entity.user.Presence;
+import com.mewna.catnip.entity.user.Presence.ActivityType;
+import com.mewna.catnip.entity.user.Presence.OnlineStatus;
+import com.mewna.catnip.entity.user.User;
+import com.mewna.catnip.entity.user.UserFlag;
+import com.mewna.catnip.entity.util.Permission;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("WeakerAccess")
+public class BinaryEntitySerializerTest {
+    private final BinaryEntitySerializer serializer = new BinaryEntitySerializer();
+    
+    private static User user() {
+        return UserImpl.builder()
+                .idAsLong(128316294742147072L)
+                .username("amy")
+                .discriminator("0001")
+                .avatar("a_0123456789abcdef")
+                .bot(false)
+                .publicFlags(EnumSet.of(UserFlag.HOUSE_BALANCE, UserFlag.EARLY_SUPPORTER))
+                .build();
+    }
+    
+    private static Member member() {
+        return MemberImpl.builder()
+                .idAsLong(128316294742147072L)
+                .guildIdAsLong(267500017260953601L)
+                .nick("catnip")
+                .roleIds(Set.of("267500017260953602", "267500017260953603"))
+                .joinedAt("2018-09-01T12:34:56.789000+00:00")
+                .deaf(false)
+                .mute(true)
+                .build();
+    }
+    
+    @Test
+    public void testUserRoundTrip() {
+        final User user = user();
+        final User read = serializer.deserialize(serializer.serialize(user), User.class);
+        assertEquals(user.idAsLong(), read.idAsLong());
+        assertEquals(user.username(), read.username());
+        assertEquals(user.discriminator(), read.discriminator());
+        assertEquals(user.avatar(), read.avatar());
+        assertEquals(user.bot(), read.bot());
+        assertEquals(user.publicFlags(), read.publicFlags());
+    }
+    
+    @Test
+    public void testMemberRoundTrip() {
+        final Member member = member();
+        final Member read = serializer.deserialize(serializer.serialize(member), Member.class);
+        assertEquals(member.idAsLong(), read.idAsLong());
+        assertEquals(member.guildIdAsLong(), read.guildIdAsLong());
+        assertEquals(member.nick(), read.nick());
+        assertEquals(member.roleIds(), read.roleIds());
+        assertEquals(member.joinedAt(), read.joinedAt());
+        assertNull(read.premiumSince());
+        assertFalse(read.deaf());
+        assertTrue(read.mute());
+    }
+    
+    @Test
+    public void testGuildRoundTrip() {
+        final Guild guild = GuildImpl.builder()
+                .idAsLong(267500017260953601L)
+                .name("catnip")
+                .icon("0123456789abcdef")
+                .ownerIdAsLong(128316294742147072L)
+                .permissions(EnumSet.of(Permission.ADMINISTRATOR))
+                .region("us-west")
+                .afkTimeout(300)
+                .verificationLevel(VerificationLevel.HIGH)
+                .defaultMessageNotifications(NotificationLevel.ONLY_MENTIONS)
+                .explicitContentFilter(ContentFilterLevel.ALL_MEMBERS)
+                .features(List.of(GuildFeature.BANNER, GuildFeature.COMMUNITY))
+                .mfaLevel(MFALevel.ELEVATED)
+                .joinedAt("2018-09-01T12:34:56.789000+00:00")
+                .large(true)
+                .maxPresences(25000)
+                .premiumTier(PremiumTier.TIER_2)
+                .premiumSubscriptionCount(15)
+                .preferredLocale("en-US")
+                .build();
+        final Guild read = serializer.deserialize(serializer.serialize(guild), Guild.class);
+        assertEquals(guild.idAsLong(), read.idAsLong());
+        assertEquals(guild.name(), read.name());
+        assertEquals(guild.icon(), read.icon());
+        assertNull(read.splash());
+        assertEquals(guild.ownerIdAsLong(), read.ownerIdAsLong());
+        assertEquals(guild.permissions(), read.permissions());
+        assertEquals(guild.afkTimeout(), read.afkTimeout());
+        assertEquals(guild.verificationLevel(), read.verificationLevel());
+        assertEquals(guild.defaultMessageNotifications(), read.defaultMessageNotifications());
+        assertEquals(guild.explicitContentFilter(), read.explicitContentFilter());
+        assertEquals(guild.features(), read.features());
+        assertEquals(guild.mfaLevel(), read.mfaLevel());
+        assertEquals(guild.joinedAt(), read.joinedAt());
+        assertTrue(read.large());
+        assertFalse(read.owned());
+        assertEquals(guild.premiumTier(), read.premiumTier());
+        assertEquals(guild.preferredLocale(), read.preferredLocale());
+    }
+    
+    @Test
+    public void testChannelRoundTrip() {
+        final TextChannel channel = TextChannelImpl.builder()
+                .idAsLong(267500017260953604L)
+                .guildIdAsLong(267500017260953601L)
+                .name("general")
+                .position(3)
+                .overrides(List.of(PermissionOverrideImpl.builder()
+                        .idAsLong(267500017260953602L)
+                        .type(OverrideType.ROLE)
+                        .allowRaw(Permission.from(Permission.SEND_MESSAGES))
+                        .denyRaw(Permission.from(Permission.MENTION_EVERYONE))
+                        .build()))
+                .topic("meow")
+                .nsfw(true)
+                .rateLimitPerUser(5)
+                .build();
+        final TextChannel read = serializer.deserialize(serializer.serialize(channel), TextChannel.class);
+        assertEquals(channel.idAsLong(), read.idAsLong());
+        assertEquals(channel.guildIdAsLong(), read.guildIdAsLong());
+        assertEquals(channel.name(), read.name());
+        assertEquals(channel.position(), read.position());
+        assertEquals(channel.topic(), read.topic());
+        assertTrue(read.nsfw());
+        assertEquals(channel.rateLimitPerUser(), read.rateLimitPerUser());
+        assertEquals(1, read.overrides().size());
+        final PermissionOverride override = read.overrides().get(0);
+        assertEquals(OverrideType.ROLE, override.type());
+        assertEquals(Set.of(Permission.SEND_MESSAGES), override.allow());
+        assertEquals(Set.of(Permission.MENTION_EVERYONE), override.deny());
+    }
+    
+    @Test
+    public void testMessageRoundTrip() {
+        final List<Member> mentionedMembers = new ArrayList<>();
+        mentionedMembers.add(member());
+        mentionedMembers.add(null);
+        final Message message = MessageImpl.builder()
+                .idAsLong(767500017260953601L)
+                .channelIdAsLong(267500017260953604L)
+                .guildIdAsLong(267500017260953601L)
+                .author(user())
+                .content("hello <@128316294742147072>")
+                .timestamp("2020-10-19T01:02:03.456000+00:00")
+                .type(MessageType.DEFAULT)
+                .mentionedUsers(List.of(user()))
+                .mentionedMembers(mentionedMembers)
+                .mentionedRoleIds(List.of("267500017260953602"))
+                .attachments(List.of())
+                .embeds(List.of(EmbedImpl.builder()
+                        .title("title")
+                        .type(EmbedType.RICH)
+                        .color(0xFF00FF)
+                        .fields(List.of(FieldImpl.builder().name("a").value("b").inline(true).build()))
+                        .build()))
+                .reactions(List.of(ReactionImpl.builder()
+                        .count(3)
+                        .self(true)
+                        .emoji(UnicodeEmojiImpl.builder().name("🐱").build())
+                        .build()))
+                .member(member())
+                .pinned(true)
+                .build();
+        final Message read = serializer.deserialize(serializer.serialize(message), Message.class);
+        assertEquals(message.idAsLong(), read.idAsLong());
+        assertEquals(message.content(), read.content());
+        assertEquals(message.timestamp(), read.timestamp());
+        assertNull(read.editedTimestamp());
+        assertEquals(message.author().username(), read.author().username());
+        assertEquals(MessageType.DEFAULT, read.type());
+        assertTrue(read.pinned());
+        assertFalse(read.tts());
+        assertEquals(1, read.mentionedUsers().size());
+        assertEquals(2, read.mentionedMembers().size());
+        assertEquals("catnip", read.mentionedMembers().get(0).nick());
+        assertNull(read.mentionedMembers().get(1));
+        assertEquals(message.mentionedRoleIds(), read.mentionedRoleIds());
+        assertEquals("title", read.embeds().get(0).title());
+        assertEquals(EmbedType.RICH, read.embeds().get(0).type());
+        assertEquals(0xFF00FF, read.embeds().get(0).color());
+        assertTrue(read.embeds().get(0).fields().get(0).inline());
+        assertEquals("🐱", read.reactions().get(0).emoji().name());
+        assertEquals(3, read.reactions().get(0).count());
+        assertEquals(message.member().roleIds(), read.member().roleIds());
+    }
+    
+    @Test
+    public void testPresenceRoundTrip() {
+        final Presence presence = PresenceImpl.builder()
+                .status(OnlineStatus.DND)
+                .desktopStatus(OnlineStatus.DND)
+                .activities(List.of(ActivityImpl.builder()
+                        .name("catnip")
+                        .type(ActivityType.PLAYING)
+                        .build()))
+                .build();
+        final BinaryEntityWriter out = new BinaryEntityWriter();
+        serializer.writePresence(out, presence);
+        final Presence read = serializer.readPresence(new BinaryEntityReader(out.toByteArray()));
+        assertEquals(OnlineStatus.DND, read.status());
+        assertEquals(OnlineStatus.DND, read.desktopStatus());
+        assertNull(read.mobileStatus());
+        assertEquals("catnip", read.activities().get(0).name());
+        assertEquals(ActivityType.PLAYING, read.activities().get(0).type());
+    }
+    
+    @Test
+    public void testStringsAreInterned() {
+        final BinaryEntityWriter out = new BinaryEntityWriter();
+        out.writeString("a very long string that should only be written once");
+        final int first = out.size();
+        out.writeString("a very long string that should only be written once");
+        assertEquals(1, out.size() - first);
+        final BinaryEntityReader in = new BinaryEntityReader(out.toByteArray());
+        assertSame(in.readString(), in.readString());
+    }
+    
+    @Test
+    public void testStringsAreWrittenAsUtf8() {
+        for(final String value : List.of("", "catnip", "caf\u00e9", "\u732b", "cat \uD83D\uDC31",
+                "unpaired \uD83D", "\uDC31 unpaired")) {
+            final BinaryEntityWriter out = new BinaryEntityWriter();
+            out.writeString(value);
+            final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            final byte[] written = out.toByteArray();
+            // Tag, then length, then the bytes
+            assertArrayEquals(expected, Arrays.copyOfRange(written, 2, written.length), value);
+            assertEquals(new String(expected, StandardCharsets.UTF_8), new BinaryEntityReader(written).readString());
+        }
+    }
+    
+    @Test
+    public void testStringTableGrows() {
+        final BinaryEntityWriter out = new BinaryEntityWriter();
+        for(int i = 0; i < 1000; i++) {
+            out.writeString("string " + i);
+        }
+        final int size = out.size();
+        for(int i = 0; i < 1000; i++) {
+            out.writeString("string " + i);
+        }
+        final BinaryEntityReader in = new BinaryEntityReader(out.toByteArray());
+        for(int i = 0; i < 2000; i++) {
+            assertEquals("string " + i % 1000, in.readString());
+        }
+        assertTrue(out.size() - size < 3000, "Strings weren't written as references");
+    }
+    
+    @Test
+    public void testSerializeReusesWritersCleanly() {
+        final byte[] user = serializer.serialize(user());
+        final byte[] member = serializer.serialize(member());
+        assertArrayEquals(user, serializer.serialize(user()));
+        assertEquals("amy", serializer.deserialize(user, User.class).username());
+        assertEquals("catnip", serializer.deserialize(member, Member.class).nick());
+    }
+    
+    @Test
+    public void testTimestampsRoundTrip() {
+        for(final String timestamp : List.of("2018-09-01T12:34:56.789000+00:00", "2018-09-01T12:34:00+00:00",
+                "2018-09-01T00:00:00.000001+05:30", "2018-09-01T12:34:56.123456789-08:00",
+                "0999-12-31T23:59:59.5+00:00")) {
+            final Member member = MemberImpl.builder()
+                    .idAsLong(128316294742147072L)
+                    .roleIds(Set.of())
+                    .joinedAt(timestamp)
+                    .build();
+            final Member read = serializer.deserialize(serializer.serialize(member), Member.class);
+            assertEquals(OffsetDateTime.parse(timestamp), read.joinedAt(), timestamp);
+        }
+    }
+    
+    @Test
+    public void testWrongTypeIsRejected() {
+        final byte[] data = serializer.serialize(user());
+        assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(data, Guild.class));
+    }
+}
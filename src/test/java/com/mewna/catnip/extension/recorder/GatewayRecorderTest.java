@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.extension.recorder;
+
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.mewna.catnip.extension.recorder.GatewayRecording.Frame;
+import com.mewna.catnip.shard.GatewayFixtures;
+import com.mewna.catnip.shard.ShardInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GatewayRecorderTest {
+    @Test
+    public void testRecordingRoundTrips() throws IOException, JsonParserException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GatewayRecorder recorder = new GatewayRecorder(out);
+        final JsonObject ready = GatewayFixtures.dispatch("READY", 1,
+                GatewayFixtures.ready("session", new ShardInfo(1, 2), List.of(1L, 3L)));
+        final JsonObject message = GatewayFixtures.dispatch("MESSAGE_CREATE", 2,
+                GatewayFixtures.messageCreate(1, 100, 1_000_000));
+        assertEquals(ready, recorder.rawGatewayReceiveHook(new ShardInfo(1, 2), ready));
+        recorder.rawGatewayReceiveHook(new ShardInfo(1, 2), message);
+        recorder.close();
+        // Closed recorders ignore payloads
+        recorder.rawGatewayReceiveHook(new ShardInfo(0, 2), message);
+        
+        final List<Frame> frames = GatewayRecording.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(2, frames.size());
+        assertEquals(1, frames.get(0).shardId());
+        assertEquals(2, frames.get(0).shardCount());
+        assertEquals(ready, JsonParser.object().from(frames.get(0).payload()));
+        assertEquals(message, JsonParser.object().from(frames.get(1).payload()));
+        assertTrue(frames.get(0).offset() <= frames.get(1).offset());
+    }
+    
+    @Test
+    public void testRejectsOtherFiles() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] {0x1f, (byte) 0x8b});
+        assertThrows(IOException.class, () -> GatewayRecording.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+}
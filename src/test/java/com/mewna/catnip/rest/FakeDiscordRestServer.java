@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * An in-process HTTP server that answers every request like Discord's REST
+ * API would, as far as ratelimits are concerned:
+ * <ul>
+ *     <li>Routes are grouped into buckets by their method and path, with
+ *     snowflakes replaced, and each bucket is limited separately per major
+ *     param, ie. channel, guild or webhook. Buckets can be configured, or
+ *     shared between routes, with {@link #bucket(String, String, String, int, long)}.</li>
+ *     <li>Every response has {@code X-RateLimit-Limit}, {@code -Remaining},
+ *     {@code -Reset}, {@code -Reset-After} and {@code -Bucket} headers, in
+ *     millisecond precision, and a {@code Date} header.</li>
+ *     <li>Requests over a bucket's limit, or over the global limit, get a
+ *     {@code 429} with {@code retry_after} in milliseconds in the body, and
+ *     {@code X-RateLimit-Global} for the global limit.</li>
+ *     <li>Latency and {@code 5xx} errors can be injected.</li>
+ * </ul>
+ * Successful responses are {@code 204} for {@code DELETE} and {@code 200}
+ * with an empty object otherwise. Point catnip at it with
+ * {@link com.mewna.catnip.CatnipOptions#apiHost(String)} and {@link #uri()}.
+ */
+public final class FakeDiscordRestServer implements AutoCloseable {
+    private static final Pattern SNOWFLAKE = Pattern.compile("/\\d{2,}");
+    private static final Pattern MAJOR_PARAM = Pattern.compile("^/(channels|guilds|webhooks)/(\\d+)");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.US);
+    
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "fake-discord-rest");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, BucketConfig> configs = new ConcurrentHashMap<>();
+    private final Map<String, BucketState> buckets = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder globallyRateLimited = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private volatile int defaultLimit = 5;
+    private volatile long defaultResetAfter = 1000L;
+    private volatile int globalLimit = 50;
+    private volatile long minLatency;
+    private volatile long maxLatency;
+    private volatile double errorRate;
+    private long globalWindowStart;
+    private int globalWindowCount;
+    
+    public FakeDiscordRestServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+    
+    /**
+     * @return The URI to pass to {@link com.mewna.catnip.CatnipOptions#apiHost(String)}.
+     */
+    public String uri() {
+        return "http://" + server.getAddress().getHostString() + ':' + server.getAddress().getPort();
+    }
+    
+    /**
+     * Sets the limit and reset time of buckets that weren't configured with
+     * {@link #bucket(String, String, String, int, long)}. Defaults to 5
+     * requests per second.
+     */
+    public FakeDiscordRestServer defaultBucket(final int limit, final long resetAfterMillis) {
+        defaultLimit = limit;
+        defaultResetAfter = resetAfterMillis;
+        return this;
+    }
+    
+    /**
+     * Configures the bucket of a route. Routes configured with the same hash
+     * share a bucket, like on Discord.
+     *
+     * @param method           The HTTP method, ie. {@code GET}.
+     * @param route            The route, with snowflakes replaced by
+     *                         {@code :id}, ie. {@code /channels/:id/messages}.
+     * @param hash             The bucket hash.
+     * @param limit            How many requests the bucket allows.
+     * @param resetAfterMillis How long the bucket takes to reset.
+     */
+    public FakeDiscordRestServer bucket(final String method, final String route, final String hash, final int limit,
+                                        final long resetAfterMillis) {
+        configs.put(method + ' ' + route, new BucketConfig(hash, limit, resetAfterMillis));
+        return this;
+    }
+    
+    /**
+     * Sets how many requests per second are allowed over all buckets.
+     * Defaults to 50, like on Discord.
+     */
+    public FakeDiscordRestServer globalLimit(final int globalLimit) {
+        this.globalLimit = globalLimit;
+        return this;
+    }
+    
+    /**
+     * Delays every response by a random time in the given range.
+     */
+    public FakeDiscordRestServer latency(final long minMillis, final long maxMillis) {
+        minLatency = minMillis;
+        maxLatency = Math.max(minMillis, maxMillis);
+        return this;
+    }
+    
+    /**
+     * Answers the given fraction of requests, from {@code 0} to {@code 1},
+     * that aren't ratelimited with a {@code 500} or {@code 502}.
+     */
+    public FakeDiscordRestServer errorRate(final double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+    
+    public long requests() {
+        return requests.sum();
+    }
+    
+    /**
+     * @return How many requests got a {@code 429}, including global ones.
+     */
+    public long rateLimited() {
+        return rateLimited.sum();
+    }
+    
+    public long globallyRateLimited() {
+        return globallyRateLimited.sum();
+    }
+    
+    public long serverErrors() {
+        return serverErrors.sum();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(final HttpExchange exchange) throws IOException {
+        try(final InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            requests.increment();
+            if(maxLatency > 0) {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(minLatency, maxLatency + 1));
+            }
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath().replaceFirst("^/api/v\\d+", "");
+            final long now = System.currentTimeMillis();
+            exchange.getResponseHeaders().set("Date", DATE.format(ZonedDateTime.now(ZoneOffset.UTC)));
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            
+            final long globalRetryAfter = takeGlobal(now);
+            if(globalRetryAfter > 0) {
+                rateLimited.increment();
+                globallyRateLimited.increment();
+                exchange.getResponseHeaders().set("X-RateLimit-Global", "true");
+                respond(exchange, 429, "{\"message\": \"You are being rate limited.\", \"retry_after\": "
+                        + globalRetryAfter + ", \"global\": true}");
+                return;
+            }
+            
+            final String route = method + ' ' + SNOWFLAKE.matcher(path).replaceAll("/:id");
+            final BucketConfig config = configs.computeIfAbsent(route,
+                    __ -> new BucketConfig(Integer.toHexString(route.hashCode()), defaultLimit, defaultResetAfter));
+            final var major = MAJOR_PARAM.matcher(path);
+            final String key = config.hash + ':' + (major.find() ? major.group(2) : "");
+            final BucketState state = buckets.computeIfAbsent(key, __ -> new BucketState());
+            final int remaining;
+            final long resetAt;
+            //noinspection SynchronizationOnLocalVariableOrMethodParameter
+            synchronized(state) {
+                if(now >= state.resetAt) {
+                    state.remaining = config.limit;
+                    state.resetAt = now + config.resetAfter;
+                }
+                remaining = --state.remaining;
+                resetAt = state.resetAt;
+            }
+            exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(config.limit));
+            exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(Math.max(0, remaining)));
+            exchange.getResponseHeaders().set("X-RateLimit-Reset", seconds(resetAt));
+            exchange.getResponseHeaders().set("X-RateLimit-Reset-After", seconds(resetAt - now));
+            exchange.getResponseHeaders().set("X-RateLimit-Bucket", config.hash);
+            if(remaining < 0) {
+                rateLimited.increment();
+                respond(exchange, 429, "{\"message\": \"You are being rate limited.\", \"retry_after\": "
+                        + (resetAt - now) + ", \"global\": false}");
+            } else if(errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                serverErrors.increment();
+                respond(exchange, ThreadLocalRandom.current().nextBoolean() ? 500 : 502,
+                        "{\"message\": \"Injected error\", \"code\": 0}");
+            } else if(method.equals("DELETE")) {
+                respond(exchange, 204, null);
+            } else {
+                respond(exchange, 200, "{}");
+            }
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    /**
+     * @return {@code 0} if the request is within the global limit, or how
+     * long to wait otherwise.
+     */
+    private synchronized long takeGlobal(final long now) {
+        if(now - globalWindowStart >= 1000L) {
+            globalWindowStart = now;
+            globalWindowCount = 0;
+        }
+        if(globalWindowCount >= globalLimit) {
+            return Math.max(1, globalWindowStart + 1000L - now);
+        }
+        globalWindowCount++;
+        return 0;
+    }
+    
+    private static String seconds(final long millis) {
+        return String.format(Locale.ROOT, "%d.%03d", millis / 1000, millis % 1000);
+    }
+    
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        if(body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try(final OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    private static final class BucketConfig {
+        private final String hash;
+        private final int limit;
+        private final long resetAfter;
+        
+        private BucketConfig(final String hash, final int limit, final long resetAfter) {
+            this.hash = hash;
+            this.limit = limit;
+            this.resetAfter = resetAfter;
+        }
+    }
+    
+    private static final class BucketState {
+        private int remaining;
+        private long resetAt;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultipartBodyPublisherTest {
+    private static byte[] body(final FileUpload upload) throws Exception {
+        final MultipartBodyPublisher publisher = new MultipartBodyPublisher()
+                .addPart("file0", upload)
+                .addPart("payload_json", "{}");
+        final byte[] body = read(publisher.build());
+        // Boundaries are random, so normalise them for comparison
+        return new String(body, StandardCharsets.ISO_8859_1)
+                .replace(publisher.getBoundary(), "boundary")
+                .getBytes(StandardCharsets.ISO_8859_1);
+    }
+    
+    private static byte[] read(final BodyPublisher publisher) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final CompletableFuture<byte[]> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(final ByteBuffer item) {
+                final byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.writeBytes(bytes);
+            }
+            
+            @Override
+            public void onError(final Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+            
+            @Override
+            public void onComplete() {
+                future.complete(out.toByteArray());
+            }
+        });
+        return future.get(5, TimeUnit.SECONDS);
+    }
+    
+    @Test
+    public void testStreamedSourcesMatchByteArrays() throws Exception {
+        // Bigger than a chunk, and not a multiple of it
+        final byte[] data = new byte[FileUpload.CHUNK_SIZE * 3 + 123];
+        new Random(42).nextBytes(data);
+        final Path path = Files.createTempFile("catnip-upload", ".bin");
+        try {
+            Files.write(path, data);
+            final byte[] expected = body(FileUpload.of("file.bin", data));
+            assertArrayEquals(expected, body(FileUpload.of("file.bin", path)));
+            assertArrayEquals(expected, body(FileUpload.of("file.bin", new ByteArrayInputStream(data))));
+            assertArrayEquals(expected, body(FileUpload.of("file.bin", ByteBuffer.wrap(data))));
+            assertArrayEquals(expected, body(FileUpload.of("file.bin", ByteBuffer.allocateDirect(data.length).put(data).flip())));
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @Test
+    public void testChunksAreBounded() throws IOException {
+        final Path path = Files.createTempFile("catnip-upload", ".bin");
+        try {
+            Files.write(path, new byte[FileUpload.CHUNK_SIZE + 1]);
+            final List<byte[]> chunks = new ArrayList<>();
+            FileUpload.of("file.bin", path).chunks().forEachRemaining(chunks::add);
+            assertEquals(2, chunks.size());
+            assertEquals(FileUpload.CHUNK_SIZE, chunks.get(0).length);
+            assertEquals(1, chunks.get(1).length);
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @Test
+    public void testCancellingClosesTheFile() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream stream = new ByteArrayInputStream(new byte[FileUpload.CHUNK_SIZE * 4]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        final BodyPublisher publisher = new MultipartBodyPublisher()
+                .addPart("file0", FileUpload.of("file.bin", stream))
+                .build();
+        final List<ByteBuffer> received = new ArrayList<>();
+        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(final Subscription s) {
+                subscription.set(s);
+            }
+            
+            @Override
+            public void onNext(final ByteBuffer item) {
+                received.add(item);
+            }
+            
+            @Override
+            public void onError(final Throwable throwable) {
+            }
+            
+            @Override
+            public void onComplete() {
+            }
+        });
+        // The part's header, then the first chunk of the file
+        subscription.get().request(2);
+        assertEquals(2, received.size());
+        assertFalse(closed.get());
+        subscription.get().cancel();
+        assertTrue(closed.get());
+    }
+    
+    @Test
+    public void testStreamsCanOnlyBeReadOnce() {
+        final FileUpload upload = FileUpload.of("file.bin", new ByteArrayInputStream(new byte[1]));
+        assertEquals(1, upload.bytes().length);
+        assertThrows(IllegalStateException.class, upload::chunks);
+    }
+}
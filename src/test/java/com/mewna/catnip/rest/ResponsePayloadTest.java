@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.rest;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponsePayloadTest {
+    private static ResponsePayload payload(final String body) {
+        return ResponsePayload.fromBytes(body.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void testEmptyBody() {
+        final ResponsePayload payload = payload("");
+        assertTrue(payload.isEmpty());
+        assertFalse(payload.isObject());
+        assertEquals("", payload.string());
+    }
+    
+    @Test
+    public void testNullBody() {
+        final ResponsePayload payload = ResponsePayload.fromBytes(null);
+        assertTrue(payload.isEmpty());
+        assertFalse(payload.isObject());
+        assertNull(payload.string());
+    }
+    
+    @Test
+    public void testObjectBody() {
+        final ResponsePayload payload = payload("{\"id\":\"1\",\"name\":\"meow\"}");
+        assertFalse(payload.isEmpty());
+        assertTrue(payload.isObject());
+        final JsonObject object = payload.object();
+        assertEquals("1", object.getString("id"));
+        assertEquals("meow", object.getString("name"));
+    }
+    
+    @Test
+    public void testArrayBody() {
+        final ResponsePayload payload = payload("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+        assertFalse(payload.isEmpty());
+        assertFalse(payload.isObject());
+        final JsonArray array = payload.array();
+        assertEquals(2, array.size());
+        assertEquals("2", array.getObject(1).getString("id"));
+    }
+    
+    @Test
+    public void testMultibyteContentIsDecodedLazily() {
+        final String content = "café 猫 🐱";
+        final ResponsePayload payload = payload("{\"content\":\"" + content + "\"}");
+        // Parsed straight from the bytes, before and after decoding
+        assertEquals(content, payload.object().getString("content"));
+        final String string = payload.string();
+        assertEquals("{\"content\":\"" + content + "\"}", string);
+        assertSame(string, payload.string());
+        assertEquals(content, payload.object().getString("content"));
+    }
+    
+    @Test
+    public void testStringBodiesMatchByteBodies() {
+        final ResponsePayload payload = new ResponsePayload("{\"id\":\"1\"}");
+        assertFalse(payload.isEmpty());
+        assertTrue(payload.isObject());
+        assertEquals("1", payload.object().getString("id"));
+        assertTrue(new ResponsePayload(null).isEmpty());
+        assertTrue(new ResponsePayload("").isEmpty());
+    }
+}
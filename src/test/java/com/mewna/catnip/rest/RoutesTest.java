@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest;
+
+import com.mewna.catnip.rest.Routes.Route;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RoutesTest {
+    private static final Pattern PARAM = Pattern.compile(":([a-z]+)");
+    
+    @Test
+    public void testCompileFillsEveryParam() throws IllegalAccessException {
+        for(final Field field : Routes.class.getFields()) {
+            if(!Modifier.isStatic(field.getModifiers()) || field.getType() != Route.class) {
+                continue;
+            }
+            final Route route = (Route) field.get(null);
+            Route expected = route.majorParam() == null ? route : route.withMajorParam("1");
+            final Map<String, String> params = new HashMap<>();
+            final Matcher matcher = PARAM.matcher(expected.baseRoute());
+            int value = 2;
+            while(matcher.find()) {
+                params.put(matcher.group(1), String.valueOf(value));
+                expected = expected.compile(matcher.group(1), String.valueOf(value));
+                value++;
+            }
+            final Route base = route.majorParam() == null ? route : route.withMajorParam("1");
+            final Route compiled = base.compile(params);
+            assertEquals(expected.baseRoute(), compiled.baseRoute(), field.getName());
+            assertEquals(expected.ratelimitKey(), compiled.ratelimitKey(), field.getName());
+            assertSame(route, compiled.origin(), field.getName());
+        }
+    }
+    
+    @Test
+    public void testCompileLeavesUnknownParams() {
+        final Route route = Routes.GET_GUILD_MEMBER.withMajorParam("1");
+        assertEquals("/guilds/1/members/:user", route.compile(Map.of("role", "2")).baseRoute());
+        assertSame(route, route.compile(Map.of()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.handler;
+
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.ResponseException;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.bulk.BulkProgress;
+import com.mewna.catnip.rest.requester.RequestPriority;
+import com.mewna.catnip.rest.requester.Requester;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import com.mewna.catnip.util.Utils;
+import io.reactivex.rxjava3.core.Observable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RestBulkTest {
+    private static String snowflake(final Duration age, final int increment) {
+        return String.valueOf(System.currentTimeMillis() - age.toMillis() - Utils.DISCORD_EPOCH << 22 | increment);
+    }
+    
+    @Test
+    public void testMessageDeletesAreBatched() {
+        final List<String> ids = new ArrayList<>();
+        for(int i = 0; i < 201; i++) {
+            ids.add(snowflake(Duration.ofDays(1), i));
+        }
+        ids.add(snowflake(Duration.ofDays(20), 0));
+        ids.add(snowflake(Duration.ofDays(20), 1));
+        // Duplicates are only deleted once
+        ids.add(ids.get(0));
+        
+        final List<OutboundRequest> sent = new ArrayList<>();
+        final Requester requester = Mockito.mock(Requester.class);
+        Mockito.when(requester.queue(Mockito.any())).thenAnswer(invocation -> {
+            final OutboundRequest request = invocation.getArgument(0);
+            sent.add(request);
+            if(request.route().equals(Routes.DELETE_MESSAGE.withMajorParam("1")) && sent.size() == 5) {
+                return Observable.error(new ResponseException("/", 404, "Not Found",
+                        10008, "Unknown Message", null));
+            }
+            return Observable.just(new ResponsePayload("{}"));
+        });
+        final CatnipImpl catnip = Mockito.mock(CatnipImpl.class);
+        Mockito.when(catnip.requester()).thenReturn(requester);
+        
+        final List<BulkProgress> progress = new RestBulk(catnip).deleteMessages("1", ids).toList().blockingGet();
+        assertEquals(5, sent.size());
+        for(int i = 0; i < 2; i++) {
+            assertEquals(Routes.BULK_DELETE_MESSAGES.withMajorParam("1"), sent.get(i).route());
+            assertEquals(100, sent.get(i).object().getArray("messages").size());
+        }
+        // The leftover young message can't be bulk deleted on its own
+        for(int i = 2; i < 5; i++) {
+            assertEquals(Routes.DELETE_MESSAGE.withMajorParam("1"), sent.get(i).route());
+        }
+        assertTrue(sent.stream().allMatch(r -> r.priority() == RequestPriority.BACKGROUND));
+        
+        assertEquals(5, progress.size());
+        final BulkProgress last = progress.get(4);
+        assertEquals(203, last.total());
+        assertEquals(202, last.succeeded());
+        assertEquals(1, last.failed());
+        assertTrue(last.done());
+        assertTrue(last.lastError() instanceof ResponseException);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.grack.nanojson.JsonObject;
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.extension.Extension;
+import com.mewna.catnip.extension.hook.CatnipHook;
+import com.mewna.catnip.extension.manager.ExtensionManager;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import com.mewna.catnip.util.logging.LogAdapter;
+import com.mewna.catnip.util.rx.RxHelpers;
+import io.reactivex.rxjava3.observers.TestObserver;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("WeakerAccess")
+public class AbstractRequesterTest {
+    private static RecordingRequester requester(final CatnipOptions options) {
+        final Catnip catnip = Mockito.mock(Catnip.class);
+        Mockito.when(catnip.options()).thenReturn(options);
+        Mockito.when(catnip.rxScheduler()).thenReturn(RxHelpers.FORK_JOIN_SCHEDULER);
+        Mockito.when(catnip.logAdapter()).thenReturn(Mockito.mock(LogAdapter.class));
+        Mockito.when(catnip.extensionManager()).thenReturn(Mockito.mock(ExtensionManager.class));
+        final RecordingRequester requester = new RecordingRequester();
+        requester.catnip = catnip;
+        return requester;
+    }
+    
+    private static OutboundRequest getMessage(final String messageId) {
+        return new OutboundRequest(Routes.GET_CHANNEL_MESSAGE.withMajorParam("1"), Map.of("message", messageId));
+    }
+    
+    private static OutboundRequest upload(final JsonObject object) {
+        return new OutboundRequest(Routes.CREATE_MESSAGE.withMajorParam("1"), Map.of(), object)
+                .buffers(List.of(ImmutablePair.of("file.txt", "meow".getBytes(StandardCharsets.UTF_8))));
+    }
+    
+    private static String read(final BodyPublisher publisher) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(final ByteBuffer item) {
+                final byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.writeBytes(bytes);
+            }
+            
+            @Override
+            public void onError(final Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+            
+            @Override
+            public void onComplete() {
+                future.complete(out.toString(StandardCharsets.UTF_8));
+            }
+        });
+        return future.get(5, TimeUnit.SECONDS);
+    }
+    
+    @Test
+    public void testUploadsSendTheirObjectAsPayloadJson() throws Exception {
+        final RecordingRequester requester = requester(new CatnipOptions("token"));
+        requester.queue(upload(JsonObject.builder().value("content", "hi").done())).test();
+        requester.executeRequest(requester.queued.get(0));
+        assertEquals(1, requester.sent.size());
+        final String body = read(requester.sent.get(0));
+        assertTrue(body.contains("{\"content\":\"hi\"}"), body);
+        assertTrue(body.contains("meow"), body);
+    }
+    
+    @Test
+    public void testFailingToBuildAnUploadFailsTheRequest() {
+        final RecordingRequester requester = requester(new CatnipOptions("token"));
+        final CatnipHook hook = new CatnipHook() {
+            @Override
+            public JsonObject rawRestSendObjectHook(@Nonnull final Route route, @Nullable final JsonObject json) {
+                throw new IllegalStateException("meow");
+            }
+        };
+        final Extension extension = Mockito.mock(Extension.class);
+        Mockito.when(extension.hooks()).thenReturn(Set.of(hook));
+        final ExtensionManager manager = Mockito.mock(ExtensionManager.class);
+        Mockito.when(manager.hasExtensions()).thenReturn(true);
+        Mockito.when(manager.extensions()).thenReturn(Set.of(extension));
+        Mockito.when(requester.catnip.extensionManager()).thenReturn(manager);
+        
+        final TestObserver<ResponsePayload> observer = requester.queue(upload(new JsonObject())).test();
+        requester.executeRequest(requester.queued.get(0));
+        observer.awaitDone(5, TimeUnit.SECONDS).assertError(IllegalStateException.class);
+        assertTrue(requester.sent.isEmpty());
+        assertEquals(1, requester.done.get());
+    }
+    
+    @Test
+    public void testIdenticalGetsAreCoalesced() {
+        final RecordingRequester requester = requester(new CatnipOptions("token").coalesceRestRequests(true));
+        final TestObserver<ResponsePayload> first = requester.queue(getMessage("2")).test();
+        final TestObserver<ResponsePayload> second = requester.queue(getMessage("2")).test();
+        final TestObserver<ResponsePayload> other = requester.queue(getMessage("3")).test();
+        assertEquals(2, requester.queued.size());
+        assertEquals(1, requester.coalescedRequests());
+        assertEquals(1, requester.coalescedRequests(Routes.GET_CHANNEL_MESSAGE));
+        
+        final ResponsePayload payload = new ResponsePayload("{}");
+        requester.queued.get(0).future().complete(payload);
+        first.awaitDone(5, TimeUnit.SECONDS).assertValue(payload);
+        second.awaitDone(5, TimeUnit.SECONDS).assertValue(payload);
+        other.assertNotComplete();
+        
+        // Once the request is done, the next one goes out again
+        requester.queue(getMessage("2")).test();
+        assertEquals(3, requester.queued.size());
+    }
+    
+    @Test
+    public void testCoalescedRequestsAreCancelledOnceAllSubscribersAreGone() {
+        final RecordingRequester requester = requester(new CatnipOptions("token").coalesceRestRequests(true));
+        final TestObserver<ResponsePayload> first = requester.queue(getMessage("2")).test();
+        final TestObserver<ResponsePayload> second = requester.queue(getMessage("2")).test();
+        assertEquals(1, requester.queued.size());
+        
+        first.dispose();
+        assertFalse(requester.queued.get(0).future().isDone());
+        second.dispose();
+        assertTrue(requester.queued.get(0).future().isCancelled());
+        
+        // A cancelled request isn't shared anymore
+        requester.queue(getMessage("2")).test();
+        assertEquals(2, requester.queued.size());
+    }
+    
+    @Test
+    public void testUncoalescedRoutesAreSentSeparately() {
+        final RecordingRequester requester = requester(new CatnipOptions("token")
+                .coalesceRestRequests(true)
+                .uncoalescedRoutes(Set.of(Routes.GET_CHANNEL_MESSAGE)));
+        requester.queue(getMessage("2")).test();
+        requester.queue(getMessage("2")).test();
+        assertEquals(2, requester.queued.size());
+        assertEquals(0, requester.coalescedRequests());
+    }
+    
+    @Test
+    public void testRequestsAreNotCoalescedByDefault() {
+        final RecordingRequester requester = requester(new CatnipOptions("token"));
+        requester.queue(getMessage("2")).test();
+        requester.queue(getMessage("2")).test();
+        assertEquals(2, requester.queued.size());
+        assertEquals(0, requester.coalescedRequests());
+    }
+    
+    @Test
+    public void testRequestsThatAreSentDifferentlyAreNotCoalesced() {
+        final RecordingRequester requester = requester(new CatnipOptions("token").coalesceRestRequests(true));
+        requester.queue(getMessage("2")).test();
+        requester.queue(getMessage("2").reason("audit log")).test();
+        requester.queue(getMessage("2").priority(RequestPriority.INTERACTIVE)).test();
+        requester.queue(getMessage("2").needsToken(false)).test();
+        requester.queue(getMessage("2").timeout(Duration.ofMinutes(1))).test();
+        requester.queue(getMessage("2").timeout(Duration.ofMinutes(1))).test();
+        assertEquals(6, requester.queued.size());
+        assertEquals(0, requester.coalescedRequests());
+    }
+    
+    @Test
+    public void testCachedResponsesAreInvalidatedByTheGateway() {
+        final ResponseCache cache = new ResponseCache();
+        final RecordingRequester requester = requester(new CatnipOptions("token").restResponseCache(cache));
+        final OutboundRequest request = new OutboundRequest(Routes.GET_CHANNEL.withMajorParam("1"), Map.of());
+        requester.queue(request).test();
+        final ResponsePayload payload = new ResponsePayload("{}");
+        requester.queued.get(0).future().complete(payload);
+        
+        requester.queue(request).test().awaitDone(5, TimeUnit.SECONDS).assertValue(payload);
+        assertEquals(1, requester.queued.size());
+        assertEquals(1, cache.hits());
+        
+        cache.handleGatewayEvent("CHANNEL_UPDATE", JsonObject.builder().value("id", "1").done());
+        requester.queue(request).test();
+        assertEquals(2, requester.queued.size());
+        
+        // Invalidated while in flight, so the response must not be cached
+        cache.handleGatewayEvent("CHANNEL_UPDATE", JsonObject.builder().value("id", "1").done());
+        requester.queued.get(1).future().complete(payload);
+        assertNull(cache.get(Routes.GET_CHANNEL.withMajorParam("1")));
+        
+        // Writes to a channel invalidate it as well
+        requester.queue(request).test();
+        requester.queued.get(2).future().complete(payload);
+        assertEquals(1, cache.size());
+        requester.queue(new OutboundRequest(Routes.MODIFY_CHANNEL.withMajorParam("1"), Map.of(), new JsonObject())).test();
+        requester.queued.get(3).future().complete(payload);
+        assertEquals(0, cache.size());
+    }
+    
+    private static final class RecordingRequester extends AbstractRequester {
+        private final List<QueuedRequest> queued = new ArrayList<>();
+        private final List<BodyPublisher> sent = new ArrayList<>();
+        private final AtomicInteger done = new AtomicInteger();
+        
+        private RecordingRequester() {
+            super(new DefaultRateLimiter());
+        }
+        
+        @Nonnull
+        @Override
+        protected Bucket getBucket(@Nonnull final Route route) {
+            return new Bucket() {
+                @Override
+                public void queueRequest(@Nonnull final QueuedRequest request) {
+                    queued.add(request);
+                }
+                
+                @Override
+                public void failedRequest(@Nonnull final QueuedRequest request, @Nonnull final Throwable failureCause) {
+                }
+                
+                @Override
+                public void requestDone() {
+                    done.incrementAndGet();
+                }
+            };
+        }
+        
+        @Override
+        protected void executeHttpRequest(@Nonnull final Route route, @Nullable final BodyPublisher body,
+                                          @Nonnull final QueuedRequest request, @Nonnull final String mediaType) {
+            sent.add(body);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.Routes.Route;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static com.mewna.catnip.rest.requester.RetryPolicy.NO_RETRY;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DefaultRetryPolicyTest {
+    private static final Route GET = Routes.GET_CHANNEL.withMajorParam("1");
+    private static final Route POST = Routes.CREATE_MESSAGE.withMajorParam("1");
+    
+    private static long delay(final RetryPolicy policy, final Route route, final int attempt, final Throwable failure,
+                              final int statusCode) {
+        return policy.retryDelay(route, new OutboundRequest(route, Map.of()), attempt, failure, statusCode);
+    }
+    
+    @Test
+    public void testOnlyIdempotentRequestsAreRetriedAfterSending() {
+        final RetryPolicy policy = new DefaultRetryPolicy().minRetriesPerSecond(1000D);
+        assertNotEquals(NO_RETRY, delay(policy, GET, 1, null, 503));
+        assertNotEquals(NO_RETRY, delay(policy, GET, 1, new CompletionException(new HttpTimeoutException("")), -1));
+        assertEquals(NO_RETRY, delay(policy, GET, 1, null, 404));
+        assertEquals(NO_RETRY, delay(policy, GET, 1, new IllegalStateException(), -1));
+        
+        assertEquals(NO_RETRY, delay(policy, POST, 1, null, 502));
+        assertEquals(NO_RETRY, delay(policy, POST, 1, new IOException("Connection reset"), -1));
+        assertNotEquals(NO_RETRY, delay(policy, POST, 1, new CompletionException(new ConnectException()), -1));
+    }
+    
+    @Test
+    public void testBackoffIsCappedAndJittered() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy().baseDelay(100L).maxDelay(1000L).maxRetries(10)
+                .minRetriesPerSecond(0D).budgetRatio(1D).maxBudget(10_000D);
+        for(int i = 0; i < 1000; i++) {
+            policy.requestQueued(new OutboundRequest(GET, Map.of()));
+        }
+        for(int attempt = 1; attempt <= 10; attempt++) {
+            final long cap = Math.min(1000L, 100L << attempt - 1);
+            for(int i = 0; i < 50; i++) {
+                final long delay = delay(policy, GET, attempt, null, 500);
+                assertTrue(delay >= 0 && delay <= cap, "delay " + delay + " for attempt " + attempt);
+            }
+        }
+        assertEquals(NO_RETRY, delay(policy, GET, 11, null, 500));
+    }
+    
+    @Test
+    public void testRetriesAreLimitedByTheBudget() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy().minRetriesPerSecond(0D).budgetRatio(0.5D);
+        policy.requestQueued(new OutboundRequest(GET, Map.of()));
+        policy.requestQueued(new OutboundRequest(GET, Map.of()));
+        // The initial budget is minRetriesPerSecond at construction, ie. 5
+        int retries = 0;
+        while(delay(policy, GET, 1, null, 500) != NO_RETRY) {
+            retries++;
+        }
+        assertEquals(6, retries);
+        assertEquals(1, policy.budgetExhausted());
+    }
+}
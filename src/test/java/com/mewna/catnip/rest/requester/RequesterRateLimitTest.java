@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.rest.FakeDiscordRestServer;
+import com.mewna.catnip.rest.ratelimit.DefaultRateLimiter;
+import io.reactivex.rxjava3.core.Completable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the requesters against {@link FakeDiscordRestServer}.
+ */
+public class RequesterRateLimitTest {
+    private static void sendAll(final Supplier<Requester> requester) throws Exception {
+        try(final FakeDiscordRestServer server = new FakeDiscordRestServer().defaultBucket(5, 200L)) {
+            final CatnipImpl catnip = new CatnipImpl(new CatnipOptions("token")
+                    .apiHost(server.uri())
+                    .requester(requester.get())
+                    .restRatelimitsWithoutClockSync(true));
+            final List<Completable> deletes = new ArrayList<>();
+            for(int i = 0; i < 30; i++) {
+                deletes.add(catnip.rest().channel().deleteMessage(String.valueOf(100 + i % 2), String.valueOf(200 + i)));
+            }
+            Completable.merge(deletes).blockingAwait();
+            // The first request on each bucket has to find out its limit,
+            // but after that, the requester should keep to it
+            assertTrue(server.rateLimited() <= 2, "Got " + server.rateLimited() + " 429s");
+            assertEquals(30, server.requests() - server.rateLimited());
+        }
+    }
+    
+    @Test
+    public void testSerialRequesterKeepsToRateLimits() throws Exception {
+        sendAll(() -> new SerialRequester(new DefaultRateLimiter()));
+    }
+    
+    @Test
+    public void testBurstRequesterKeepsToRateLimits() throws Exception {
+        sendAll(() -> new BurstRequester(new DefaultRateLimiter()));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.internal.CatnipImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RestStacktraceTest {
+    @Test
+    public void testCapturedStacktracesStartAtTheCaller() {
+        for(final StacktraceCaptureMode mode : new StacktraceCaptureMode[] {StacktraceCaptureMode.FULL, StacktraceCaptureMode.FRAMES}) {
+            final StackTraceElement top = RestStacktrace.capture(mode, 1D).elements()[0];
+            assertEquals(RestStacktraceTest.class.getName(), top.getClassName(), mode.name());
+            assertEquals("testCapturedStacktracesStartAtTheCaller", top.getMethodName(), mode.name());
+        }
+    }
+    
+    @Test
+    public void testUnsampledStacktracesAreEmpty() {
+        assertSame(RestStacktrace.NONE, RestStacktrace.capture(StacktraceCaptureMode.NONE, 1D));
+        assertSame(RestStacktrace.NONE, RestStacktrace.capture(StacktraceCaptureMode.FULL, 0D));
+        assertEquals(0, RestStacktrace.NONE.elements().length);
+    }
+    
+    @Test
+    public void testSampleRatesOutsideZeroToOneAreRejected() {
+        for(final double rate : new double[] {Double.NaN, -0.1, 1.1}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new CatnipImpl(new CatnipOptions("token").restStacktraceSampleRate(rate)), Double.toString(rate));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.rest.requester;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.rest.ResponsePayload;
+import com.mewna.catnip.rest.Routes;
+import com.mewna.catnip.rest.ratelimit.RateLimiter;
+import com.mewna.catnip.rest.requester.Requester.OutboundRequest;
+import com.mewna.catnip.rest.requester.SerialRequester.LaneStats;
+import com.mewna.catnip.util.logging.LogAdapter;
+import com.mewna.catnip.util.rx.RxHelpers;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SerialRequesterTest {
+    private static OutboundRequest request(final RequestPriority priority) {
+        return new OutboundRequest(Routes.DELETE_MESSAGE.withMajorParam("1"), Map.of("message", "2"))
+                .priority(priority);
+    }
+    
+    @Test
+    public void testHigherLanesDrainFirstWithoutStarvingLowerLanes() {
+        final RecordingRequester requester = new RecordingRequester(2);
+        requester.queue(request(RequestPriority.NORMAL)).test();
+        for(int i = 0; i < 2; i++) {
+            requester.queue(request(RequestPriority.BACKGROUND)).test();
+        }
+        for(int i = 0; i < 5; i++) {
+            requester.queue(request(RequestPriority.INTERACTIVE)).test();
+        }
+        assertEquals(2, requester.laneStats(RequestPriority.BACKGROUND).queued());
+        assertEquals(5, requester.laneStats(RequestPriority.INTERACTIVE).queued());
+        
+        while(requester.executed.size() < 8) {
+            requester.executed.get(requester.executed.size() - 1).bucket().requestDone();
+        }
+        final List<RequestPriority> order = requester.executed.stream()
+                .map(r -> r.request().priority())
+                .collect(Collectors.toList());
+        assertEquals(List.of(RequestPriority.NORMAL,
+                RequestPriority.INTERACTIVE, RequestPriority.INTERACTIVE, RequestPriority.BACKGROUND,
+                RequestPriority.INTERACTIVE, RequestPriority.INTERACTIVE, RequestPriority.BACKGROUND,
+                RequestPriority.INTERACTIVE), order);
+        
+        final LaneStats background = requester.laneStats(RequestPriority.BACKGROUND);
+        assertEquals(0, background.queued());
+        assertEquals(2, background.dispatched());
+        assertEquals(2, background.promoted());
+        assertEquals(5, requester.laneStats(RequestPriority.INTERACTIVE).dispatched());
+        assertEquals(0, requester.laneStats(RequestPriority.INTERACTIVE).promoted());
+    }
+    
+    @Test
+    public void testCancelledAndExpiredRequestsAreDropped() {
+        final RecordingRequester requester = new RecordingRequester(SerialRequester.DEFAULT_STARVATION_LIMIT);
+        requester.queue(request(RequestPriority.NORMAL)).test();
+        final TestObserver<ResponsePayload> cancelled = requester.queue(request(RequestPriority.NORMAL)).test();
+        final TestObserver<ResponsePayload> expired = requester
+                .queue(request(RequestPriority.NORMAL).deadline(Instant.now().minusSeconds(1))).test();
+        final LaneStats normal = requester.laneStats(RequestPriority.NORMAL);
+        assertEquals(2, normal.queued());
+        
+        // Disposing removes the request from the bucket right away
+        cancelled.dispose();
+        assertEquals(1, normal.queued());
+        assertEquals(1, normal.dropped());
+        
+        requester.executed.get(0).bucket().requestDone();
+        assertEquals(1, requester.executed.size());
+        assertEquals(0, normal.queued());
+        assertEquals(2, normal.dropped());
+        expired.awaitDone(5, TimeUnit.SECONDS).assertError(TimeoutException.class);
+        
+        final MemoryRestMetrics metrics = (MemoryRestMetrics) requester.catnip.options().restMetrics();
+        final MemoryRestMetrics.BucketMetrics bucket = metrics.bucket(requester.executed.get(0).route());
+        assertEquals(2, bucket.dropped());
+        assertEquals(1, bucket.queueWait().count());
+        // Compiled routes are counted towards the route they came from
+        assertEquals(1, metrics.buckets().size());
+        assertSame(bucket, metrics.bucket(Routes.DELETE_MESSAGE));
+        
+        // The bucket isn't stuck once it has drained
+        requester.queue(request(RequestPriority.NORMAL)).test();
+        assertEquals(2, requester.executed.size());
+    }
+    
+    private static final class RecordingRequester extends SerialRequester {
+        private final List<QueuedRequest> executed = new ArrayList<>();
+        
+        private RecordingRequester(final int starvationLimit) {
+            super(rateLimiter(), starvationLimit);
+            final Catnip catnip = Mockito.mock(Catnip.class);
+            Mockito.when(catnip.options()).thenReturn(new CatnipOptions("token").restMetrics(new MemoryRestMetrics()));
+            Mockito.when(catnip.rxScheduler()).thenReturn(RxHelpers.FORK_JOIN_SCHEDULER);
+            Mockito.when(catnip.logAdapter()).thenReturn(Mockito.mock(LogAdapter.class));
+            this.catnip = catnip;
+        }
+        
+        private static RateLimiter rateLimiter() {
+            final RateLimiter rateLimiter = Mockito.mock(RateLimiter.class);
+            Mockito.when(rateLimiter.requestExecution(ArgumentMatchers.any())).thenReturn(Completable.complete());
+            return rateLimiter;
+        }
+        
+        @Override
+        protected void executeRequest(@Nonnull final QueuedRequest request) {
+            executed.add(request);
+        }
+    }
+}
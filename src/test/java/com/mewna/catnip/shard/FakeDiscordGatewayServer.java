@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.grack.nanojson.JsonWriter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.zip.Deflater;
+
+/**
+ * An in-process stand-in for Discord's gateway, for testing shard lifecycles
+ * without connecting to Discord. It answers {@code GET /gateway/bot} with its
+ * own address, so point catnip at it with
+ * {@link com.mewna.catnip.CatnipOptions#apiHost(String)} and {@link #uri()}.
+ * It speaks enough of the gateway protocol for a shard to get through its
+ * whole lifecycle:
+ * <ul>
+ *     <li>{@code HELLO} on connect, and {@code HEARTBEAT_ACK} for every
+ *     {@code HEARTBEAT}, unless {@link #ackHeartbeats(boolean)} is off.</li>
+ *     <li>{@code READY} and a {@code GUILD_CREATE} per guild for every
+ *     {@code IDENTIFY}, built by {@link GatewayFixtures}. Guild {@code n}
+ *     of {@link #guilds(int, int)} is on shard {@code n % shardCount}.</li>
+ *     <li>{@code RESUMED} for a {@code RESUME} of a known session, or
+ *     {@code INVALID_SESSION} otherwise.</li>
+ *     <li>{@code compress=zlib-stream}, if the shard asks for it.</li>
+ * </ul>
+ * Reconnects, invalid sessions, close codes and dispatches can be injected
+ * into a connected shard.
+ */
+public final class FakeDiscordGatewayServer implements AutoCloseable {
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    
+    private final ServerSocket server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "fake-discord-gateway");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Integer, Connection> connections = new ConcurrentHashMap<>();
+    private final Map<String, Integer> sessions = new ConcurrentHashMap<>();
+    private final List<Long> identifies = new CopyOnWriteArrayList<>();
+    private final List<Integer> clientCloseCodes = new CopyOnWriteArrayList<>();
+    private final LongAdder resumes = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+    private final AtomicInteger nextSession = new AtomicInteger();
+    private volatile int shardCount = 1;
+    private volatile int guilds;
+    private volatile int members;
+    private volatile long heartbeatInterval = 41250L;
+    private volatile boolean ackHeartbeats = true;
+    
+    public FakeDiscordGatewayServer() throws IOException {
+        server = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+    
+    /**
+     * @return The URI to pass to {@link com.mewna.catnip.CatnipOptions#apiHost(String)}.
+     */
+    public String uri() {
+        return "http://" + server.getInetAddress().getHostAddress() + ':' + server.getLocalPort();
+    }
+    
+    /**
+     * Sets the shard count recommended by {@code GET /gateway/bot}. Defaults
+     * to 1.
+     */
+    public FakeDiscordGatewayServer shardCount(final int shardCount) {
+        this.shardCount = shardCount;
+        return this;
+    }
+    
+    /**
+     * Sets how many guilds, over all shards, are sent on {@code IDENTIFY},
+     * and how many members each of them has. Defaults to none.
+     */
+    public FakeDiscordGatewayServer guilds(final int guilds, final int members) {
+        this.guilds = guilds;
+        this.members = members;
+        return this;
+    }
+    
+    /**
+     * Sets the heartbeat interval sent in {@code HELLO}. Defaults to 41.25
+     * seconds, like on Discord.
+     */
+    public FakeDiscordGatewayServer heartbeatInterval(final long heartbeatInterval, @Nonnull final TimeUnit unit) {
+        this.heartbeatInterval = unit.toMillis(heartbeatInterval);
+        return this;
+    }
+    
+    /**
+     * Sets whether heartbeats are acknowledged. Turning this off makes
+     * connections look like zombies to the shards.
+     */
+    public FakeDiscordGatewayServer ackHeartbeats(final boolean ackHeartbeats) {
+        this.ackHeartbeats = ackHeartbeats;
+        return this;
+    }
+    
+    /**
+     * @return When each {@code IDENTIFY} was received, in
+     * {@link System#nanoTime()} time, in order.
+     */
+    public List<Long> identifies() {
+        return List.copyOf(identifies);
+    }
+    
+    public long resumes() {
+        return resumes.sum();
+    }
+    
+    public long heartbeats() {
+        return heartbeats.sum();
+    }
+    
+    /**
+     * @return The close codes that shards closed their connections with, in
+     * order.
+     */
+    public List<Integer> clientCloseCodes() {
+        return List.copyOf(clientCloseCodes);
+    }
+    
+    /**
+     * @return Whether the given shard is connected and has identified or
+     * resumed.
+     */
+    public boolean connected(final int shard) {
+        final Connection connection = connections.get(shard);
+        return connection != null && !connection.closed;
+    }
+    
+    /**
+     * Sends {@code RECONNECT} to the given shard.
+     */
+    public void reconnect(final int shard) throws IOException {
+        connection(shard).send(CatnipShardImpl.basePayload(GatewayOp.RECONNECT));
+    }
+    
+    /**
+     * Sends {@code INVALID_SESSION} to the given shard. Unless it's
+     * resumable, the shard's session is forgotten.
+     */
+    public void invalidateSession(final int shard, final boolean resumable) throws IOException {
+        final Connection connection = connection(shard);
+        if(!resumable) {
+            sessions.remove(connection.session);
+        }
+        connection.send(JsonObject.builder()
+                .value("op", GatewayOp.INVALID_SESSION.opcode())
+                .value("d", resumable)
+                .done());
+    }
+    
+    /**
+     * Closes the given shard's connection with a close code. Like on
+     * Discord, {@link GatewayCloseCode#INVALID_SEQ} and
+     * {@link GatewayCloseCode#SESSION_TIMEOUT} forget its session.
+     */
+    public void close(final int shard, final int code, @Nonnull final String reason) throws IOException {
+        final Connection connection = connection(shard);
+        if(code == GatewayCloseCode.INVALID_SEQ.code() || code == GatewayCloseCode.SESSION_TIMEOUT.code()) {
+            sessions.remove(connection.session);
+        }
+        connection.close(code, reason);
+    }
+    
+    /**
+     * Sends a dispatch to the given shard.
+     */
+    public void dispatch(final int shard, @Nonnull final String type, @Nonnull final JsonObject data)
+            throws IOException {
+        connection(shard).dispatch(type, data);
+    }
+    
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch(final IOException ignored) {
+        }
+        connections.values().forEach(Connection::abort);
+        executor.shutdownNow();
+    }
+    
+    private Connection connection(final int shard) {
+        final Connection connection = connections.get(shard);
+        if(connection == null) {
+            throw new IllegalStateException("Shard " + shard + " isn't connected");
+        }
+        return connection;
+    }
+    
+    private void accept() {
+        while(!server.isClosed()) {
+            try {
+                final Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(() -> handle(socket));
+            } catch(final IOException ignored) {
+                // Closed
+            }
+        }
+    }
+    
+    private void handle(final Socket socket) {
+        try(socket) {
+            final InputStream in = new BufferedInputStream(socket.getInputStream());
+            final OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            final String requestLine = readLine(in);
+            final Map<String, String> headers = new HashMap<>();
+            String line;
+            while(!(line = readLine(in)).isEmpty()) {
+                final int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+            final String path = requestLine.split(" ")[1];
+            if("websocket".equalsIgnoreCase(headers.get("upgrade"))) {
+                out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                        + "Upgrade: websocket\r\n"
+                        + "Connection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: " + accept(headers.get("sec-websocket-key")) + "\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                new Connection(socket, in, out, path.contains("compress=zlib-stream")).run();
+            } else if(path.endsWith("/gateway/bot")) {
+                final String host = server.getInetAddress().getHostAddress() + ':' + server.getLocalPort();
+                respond(out, 200, JsonWriter.string(JsonObject.builder()
+                        .value("url", "ws://" + host)
+                        .value("shards", shardCount)
+                        .object("session_start_limit")
+                            .value("total", 1000)
+                            .value("remaining", 1000)
+                            .value("reset_after", 0)
+                            .value("max_concurrency", 1)
+                        .end()
+                        .done()));
+            } else {
+                respond(out, 404, "{\"message\": \"404: Not Found\", \"code\": 0}");
+            }
+        } catch(final IOException ignored) {
+            // Disconnected
+        }
+    }
+    
+    private static String accept(final String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch(final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static void respond(final OutputStream out, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        out.write(("HTTP/1.1 " + status + " OK\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + bytes.length + "\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.flush();
+    }
+    
+    private static String readLine(final InputStream in) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int c;
+        while((c = in.read()) != '\n') {
+            if(c == -1) {
+                throw new EOFException();
+            }
+            if(c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+    
+    /**
+     * A single shard's websocket connection.
+     */
+    private final class Connection {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final OutputStream out;
+        @Nullable
+        private final Deflater deflater;
+        private final byte[] deflateBuffer;
+        private int shard = -1;
+        private String session;
+        private int seq;
+        private volatile boolean closed;
+        
+        private Connection(final Socket socket, final InputStream in, final OutputStream out, final boolean compress) {
+            this.socket = socket;
+            this.in = new DataInputStream(in);
+            this.out = out;
+            deflater = compress ? new Deflater() : null;
+            deflateBuffer = compress ? new byte[64 * 1024] : null;
+        }
+        
+        void run() throws IOException {
+            try {
+                send(JsonObject.builder()
+                        .value("op", GatewayOp.HELLO.opcode())
+                        .object("d")
+                            .value("heartbeat_interval", heartbeatInterval)
+                            .array("_trace")
+                                .value("fake-discord-gateway")
+                            .end()
+                        .end()
+                        .done());
+                final ByteArrayOutputStream message = new ByteArrayOutputStream();
+                while(true) {
+                    final int b0 = in.readUnsignedByte();
+                    final int b1 = in.readUnsignedByte();
+                    final int opcode = b0 & 0x0F;
+                    long length = b1 & 0x7F;
+                    if(length == 126) {
+                        length = in.readUnsignedShort();
+                    } else if(length == 127) {
+                        length = in.readLong();
+                    }
+                    final byte[] mask = new byte[4];
+                    if((b1 & 0x80) != 0) {
+                        in.readFully(mask);
+                    }
+                    final byte[] payload = new byte[(int) length];
+                    in.readFully(payload);
+                    for(int i = 0; i < payload.length; i++) {
+                        payload[i] ^= mask[i % 4];
+                    }
+                    switch(opcode) {
+                        case 0x0:
+                        case 0x1: {
+                            message.write(payload);
+                            if((b0 & 0x80) != 0) {
+                                receive(message.toString(StandardCharsets.UTF_8));
+                                message.reset();
+                            }
+                            break;
+                        }
+                        case 0x8: {
+                            final int code = payload.length >= 2 ? ByteBuffer.wrap(payload).getShort() & 0xFFFF : 1005;
+                            if(!closed) {
+                                clientCloseCodes.add(code);
+                                close(code, "");
+                            }
+                            return;
+                        }
+                        case 0x9: {
+                            writeFrame(0xA, payload);
+                            break;
+                        }
+                        default: {
+                            break;
+                        }
+                    }
+                }
+            } catch(final JsonParserException e) {
+                close(GatewayCloseCode.DECODE_ERROR.code(), "Decode error");
+            } finally {
+                connections.remove(shard, this);
+                synchronized(this) {
+                    closed = true;
+                    if(deflater != null) {
+                        deflater.end();
+                    }
+                }
+            }
+        }
+        
+        private void receive(final String text) throws IOException, JsonParserException {
+            final JsonObject payload = JsonParser.object().from(text);
+            final GatewayOp op = GatewayOp.byId(payload.getInt("op"));
+            switch(op) {
+                case HEARTBEAT: {
+                    heartbeats.increment();
+                    if(ackHeartbeats) {
+                        send(CatnipShardImpl.basePayload(GatewayOp.HEARTBEAT_ACK));
+                    }
+                    break;
+                }
+                case IDENTIFY: {
+                    identifies.add(System.nanoTime());
+                    identify(payload.getObject("d"));
+                    break;
+                }
+                case RESUME: {
+                    resume(payload.getObject("d"));
+                    break;
+                }
+                default: {
+                    break;
+                }
+            }
+        }
+        
+        private void identify(final JsonObject data) throws IOException {
+            final JsonArray shardArray = data.getArray("shard");
+            shard = shardArray.getInt(0);
+            final int count = shardArray.getInt(1);
+            session = "session-" + nextSession.incrementAndGet();
+            sessions.put(session, shard);
+            seq = 0;
+            registerConnection();
+            final List<Long> shardGuilds = LongStream.range(1, guilds + 1)
+                    .filter(g -> g % count == shard)
+                    .boxed()
+                    .collect(Collectors.toList());
+            dispatch("READY", GatewayFixtures.ready(session, new ShardInfo(shard, count), shardGuilds));
+            for(final long guild : shardGuilds) {
+                dispatch("GUILD_CREATE", GatewayFixtures.guildCreate(guild, members));
+            }
+        }
+        
+        private void resume(final JsonObject data) throws IOException {
+            final String resumed = data.getString("session_id");
+            final Integer resumedShard = sessions.get(resumed);
+            if(resumedShard == null) {
+                send(JsonObject.builder()
+                        .value("op", GatewayOp.INVALID_SESSION.opcode())
+                        .value("d", false)
+                        .done());
+                return;
+            }
+            resumes.increment();
+            shard = resumedShard;
+            session = resumed;
+            seq = data.getInt("seq");
+            registerConnection();
+            dispatch("RESUMED", JsonObject.builder()
+                    .array("_trace")
+                        .value("fake-discord-gateway")
+                    .end()
+                    .done());
+        }
+        
+        private void registerConnection() {
+            final Connection old = connections.put(shard, this);
+            if(old != null && old != this) {
+                old.abort();
+            }
+        }
+        
+        synchronized void dispatch(final String type, final JsonObject data) throws IOException {
+            send(GatewayFixtures.dispatch(type, ++seq, data));
+        }
+        
+        synchronized void send(final JsonObject payload) throws IOException {
+            if(closed) {
+                return;
+            }
+            final byte[] bytes = JsonWriter.string(payload).getBytes(StandardCharsets.UTF_8);
+            if(deflater == null) {
+                writeFrame(0x1, bytes);
+            } else {
+                // One zlib stream for the whole connection, flushed after
+                // every payload, so that every message ends in 00 00 ff ff
+                deflater.setInput(bytes);
+                final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                int read;
+                do {
+                    read = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(deflateBuffer, 0, read);
+                } while(read == deflateBuffer.length);
+                writeFrame(0x2, compressed.toByteArray());
+            }
+        }
+        
+        synchronized void close(final int code, final String reason) throws IOException {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            final byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+            writeFrame(0x8, ByteBuffer.allocate(2 + reasonBytes.length)
+                    .putShort((short) code)
+                    .put(reasonBytes)
+                    .array());
+            socket.shutdownOutput();
+        }
+        
+        void abort() {
+            closed = true;
+            try {
+                socket.close();
+            } catch(final IOException ignored) {
+            }
+        }
+        
+        private synchronized void writeFrame(final int opcode, final byte[] payload) throws IOException {
+            out.write(0x80 | opcode);
+            if(payload.length < 126) {
+                out.write(payload.length);
+            } else if(payload.length < 65536) {
+                out.write(126);
+                out.write(payload.length >>> 8);
+                out.write(payload.length);
+            } else {
+                out.write(127);
+                for(int i = 7; i >= 0; i--) {
+                    out.write((int) ((long) payload.length >>> i * 8));
+                }
+            }
+            out.write(payload);
+            out.flush();
+        }
+    }
+}
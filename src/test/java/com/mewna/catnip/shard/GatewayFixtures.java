@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonWriter;
+import com.mewna.catnip.extension.recorder.GatewayRecording;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Builds Discord-shaped gateway payloads, for feeding shards without
+ * connecting to Discord. Ids are snowflakes whose timestamp part is the
+ * given number, so guild {@code n} is on shard {@code n % shardCount}.
+ */
+public final class GatewayFixtures {
+    private GatewayFixtures() {
+    }
+    
+    public static String snowflake(final long id) {
+        return Long.toUnsignedString(id << 22);
+    }
+    
+    @Nonnull
+    public static JsonObject dispatch(@Nonnull final String type, final int seq, @Nonnull final JsonObject data) {
+        return JsonObject.builder()
+                .value("op", GatewayOp.DISPATCH.opcode())
+                .value("t", type)
+                .value("s", seq)
+                .value("d", data)
+                .done();
+    }
+    
+    @Nonnull
+    public static JsonObject user(final long id) {
+        return JsonObject.builder()
+                .value("id", snowflake(id))
+                .value("username", "user " + id)
+                .value("discriminator", String.format("%04d", id % 10000))
+                .nul("avatar")
+                .value("bot", false)
+                .done();
+    }
+    
+    @Nonnull
+    public static JsonObject ready(@Nonnull final String sessionId, @Nonnull final ShardInfo shard,
+                                   @Nonnull final List<Long> guilds) {
+        final JsonArray unavailable = new JsonArray();
+        for(final long guild : guilds) {
+            unavailable.add(JsonObject.builder()
+                    .value("id", snowflake(guild))
+                    .value("unavailable", true)
+                    .done());
+        }
+        return JsonObject.builder()
+                .value("v", 6)
+                .value("user", user(1))
+                .value("session_id", sessionId)
+                .value("guilds", unavailable)
+                .value("private_channels", new JsonArray())
+                .value("shard", JsonArray.from(shard.getId(), shard.getLimit()))
+                .done();
+    }
+    
+    /**
+     * @param guild   The guild's id.
+     * @param members How many members, and presences, the guild has. Member
+     *                ids are {@code guild * 1_000_000 + n}, so they don't
+     *                overlap between guilds.
+     */
+    @Nonnull
+    public static JsonObject guildCreate(final long guild, final int members) {
+        final String id = snowflake(guild);
+        final JsonArray memberArray = new JsonArray();
+        final JsonArray presenceArray = new JsonArray();
+        for(int i = 0; i < members; i++) {
+            final JsonObject user = user(guild * 1_000_000 + i);
+            memberArray.add(JsonObject.builder()
+                    .value("user", user)
+                    .nul("nick")
+                    .value("roles", JsonArray.from(id))
+                    .value("joined_at", "2020-10-19T12:34:56.789000+00:00")
+                    .value("deaf", false)
+                    .value("mute", false)
+                    .done());
+            presenceArray.add(JsonObject.builder()
+                    .value("user", JsonObject.builder().value("id", user.getString("id")).done())
+                    .value("status", "online")
+                    .value("activities", new JsonArray())
+                    .value("client_status", JsonObject.builder().value("desktop", "online").done())
+                    .done());
+        }
+        return JsonObject.builder()
+                .value("id", id)
+                .value("name", "guild " + guild)
+                .nul("icon")
+                .nul("splash")
+                .value("owner_id", snowflake(guild * 1_000_000))
+                .value("region", "us-east")
+                .value("features", new JsonArray())
+                .value("joined_at", "2020-10-19T12:34:56.789000+00:00")
+                .value("large", members > 250)
+                .value("member_count", members)
+                .value("roles", JsonArray.from(JsonObject.builder()
+                        .value("id", id)
+                        .value("name", "@everyone")
+                        .value("color", 0)
+                        .value("hoist", false)
+                        .value("position", 0)
+                        .value("permissions", 104324673)
+                        .value("managed", false)
+                        .value("mentionable", false)
+                        .done()))
+                .value("channels", JsonArray.from(JsonObject.builder()
+                        .value("id", channel(guild))
+                        .value("type", 0)
+                        .value("name", "general")
+                        .value("position", 0)
+                        .value("permission_overwrites", new JsonArray())
+                        .nul("topic")
+                        .value("nsfw", false)
+                        .nul("parent_id")
+                        .done()))
+                .value("members", memberArray)
+                .value("presences", presenceArray)
+                .value("emojis", new JsonArray())
+                .value("voice_states", new JsonArray())
+                .done();
+    }
+    
+    /**
+     * @return The id of the only channel in the given guild.
+     */
+    @Nonnull
+    public static String channel(final long guild) {
+        return snowflake(guild * 1_000_000 + 999_999);
+    }
+    
+    @Nonnull
+    public static JsonObject messageCreate(final long guild, final long message, final long author) {
+        return JsonObject.builder()
+                .value("id", snowflake(message))
+                .value("channel_id", channel(guild))
+                .value("guild_id", snowflake(guild))
+                .value("author", user(author))
+                .value("member", JsonObject.builder()
+                        .value("roles", JsonArray.from(snowflake(guild)))
+                        .value("joined_at", "2020-10-19T12:34:56.789000+00:00")
+                        .value("deaf", false)
+                        .value("mute", false)
+                        .done())
+                .value("content", "message " + message)
+                .value("timestamp", "2020-10-19T12:34:56.789000+00:00")
+                .nul("edited_timestamp")
+                .value("tts", false)
+                .value("mention_everyone", false)
+                .value("mentions", new JsonArray())
+                .value("mention_roles", new JsonArray())
+                .value("attachments", new JsonArray())
+                .value("embeds", new JsonArray())
+                .value("pinned", false)
+                .value("type", 0)
+                .done();
+    }
+    
+    /**
+     * Writes a recording of {@code shards} shards each receiving a READY, a
+     * GUILD_CREATE for each of their guilds, and then {@code messages}
+     * MESSAGE_CREATEs spread over all guilds, received
+     * {@code messageInterval} apart.
+     */
+    public static void record(@Nonnull final Path path, final int shards, final int guilds, final int members,
+                              final int messages, final long messageInterval, @Nonnull final TimeUnit unit)
+            throws IOException {
+        try(final GatewayRecording.Writer writer = new GatewayRecording.Writer(Files.newOutputStream(path))) {
+            final int[] seqs = new int[shards];
+            long offset = 0;
+            for(int shard = 0; shard < shards; shard++) {
+                final ShardInfo info = new ShardInfo(shard, shards);
+                final int id = shard;
+                final List<Long> shardGuilds = LongStream.range(1, guilds + 1)
+                        .filter(g -> g % shards == id)
+                        .boxed()
+                        .collect(Collectors.toList());
+                writer.write(offset, info, JsonWriter.string(dispatch("READY", ++seqs[shard],
+                        ready("session-" + shard, info, shardGuilds))));
+                for(final long guild : shardGuilds) {
+                    writer.write(offset, info, JsonWriter.string(dispatch("GUILD_CREATE", ++seqs[shard],
+                            guildCreate(guild, members))));
+                }
+            }
+            for(int i = 0; i < messages; i++) {
+                final long guild = 1 + i % guilds;
+                final int shard = (int) (guild % shards);
+                offset += unit.toNanos(messageInterval);
+                writer.write(offset, new ShardInfo(shard, shards), JsonWriter.string(dispatch("MESSAGE_CREATE",
+                        ++seqs[shard], messageCreate(guild, 1_000_000_000L + i, guild * 1_000_000 + i % members))));
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.shard;
+
+import com.mewna.catnip.CatnipOptions;
+import com.mewna.catnip.entity.lifecycle.HighEventLatency;
+import com.mewna.catnip.internal.CatnipImpl;
+import com.mewna.catnip.shard.event.EventStage;
+import com.mewna.catnip.shard.event.MemoryEventLatencyMetrics;
+import com.mewna.catnip.shard.event.MemoryEventLatencyMetrics.EventTypeMetrics;
+import com.mewna.catnip.shard.manager.DefaultShardManager;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs shards through their lifecycle against {@link FakeDiscordGatewayServer}.
+ */
+public class GatewayLifecycleTest {
+    private FakeDiscordGatewayServer server;
+    private CatnipImpl catnip;
+    
+    private static void await(final String what, final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while(!condition.getAsBoolean()) {
+            if(System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + what);
+            }
+            Thread.sleep(10);
+        }
+    }
+    
+    private void connect(final int shards, final CatnipOptions options) throws InterruptedException {
+        catnip = new CatnipImpl(options
+                .apiHost(server.uri())
+                .shardManager(new DefaultShardManager(shards).identifyDelay(500L))
+                .chunkMembers(false)
+                .logLifecycleEvents(false));
+        catnip.connect();
+        for(int i = 0; i < shards; i++) {
+            final int shard = i;
+            await("shard " + shard + " to connect", () -> server.connected(shard));
+        }
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        if(catnip != null) {
+            catnip.shutdown();
+        }
+        server.close();
+    }
+    
+    @Test
+    public void testShardsIdentifyThroughConnectQueue() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer().guilds(6, 5);
+        connect(3, new CatnipOptions("token"));
+        await("guilds to be cached", () -> catnip.cache().guilds().size() == 6);
+        assertEquals(30, catnip.cache().members().size());
+        final List<Long> identifies = server.identifies();
+        assertEquals(3, identifies.size());
+        for(int i = 1; i < identifies.size(); i++) {
+            assertTrue(identifies.get(i) - identifies.get(i - 1) >= TimeUnit.MILLISECONDS.toNanos(250),
+                    "IDENTIFYs weren't spaced out");
+        }
+    }
+    
+    @Test
+    public void testGatewayParsePoolIsShutDownWithCatnip() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer().guilds(1, 1);
+        connect(1, new CatnipOptions("token"));
+        final ExecutorService pool = (ExecutorService) catnip.gatewayParseExecutor();
+        catnip.shutdown();
+        catnip = null;
+        assertTrue(pool.isShutdown());
+    }
+    
+    @Test
+    public void testReconnectResumes() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer().guilds(1, 1);
+        connect(1, new CatnipOptions("token").compressionMode(CompressionMode.NONE));
+        server.reconnect(0);
+        await("shard to resume", () -> server.resumes() == 1 && server.connected(0));
+        assertEquals(1, server.identifies().size());
+        assertEquals(List.of(1000), server.clientCloseCodes());
+    }
+    
+    @Test
+    public void testInvalidSessionReidentifies() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer();
+        connect(1, new CatnipOptions("token"));
+        server.invalidateSession(0, false);
+        await("shard to identify again", () -> server.identifies().size() == 2 && server.connected(0));
+        assertEquals(0, server.resumes());
+    }
+    
+    @Test
+    public void testInvalidSeqCloseReidentifies() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer();
+        connect(1, new CatnipOptions("token"));
+        server.close(0, GatewayCloseCode.INVALID_SEQ.code(), "Invalid seq");
+        await("shard to identify again", () -> server.identifies().size() == 2 && server.connected(0));
+        assertEquals(0, server.resumes());
+    }
+    
+    @Test
+    public void testZombieConnectionIsClosedAndResumed() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer()
+                .heartbeatInterval(100, TimeUnit.MILLISECONDS)
+                .ackHeartbeats(false);
+        connect(1, new CatnipOptions("token"));
+        await("shard to resume", () -> server.resumes() >= 1);
+        assertEquals(4000, server.clientCloseCodes().get(0));
+        assertEquals(1, server.identifies().size());
+    }
+    
+    @Test
+    public void testEventLatencyIsTracked() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer().guilds(1, 1);
+        final MemoryEventLatencyMetrics metrics = new MemoryEventLatencyMetrics();
+        final List<HighEventLatency> highLatencies = new CopyOnWriteArrayList<>();
+        final CatnipOptions options = new CatnipOptions("token")
+                .eventLatencyMetrics(metrics)
+                .highEventLatencyThreshold(TimeUnit.MILLISECONDS.toNanos(50));
+        catnip = new CatnipImpl(options
+                .apiHost(server.uri())
+                .shardManager(new DefaultShardManager(1))
+                .chunkMembers(false)
+                .logLifecycleEvents(false));
+        catnip.on(DiscordEvent.MESSAGE_CREATE, message -> {
+            try {
+                Thread.sleep(100);
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        catnip.on(LifecycleEvent.HIGH_EVENT_LATENCY, highLatencies::add);
+        catnip.connect();
+        await("shard to connect", () -> server.connected(0));
+        
+        server.dispatch(0, "MESSAGE_CREATE", GatewayFixtures.messageCreate(0, 1, 0));
+        await("event to be handled", () -> metrics.eventType(DiscordEvent.Raw.MESSAGE_CREATE) != null);
+        final EventTypeMetrics messages = metrics.eventType(DiscordEvent.Raw.MESSAGE_CREATE);
+        assertEquals(1, messages.total().count());
+        assertTrue(messages.stage(EventStage.HANDLER).max(TimeUnit.MILLISECONDS) >= 90,
+                "Handler time wasn't tracked");
+        assertTrue(messages.total().max(TimeUnit.MILLISECONDS) >= messages.stage(EventStage.HANDLER).max(TimeUnit.MILLISECONDS));
+        await("high event latency to be fired", () -> !highLatencies.isEmpty());
+        final HighEventLatency highLatency = highLatencies.get(0);
+        assertEquals(DiscordEvent.Raw.MESSAGE_CREATE, highLatency.eventType());
+        assertEquals(0, highLatency.shardInfo().getId());
+        assertTrue(highLatency.latency().stage(EventStage.QUEUE) >= 0);
+    }
+    
+    @Test
+    public void testSlowListenersPauseReading() throws IOException, InterruptedException {
+        server = new FakeDiscordGatewayServer().guilds(1, 1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final AtomicInteger handled = new AtomicInteger();
+        catnip = new CatnipImpl(new CatnipOptions("token")
+                .maxOutstandingEvents(2)
+                // The blocked listener mustn't starve the rest of the
+                // pipeline when the machine only has a core or two
+                .rxScheduler(Schedulers.io())
+                .apiHost(server.uri())
+                .shardManager(new DefaultShardManager(1))
+                .chunkMembers(false)
+                .logLifecycleEvents(false));
+        catnip.on(DiscordEvent.MESSAGE_CREATE, message -> {
+            try {
+                blocked.await();
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+        });
+        // Events for guilds that are still being streamed in are buffered
+        // without being dispatched
+        catnip.on(LifecycleEvent.CHUNKING_DONE, __ -> ready.countDown());
+        catnip.connect();
+        assertTrue(ready.await(15, TimeUnit.SECONDS), "Shard didn't finish starting up");
+        
+        final ShardFlowControl flowControl = catnip.shardManager().shard(0).flowControl();
+        try {
+            for(int i = 0; i < 20; i++) {
+                server.dispatch(0, "MESSAGE_CREATE", GatewayFixtures.messageCreate(0, i, 0));
+            }
+            await("shard to stop reading", flowControl::paused);
+            assertEquals(0, handled.get());
+        } finally {
+            blocked.countDown();
+        }
+        await("all events to be handled", () -> handled.get() == 20);
+        await("outstanding events to drain", () -> flowControl.outstanding() == 0);
+        assertFalse(flowControl.paused());
+        assertTrue(flowControl.pauses() >= 1);
+        assertTrue(flowControl.peakOutstanding() < 20, "Shard didn't stop reading in time: " + flowControl);
+    }
+}
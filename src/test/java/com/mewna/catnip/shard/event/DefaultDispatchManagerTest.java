@@ -1,6 +1,7 @@
 package com.mewna.catnip.shard.event;
 
 import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.ShardFlowControl;
 import com.mewna.catnip.util.rx.RxHelpers;
 import io.reactivex.rxjava3.core.Scheduler;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,38 @@ class DefaultDispatchManagerTest {
         assertTrue(semaphore.tryAcquire(amount, timeout, TimeUnit.MILLISECONDS), "Not all events were dispatched");
     }
     
+    @Test
+    void testErrorsInHandlersReleaseFlowControl() throws InterruptedException {
+        final var dispatchManager = dispatchManager();
+        final ShardFlowControl flowControl = new ShardFlowControl(10, () -> {});
+        dispatchManager.createConsumer("testErrors").handler(o -> {
+            throw new AssertionError("meow");
+        });
+        dispatchManager.dispatchEvent("testErrors", event, null, flowControl);
+        awaitReleased(flowControl);
+    }
+    
+    @Test
+    void testErrorsInObserversReleaseFlowControl() throws InterruptedException {
+        final var dispatchManager = dispatchManager();
+        final ShardFlowControl flowControl = new ShardFlowControl(10, () -> {});
+        final var disposable = dispatchManager.createConsumer("testErrors").asObservable().subscribe(o -> {
+            // Fatal, so RxJava rethrows it out of onNext
+            throw new StackOverflowError();
+        });
+        dispatchManager.dispatchEvent("testErrors", event, null, flowControl);
+        awaitReleased(flowControl);
+        disposable.dispose();
+    }
+    
+    private void awaitReleased(final ShardFlowControl flowControl) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        while(flowControl.outstanding() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, flowControl.outstanding());
+    }
+    
     @Test
     void testObservable() throws InterruptedException {
         final var dispatchManager = dispatchManager();
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.mewna.catnip.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UtilsTest {
+    @Test
+    public void testParseTimestampMatchesOffsetDateTime() {
+        for(final String timestamp : List.of("2018-09-01T12:34:56.789000+00:00", "2018-09-01T12:34:56+00:00",
+                "2018-09-01T12:34:56.1+05:30", "2018-09-01T12:34:56.123456789-08:00", "2018-09-01T12:34:56Z",
+                "2018-09-01T12:34:56.789Z", "2018-09-01T12:34+00:00", "+12018-09-01T12:34:56+00:00",
+                "2018-09-01T12:34:56+05:30:15", "2018-09-01T12:34:56.+00:00")) {
+            assertEquals(OffsetDateTime.parse(timestamp), Utils.parseTimestamp(timestamp), timestamp);
+        }
+    }
+    
+    @Test
+    public void testParseTimestampRejectsInvalidTimestamps() {
+        for(final String timestamp : List.of("2018-13-01T12:34:56+00:00", "2018-09-01T12:34:60+00:00",
+                "2018-09-01T12:34:56.1234567890+00:00", "2018-09-01T12:34:56+19:00",
+                "2018-09-01T12:34:56", "2018-09-0aT12:34:56+00:00")) {
+            assertThrows(DateTimeParseException.class, () -> Utils.parseTimestamp(timestamp), timestamp);
+        }
+    }
+}
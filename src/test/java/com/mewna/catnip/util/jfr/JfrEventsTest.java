@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.jfr;
+
+import com.mewna.catnip.Catnip;
+import com.mewna.catnip.shard.LifecycleState;
+import com.mewna.catnip.shard.ShardInfo;
+import com.mewna.catnip.shard.event.DefaultDispatchManager;
+import com.mewna.catnip.util.rx.RxHelpers;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventsTest {
+    private static List<RecordedEvent> record(final String name, final Runnable action) throws IOException {
+        final Path file = Files.createTempFile("catnip", ".jfr");
+        try(final Recording recording = new Recording()) {
+            recording.enable(name);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(name))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    public void testDispatchEventsAreRecorded() throws IOException {
+        assertTrue(JfrEvents.ENABLED);
+        final Catnip catnip = Mockito.mock(Catnip.class);
+        Mockito.when(catnip.rxScheduler()).thenReturn(RxHelpers.FORK_JOIN_SCHEDULER);
+        final DefaultDispatchManager dispatchManager = new DefaultDispatchManager();
+        dispatchManager.catnip(catnip);
+        final CountDownLatch handled = new CountDownLatch(1);
+        dispatchManager.createConsumer("TEST").handler(e -> {
+        });
+        // Handlers run in order on the same worker, so once this one ran the
+        // event for the first one was committed
+        dispatchManager.createConsumer("DONE").handler(e -> handled.countDown());
+        
+        final List<RecordedEvent> events = record("catnip.Dispatch", () -> {
+            dispatchManager.dispatchEvent("TEST", "payload");
+            dispatchManager.dispatchEvent("DONE", "payload");
+            try {
+                assertTrue(handled.await(5, TimeUnit.SECONDS));
+            } catch(final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        final List<RecordedEvent> test = events.stream()
+                .filter(e -> e.getString("eventType").equals("TEST"))
+                .collect(Collectors.toList());
+        assertEquals(1, test.size());
+        assertEquals(0L, test.get(0).getLong("guild"));
+    }
+    
+    @Test
+    public void testShardLifecycleEventsAreRecorded() throws IOException {
+        final List<RecordedEvent> events = record("catnip.ShardLifecycle", () ->
+                ShardLifecycleEvent.emit(new ShardInfo(3, 8), LifecycleState.IDENTIFYING, LifecycleState.LOGGED_IN));
+        assertEquals(1, events.size());
+        assertEquals(3, events.get(0).getInt("shard"));
+        assertEquals(8, events.get(0).getInt("shardCount"));
+        assertEquals("IDENTIFYING", events.get(0).getString("from"));
+        assertEquals("LOGGED_IN", events.get(0).getString("to"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.pagination;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SuppressWarnings("WeakerAccess")
+public class BasePaginatorTest {
+    private static List<String> ids(final int from, final int to) {
+        return IntStream.range(from, to).mapToObj(Integer::toString).collect(Collectors.toList());
+    }
+    
+    @Test
+    public void testStreamsEveryPage() {
+        final CountingPaginator paginator = new CountingPaginator(25);
+        paginator.requestSize(10);
+        assertEquals(ids(0, 25), paginator.stream().toList().blockingGet());
+        assertEquals(3, paginator.requests);
+    }
+    
+    @Test
+    public void testStopsAtLimit() {
+        final CountingPaginator paginator = new CountingPaginator(100);
+        paginator.requestSize(10).limit(15);
+        assertEquals(ids(0, 15), paginator.fetch().toList().blockingGet());
+        assertEquals(2, paginator.requests);
+    }
+    
+    @Test
+    public void testPrefetchesOnePageAhead() {
+        final CountingPaginator paginator = new CountingPaginator(100);
+        paginator.requestSize(10);
+        final TestSubscriber<String> subscriber = paginator.stream().test(0);
+        // The first page, and the one after it
+        assertEquals(2, paginator.requests);
+        subscriber.request(1);
+        subscriber.assertValues("0");
+        assertEquals(2, paginator.requests);
+        // Moving on to the second page prefetches the third
+        subscriber.request(10);
+        subscriber.assertValueCount(11);
+        assertEquals(3, paginator.requests);
+        subscriber.cancel();
+    }
+    
+    @Test
+    public void testFetchWhileStopsWhenCallbackDoes() {
+        final CountingPaginator paginator = new CountingPaginator(100);
+        paginator.requestSize(10);
+        final List<String> seen = new ArrayList<>();
+        paginator.fetchWhile(id -> seen.add(id) && seen.size() < 5).blockingSubscribe();
+        assertEquals(ids(0, 5), seen);
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedFetchOverloadsStillPaginate() {
+        final CountingPaginator paginator = new CountingPaginator(25);
+        paginator.requestSize(10);
+        final List<String> seen = new ArrayList<>();
+        paginator.fetch(seen::add).blockingSubscribe();
+        assertEquals(ids(0, 25), seen);
+        assertEquals(3, paginator.requests);
+        
+        final List<String> after = new ArrayList<>();
+        paginator.fetch("14", paginator.createState(after::add)).blockingSubscribe();
+        assertEquals(ids(15, 25), after);
+    }
+    
+    private static final class CountingPaginator extends ArrayOfObjectPaginator<String, CountingPaginator> {
+        private final int total;
+        private int requests;
+        
+        private CountingPaginator(final int total) {
+            super(Function.identity(), o -> o.getString("id"), 100);
+            this.total = total;
+        }
+        
+        @Nonnull
+        @Override
+        protected Observable<JsonArray> fetchNext(@Nonnull final RequestState<String> state, @Nullable final String lastId,
+                                                  final int requestSize) {
+            requests++;
+            final int from = lastId == null ? 0 : Integer.parseInt(lastId) + 1;
+            final JsonArray page = new JsonArray();
+            for(int i = from; i < Math.min(total, from + requestSize); i++) {
+                page.add(JsonObject.builder().value("id", Integer.toString(i)).done());
+            }
+            return Observable.just(page);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020 amy, All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software without
+ *    specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.mewna.catnip.util.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialExecutorTest {
+    @Test
+    void tasksRunInOrderOneAtATime() throws InterruptedException {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final int queues = 8;
+            final int tasks = 1000;
+            final CountDownLatch done = new CountDownLatch(queues * tasks);
+            final List<List<Integer>> seen = new ArrayList<>();
+            final AtomicBoolean overlapped = new AtomicBoolean();
+            final List<SerialExecutor> executors = new ArrayList<>();
+            final List<AtomicBoolean> running = new ArrayList<>();
+            for(int q = 0; q < queues; q++) {
+                executors.add(new SerialExecutor(pool));
+                seen.add(new ArrayList<>());
+                running.add(new AtomicBoolean());
+            }
+            for(int i = 0; i < tasks; i++) {
+                for(int q = 0; q < queues; q++) {
+                    final int queue = q;
+                    final int task = i;
+                    executors.get(q).execute(() -> {
+                        if(!running.get(queue).compareAndSet(false, true)) {
+                            overlapped.set(true);
+                        }
+                        seen.get(queue).add(task);
+                        running.get(queue).set(false);
+                        done.countDown();
+                    });
+                }
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS), "Not all tasks ran");
+            assertFalse(overlapped.get(), "Tasks from the same queue ran at the same time");
+            for(int q = 0; q < queues; q++) {
+                final List<Integer> order = seen.get(q);
+                assertEquals(tasks, order.size());
+                for(int i = 0; i < tasks; i++) {
+                    assertEquals(i, order.get(i), "Queue " + q + " ran tasks out of order");
+                }
+                // The last task is only counted as done once it returned
+                awaitIdle(executors.get(q));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void failingTaskDoesNotStallQueue() throws InterruptedException {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final SerialExecutor executor = new SerialExecutor(pool);
+            final CountDownLatch ran = new CountDownLatch(1);
+            executor.execute(() -> {
+                throw new IllegalStateException("expected");
+            });
+            executor.execute(ran::countDown);
+            assertTrue(ran.await(5, TimeUnit.SECONDS), "Queue stalled after a failing task");
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void erroringTaskDoesNotStallQueue() throws InterruptedException {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final SerialExecutor executor = new SerialExecutor(pool);
+            final CountDownLatch ran = new CountDownLatch(1);
+            executor.execute(() -> {
+                throw new Error("expected");
+            });
+            executor.execute(ran::countDown);
+            assertTrue(ran.await(5, TimeUnit.SECONDS), "Queue stalled after a task threw an Error");
+            awaitIdle(executor);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void rejectedTasksRunOnCallingThread() {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.shutdown();
+        final SerialExecutor executor = new SerialExecutor(pool);
+        final List<Thread> threads = new ArrayList<>();
+        executor.execute(() -> threads.add(Thread.currentThread()));
+        executor.execute(() -> threads.add(Thread.currentThread()));
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+        assertEquals(0, executor.pending());
+    }
+    
+    private static void awaitIdle(final SerialExecutor executor) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(executor.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, executor.pending());
+    }
+}